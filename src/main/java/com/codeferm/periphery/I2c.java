@@ -292,6 +292,21 @@ public class I2c implements AutoCloseable {
      */
     @JniMethod(accessor = "i2c_write16")
     public static native int i2cWrite16(long i2c, short addr, short reg, short value);
+
+    /**
+     * Read len bytes from 8 bit address count times into consecutive parts of buf. Each read is a separate register read, so
+     * devices that pop a FIFO entry on every read (like the ADXL345) are drained with a few I2C transfers.
+     *
+     * @param i2c Valid pointer to an allocated I2C handle structure.
+     * @param addr Address.
+     * @param reg Register.
+     * @param buf Buffer of at least len * count bytes.
+     * @param len Bytes in each read.
+     * @param count Number of reads.
+     * @return 0 on success, or a negative I2C error code on failure.
+     */
+    @JniMethod(accessor = "i2c_read8_repeat")
+    public static native int i2cRead8Repeat(long i2c, short addr, short reg, byte[] buf, long len, long count);
     
     /**
      * Transfer count number of struct i2c_msg I2C messages.
@@ -6,7 +6,10 @@ package com.codeferm.periphery;
 import static com.codeferm.periphery.Common.MAX_CHAR_ARRAY_LEN;
 import static com.codeferm.periphery.Common.jString;
 import static com.codeferm.periphery.Common.memMove;
+import static org.fusesource.hawtjni.runtime.ArgFlag.CRITICAL;
+import static org.fusesource.hawtjni.runtime.ArgFlag.NO_IN;
 import static org.fusesource.hawtjni.runtime.FieldFlag.CONSTANT;
+import org.fusesource.hawtjni.runtime.JniArg;
 import org.fusesource.hawtjni.runtime.JniClass;
 import org.fusesource.hawtjni.runtime.JniField;
 import org.fusesource.hawtjni.runtime.JniMethod;
@@ -208,6 +211,21 @@ public class Mmio implements AutoCloseable {
     @JniMethod(accessor = "mmio_read")
     public static final native int mmioRead(long mmio, long offset, byte[] buf, long len);
 
+    /**
+     * Read array of 32-bit words from mapped physical memory, starting at the specified byte offset, relative to the base address
+     * the MMIO handle was opened with. This takes a snapshot of a register range with one native call instead of one mmioRead32 per
+     * word.
+     *
+     * @param mmio Valid pointer to an allocated MMIO handle structure.
+     * @param offset Starting offset.
+     * @param buf Array of words read.
+     * @param len Number of words to read.
+     * @return 0 on success, or a negative MMIO error code on failure.
+     */
+    @JniMethod(accessor = "mmio_read32_array")
+    public static final native int mmioRead32Array(long mmio, @JniArg(cast = "uintptr_t") long offset, @JniArg(cast
+            = "uint32_t *", flags = {NO_IN, CRITICAL}) int[] buf, @JniArg(cast = "size_t") long len);
+
     /**
      * Write 32-bits to mapped physical memory, starting at the specified byte offset, relative to the base address the MMIO handle
      * was opened with.
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery;
+
+import static org.fusesource.hawtjni.runtime.ArgFlag.CRITICAL;
+import static org.fusesource.hawtjni.runtime.ArgFlag.NO_OUT;
+import static org.fusesource.hawtjni.runtime.FieldFlag.CONSTANT;
+import org.fusesource.hawtjni.runtime.JniArg;
+import org.fusesource.hawtjni.runtime.JniClass;
+import org.fusesource.hawtjni.runtime.JniField;
+import org.fusesource.hawtjni.runtime.JniMethod;
+import org.fusesource.hawtjni.runtime.Library;
+import static org.fusesource.hawtjni.runtime.MethodFlag.CONSTANT_INITIALIZER;
+
+/**
+ * Thread scheduling and memory locking for real-time loops. Affinity and priority methods apply to the calling thread. Functions
+ * return 0 (or CPU number) on success and a negative errno on failure. Real-time policies and mlockall usually need root or
+ * CAP_SYS_NICE and CAP_IPC_LOCK.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@JniClass
+public class Sched {
+
+    /**
+     * Function was successful.
+     */
+    public static final int SCHED_SUCCESS = 0;
+    /**
+     * java-periphery library.
+     */
+    private static final Library LIBRARY = new Library("java-periphery", Sched.class);
+
+    /**
+     * Load library.
+     */
+    static {
+        LIBRARY.load();
+        init();
+    }
+
+    /**
+     * Load constants.
+     */
+    @JniMethod(flags = {CONSTANT_INITIALIZER})
+    private static native void init();
+    /**
+     * Scheduling policy constants.
+     */
+    @JniField(flags = {CONSTANT})
+    public static int SCHED_OTHER;
+    @JniField(flags = {CONSTANT})
+    public static int SCHED_FIFO;
+    @JniField(flags = {CONSTANT})
+    public static int SCHED_RR;
+    /**
+     * mlockall flag constants.
+     */
+    @JniField(flags = {CONSTANT})
+    public static int MCL_CURRENT;
+    @JniField(flags = {CONSTANT})
+    public static int MCL_FUTURE;
+
+    /**
+     * Pin calling thread to CPUs.
+     *
+     * @param cpus CPU numbers.
+     * @param count Number of CPUs to use from array.
+     * @return 0 on success, or a negative errno on failure.
+     */
+    @JniMethod(accessor = "sched_set_affinity")
+    public static native int schedSetAffinity(@JniArg(cast = "int *", flags = {NO_OUT, CRITICAL}) int[] cpus, int count);
+
+    /**
+     * Set scheduling policy and priority of calling thread.
+     *
+     * @param policy SCHED_OTHER, SCHED_FIFO or SCHED_RR.
+     * @param priority 0 for SCHED_OTHER or 1 to 99 for real-time policies.
+     * @return 0 on success, or a negative errno on failure.
+     */
+    @JniMethod(accessor = "sched_set_priority")
+    public static native int schedSetPriority(int policy, int priority);
+
+    /**
+     * Return CPU calling thread is running on.
+     *
+     * @return CPU number, or a negative errno on failure.
+     */
+    @JniMethod(accessor = "sched_get_cpu")
+    public static native int schedGetCpu();
+
+    /**
+     * Return maximum priority for policy.
+     *
+     * @param policy Scheduling policy.
+     * @return Maximum priority or -1 on failure.
+     */
+    @JniMethod(accessor = "sched_get_priority_max")
+    public static native int schedGetPriorityMax(int policy);
+
+    /**
+     * Lock all process memory. MCL_CURRENT faults in and locks pages mapped now (committed Java heap, loaded code) and MCL_FUTURE
+     * locks pages mapped later (direct buffers, heap growth).
+     *
+     * @param flags MCL_CURRENT and/or MCL_FUTURE.
+     * @return 0 on success, or a negative errno on failure.
+     */
+    @JniMethod(accessor = "mlock_all")
+    public static native int mlockAll(int flags);
+
+    /**
+     * Unlock all process memory.
+     *
+     * @return 0 on success, or a negative errno on failure.
+     */
+    @JniMethod(accessor = "munlock_all")
+    public static native int munlockAll();
+
+    /**
+     * Touch calling thread's stack, so it does not page fault later. Sizes that don't fit in the free stack (less 128 KB kept for
+     * guard pages and the JVM) fail instead of overflowing it.
+     *
+     * @param size Bytes of stack to touch.
+     * @return 0 on success, or a negative errno on failure (-ENOMEM if size is too big).
+     */
+    @JniMethod(accessor = "prefault_stack")
+    public static native int prefaultStack(@JniArg(cast = "size_t") long size);
+}
@@ -6,7 +6,13 @@ package com.codeferm.periphery;
 import static com.codeferm.periphery.Common.MAX_CHAR_ARRAY_LEN;
 import static com.codeferm.periphery.Common.jString;
 import static com.codeferm.periphery.Common.memMove;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import static org.fusesource.hawtjni.runtime.ArgFlag.NO_IN;
+import static org.fusesource.hawtjni.runtime.ArgFlag.NO_OUT;
 import static org.fusesource.hawtjni.runtime.FieldFlag.CONSTANT;
+import org.fusesource.hawtjni.runtime.JniArg;
 import org.fusesource.hawtjni.runtime.JniClass;
 import org.fusesource.hawtjni.runtime.JniField;
 import org.fusesource.hawtjni.runtime.JniMethod;
@@ -27,6 +33,10 @@ public class Spi implements AutoCloseable {
      * Function was successful.
      */
     public static final int SPI_SUCCESS = 0;
+    /**
+     * spidev buffer size when module parameter can't be read.
+     */
+    public static final int DEFAULT_BUFSIZ = 4096;
     /**
      * java-periphery library.
      */
@@ -35,6 +45,10 @@ public class Spi implements AutoCloseable {
      * SPI handle.
      */
     final private long handle;
+    /**
+     * spidev buffer size, it can only be set when the module loads.
+     */
+    private static final int BUFSIZ = getBufSize();
 
     /**
      * Load library.
@@ -216,6 +230,109 @@ public class Spi implements AutoCloseable {
     @JniMethod(accessor = "spi_transfer")
     public static native int spiTransfer(long spi, byte[] txBuf, byte[] rxBuf, long len);
 
+    /**
+     * Transfer count segments with one SPI_IOC_MESSAGE ioctl. Segment buffers are packed back to back in txBuf and rxBuf. Use
+     * SpiBatch instead of calling this directly, since lengths aren't checked against the buffers. txBuf is only copied in and
+     * rxBuf only copied out. They aren't pinned with CRITICAL, since that would hold off garbage collection for the whole ioctl.
+     *
+     * @param spi A valid pointer to an allocated SPI handle structure.
+     * @param txBuf Transmit buffer or null to shift out zeros.
+     * @param rxBuf Receive buffer or null to ignore received data.
+     * @param lens Length of each segment in bytes.
+     * @param speeds Speed of each segment in Hz or 0 for device speed.
+     * @param bitsPerWord Bits per word of each segment or 0 for device setting.
+     * @param csChange 1 to deselect the device after a segment.
+     * @param delayUsecs Delay after each segment in microseconds.
+     * @param count Number of segments (1 - 511).
+     * @return 0 on success, or -errno on failure. spiErrMessage doesn't cover this call.
+     */
+    @JniMethod(accessor = "spi_transfer_batch")
+    public static native int spiTransferBatch(long spi, @JniArg(cast = "const uint8_t *", flags = {NO_OUT}) byte[] txBuf,
+            @JniArg(cast = "uint8_t *", flags = {NO_IN}) byte[] rxBuf, @JniArg(cast = "const uint32_t *", flags = {NO_OUT}) int[] lens,
+            @JniArg(cast = "const uint32_t *", flags = {NO_OUT}) int[] speeds, @JniArg(cast = "const uint8_t *", flags = {NO_OUT})
+            byte[] bitsPerWord, @JniArg(cast = "const uint8_t *", flags = {NO_OUT}) byte[] csChange, @JniArg(cast
+            = "const uint16_t *", flags = {NO_OUT}) short[] delayUsecs, @JniArg(cast = "size_t") long count);
+
+    /**
+     * Transfer len bytes in chunks of at most chunkSize bytes with one ioctl each. The device stays selected between chunks and is
+     * deselected if a chunk fails. len isn't checked against the buffers, so use spiTransferLarge. txBuf is only copied in and rxBuf
+     * only copied out, one copy each for the whole transfer. They aren't pinned with CRITICAL, since a multi-megabyte transfer
+     * would hold off garbage collection for seconds, and a memory copy is far faster than the SPI line rate.
+     *
+     * @param spi A valid pointer to an allocated SPI handle structure.
+     * @param txBuf Transmit buffer or null to shift out zeros.
+     * @param rxBuf Receive buffer or null to ignore received data.
+     * @param len Byte count.
+     * @param chunkSize Most bytes in each ioctl.
+     * @return 0 on success, or -errno on failure. spiErrMessage doesn't cover this call.
+     */
+    @JniMethod(accessor = "spi_transfer_chunked")
+    public static native int spiTransferChunked(long spi, @JniArg(cast = "const uint8_t *", flags = {NO_OUT}) byte[] txBuf,
+            @JniArg(cast = "uint8_t *", flags = {NO_IN}) byte[] rxBuf, @JniArg(cast = "size_t") long len, @JniArg(cast = "size_t")
+            long chunkSize);
+
+    /**
+     * Transfer count words of 9 to 16 bits, for example 12 bit ADC and DAC frames. Words go to spidev as they are, with bits per
+     * word set in the transfer instead of on the handle, so there's no packing into bytes and no extra ioctl. Each word is shifted
+     * out MSB first. If the controller can't do 16 bit words, 16 bit transfers fall back to 8 bit words in big endian order.
+     *
+     * @param spi A valid pointer to an allocated SPI handle structure.
+     * @param txBuf Transmit words or null to shift out zeros.
+     * @param rxBuf Receive words or null to ignore received data.
+     * @param count Word count.
+     * @param bitsPerWord Bits per word (9 - 16).
+     * @param speedHz Speed in Hz or 0 for device speed.
+     * @return 0 on success, or -errno on failure. spiErrMessage doesn't cover this call.
+     */
+    @JniMethod(accessor = "spi_transfer16")
+    public static native int spiTransfer16(long spi, @JniArg(cast = "const uint16_t *", flags = {NO_OUT}) short[] txBuf,
+            @JniArg(cast = "uint16_t *", flags = {NO_IN}) short[] rxBuf, long count, byte bitsPerWord, int speedHz);
+
+    /**
+     * Transfer count words of 17 to 32 bits. Works like spiTransfer16.
+     *
+     * @param spi A valid pointer to an allocated SPI handle structure.
+     * @param txBuf Transmit words or null to shift out zeros.
+     * @param rxBuf Receive words or null to ignore received data.
+     * @param count Word count.
+     * @param bitsPerWord Bits per word (17 - 32).
+     * @param speedHz Speed in Hz or 0 for device speed.
+     * @return 0 on success, or -errno on failure. spiErrMessage doesn't cover this call.
+     */
+    @JniMethod(accessor = "spi_transfer32")
+    public static native int spiTransfer32(long spi, @JniArg(cast = "const uint32_t *", flags = {NO_OUT}) int[] txBuf,
+            @JniArg(cast = "uint32_t *", flags = {NO_IN}) int[] rxBuf, long count, byte bitsPerWord, int speedHz);
+
+    /**
+     * Transfer any number of bytes. Transfers over the spidev buffer size are split into buffer sized chunks in native code, so
+     * the only gap between chunks is the ioctl and the device stays selected for the whole transfer.
+     *
+     * @param spi A valid pointer to an allocated SPI handle structure.
+     * @param txBuf Transmit buffer or null to shift out zeros.
+     * @param rxBuf Receive buffer or null to ignore received data.
+     * @param len Byte count, no more than either buffer's length.
+     * @return 0 on success, or -errno on failure. spiErrMessage doesn't cover this call.
+     */
+    public static int spiTransferLarge(final long spi, final byte[] txBuf, final byte[] rxBuf, final long len) {
+        if (len < 0 || (txBuf != null && len > txBuf.length) || (rxBuf != null && len > rxBuf.length)) {
+            throw new RuntimeException(String.format("Invalid length %d for buffers", len));
+        }
+        return spiTransferChunked(spi, txBuf, rxBuf, len, BUFSIZ);
+    }
+
+    /**
+     * Return spidev buffer size from module parameter or default. This is the most bytes one ioctl can transfer.
+     *
+     * @return Buffer size in bytes.
+     */
+    public static int getBufSize() {
+        try {
+            return Integer.parseInt(Files.readString(Paths.get("/sys/module/spidev/parameters/bufsiz")).trim());
+        } catch (IOException | NumberFormatException e) {
+            return DEFAULT_BUFSIZ;
+        }
+    }
+
     /**
      * Close the spidev device.
      *
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery;
+
+import java.util.Arrays;
+
+/**
+ * Batch of SPI transfer segments sent with one SPI_IOC_MESSAGE ioctl. A command followed by a read, or reads from several
+ * devices, cost one syscall instead of one per segment. Chip select stays asserted between segments unless csChange is set, which
+ * deselects the device after that segment. On the last segment csChange leaves the device selected after the batch.
+ *
+ * Segment data is copied into preallocated buffers, so building and sending a batch doesn't allocate. Call clear to reuse it.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SpiBatch {
+
+    /**
+     * Most segments spidev takes in one ioctl.
+     */
+    public static final int MAX_SEGMENTS = 511;
+    /**
+     * Transmit data of all segments.
+     */
+    private final byte[] txBuf;
+    /**
+     * Receive data of all segments.
+     */
+    private final byte[] rxBuf;
+    /**
+     * Segment start in buffers.
+     */
+    private final int[] offsets;
+    /**
+     * Segment lengths.
+     */
+    private final int[] lens;
+    /**
+     * Segment speeds.
+     */
+    private final int[] speeds;
+    /**
+     * Segment bits per word.
+     */
+    private final byte[] bitsPerWord;
+    /**
+     * Segment chip select change flags.
+     */
+    private final byte[] csChange;
+    /**
+     * Segment delays.
+     */
+    private final short[] delayUsecs;
+    /**
+     * Segments added.
+     */
+    private int count;
+    /**
+     * Bytes added.
+     */
+    private int size;
+    /**
+     * Batches transferred.
+     */
+    private long transfers;
+
+    /**
+     * Allocate batch.
+     *
+     * @param maxSegments Most segments in batch (1 - 511).
+     * @param maxBytes Most bytes in batch. spidev limits this to its buffer size (4096 by default).
+     */
+    public SpiBatch(final int maxSegments, final int maxBytes) {
+        if (maxSegments < 1 || maxSegments > MAX_SEGMENTS || maxBytes < 1) {
+            throw new RuntimeException(String.format("Invalid segments %d or bytes %d", maxSegments, maxBytes));
+        }
+        txBuf = new byte[maxBytes];
+        rxBuf = new byte[maxBytes];
+        offsets = new int[maxSegments];
+        lens = new int[maxSegments];
+        speeds = new int[maxSegments];
+        bitsPerWord = new byte[maxSegments];
+        csChange = new byte[maxSegments];
+        delayUsecs = new short[maxSegments];
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getTransfers() {
+        return transfers;
+    }
+
+    /**
+     * Receive buffer. Segment data starts at getOffset.
+     *
+     * @return Receive buffer.
+     */
+    public byte[] getRxBuf() {
+        return rxBuf;
+    }
+
+    /**
+     * Return where segment starts in receive buffer.
+     *
+     * @param segment Segment index.
+     * @return Offset.
+     */
+    public int getOffset(final int segment) {
+        return offsets[segment];
+    }
+
+    /**
+     * Remove all segments.
+     *
+     * @return This object.
+     */
+    public SpiBatch clear() {
+        count = 0;
+        size = 0;
+        return this;
+    }
+
+    /**
+     * Add segment.
+     *
+     * @param data Data to send or null to send zeros.
+     * @param len Bytes to transfer.
+     * @param speedHz Speed in Hz or 0 for device speed.
+     * @param bits Bits per word or 0 for device setting.
+     * @param deselect Deselect device after this segment.
+     * @param delay Delay after this segment in microseconds.
+     * @return Segment index.
+     */
+    public int add(final byte[] data, final int len, final int speedHz, final int bits, final boolean deselect, final int delay) {
+        if (count == offsets.length || len < 1 || size + len > txBuf.length || (data != null && data.length < len)) {
+            throw new RuntimeException(String.format("Segment of %d bytes doesn't fit, %d segments %d bytes used", len, count,
+                    size));
+        }
+        if (data == null) {
+            Arrays.fill(txBuf, size, size + len, (byte) 0);
+        } else {
+            System.arraycopy(data, 0, txBuf, size, len);
+        }
+        offsets[count] = size;
+        lens[count] = len;
+        speeds[count] = speedHz;
+        bitsPerWord[count] = (byte) bits;
+        csChange[count] = (byte) (deselect ? 1 : 0);
+        delayUsecs[count] = (short) delay;
+        size += len;
+        return count++;
+    }
+
+    /**
+     * Add segment using device speed and bits per word.
+     *
+     * @param data Data to send or null to send zeros.
+     * @param len Bytes to transfer.
+     * @return Segment index.
+     */
+    public int add(final byte[] data, final int len) {
+        return add(data, len, 0, 0, false, 0);
+    }
+
+    /**
+     * Add segment that deselects the device after it, such as the last segment for one device before the next device's segments.
+     *
+     * @param data Data to send or null to send zeros.
+     * @param len Bytes to transfer.
+     * @return Segment index.
+     */
+    public int addDeselect(final byte[] data, final int len) {
+        return add(data, len, 0, 0, true, 0);
+    }
+
+    /**
+     * Copy received segment data.
+     *
+     * @param segment Segment index.
+     * @param dest Destination array.
+     */
+    public void getRx(final int segment, final byte[] dest) {
+        System.arraycopy(rxBuf, offsets[segment], dest, 0, lens[segment]);
+    }
+
+    /**
+     * Send all segments with one ioctl.
+     *
+     * @param spi A valid pointer to an allocated SPI handle structure.
+     * @return 0 on success, or -errno on failure.
+     */
+    public int transfer(final long spi) {
+        if (count == 0) {
+            throw new RuntimeException("No segments");
+        }
+        transfers++;
+        return Spi.spiTransferBatch(spi, txBuf, rxBuf, lens, speeds, bitsPerWord, csChange, delayUsecs, count);
+    }
+}
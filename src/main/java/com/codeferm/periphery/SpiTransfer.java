@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery;
+
+/**
+ * SPI full duplex transfer. Drivers written against this can run on a real Spi handle or a simulated device in tests and
+ * benchmarks.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface SpiTransfer {
+
+    /**
+     * Shift out transmit buffer while shifting in receive buffer.
+     *
+     * @param txBuf Transmit buffer.
+     * @param rxBuf Receive buffer or null to ignore received data.
+     * @param len Number of bytes.
+     * @return Spi.SPI_SUCCESS on success or an error code.
+     */
+    int transfer(byte[] txBuf, byte[] rxBuf, long len);
+
+    /**
+     * Return transfer using Spi handle.
+     *
+     * @param handle Spi handle.
+     * @return Transfer.
+     */
+    static SpiTransfer of(final long handle) {
+        return (txBuf, rxBuf, len) -> Spi.spiTransfer(handle, txBuf, rxBuf, len);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery;
+
+import org.fusesource.hawtjni.runtime.JniArg;
+import org.fusesource.hawtjni.runtime.JniClass;
+import org.fusesource.hawtjni.runtime.JniMethod;
+import org.fusesource.hawtjni.runtime.Library;
+
+/**
+ * Linux timerfd on CLOCK_MONOTONIC with absolute expirations. Reading the timer blocks until it expires and returns the number of
+ * expirations since the last read, so missed periods are counted by the kernel. Functions return a negative errno on failure.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@JniClass
+public class TimerFd implements AutoCloseable {
+
+    /**
+     * Function was successful.
+     */
+    public static final int TIMERFD_SUCCESS = 0;
+    /**
+     * java-periphery library.
+     */
+    private static final Library LIBRARY = new Library("java-periphery", TimerFd.class);
+    /**
+     * Timer file descriptor.
+     */
+    final private int fd;
+    /**
+     * Wake eventfd file descriptor.
+     */
+    final private int wakeFd;
+
+    /**
+     * Load library.
+     */
+    static {
+        LIBRARY.load();
+    }
+
+    /**
+     * Create timer and wake eventfd.
+     */
+    public TimerFd() {
+        fd = timerFdOpen();
+        if (fd < 0) {
+            throw new RuntimeException(String.format("Unable to create timerfd errno %d", -fd));
+        }
+        wakeFd = eventFdOpen();
+        if (wakeFd < 0) {
+            timerFdClose(fd);
+            throw new RuntimeException(String.format("Unable to create eventfd errno %d", -wakeFd));
+        }
+    }
+
+    /**
+     * Close timer and wake eventfd.
+     */
+    @Override
+    public void close() {
+        timerFdClose(wakeFd);
+        timerFdClose(fd);
+    }
+
+    public int getFd() {
+        return fd;
+    }
+
+    public int getWakeFd() {
+        return wakeFd;
+    }
+
+    /**
+     * Wake thread blocked in await without changing the timer.
+     */
+    public void wake() {
+        final var rc = eventFdSignal(wakeFd);
+        if (rc != TIMERFD_SUCCESS) {
+            throw new RuntimeException(String.format("Unable to signal eventfd errno %d", -rc));
+        }
+    }
+
+    /**
+     * Block until timer expires or wake is called.
+     *
+     * @return Timer expirations, 0 if only woken, or a negative errno on failure.
+     */
+    public long await() {
+        return timerFdWaitWake(fd, wakeFd);
+    }
+
+    /**
+     * Create CLOCK_MONOTONIC timer.
+     *
+     * @return File descriptor, or a negative errno on failure.
+     */
+    @JniMethod(accessor = "timerfd_open")
+    public static native int timerFdOpen();
+
+    /**
+     * Arm timer to expire at absolute CLOCK_MONOTONIC time and then every interval.
+     *
+     * @param fd Timer file descriptor.
+     * @param startNs First expiration in nanoseconds, 0 disarms and any time already past expires right away.
+     * @param intervalNs Period in nanoseconds or 0 for one shot.
+     * @return 0 on success, or a negative errno on failure.
+     */
+    @JniMethod(accessor = "timerfd_set_abs")
+    public static native int timerFdSetAbs(int fd, @JniArg(cast = "int64_t") long startNs, @JniArg(cast = "int64_t") long intervalNs);
+
+    /**
+     * Block until timer expires.
+     *
+     * @param fd Timer file descriptor.
+     * @return Expirations since last read, or a negative errno on failure.
+     */
+    @JniMethod(cast = "int64_t", accessor = "timerfd_wait")
+    public static native long timerFdWait(int fd);
+
+    /**
+     * Create eventfd for waking a thread blocked in timerFdWaitWake.
+     *
+     * @return File descriptor, or a negative errno on failure.
+     */
+    @JniMethod(accessor = "eventfd_open")
+    public static native int eventFdOpen();
+
+    /**
+     * Signal eventfd.
+     *
+     * @param fd Eventfd file descriptor.
+     * @return 0 on success, or a negative errno on failure.
+     */
+    @JniMethod(accessor = "eventfd_signal")
+    public static native int eventFdSignal(int fd);
+
+    /**
+     * Block until timer expires or wake eventfd is signaled.
+     *
+     * @param fd Timer file descriptor.
+     * @param wakeFd Eventfd file descriptor.
+     * @return Timer expirations, 0 if only woken, or a negative errno on failure.
+     */
+    @JniMethod(cast = "int64_t", accessor = "timerfd_wait_wake")
+    public static native long timerFdWaitWake(int fd, int wakeFd);
+
+    /**
+     * Return CLOCK_MONOTONIC time.
+     *
+     * @return Nanoseconds.
+     */
+    @JniMethod(cast = "int64_t", accessor = "clock_monotonic_ns")
+    public static native long clockMonotonic();
+
+    /**
+     * Close timer.
+     *
+     * @param fd Timer file descriptor.
+     * @return 0 on success, or a negative errno on failure.
+     */
+    @JniMethod(accessor = "timerfd_close")
+    public static native int timerFdClose(int fd);
+}
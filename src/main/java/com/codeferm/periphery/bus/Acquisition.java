@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.bus;
+
+import com.codeferm.periphery.TimerFd;
+import com.codeferm.periphery.rt.PeriodicExecutor;
+import com.codeferm.periphery.rt.PeriodicTask;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Periodic sensor acquisition across buses. Each bus gets its own PeriodicExecutor, so jobs on one bus run back to back in deadline
+ * order and never collide, while separate buses run in parallel. Every job's deadlines are multiples of its period from a common
+ * epoch, so jobs with related rates sample at the same instants on every bus.
+ *
+ * Jobs get the CLOCK_MONOTONIC time the read started as the sample timestamp.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class Acquisition implements AutoCloseable {
+
+    /**
+     * Executor for each bus.
+     */
+    private final Map<String, PeriodicExecutor> buses = new LinkedHashMap<>();
+    /**
+     * Jobs in order added.
+     */
+    private final List<Job> jobs = new ArrayList<>();
+    /**
+     * Creates bus threads.
+     */
+    private final ThreadFactory factory;
+    /**
+     * Common timebase in CLOCK_MONOTONIC nanoseconds.
+     */
+    private final long epoch;
+
+    /**
+     * Sensor read.
+     */
+    @FunctionalInterface
+    public interface Sampler {
+
+        /**
+         * Read sensor.
+         *
+         * @param timestamp CLOCK_MONOTONIC nanoseconds when read started.
+         */
+        void sample(long timestamp);
+    }
+
+    /**
+     * Scheduled sensor read.
+     */
+    public static class Job {
+
+        /**
+         * Job name.
+         */
+        private final String name;
+        /**
+         * Bus name.
+         */
+        private final String bus;
+        /**
+         * Target rate in Hz.
+         */
+        private final double rate;
+        /**
+         * Sensor read.
+         */
+        private final Sampler sampler;
+        /**
+         * Executor task.
+         */
+        private PeriodicTask task;
+        /**
+         * First sample time.
+         */
+        private volatile long first;
+        /**
+         * Last sample time.
+         */
+        private volatile long last;
+
+        /**
+         * Job constructor.
+         *
+         * @param name Job name.
+         * @param bus Bus name.
+         * @param rate Target rate in Hz.
+         * @param sampler Sensor read.
+         */
+        Job(final String name, final String bus, final double rate, final Sampler sampler) {
+            this.name = name;
+            this.bus = bus;
+            this.rate = rate;
+            this.sampler = sampler;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getBus() {
+            return bus;
+        }
+
+        public double getRate() {
+            return rate;
+        }
+
+        public PeriodicTask getTask() {
+            return task;
+        }
+
+        /**
+         * Take timestamp and read sensor.
+         */
+        void run() {
+            final var timestamp = TimerFd.clockMonotonic();
+            if (first == 0) {
+                first = timestamp;
+            }
+            last = timestamp;
+            sampler.sample(timestamp);
+        }
+
+        /**
+         * Achieved sample rate.
+         *
+         * @return Rate in Hz.
+         */
+        public double getAchievedRate() {
+            final var runs = task.getRuns();
+            return runs > 1 ? (runs - 1) * 1e9 / (last - first) : 0;
+        }
+
+        /**
+         * Return summary.
+         *
+         * @return Summary.
+         */
+        @Override
+        public String toString() {
+            return String.format("%s on %s target %.1f Hz achieved %.1f Hz samples %d overruns %d errors %d jitter %s", name, bus,
+                    rate, getAchievedRate(), task.getRuns(), task.getOverruns(), task.getErrors(), task.getLateness());
+        }
+    }
+
+    /**
+     * Acquisition with default bus threads.
+     */
+    public Acquisition() {
+        this(null);
+    }
+
+    /**
+     * Acquisition with bus threads from factory such as RtThreadFactory.
+     *
+     * @param factory Thread factory or null for default threads.
+     */
+    public Acquisition(final ThreadFactory factory) {
+        this.factory = factory;
+        epoch = TimerFd.clockMonotonic();
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Return jobs in order added.
+     *
+     * @return Jobs.
+     */
+    public List<Job> getJobs() {
+        return Collections.unmodifiableList(jobs);
+    }
+
+    /**
+     * Schedule sensor read on bus. Reads start at the next multiple of the period from the epoch.
+     *
+     * @param name Job name.
+     * @param bus Bus name such as /dev/i2c-0. Jobs on the same bus never run at the same time.
+     * @param rate Target rate in Hz.
+     * @param sampler Sensor read.
+     * @return Job.
+     */
+    public synchronized Job add(final String name, final String bus, final double rate, final Sampler sampler) {
+        final var executor = buses.computeIfAbsent(bus, k -> factory == null ? new PeriodicExecutor(k) : new PeriodicExecutor(
+                factory));
+        final var job = new Job(name, bus, rate, sampler);
+        final var period = (long) (1e9 / rate);
+        // Align first deadline to common timebase
+        final var first = epoch + ((TimerFd.clockMonotonic() - epoch) / period + 1) * period;
+        job.task = executor.scheduleAt(job::run, first, period);
+        jobs.add(job);
+        return job;
+    }
+
+    /**
+     * Stop all bus executors.
+     */
+    @Override
+    public synchronized void close() {
+        buses.values().forEach(PeriodicExecutor::close);
+        buses.clear();
+    }
+
+    /**
+     * Return summary of every job.
+     *
+     * @return Summary.
+     */
+    @Override
+    public synchronized String toString() {
+        final var builder = new StringBuilder();
+        jobs.forEach(job -> builder.append(job).append(System.lineSeparator()));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.bus;
+
+import com.codeferm.periphery.I2c;
+import com.codeferm.periphery.rt.Histogram;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+
+/**
+ * Owns an I2C handle and runs transactions from many threads back to back on one worker. Transactions run highest priority
+ * first, then earliest deadline, then in submit order, so sampling at high priority never queues behind config traffic.
+ * Transactions are not preempted once started, so keep slow low priority work in small transactions.
+ *
+ * Queue depth, wait time, deadline misses and bus utilization are kept for tuning.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class I2cArbiter implements AutoCloseable {
+
+    /**
+     * Priority for periodic sampling.
+     */
+    public static final int PRIORITY_HIGH = 10;
+    /**
+     * Default priority.
+     */
+    public static final int PRIORITY_NORMAL = 5;
+    /**
+     * Priority for configuration and other background traffic.
+     */
+    public static final int PRIORITY_LOW = 0;
+    /**
+     * Deadline for transactions that have none. They run after those with deadlines and are never counted as misses.
+     */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(I2cArbiter.class);
+    /**
+     * I2C handle.
+     */
+    private final long handle;
+    /**
+     * Pending transactions.
+     */
+    private final PriorityBlockingQueue<Transaction> queue = new PriorityBlockingQueue<>();
+    /**
+     * Submit order for ties.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+    /**
+     * Time from submit to start. The worker records while holding its lock.
+     */
+    private final Histogram waitTime = new Histogram(100000);
+    /**
+     * Worker thread.
+     */
+    private final Thread thread;
+    /**
+     * Time worker was started.
+     */
+    private final long startTime;
+    /**
+     * Stop flag.
+     */
+    private volatile boolean stopped;
+    /**
+     * Time spent running transactions.
+     */
+    private volatile long busyTime;
+    /**
+     * Transactions run.
+     */
+    private volatile long transactions;
+    /**
+     * Transactions started after their deadline.
+     */
+    private volatile long deadlineMisses;
+    /**
+     * Deepest queue seen.
+     */
+    private final AtomicInteger maxDepth = new AtomicInteger();
+
+    /**
+     * Bus operation run on the worker thread.
+     */
+    @FunctionalInterface
+    public interface Operation {
+
+        /**
+         * Run operation.
+         *
+         * @param handle I2C handle.
+         * @return I2c.I2C_SUCCESS or error code.
+         */
+        int execute(long handle);
+    }
+
+    /**
+     * Queued operation with priority and deadline.
+     */
+    public static class Transaction implements Comparable<Transaction> {
+
+        /**
+         * Operation.
+         */
+        private final Operation operation;
+        /**
+         * Priority, higher runs first.
+         */
+        private final int priority;
+        /**
+         * System.nanoTime deadline or NO_DEADLINE.
+         */
+        private final long deadline;
+        /**
+         * Submit order.
+         */
+        private final long sequence;
+        /**
+         * System.nanoTime of submit.
+         */
+        private final long submitted;
+        /**
+         * Result.
+         */
+        private final CompletableFuture<Integer> result = new CompletableFuture<>();
+
+        /**
+         * Transaction constructor.
+         *
+         * @param operation Operation.
+         * @param priority Priority.
+         * @param deadline Deadline.
+         * @param sequence Submit order.
+         */
+        Transaction(final Operation operation, final int priority, final long deadline, final long sequence) {
+            this.operation = operation;
+            this.priority = priority;
+            this.deadline = deadline;
+            this.sequence = sequence;
+            this.submitted = System.nanoTime();
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public CompletableFuture<Integer> getResult() {
+            return result;
+        }
+
+        /**
+         * Higher priority, then earlier deadline (none is last), then earlier submit.
+         *
+         * @param other Other transaction.
+         * @return Order.
+         */
+        @Override
+        public int compareTo(final Transaction other) {
+            var order = Integer.compare(other.priority, priority);
+            if (order == 0) {
+                if (deadline == NO_DEADLINE || other.deadline == NO_DEADLINE) {
+                    order = Boolean.compare(deadline == NO_DEADLINE, other.deadline == NO_DEADLINE);
+                } else {
+                    order = Long.signum(deadline - other.deadline);
+                }
+            }
+            if (order == 0) {
+                order = Long.compare(sequence, other.sequence);
+            }
+            return order;
+        }
+    }
+
+    /**
+     * Arbiter with default worker thread.
+     *
+     * @param handle I2C handle. The arbiter should be the only user of the handle.
+     */
+    public I2cArbiter(final long handle) {
+        this(handle, runnable -> new Thread(runnable, "i2c-arbiter"));
+    }
+
+    /**
+     * Arbiter with worker from factory such as RtThreadFactory.
+     *
+     * @param handle I2C handle. The arbiter should be the only user of the handle.
+     * @param factory Thread factory.
+     */
+    public I2cArbiter(final long handle, final ThreadFactory factory) {
+        this.handle = handle;
+        startTime = System.nanoTime();
+        thread = factory.newThread(this::run);
+        thread.start();
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    /**
+     * Time from submit to start. The worker keeps recording into it, so synchronize on it while reading.
+     *
+     * @return Histogram.
+     */
+    public Histogram getWaitTime() {
+        return waitTime;
+    }
+
+    public long getTransactions() {
+        return transactions;
+    }
+
+    public long getDeadlineMisses() {
+        return deadlineMisses;
+    }
+
+    /**
+     * Fraction of time since start the bus was busy.
+     *
+     * @return Utilization 0 - 1.
+     */
+    public double getUtilization() {
+        return (double) busyTime / Math.max(1, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Queue operation.
+     *
+     * @param operation Operation.
+     * @param priority Priority, higher runs first.
+     * @param deadline Deadline relative to now in nanoseconds or NO_DEADLINE, orders transactions of the same priority.
+     * @return Transaction, result completes with return code.
+     */
+    public Transaction submit(final Operation operation, final int priority, final long deadline) {
+        if (stopped) {
+            throw new RuntimeException("Arbiter closed");
+        }
+        final var transaction = new Transaction(operation, priority, deadline == NO_DEADLINE ? NO_DEADLINE : System.nanoTime()
+                + deadline, sequence.getAndIncrement());
+        queue.add(transaction);
+        maxDepth.accumulateAndGet(queue.size(), Math::max);
+        return transaction;
+    }
+
+    /**
+     * Queue operation and wait for it to finish.
+     *
+     * @param operation Operation.
+     * @param priority Priority, higher runs first.
+     * @param deadline Deadline relative to now in nanoseconds or NO_DEADLINE.
+     * @return Return code.
+     */
+    public int execute(final Operation operation, final int priority, final long deadline) {
+        return submit(operation, priority, deadline).getResult().join();
+    }
+
+    /**
+     * Read registers starting at reg and wait. There's no deadline, so it's never counted as a miss.
+     *
+     * @param addr Device address.
+     * @param reg Register.
+     * @param buf Buffer, read length is buffer length.
+     * @param priority Priority.
+     * @return I2C_SUCCESS or error code.
+     */
+    public int read8(final short addr, final short reg, final byte[] buf, final int priority) {
+        return execute(h -> I2c.i2cReadReg8(h, addr, reg, buf), priority, NO_DEADLINE);
+    }
+
+    /**
+     * Write register and wait. There's no deadline, so it's never counted as a miss.
+     *
+     * @param addr Device address.
+     * @param reg Register.
+     * @param value Value.
+     * @param priority Priority.
+     * @return I2C_SUCCESS or error code.
+     */
+    public int write8(final short addr, final short reg, final short value, final int priority) {
+        return execute(h -> I2c.i2cWriteReg8(h, addr, reg, value), priority, NO_DEADLINE);
+    }
+
+    /**
+     * Worker loop.
+     */
+    private void run() {
+        try {
+            while (!stopped) {
+                final var transaction = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (transaction != null) {
+                    final var start = System.nanoTime();
+                    synchronized (waitTime) {
+                        waitTime.record(start - transaction.submitted);
+                    }
+                    if (transaction.deadline != NO_DEADLINE && start - transaction.deadline > 0) {
+                        deadlineMisses++;
+                    }
+                    var rc = 0;
+                    RuntimeException error = null;
+                    try {
+                        rc = transaction.operation.execute(handle);
+                    } catch (RuntimeException e) {
+                        error = e;
+                    }
+                    // Count before completing, so callers see their own transaction in the stats
+                    busyTime += System.nanoTime() - start;
+                    transactions++;
+                    if (error == null) {
+                        transaction.result.complete(rc);
+                    } else {
+                        transaction.result.completeExceptionally(error);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.error(e.getMessage());
+        }
+        failPending();
+    }
+
+    /**
+     * Fail anything left so callers don't wait forever.
+     */
+    private void failPending() {
+        Transaction transaction;
+        while ((transaction = queue.poll()) != null) {
+            transaction.result.completeExceptionally(new RuntimeException("Arbiter closed"));
+        }
+    }
+
+    /**
+     * Stop worker after current transaction. Queued transactions fail.
+     */
+    @Override
+    public void close() {
+        stopped = true;
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Catch anything submitted while worker was stopping
+        failPending();
+    }
+
+    /**
+     * Return summary.
+     *
+     * @return Summary.
+     */
+    @Override
+    public String toString() {
+        final String wait;
+        synchronized (waitTime) {
+            wait = waitTime.toString();
+        }
+        return String.format("transactions %d depth %d max %d misses %d utilization %.1f%% wait %s", transactions, getQueueDepth(),
+                maxDepth.get(), deadlineMisses, getUtilization() * 100, wait);
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.bus;
+
+import com.codeferm.periphery.I2c;
+import static com.codeferm.periphery.I2c.I2C_SUCCESS;
+
+/**
+ * Write through cache of 8 bit I2C device registers. Cacheable registers are read from the bus once and then served from the
+ * cache, so read-modify-write of config registers costs one write, or nothing if the value doesn't change. Volatile registers
+ * (data, status and anything not declared) always go to the bus. Write only registers remember the last value written.
+ *
+ * Invalidate or verify after anything that can change registers behind the cache's back, such as a device reset. Verify mode
+ * reads back every write to cacheable registers.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RegCache {
+
+    /**
+     * Always read from bus.
+     */
+    public static final int REG_VOLATILE = 0;
+    /**
+     * Read from bus once then from cache.
+     */
+    public static final int REG_CACHEABLE = 1;
+    /**
+     * Can't be read, last written value is cached.
+     */
+    public static final int REG_WRITE_ONLY = 2;
+    /**
+     * I2C handle.
+     */
+    private final long handle;
+    /**
+     * Device address.
+     */
+    private final short addr;
+    /**
+     * Policy of each register.
+     */
+    private final byte[] policy = new byte[256];
+    /**
+     * Cached values.
+     */
+    private final short[] values = new short[256];
+    /**
+     * Cached value is valid.
+     */
+    private final boolean[] valid = new boolean[256];
+    /**
+     * Read buffer.
+     */
+    private final short[] buf = new short[1];
+    /**
+     * Read back writes.
+     */
+    private boolean verify;
+    /**
+     * Bus reads.
+     */
+    private long busReads;
+    /**
+     * Bus writes.
+     */
+    private long busWrites;
+    /**
+     * Reads served from cache.
+     */
+    private long hits;
+
+    /**
+     * Device constructor. All registers start volatile.
+     *
+     * @param handle I2C handle.
+     * @param addr Device address.
+     */
+    public RegCache(final long handle, final short addr) {
+        this.handle = handle;
+        this.addr = addr;
+    }
+
+    public long getHandle() {
+        return handle;
+    }
+
+    public short getAddr() {
+        return addr;
+    }
+
+    public boolean isVerify() {
+        return verify;
+    }
+
+    public RegCache setVerify(final boolean verify) {
+        this.verify = verify;
+        return this;
+    }
+
+    public long getBusReads() {
+        return busReads;
+    }
+
+    public long getBusWrites() {
+        return busWrites;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Declare register policy.
+     *
+     * @param policy REG_VOLATILE, REG_CACHEABLE or REG_WRITE_ONLY.
+     * @param regs Registers.
+     * @return This object.
+     */
+    public RegCache declare(final int policy, final int... regs) {
+        for (final var reg : regs) {
+            this.policy[reg] = (byte) policy;
+            valid[reg] = false;
+        }
+        return this;
+    }
+
+    /**
+     * Read register from bus.
+     *
+     * @param reg Register.
+     * @return Value.
+     */
+    private short busRead(final int reg) {
+        if (I2c.i2cReadReg8(handle, addr, (short) reg, buf) != I2C_SUCCESS) {
+            throw new RuntimeException(String.format("Unable to read register 0x%02x", reg));
+        }
+        busReads++;
+        return buf[0];
+    }
+
+    /**
+     * Read register, from cache if it's cacheable and valid.
+     *
+     * @param reg Register.
+     * @return Value.
+     */
+    public synchronized short read(final int reg) {
+        if (valid[reg]) {
+            hits++;
+            return values[reg];
+        }
+        if (policy[reg] == REG_WRITE_ONLY) {
+            throw new RuntimeException(String.format("Write only register 0x%02x not written yet", reg));
+        }
+        final var value = busRead(reg);
+        if (policy[reg] == REG_CACHEABLE) {
+            values[reg] = value;
+            valid[reg] = true;
+        }
+        return value;
+    }
+
+    /**
+     * Write register through cache.
+     *
+     * @param reg Register.
+     * @param value Value.
+     */
+    public synchronized void write(final int reg, final int value) {
+        final var data = (short) (value & 0xff);
+        if (I2c.i2cWriteReg8(handle, addr, (short) reg, data) != I2C_SUCCESS) {
+            valid[reg] = false;
+            throw new RuntimeException(String.format("Unable to write register 0x%02x", reg));
+        }
+        busWrites++;
+        if (policy[reg] == REG_VOLATILE) {
+            valid[reg] = false;
+        } else {
+            values[reg] = data;
+            valid[reg] = true;
+            if (verify && policy[reg] == REG_CACHEABLE && !verify(reg)) {
+                throw new RuntimeException(String.format("Register 0x%02x read back 0x%02x, wrote 0x%02x", reg, values[reg], data));
+            }
+        }
+    }
+
+    /**
+     * Change bits in mask using cached value. Nothing is written if the value is unchanged.
+     *
+     * @param reg Register.
+     * @param mask Bits to change.
+     * @param value New bits.
+     * @return True if register was written.
+     */
+    public synchronized boolean update(final int reg, final int mask, final int value) {
+        final var current = read(reg);
+        final var next = (current & ~mask) | (value & mask);
+        if (next == current && valid[reg]) {
+            return false;
+        }
+        write(reg, next);
+        return true;
+    }
+
+    /**
+     * Drop cached value, so next read goes to the bus.
+     *
+     * @param reg Register.
+     */
+    public synchronized void invalidate(final int reg) {
+        if (policy[reg] != REG_WRITE_ONLY) {
+            valid[reg] = false;
+        }
+    }
+
+    /**
+     * Drop all cached values except write only registers.
+     */
+    public synchronized void invalidateAll() {
+        for (int i = 0; i < valid.length; i++) {
+            invalidate(i);
+        }
+    }
+
+    /**
+     * Read register from bus and compare with cache. Cache is updated with the bus value.
+     *
+     * @param reg Register.
+     * @return True if cache matched or had no value.
+     */
+    public synchronized boolean verify(final int reg) {
+        if (policy[reg] == REG_WRITE_ONLY) {
+            return true;
+        }
+        final var value = busRead(reg);
+        final var match = !valid[reg] || values[reg] == value;
+        if (policy[reg] == REG_CACHEABLE) {
+            values[reg] = value;
+            valid[reg] = true;
+        }
+        return match;
+    }
+
+    /**
+     * Return summary.
+     *
+     * @return Summary.
+     */
+    @Override
+    public String toString() {
+        return String.format("address 0x%02x bus reads %d bus writes %d cache hits %d", addr, busReads, busWrites, hits);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.bus;
+
+/**
+ * Single producer single consumer ring of timestamped sensor samples with a fixed number of 16 bit channels (for example 6 for
+ * accelerometer and gyroscope). Samples are decoded straight from a burst read buffer into a preallocated short array, so offering
+ * and polling never allocate. When the ring is full new samples are dropped and counted.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SampleRing {
+
+    /**
+     * Index mask (capacity - 1).
+     */
+    private final int mask;
+    /**
+     * Channels in each sample.
+     */
+    private final int channels;
+    /**
+     * Channel values, channels for each slot.
+     */
+    private final short[] data;
+    /**
+     * Sample time in nanoseconds.
+     */
+    private final long[] timestamp;
+    /**
+     * Next slot to write. Only the producer writes this.
+     */
+    private volatile long head;
+    /**
+     * Next slot to read. Only the consumer writes this.
+     */
+    private volatile long tail;
+    /**
+     * Samples dropped because ring was full. Only the producer writes this.
+     */
+    private volatile long dropped;
+
+    /**
+     * Capacity and channels constructor.
+     *
+     * @param capacity Number of samples rounded up to a power of 2.
+     * @param channels Channels in each sample.
+     */
+    public SampleRing(final int capacity, final int channels) {
+        if (capacity < 1 || capacity > 1 << 24 || channels < 1) {
+            throw new RuntimeException(String.format("Invalid capacity %d or channels %d", capacity, channels));
+        }
+        final var size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        mask = size - 1;
+        this.channels = channels;
+        data = new short[size * channels];
+        timestamp = new long[size];
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Return number of samples waiting.
+     *
+     * @return Sample count.
+     */
+    public int size() {
+        return (int) (head - tail);
+    }
+
+    /**
+     * Decode sample from read buffer and add it. Producer only.
+     *
+     * @param time Sample time in nanoseconds.
+     * @param buf Read buffer.
+     * @param offset Offset of first channel in buffer.
+     * @param bigEndian True if high byte comes first.
+     * @return True if added or false if dropped.
+     */
+    public boolean offer(final long time, final byte[] buf, final int offset, final boolean bigEndian) {
+        final var h = head;
+        var ret = false;
+        if (h - tail <= mask) {
+            final var i = (int) h & mask;
+            var pos = offset;
+            var dest = i * channels;
+            for (int c = 0; c < channels; c++) {
+                if (bigEndian) {
+                    data[dest++] = (short) ((buf[pos] << 8) | (buf[pos + 1] & 0xff));
+                } else {
+                    data[dest++] = (short) ((buf[pos + 1] << 8) | (buf[pos] & 0xff));
+                }
+                pos += 2;
+            }
+            timestamp[i] = time;
+            // Volatile write publishes the sample
+            head = h + 1;
+            ret = true;
+        } else {
+            dropped++;
+        }
+        return ret;
+    }
+
+    /**
+     * Remove oldest sample and pass it to consumer. Consumer only.
+     *
+     * @param consumer Sample consumer.
+     * @return True if a sample was consumed.
+     */
+    public boolean poll(final Consumer consumer) {
+        final var t = tail;
+        var ret = false;
+        if (t < head) {
+            final var i = (int) t & mask;
+            consumer.accept(timestamp[i], data, i * channels);
+            // Volatile write frees the slot
+            tail = t + 1;
+            ret = true;
+        }
+        return ret;
+    }
+
+    /**
+     * Remove all waiting samples. Consumer only.
+     *
+     * @param consumer Sample consumer.
+     * @return Number of samples consumed.
+     */
+    public int drain(final Consumer consumer) {
+        var count = 0;
+        while (poll(consumer)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Sample consumer taking primitives, so nothing is boxed.
+     */
+    @FunctionalInterface
+    public interface Consumer {
+
+        /**
+         * Accept sample. Channel values are only valid during the call, so copy what you need.
+         *
+         * @param timestamp Sample time in nanoseconds.
+         * @param data Ring data.
+         * @param offset Offset of first channel in data.
+         */
+        void accept(long timestamp, short[] data, int offset);
+    }
+}
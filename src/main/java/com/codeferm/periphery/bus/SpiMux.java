@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.bus;
+
+import com.codeferm.periphery.Gpio;
+import static com.codeferm.periphery.Gpio.GPIO_SUCCESS;
+import com.codeferm.periphery.Spi;
+import static com.codeferm.periphery.Spi.SPI_SUCCESS;
+import com.codeferm.periphery.SpiTransfer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Share one spidev handle between devices with different modes, speeds and word sizes. Speed and bits per word go in each
+ * transfer instead of being set on the handle, and mode is only set when it differs from what was last applied, so switching
+ * between devices with the same mode costs no ioctls at all.
+ *
+ * The handle's max speed is raised to the fastest device once, since a transfer speed of 0 uses it. Devices can have a GPIO chip
+ * select (active low, opened as output high by the caller). Add SPI_NO_CS to their extra flags if the controller supports it, or
+ * open a spidev node whose own chip select isn't wired to anything.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SpiMux {
+
+    /**
+     * spidev flag to leave hardware chip select alone.
+     */
+    public static final int SPI_NO_CS = 0x40;
+    /**
+     * SPI handle.
+     */
+    private final long handle;
+    /**
+     * Devices in order added.
+     */
+    private final List<Device> devices = new ArrayList<>();
+    /**
+     * Mode applied to handle or -1 if unknown.
+     */
+    private int mode = -1;
+    /**
+     * Extra flags applied to handle or -1 if unknown.
+     */
+    private int extraFlags = -1;
+    /**
+     * Max speed applied to handle.
+     */
+    private int maxSpeed;
+    /**
+     * Device of last transfer.
+     */
+    private Device current;
+    /**
+     * Configuration calls made (c-periphery reads then writes, so two ioctls each).
+     */
+    private long ioctls;
+    /**
+     * Configuration calls skipped because nothing changed.
+     */
+    private long skipped;
+    /**
+     * Device switches.
+     */
+    private long switches;
+
+    /**
+     * Device on the shared bus. It's also a SpiTransfer, so drivers can use it like a handle of their own.
+     */
+    public class Device implements SpiTransfer {
+
+        /**
+         * Device name.
+         */
+        private final String name;
+        /**
+         * Mode can be 0, 1, 2, or 3.
+         */
+        private final int mode;
+        /**
+         * Extra flags such as SPI_NO_CS.
+         */
+        private final int extraFlags;
+        /**
+         * Chip select GPIO handle or 0 for hardware chip select.
+         */
+        private final long csHandle;
+        /**
+         * Transfer length.
+         */
+        private final int[] lens = new int[1];
+        /**
+         * Transfer speed.
+         */
+        private final int[] speeds = new int[1];
+        /**
+         * Transfer bits per word.
+         */
+        private final byte[] bitsPerWord = new byte[1];
+        /**
+         * Transfer chip select change.
+         */
+        private final byte[] csChange = new byte[1];
+        /**
+         * Transfer delay.
+         */
+        private final short[] delayUsecs = new short[1];
+
+        /**
+         * Device constructor.
+         *
+         * @param name Device name.
+         * @param mode Mode can be 0, 1, 2, or 3.
+         * @param speedHz Speed in Hz.
+         * @param bits Bits per word.
+         * @param extraFlags Extra flags such as SPI_NO_CS.
+         * @param cs Chip select GPIO or null for hardware chip select.
+         */
+        Device(final String name, final int mode, final int speedHz, final int bits, final int extraFlags, final Gpio cs) {
+            this.name = name;
+            this.mode = mode;
+            this.extraFlags = extraFlags;
+            csHandle = cs == null ? 0 : cs.getHandle();
+            speeds[0] = speedHz;
+            bitsPerWord[0] = (byte) bits;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getMode() {
+            return mode;
+        }
+
+        public int getSpeed() {
+            return speeds[0];
+        }
+
+        public int getBitsPerWord() {
+            return bitsPerWord[0];
+        }
+
+        /**
+         * Transfer with this device's configuration.
+         *
+         * @param txBuf Transmit buffer or null to shift out zeros.
+         * @param rxBuf Receive buffer or null to ignore received data.
+         * @param len Number of bytes.
+         * @return Spi.SPI_SUCCESS on success or -errno.
+         */
+        @Override
+        public int transfer(final byte[] txBuf, final byte[] rxBuf, final long len) {
+            return SpiMux.this.transfer(this, txBuf, rxBuf, (int) len);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s mode %d speed %d bits %d%s", name, mode, speeds[0], bitsPerWord[0], csHandle == 0 ? ""
+                    : " GPIO chip select");
+        }
+    }
+
+    /**
+     * Mux constructor.
+     *
+     * @param handle SPI handle, the mux owns its configuration from now on.
+     */
+    public SpiMux(final long handle) {
+        this.handle = handle;
+        final var value = new int[1];
+        if (Spi.spiGetMaxSpeed(handle, value) != SPI_SUCCESS) {
+            throw new RuntimeException(Spi.spiErrMessage(handle));
+        }
+        maxSpeed = value[0];
+    }
+
+    public long getIoctls() {
+        return ioctls;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public long getSwitches() {
+        return switches;
+    }
+
+    /**
+     * Return devices in order added.
+     *
+     * @return Devices.
+     */
+    public List<Device> getDevices() {
+        return Collections.unmodifiableList(devices);
+    }
+
+    /**
+     * Add device using hardware chip select.
+     *
+     * @param name Device name.
+     * @param mode Mode can be 0, 1, 2, or 3.
+     * @param speedHz Speed in Hz.
+     * @param bits Bits per word.
+     * @return Device.
+     */
+    public Device add(final String name, final int mode, final int speedHz, final int bits) {
+        return add(name, mode, speedHz, bits, 0, null);
+    }
+
+    /**
+     * Add device.
+     *
+     * @param name Device name.
+     * @param mode Mode can be 0, 1, 2, or 3.
+     * @param speedHz Speed in Hz.
+     * @param bits Bits per word.
+     * @param extraFlags Extra flags such as SPI_NO_CS.
+     * @param cs Chip select GPIO or null for hardware chip select.
+     * @return Device.
+     */
+    public synchronized Device add(final String name, final int mode, final int speedHz, final int bits, final int extraFlags,
+            final Gpio cs) {
+        if (mode < 0 || mode > 3 || speedHz < 1 || bits < 1 || bits > 32) {
+            throw new RuntimeException(String.format("Invalid mode %d, speed %d or bits %d", mode, speedHz, bits));
+        }
+        if (speedHz > maxSpeed) {
+            if (Spi.spiSetMaxSpeed(handle, speedHz) != SPI_SUCCESS) {
+                throw new RuntimeException(Spi.spiErrMessage(handle));
+            }
+            ioctls++;
+            maxSpeed = speedHz;
+        }
+        final var device = new Device(name, mode, speedHz, bits, extraFlags, cs);
+        devices.add(device);
+        return device;
+    }
+
+    /**
+     * Apply device mode and extra flags if they differ from the handle's.
+     *
+     * @param device Device.
+     */
+    private void select(final Device device) {
+        if (device != current) {
+            switches++;
+            current = device;
+        }
+        if (device.mode != mode) {
+            if (Spi.spiSetMode(handle, device.mode) != SPI_SUCCESS) {
+                mode = -1;
+                throw new RuntimeException(Spi.spiErrMessage(handle));
+            }
+            ioctls++;
+            mode = device.mode;
+        } else {
+            skipped++;
+        }
+        if (device.extraFlags != extraFlags) {
+            if (Spi.spiSetExtraFlags(handle, (byte) device.extraFlags) != SPI_SUCCESS) {
+                extraFlags = -1;
+                throw new RuntimeException(Spi.spiErrMessage(handle));
+            }
+            ioctls++;
+            extraFlags = device.extraFlags;
+        } else {
+            skipped++;
+        }
+    }
+
+    /**
+     * Transfer with device's mode, speed, bits per word and chip select. Only one transfer runs at a time.
+     *
+     * @param device Device from add.
+     * @param txBuf Transmit buffer or null to shift out zeros.
+     * @param rxBuf Receive buffer or null to ignore received data.
+     * @param len Number of bytes.
+     * @return Spi.SPI_SUCCESS on success or -errno.
+     */
+    public synchronized int transfer(final Device device, final byte[] txBuf, final byte[] rxBuf, final int len) {
+        select(device);
+        device.lens[0] = len;
+        if (device.csHandle != 0 && Gpio.gpioWrite(device.csHandle, false) != GPIO_SUCCESS) {
+            throw new RuntimeException(String.format("Unable to select %s", device.name));
+        }
+        try {
+            return Spi.spiTransferBatch(handle, txBuf, rxBuf, device.lens, device.speeds, device.bitsPerWord, device.csChange,
+                    device.delayUsecs, 1);
+        } finally {
+            if (device.csHandle != 0) {
+                Gpio.gpioWrite(device.csHandle, true);
+            }
+        }
+    }
+
+    /**
+     * Return summary.
+     *
+     * @return Summary.
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("devices %d switches %d ioctls %d skipped %d", devices.size(), switches, ioctls, skipped);
+    }
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.bus;
+
+import static com.codeferm.periphery.Spi.SPI_SUCCESS;
+import com.codeferm.periphery.SpiTransfer;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Continuous SPI capture for ADCs such as the MCP3008 or ADS1256. An acquisition thread runs transfers back to back, each one
+ * filling a block from a fixed pool. Full blocks go to the consumer through a lock free single producer single consumer queue and
+ * come back through another one when released, so the acquisition loop never allocates or blocks.
+ *
+ * Each transfer sends the same command buffer (for example MCP3008 channel selects repeated for every sample in the block). When
+ * the consumer holds every block the transfer still runs into a scratch block to keep the bus timing, but its data is dropped and
+ * counted as an overrun. Block sequence numbers count every transfer, so a gap shows where data was lost.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SpiStream implements AutoCloseable {
+
+    /**
+     * SPI transfer.
+     */
+    private final SpiTransfer spi;
+    /**
+     * Command sent with every block.
+     */
+    private final byte[] txBuf;
+    /**
+     * Blocks ready to fill.
+     */
+    private final BlockQueue free;
+    /**
+     * Blocks ready to consume.
+     */
+    private final BlockQueue full;
+    /**
+     * Block used when the pool is empty.
+     */
+    private final Block scratch;
+    /**
+     * Block taken from the pool but not delivered yet. Only the acquisition thread uses this.
+     */
+    private Block held;
+    /**
+     * Creates acquisition thread.
+     */
+    private final ThreadFactory factory;
+    /**
+     * Acquisition thread.
+     */
+    private Thread thread;
+    /**
+     * Stop flag.
+     */
+    private volatile boolean stopped = true;
+    /**
+     * Transfers done.
+     */
+    private volatile long transfers;
+    /**
+     * Blocks dropped because none were free.
+     */
+    private volatile long overruns;
+    /**
+     * Failed transfers.
+     */
+    private volatile long errors;
+
+    /**
+     * Block of received data.
+     */
+    public static class Block {
+
+        /**
+         * Received data.
+         */
+        private final byte[] data;
+        /**
+         * Transfer number.
+         */
+        private long sequence;
+        /**
+         * System.nanoTime when transfer started.
+         */
+        private long start;
+        /**
+         * System.nanoTime when transfer ended.
+         */
+        private long end;
+
+        /**
+         * Block constructor.
+         *
+         * @param size Block size in bytes.
+         */
+        Block(final int size) {
+            data = new byte[size];
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+    }
+
+    /**
+     * Single producer single consumer queue of blocks.
+     */
+    static class BlockQueue {
+
+        /**
+         * Index mask (capacity - 1).
+         */
+        private final int mask;
+        /**
+         * Slots.
+         */
+        private final Block[] slots;
+        /**
+         * Next slot to write. Only the producer writes this.
+         */
+        private volatile long head;
+        /**
+         * Next slot to read. Only the consumer writes this.
+         */
+        private volatile long tail;
+
+        /**
+         * Capacity constructor.
+         *
+         * @param capacity Most blocks, rounded up to a power of 2.
+         */
+        BlockQueue(final int capacity) {
+            final var size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+            mask = size - 1;
+            slots = new Block[size];
+        }
+
+        /**
+         * Add block. Producer only.
+         *
+         * @param block Block.
+         * @return False if full.
+         */
+        boolean offer(final Block block) {
+            final var h = head;
+            if (h - tail > mask) {
+                return false;
+            }
+            slots[(int) h & mask] = block;
+            // Volatile write publishes the block
+            head = h + 1;
+            return true;
+        }
+
+        /**
+         * Remove block. Consumer only.
+         *
+         * @return Block or null if empty.
+         */
+        Block poll() {
+            final var t = tail;
+            if (t >= head) {
+                return null;
+            }
+            final var i = (int) t & mask;
+            final var block = slots[i];
+            slots[i] = null;
+            // Volatile write frees the slot
+            tail = t + 1;
+            return block;
+        }
+
+        /**
+         * Return number of blocks waiting.
+         *
+         * @return Block count.
+         */
+        int size() {
+            return (int) (head - tail);
+        }
+    }
+
+    /**
+     * Block consumer.
+     */
+    @FunctionalInterface
+    public interface Consumer {
+
+        /**
+         * Accept block. The block is released after the call, so copy what you need.
+         *
+         * @param block Full block.
+         */
+        void accept(Block block);
+    }
+
+    /**
+     * Stream with default acquisition thread.
+     *
+     * @param spi SPI transfer.
+     * @param txBuf Command sent with every block, its length is the block size.
+     * @param blocks Blocks in pool.
+     */
+    public SpiStream(final SpiTransfer spi, final byte[] txBuf, final int blocks) {
+        this(spi, txBuf, blocks, null);
+    }
+
+    /**
+     * Stream with acquisition thread from factory such as RtThreadFactory.
+     *
+     * @param spi SPI transfer.
+     * @param txBuf Command sent with every block, its length is the block size.
+     * @param blocks Blocks in pool.
+     * @param factory Thread factory or null for default thread.
+     */
+    public SpiStream(final SpiTransfer spi, final byte[] txBuf, final int blocks, final ThreadFactory factory) {
+        if (txBuf.length < 1 || blocks < 1) {
+            throw new RuntimeException(String.format("Invalid block size %d or blocks %d", txBuf.length, blocks));
+        }
+        this.spi = spi;
+        this.txBuf = txBuf;
+        this.factory = factory;
+        free = new BlockQueue(blocks);
+        full = new BlockQueue(blocks);
+        for (int i = 0; i < blocks; i++) {
+            free.offer(new Block(txBuf.length));
+        }
+        scratch = new Block(txBuf.length);
+    }
+
+    public long getTransfers() {
+        return transfers;
+    }
+
+    public long getOverruns() {
+        return overruns;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Return number of full blocks waiting.
+     *
+     * @return Block count.
+     */
+    public int available() {
+        return full.size();
+    }
+
+    /**
+     * Start acquisition thread.
+     *
+     * @return This object.
+     */
+    public synchronized SpiStream start() {
+        if (thread != null) {
+            throw new RuntimeException("Stream already started");
+        }
+        stopped = false;
+        thread = factory == null ? new Thread(this::run, "spi-stream") : factory.newThread(this::run);
+        thread.start();
+        return this;
+    }
+
+    /**
+     * Run transfers back to back until stopped.
+     */
+    private void run() {
+        while (!stopped) {
+            if (held == null) {
+                held = free.poll();
+            }
+            final var block = held == null ? scratch : held;
+            if (held == null) {
+                overruns++;
+            }
+            block.sequence = transfers;
+            block.start = System.nanoTime();
+            final var ret = spi.transfer(txBuf, block.data, txBuf.length);
+            block.end = System.nanoTime();
+            transfers++;
+            if (ret != SPI_SUCCESS) {
+                // Keep block for next transfer, only the consumer puts blocks in the free queue
+                errors++;
+            } else if (held != null) {
+                full.offer(held);
+                held = null;
+            }
+        }
+    }
+
+    /**
+     * Take oldest full block. Hand it back with release when done. Single consumer only.
+     *
+     * @return Block or null if none are full.
+     */
+    public Block poll() {
+        return full.poll();
+    }
+
+    /**
+     * Return block to pool. Only the consumer that took it may release it.
+     *
+     * @param block Block from poll.
+     */
+    public void release(final Block block) {
+        // Producer recycles through the free queue, which can't be full since it holds every block
+        free.offer(block);
+    }
+
+    /**
+     * Pass all full blocks to consumer and release them.
+     *
+     * @param consumer Block consumer.
+     * @return Blocks consumed.
+     */
+    public int drain(final Consumer consumer) {
+        var count = 0;
+        Block block;
+        while ((block = full.poll()) != null) {
+            try {
+                consumer.accept(block);
+            } finally {
+                release(block);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Stop acquisition thread and wait for it to finish.
+     */
+    @Override
+    public synchronized void close() {
+        if (thread != null) {
+            stopped = true;
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    /**
+     * Return summary.
+     *
+     * @return Summary.
+     */
+    @Override
+    public String toString() {
+        return String.format("transfers %d overruns %d errors %d waiting %d", transfers, overruns, errors, full.size());
+    }
+}
@@ -3,11 +3,25 @@
  */
 package com.codeferm.periphery.demo;
 
+import static com.codeferm.periphery.Common.cString;
+import com.codeferm.periphery.Gpio;
+import static com.codeferm.periphery.Gpio.GPIO_BIAS_DEFAULT;
+import static com.codeferm.periphery.Gpio.GPIO_DIR_IN;
+import static com.codeferm.periphery.Gpio.GPIO_DRIVE_DEFAULT;
+import static com.codeferm.periphery.Gpio.GPIO_EDGE_RISING;
+import static com.codeferm.periphery.Gpio.GPIO_POLL_EVENT;
+import com.codeferm.periphery.Gpio.GpioConfig;
 import com.codeferm.periphery.I2c;
+import static com.codeferm.periphery.I2c.I2C_SUCCESS;
+import com.codeferm.periphery.bus.RegCache;
+import static com.codeferm.periphery.bus.RegCache.REG_CACHEABLE;
+import com.codeferm.periphery.bus.SampleRing;
+import java.lang.management.ManagementFactory;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import org.apache.logging.log4j.LogManager;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
@@ -39,6 +53,124 @@ public class Adxl345 implements Callable<Integer> {
      */
     @Option(names = {"-a", "--address"}, description = "Address, ${DEFAULT-VALUE} by default.")
     private short address = 0x53;
+    /**
+     * FIFO mode option.
+     */
+    @Option(names = {"--fifo"}, description = "Sample through FIFO, ${DEFAULT-VALUE} by default.")
+    private boolean fifo = false;
+    /**
+     * FIFO data rate option.
+     */
+    @Option(names = {"--rate"}, description = "FIFO data rate code (0 - 15, 15 is 3200 Hz), ${DEFAULT-VALUE} by default.")
+    private short rate = 0x0f;
+    /**
+     * FIFO watermark option.
+     */
+    @Option(names = {"--watermark"}, description = "FIFO samples to read in each wakeup (1 - 31), ${DEFAULT-VALUE} by default.")
+    private int watermark = 16;
+    /**
+     * INT1 GPIO device option.
+     */
+    @Option(names = {"--int-device"}, description = "INT1 GPIO device, ${DEFAULT-VALUE} by default.")
+    private String intDevice = "/dev/gpiochip0";
+    /**
+     * INT1 GPIO line option.
+     */
+    @Option(names = {"--int-line"}, description = "INT1 GPIO line or -1 to use a timer, ${DEFAULT-VALUE} by default.")
+    private int intLine = -1;
+    /**
+     * Seconds option.
+     */
+    @Option(names = {"--seconds"}, description = "Seconds to sample in FIFO mode, ${DEFAULT-VALUE} by default.")
+    private int seconds = 10;
+    /**
+     * INT_ENABLE register.
+     */
+    public static final int REG_INT_ENABLE = 0x2e;
+    /**
+     * INT_MAP register, 0 bits go to INT1.
+     */
+    public static final int REG_INT_MAP = 0x2f;
+    /**
+     * INT_SOURCE register.
+     */
+    public static final int REG_INT_SOURCE = 0x30;
+    /**
+     * DATAX0 register, first of 6 data registers.
+     */
+    public static final int REG_DATAX0 = 0x32;
+    /**
+     * FIFO_CTL register.
+     */
+    public static final int REG_FIFO_CTL = 0x38;
+    /**
+     * FIFO_STATUS register.
+     */
+    public static final int REG_FIFO_STATUS = 0x39;
+    /**
+     * Watermark interrupt bit.
+     */
+    public static final int INT_WATERMARK = 0x02;
+    /**
+     * Overrun interrupt bit.
+     */
+    public static final int INT_OVERRUN = 0x01;
+    /**
+     * FIFO_CTL stream mode, oldest samples are dropped when full.
+     */
+    public static final int FIFO_STREAM = 0x80;
+    /**
+     * FIFO entries plus the data registers.
+     */
+    public static final int FIFO_SIZE = 33;
+    /**
+     * Bytes in each FIFO sample (x, y, z low byte first).
+     */
+    public static final int FIFO_SAMPLE_BYTES = 6;
+    /**
+     * Config register cache.
+     */
+    private RegCache regCache;
+    /**
+     * FIFO read thread.
+     */
+    private Thread fifoThread = null;
+    /**
+     * FIFO read thread stop flag.
+     */
+    private volatile boolean fifoStopped = true;
+    /**
+     * FIFO read buffer.
+     */
+    private final byte[] fifoBuf = new byte[FIFO_SIZE * FIFO_SAMPLE_BYTES];
+    /**
+     * FIFO status read buffer.
+     */
+    private final short[] fifoStatusBuf = new short[1];
+    /**
+     * FIFO overruns.
+     */
+    private volatile long fifoOverruns;
+    /**
+     * FIFO drains.
+     */
+    private volatile long fifoReads;
+
+    /**
+     * Return register cache for device, so config reads and read-modify-writes don't go to the bus every time.
+     *
+     * @param handle I2C file handle.
+     * @param addr Address.
+     * @return Register cache.
+     */
+    public RegCache getRegCache(final long handle, final short addr) {
+        if (regCache == null || regCache.getHandle() != handle || regCache.getAddr() != addr) {
+            // BW_RATE, POWER_CTL, INT_ENABLE, INT_MAP, DATA_FORMAT and FIFO_CTL only change when we write them
+            regCache = new RegCache(handle, addr).declare(REG_CACHEABLE, 0x2c, 0x2d, REG_INT_ENABLE, REG_INT_MAP, 0x31,
+                    REG_FIFO_CTL);
+        }
+        return regCache;
+    }
 
     /**
      * Get data range setting.
@@ -61,13 +193,11 @@ public class Adxl345 implements Callable<Integer> {
      * @return Range.
      */
     public short getRange(final long handle, final short addr) {
-        final var buf = new short[1];
-        I2c.i2cReadReg8(handle, addr, (short) 0x31, buf);
-        return (short) (buf[0] & 0x03);
+        return (short) (getRegCache(handle, addr).read(0x31) & 0x03);
     }
 
     /**
-     * Set data range setting. Read the data format register to preserve bits. Update the data rate, make sure that the FULL-RES bit
+     * Set data range setting. Use cached data format register to preserve bits. Update the data rate, make sure that the FULL-RES bit
      * is enabled for range scaling.
      *
      * Register 0x31 -- DATA_FORMAT (Read/Write)
@@ -89,9 +219,7 @@ public class Adxl345 implements Callable<Integer> {
      */
     public void setRange(final long handle, final short addr, final short value) {
         // 0x08 sets fill resolution bit to enabled
-        final var buf = new short[1];
-        I2c.i2cReadReg8(handle, addr, (short) 0x31, buf);
-        I2c.i2cWriteReg8(handle, addr, (short) 0x31, (short) (((buf[0] & ~0x0f) | value) | 0x08));
+        getRegCache(handle, addr).update(0x31, 0x0f, value | 0x08);
     }
 
     /**
@@ -108,9 +236,7 @@ public class Adxl345 implements Callable<Integer> {
      * @return Full resolution enabled setting
      */
     public boolean getFullResolution(final long handle, final short addr) {
-        final var buf = new short[1];
-        I2c.i2cReadReg8(handle, addr, (short) 0x31, buf);
-        return (short) (buf[0] & 0x08) == (short) 0x08;
+        return (getRegCache(handle, addr).read(0x31) & 0x08) == 0x08;
     }
 
     /**
@@ -148,9 +274,7 @@ public class Adxl345 implements Callable<Integer> {
      * @return Range.
      */
     public short getDataRate(final long handle, final short addr) {
-        final var buf = new short[1];
-        I2c.i2cReadReg8(handle, addr, (short) 0x2c, buf);
-        return (short) (buf[0] & 0x0f);
+        return (short) (getRegCache(handle, addr).read(0x2c) & 0x0f);
     }
 
     /**
@@ -189,7 +313,7 @@ public class Adxl345 implements Callable<Integer> {
      * @param value Data rate.
      */
     public void setDataRate(final long handle, final short addr, final short value) {
-        I2c.i2cWriteReg8(handle, addr, (short) 0x2c, (short) (value & 0x0f));
+        getRegCache(handle, addr).write(0x2c, value & 0x0f);
     }
 
     /**
@@ -216,16 +340,33 @@ public class Adxl345 implements Callable<Integer> {
      * @return Map of Integers keyed by x, y, z.
      */
     public Map<String, Integer> read(final long handle, final short addr) {
-        // Read all 6 registers at once
-        final var data = new byte[6];
-        I2c.i2cReadReg8(handle, addr, (short) 0x32, data);
+        final var values = new int[3];
+        read(handle, addr, new byte[6], values);
         final Map<String, Integer> map = new HashMap<>();
-        map.put("x", bytesToInt(data[0], data[1]));
-        map.put("y", bytesToInt(data[2], data[3]));
-        map.put("z", bytesToInt(data[4], data[5]));
+        map.put("x", values[0]);
+        map.put("y", values[1]);
+        map.put("z", values[2]);
         return map;
     }
 
+    /**
+     * Retrieve x, y, z 10 bit data in 6 bytes without allocating.
+     *
+     * @param handle I2C file handle.
+     * @param addr Address.
+     * @param data Read buffer of 6 bytes.
+     * @param values x, y and z values.
+     */
+    public void read(final long handle, final short addr, final byte[] data, final int[] values) {
+        // Read all 6 registers at once
+        if (I2c.i2cReadReg8(handle, addr, (short) REG_DATAX0, data) != I2C_SUCCESS) {
+            throw new RuntimeException("Unable to read data registers");
+        }
+        values[0] = bytesToInt(data[0], data[1]);
+        values[1] = bytesToInt(data[2], data[3]);
+        values[2] = bytesToInt(data[4], data[5]);
+    }
+
     /**
      * Determines the scaling factor of raw values to obtain Gs.
      *
@@ -254,6 +395,168 @@ public class Adxl345 implements Callable<Integer> {
         return value * scalingFactor * 9.8f;
     }
 
+    /**
+     * Return output data rate.
+     *
+     * @param code Data rate code from getDataRate.
+     * @return Rate in Hz.
+     */
+    public double getDataRateHz(final short code) {
+        return 3200.0 / (1 << (15 - code));
+    }
+
+    public long getFifoOverruns() {
+        return fifoOverruns;
+    }
+
+    public long getFifoReads() {
+        return fifoReads;
+    }
+
+    /**
+     * Read every sample in the FIFO and decode them into the ring. Each FIFO entry takes its own 6 byte register read, but all of
+     * them go out in a couple of I2C transfers. Samples are timestamped back from the read time at the sample period, since the
+     * FIFO has no timestamps.
+     *
+     * @param handle I2C file handle.
+     * @param addr Address.
+     * @param ring Ring with 3 channels (x, y, z).
+     * @param readTime System.nanoTime of read.
+     * @param period Sample period in nanoseconds.
+     * @return Samples read.
+     */
+    public int readFifo(final long handle, final short addr, final SampleRing ring, final long readTime, final long period) {
+        if (I2c.i2cReadReg8(handle, addr, (short) REG_FIFO_STATUS, fifoStatusBuf) != I2C_SUCCESS) {
+            throw new RuntimeException("Unable to read FIFO status");
+        }
+        final var samples = fifoStatusBuf[0] & 0x3f;
+        if (samples >= FIFO_SIZE - 1) {
+            // Full FIFO may have dropped samples, reading INT_SOURCE clears overrun
+            if (I2c.i2cReadReg8(handle, addr, (short) REG_INT_SOURCE, fifoStatusBuf) != I2C_SUCCESS) {
+                throw new RuntimeException("Unable to read interrupt source");
+            }
+            if ((fifoStatusBuf[0] & INT_OVERRUN) != 0) {
+                fifoOverruns++;
+            }
+        }
+        if (samples > 0) {
+            if (I2c.i2cRead8Repeat(handle, addr, (short) REG_DATAX0, fifoBuf, FIFO_SAMPLE_BYTES, samples) != I2C_SUCCESS) {
+                throw new RuntimeException("Unable to read FIFO");
+            }
+            fifoReads++;
+            for (int i = 0; i < samples; i++) {
+                ring.offer(readTime - (samples - 1 - i) * period, fifoBuf, i * FIFO_SAMPLE_BYTES, false);
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * Put FIFO in stream mode and drain it on a background thread. With INT1 wired to a GPIO the thread wakes on the watermark
+     * interrupt, otherwise it sleeps for about watermark samples between reads.
+     *
+     * @param handle I2C file handle.
+     * @param addr Address.
+     * @param intGpio GPIO connected to INT1 with rising edge events or null to use a timer.
+     * @param samples Watermark, samples to read in each wakeup.
+     * @param ring Ring with 3 channels.
+     */
+    public void startFifo(final long handle, final short addr, final Gpio intGpio, final int samples, final SampleRing ring) {
+        if (samples < 1 || samples > FIFO_SIZE - 2) {
+            throw new IllegalArgumentException(String.format("Watermark must be 1 - %d", FIFO_SIZE - 2));
+        }
+        final var cache = getRegCache(handle, addr);
+        // Bypass clears the FIFO
+        cache.write(REG_FIFO_CTL, 0x00);
+        cache.write(REG_INT_MAP, 0x00);
+        cache.write(REG_INT_ENABLE, intGpio == null ? 0x00 : INT_WATERMARK);
+        cache.write(REG_FIFO_CTL, FIFO_STREAM | samples);
+        final var period = (long) (1e9 / getDataRateHz(getDataRate(handle, addr)));
+        fifoStopped = false;
+        fifoThread = new Thread(() -> {
+            final var edge = new int[1];
+            final var timestamp = new long[1];
+            while (!fifoStopped) {
+                if (intGpio != null) {
+                    // Timeout falls through to a read, so a missed edge can't stall the FIFO
+                    if (Gpio.gpioPoll(intGpio.getHandle(), 100) == GPIO_POLL_EVENT) {
+                        do {
+                            Gpio.gpioReadEvent(intGpio.getHandle(), edge, timestamp);
+                        } while (Gpio.gpioPoll(intGpio.getHandle(), 0) == GPIO_POLL_EVENT);
+                    }
+                    // Watermark is a level, so drain below it to get the next rising edge
+                    var count = 0;
+                    do {
+                        count = readFifo(handle, addr, ring, System.nanoTime(), period);
+                    } while (count >= samples && !fifoStopped);
+                } else {
+                    readFifo(handle, addr, ring, System.nanoTime(), period);
+                    LockSupport.parkNanos(samples * period);
+                }
+            }
+        }, "adxl345-fifo");
+        fifoThread.start();
+    }
+
+    /**
+     * Stop FIFO read thread and put FIFO in bypass mode.
+     *
+     * @param handle I2C file handle.
+     * @param addr Address.
+     * @throws InterruptedException Possible exception.
+     */
+    public void stopFifo(final long handle, final short addr) throws InterruptedException {
+        if (fifoThread != null) {
+            fifoStopped = true;
+            fifoThread.join();
+            fifoThread = null;
+            final var cache = getRegCache(handle, addr);
+            cache.write(REG_INT_ENABLE, 0x00);
+            cache.write(REG_FIFO_CTL, 0x00);
+        }
+    }
+
+    /**
+     * Sample through FIFO and log rate and CPU use every second.
+     *
+     * @param handle I2C file handle.
+     * @param addr Address.
+     * @param scalingFactor Use getScalingFactor.
+     * @throws InterruptedException Possible exception.
+     */
+    public void runFifo(final long handle, final short addr, final float scalingFactor) throws InterruptedException {
+        final var ring = new SampleRing(8192, 3);
+        final var last = new short[3];
+        final var threadBean = ManagementFactory.getThreadMXBean();
+        Gpio intGpio = null;
+        try {
+            if (intLine >= 0) {
+                intGpio = new Gpio(intDevice, intLine, new GpioConfig().setBias(GPIO_BIAS_DEFAULT).setDirection(GPIO_DIR_IN).
+                        setDrive(GPIO_DRIVE_DEFAULT).setEdge(GPIO_EDGE_RISING).setInverted(false).setLabel(cString(Adxl345.class.
+                        getSimpleName())));
+            }
+            logger.info(String.format("FIFO data rate %.2f Hz, watermark %d, %s", getDataRateHz(getDataRate(handle, addr)),
+                    watermark, intGpio == null ? "timer" : "watermark interrupt"));
+            startFifo(handle, addr, intGpio, watermark, ring);
+            final var fifoThreadId = fifoThread.getId();
+            var cpuStart = threadBean.getThreadCpuTime(fifoThreadId);
+            for (int i = 0; i < seconds; i++) {
+                TimeUnit.SECONDS.sleep(1);
+                final var samples = ring.drain((timestamp, data, offset) -> System.arraycopy(data, offset, last, 0, 3));
+                final var cpu = threadBean.getThreadCpuTime(fifoThreadId);
+                logger.info(String.format("%d samples/s, %d reads, CPU %.2f%%, overruns %d, x: %+5.2f, y: %+5.2f, z: %+5.2f",
+                        samples, fifoReads, (cpu - cpuStart) / 1e7, fifoOverruns, scaling(last[0], scalingFactor), scaling(last[1],
+                        scalingFactor), scaling(last[2], scalingFactor)));
+                cpuStart = cpu;
+            }
+            stopFifo(handle, addr);
+        } finally {
+            if (intGpio != null) {
+                intGpio.close();
+            }
+        }
+    }
+
     /**
      * Main program.
      *
@@ -269,22 +572,29 @@ public class Adxl345 implements Callable<Integer> {
             I2c.i2cReadReg8(i2c.getHandle(), address, (short) 0x00, buf);
             if (buf[0] == 0xe5) {
                 // Enable the accelerometer
-                I2c.i2cWriteReg8(i2c.getHandle(), address, (short) 0x2d, (short) 0x08);
+                getRegCache(i2c.getHandle(), address).write(0x2d, 0x08);
                 // +/- 2g
                 setRange(i2c.getHandle(), address, (short) 0x00);
-                // 100 Hz
-                setDataRate(i2c.getHandle(), address, (short) 0x0a);
+                // 100 Hz or FIFO rate
+                setDataRate(i2c.getHandle(), address, fifo ? rate : (short) 0x0a);
                 // Save off range and data rate
                 final var range = getRange(i2c.getHandle(), address);
                 final var dataRate = getDataRate(i2c.getHandle(), address);
                 final var scalingFactor = getScalingFactor(range, getFullResolution(i2c.getHandle(), address));
                 logger.info(String.format("Range = %d, data rate = %d, scaling factor = %f", range, dataRate, scalingFactor));
-                for (var i = 0; i < 100; i++) {
-                    final var data = read(i2c.getHandle(), address);
-                    logger.info(String.format("x: %+5.2f, y: %+5.2f, z: %+5.2f", scaling(data.get("x"), scalingFactor), scaling(
-                            data.get("y"), scalingFactor), scaling(data.get("z"), scalingFactor)));
-                    TimeUnit.MILLISECONDS.sleep(500);
+                if (fifo) {
+                    runFifo(i2c.getHandle(), address, scalingFactor);
+                } else {
+                    final var data = new byte[6];
+                    final var values = new int[3];
+                    for (var i = 0; i < 100; i++) {
+                        read(i2c.getHandle(), address, data, values);
+                        logger.info(String.format("x: %+5.2f, y: %+5.2f, z: %+5.2f", scaling(values[0], scalingFactor), scaling(
+                                values[1], scalingFactor), scaling(values[2], scalingFactor)));
+                        TimeUnit.MILLISECONDS.sleep(500);
+                    }
                 }
+                logger.info(String.format("Register cache %s", regCache));
             } else {
                 logger.error("Not ADXL345?");
             }
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.demo;
+
+import com.codeferm.periphery.Spi;
+import static com.codeferm.periphery.Spi.SPI_SUCCESS;
+import com.codeferm.periphery.SpiTransfer;
+import com.codeferm.periphery.rt.PeriodicExecutor;
+import com.codeferm.periphery.rt.PeriodicTask;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.logging.log4j.LogManager;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Chain of 74HC595 shift registers as virtual output pins. Pin writes only change a shadow bitmap and are safe from any thread.
+ * Changes are coalesced and sent as one SPI transfer of the whole chain by flush, either on demand or every tick of a
+ * PeriodicExecutor. Pin 0 is Q0 of the chip connected to MOSI.
+ *
+ * Connect MOSI to SER of the first chip, QH' of each chip to SER of the next, SCLK to SRCLK and CS to RCLK of every chip, so the
+ * outputs latch when CS goes high at the end of the transfer.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Command(name = "Hc595", mixinStandardHelpOptions = true, version = "1.0.0-SNAPSHOT",
+        description = "Chase a bit along 74HC595 chain.")
+public class Hc595 implements Callable<Integer> {
+
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(Hc595.class);
+    /**
+     * Device option.
+     */
+    @Option(names = {"-d", "--device"}, description = "SPI device, ${DEFAULT-VALUE} by default.")
+    private String device = "/dev/spidev1.0";
+    /**
+     * Chips option.
+     */
+    @Option(names = {"-c", "--chips"}, description = "Chips in chain, ${DEFAULT-VALUE} by default.")
+    private int chips = 1;
+    /**
+     * Speed option.
+     */
+    @Option(names = {"-s", "--speed"}, description = "SPI speed in Hz, ${DEFAULT-VALUE} by default.")
+    private int speed = 1000000;
+    /**
+     * Tick option.
+     */
+    @Option(names = {"-t", "--tick"}, description = "Flush period in milliseconds, ${DEFAULT-VALUE} by default.")
+    private int tick = 10;
+    /**
+     * SPI transfer.
+     */
+    private SpiTransfer spi;
+    /**
+     * Shadow of outputs, 64 pins to a word.
+     */
+    private AtomicLongArray shadow;
+    /**
+     * Shadow changed since last flush.
+     */
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    /**
+     * Transmit buffer, last chip first.
+     */
+    private byte[] txBuf;
+    /**
+     * Transfers sent.
+     */
+    private volatile long transfers;
+
+    /**
+     * Used by CLI.
+     */
+    public Hc595() {
+    }
+
+    /**
+     * Chain constructor. All outputs start off and are sent on first flush.
+     *
+     * @param spi SPI transfer.
+     * @param chips Chips in chain.
+     */
+    public Hc595(final SpiTransfer spi, final int chips) {
+        this.spi = spi;
+        this.chips = chips;
+        shadow = new AtomicLongArray((chips * 8 + 63) / 64);
+        txBuf = new byte[chips];
+        dirty.set(true);
+    }
+
+    public int getChips() {
+        return chips;
+    }
+
+    /**
+     * Number of virtual pins.
+     *
+     * @return Pins.
+     */
+    public int getPins() {
+        return chips * 8;
+    }
+
+    public long getTransfers() {
+        return transfers;
+    }
+
+    public boolean isDirty() {
+        return dirty.get();
+    }
+
+    /**
+     * Return shadow value of pin.
+     *
+     * @param pin Pin.
+     * @return Pin value.
+     */
+    public boolean getPin(final int pin) {
+        return (shadow.get(pin >> 6) & (1L << pin)) != 0;
+    }
+
+    /**
+     * Set pin in shadow. Sent on next flush.
+     *
+     * @param pin Pin.
+     * @param value Pin value.
+     * @return This object.
+     */
+    public Hc595 setPin(final int pin, final boolean value) {
+        if (pin < 0 || pin >= getPins()) {
+            throw new RuntimeException(String.format("Invalid pin %d", pin));
+        }
+        final var index = pin >> 6;
+        final var bit = 1L << pin;
+        long prev;
+        long next;
+        do {
+            prev = shadow.get(index);
+            next = value ? prev | bit : prev & ~bit;
+        } while (prev != next && !shadow.compareAndSet(index, prev, next));
+        if (prev != next) {
+            dirty.set(true);
+        }
+        return this;
+    }
+
+    /**
+     * Set all pins in shadow. Sent on next flush.
+     *
+     * @param value Pin value.
+     * @return This object.
+     */
+    public Hc595 setAll(final boolean value) {
+        for (int i = 0; i < shadow.length(); i++) {
+            shadow.set(i, value ? -1L : 0L);
+        }
+        dirty.set(true);
+        return this;
+    }
+
+    /**
+     * Send whole chain if any pin changed since last flush.
+     *
+     * @return True if a transfer was sent.
+     */
+    public synchronized boolean flush() {
+        if (!dirty.getAndSet(false)) {
+            return false;
+        }
+        for (int chip = 0; chip < chips; chip++) {
+            final var first = chip * 8;
+            // Last chip in chain is shifted out first
+            txBuf[chips - 1 - chip] = (byte) (shadow.get(first >> 6) >>> (first & 63));
+        }
+        if (spi.transfer(txBuf, null, txBuf.length) != SPI_SUCCESS) {
+            throw new RuntimeException("SPI transfer failed");
+        }
+        transfers++;
+        return true;
+    }
+
+    /**
+     * Flush every period.
+     *
+     * @param executor Executor.
+     * @param period Period in nanoseconds.
+     * @return Scheduled task.
+     */
+    public PeriodicTask flushEvery(final PeriodicExecutor executor, final long period) {
+        return executor.schedule(this::flush, period);
+    }
+
+    /**
+     * Chase one bit along the chain, flushing each tick.
+     *
+     * @return Exit code.
+     * @throws InterruptedException Possible exception.
+     */
+    @Override
+    public Integer call() throws InterruptedException {
+        var exitCode = 0;
+        try (final var spiDev = new Spi(device, 0, speed); final var executor = new PeriodicExecutor("hc595")) {
+            final var chain = new Hc595(SpiTransfer.of(spiDev.getHandle()), chips);
+            final var task = chain.flushEvery(executor, tick * 1000000L);
+            for (int pin = 0; pin < chain.getPins(); pin++) {
+                chain.setPin(pin, true);
+                TimeUnit.MILLISECONDS.sleep(100);
+                chain.setPin(pin, false);
+            }
+            task.cancel();
+            chain.flush();
+            logger.info(String.format("Transfers %d, flush %s", chain.getTransfers(), task));
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage());
+            exitCode = 1;
+        }
+        return exitCode;
+    }
+
+    /**
+     * Main parsing, error handling and handling user requests for usage help or version help are done with one line of code.
+     *
+     * @param args Argument list.
+     */
+    public static void main(String... args) {
+        System.exit(new CommandLine(new Hc595()).execute(args));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.demo;
+
+import static com.codeferm.periphery.Spi.SPI_SUCCESS;
+import com.codeferm.periphery.SpiTransfer;
+import com.codeferm.periphery.rt.Delay;
+import java.util.concurrent.Callable;
+import org.apache.logging.log4j.LogManager;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Pin updates per second for Hc595 chains of different lengths using a simulated SPI device, so no hardware is needed. The
+ * simulated device takes as long as the bytes would take on the wire at the given clock plus a fixed overhead per transfer (ioctl
+ * and CS setup). Compares a transfer for every pin change with coalescing a batch of changes into one flush.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Command(name = "Hc595Perf", mixinStandardHelpOptions = true, version = "1.0.0-SNAPSHOT",
+        description = "Benchmark 74HC595 chain updates with simulated SPI.")
+public class Hc595Perf implements Callable<Integer> {
+
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(Hc595Perf.class);
+    /**
+     * Chain lengths option.
+     */
+    @Option(names = {"-c", "--chips"}, split = ",", description = "Chain lengths, ${DEFAULT-VALUE} by default.")
+    private int[] chainLengths = {1, 2, 4, 8, 16, 32};
+    /**
+     * Speed option.
+     */
+    @Option(names = {"-s", "--speed"}, description = "Simulated SPI speed in Hz, ${DEFAULT-VALUE} by default.")
+    private int speed = 10000000;
+    /**
+     * Overhead option.
+     */
+    @Option(names = {"-o", "--overhead"}, description = "Simulated overhead per transfer in ns, ${DEFAULT-VALUE} by default.")
+    private int overhead = 20000;
+    /**
+     * Batch option.
+     */
+    @Option(names = {"-b", "--batch"}, description = "Pin updates per flush, ${DEFAULT-VALUE} by default.")
+    private int batch = 16;
+    /**
+     * Updates option.
+     */
+    @Option(names = {"-u", "--updates"}, description = "Pin updates per test, ${DEFAULT-VALUE} by default.")
+    private int updates = 100000;
+    /**
+     * Bytes seen by simulated device.
+     */
+    private long bytes;
+
+    /**
+     * Return simulated SPI device.
+     *
+     * @param delay Delay used to simulate wire time.
+     * @return Transfer.
+     */
+    public SpiTransfer simulated(final Delay delay) {
+        return (txBuf, rxBuf, len) -> {
+            bytes += len;
+            delay.delay(overhead + len * 8 * 1000000000L / speed);
+            return SPI_SUCCESS;
+        };
+    }
+
+    /**
+     * Run updates and return updates per second.
+     *
+     * @param chain Chain.
+     * @param flushEvery Flush after this many updates.
+     * @return Updates per second.
+     */
+    public double measure(final Hc595 chain, final int flushEvery) {
+        final var pins = chain.getPins();
+        final var start = System.nanoTime();
+        for (int i = 0; i < updates; i++) {
+            // Walk pins and flip value each pass, so every update is a change
+            chain.setPin(i % pins, (i / pins & 1) == 0);
+            if ((i + 1) % flushEvery == 0) {
+                chain.flush();
+            }
+        }
+        chain.flush();
+        return updates * 1000000000.0 / (System.nanoTime() - start);
+    }
+
+    /**
+     * Benchmark each chain length.
+     *
+     * @return Exit code.
+     * @throws InterruptedException Possible exception.
+     */
+    @Override
+    public Integer call() throws InterruptedException {
+        final var delay = Delay.getDefault();
+        final var spi = simulated(delay);
+        logger.info(String.format("Simulated SPI %d Hz, %d ns per transfer, batch %d", speed, overhead, batch));
+        for (final var chips : chainLengths) {
+            // Warm up
+            measure(new Hc595(spi, chips), batch);
+            var chain = new Hc595(spi, chips);
+            final var each = measure(chain, 1);
+            final var eachTransfers = chain.getTransfers();
+            chain = new Hc595(spi, chips);
+            final var coalesced = measure(chain, batch);
+            logger.info(String.format("%3d chips  per update %10.0f updates/s %7d transfers  coalesced %10.0f updates/s %7d transfers",
+                    chips, each, eachTransfers, coalesced, chain.getTransfers()));
+        }
+        logger.debug(String.format("Simulated bytes %d", bytes));
+        return 0;
+    }
+
+    /**
+     * Main parsing, error handling and handling user requests for usage help or version help are done with one line of code.
+     *
+     * @param args Argument list.
+     */
+    public static void main(String... args) {
+        System.exit(new CommandLine(new Hc595Perf()).execute(args));
+    }
+}
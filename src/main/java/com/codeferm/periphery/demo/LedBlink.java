@@ -10,8 +10,9 @@ import static com.codeferm.periphery.Gpio.GPIO_DIR_OUT;
 import static com.codeferm.periphery.Gpio.GPIO_DRIVE_DEFAULT;
 import static com.codeferm.periphery.Gpio.GPIO_EDGE_NONE;
 import com.codeferm.periphery.Gpio.GpioConfig;
+import com.codeferm.periphery.rt.PeriodicExecutor;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CountDownLatch;
 import org.apache.logging.log4j.LogManager;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
@@ -59,14 +60,19 @@ public class LedBlink implements Callable<Integer> {
                 setDrive(GPIO_DRIVE_DEFAULT).setEdge(GPIO_EDGE_NONE).setInverted(false).setLabel(cString(LedBlink.class.
                 getSimpleName())))) {
             logger.info("Blinking LED");
-            var i = 0;
-            while (i < 10) {
-                Gpio.gpioWrite(gpio.getHandle(), true);
-                TimeUnit.SECONDS.sleep(1);
-                Gpio.gpioWrite(gpio.getHandle(), false);
-                TimeUnit.SECONDS.sleep(1);
-                i++;
+            final var toggles = new CountDownLatch(20);
+            final var executor = new PeriodicExecutor("blink");
+            // Toggle every second at a fixed rate, so blinks don't drift
+            final var task = executor.schedule(() -> {
+                Gpio.gpioWrite(gpio.getHandle(), toggles.getCount() % 2 == 0);
+                toggles.countDown();
+            }, 1000000000L);
+            try {
+                toggles.await();
+            } finally {
+                executor.close();
             }
+            logger.info(String.format("Blink %s", task));
         } catch (RuntimeException e) {
             logger.error(e.getMessage());
             exitCode = 1;
@@ -4,8 +4,11 @@
 package com.codeferm.periphery.demo;
 
 import com.codeferm.periphery.Pwm;
+import com.codeferm.periphery.rt.PeriodicExecutor;
+import com.codeferm.periphery.rt.PeriodicTask;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.logging.log4j.LogManager;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
@@ -38,27 +41,35 @@ public class LedFlash implements Callable<Integer> {
     private int channel = 0;
 
     /**
-     * Gradually increase and decrease LED brightness.
+     * Gradually increase and decrease LED brightness. The step task cancels itself after the last step.
      *
+     * @param executor Executor that runs the steps.
      * @param handle Valid pointer to an allocated LED handle structure.
      * @param period Set the period in seconds of the PWM.
      * @param startDc Starting duty cycle in nanoseconds.
      * @param dcInc Duty cycle increment in nanoseconds.
      * @param count Number of times to loop.
-     * @param sleepTime Sleep time in microseconds.
+     * @param sleepTime Step period in microseconds.
      * @throws InterruptedException Possible exception.
      */
-    public void changeBrightness(final long handle, final int period, final int startDc, final int dcInc, final int count,
-            final int sleepTime) throws InterruptedException {
+    public void changeBrightness(final PeriodicExecutor executor, final long handle, final int period, final int startDc,
+            final int dcInc, final int count, final int sleepTime) throws InterruptedException {
         Pwm.pwmSetPeriodNs(handle, period);
-        var dutyCycle = startDc;
-        var i = 0;
-        while (i < count) {
-            Pwm.pwmSetDutyCycleNs(handle, dutyCycle);
-            TimeUnit.MICROSECONDS.sleep(sleepTime);
-            dutyCycle += dcInc;
-            i += 1;
-        }
+        final var steps = new CountDownLatch(count);
+        final var self = new AtomicReference<PeriodicTask>();
+        // Step duty cycle at a fixed rate
+        self.set(executor.schedule(() -> {
+            // A run can come before the task is set, so don't step past count
+            if (steps.getCount() > 0) {
+                Pwm.pwmSetDutyCycleNs(handle, startDc + (int) (count - steps.getCount()) * dcInc);
+                steps.countDown();
+            }
+            if (steps.getCount() == 0 && self.get() != null) {
+                self.get().cancel();
+            }
+        }, 0, sleepTime * 1000L));
+        steps.await();
+        logger.debug(String.format("Steps %s", self.get()));
     }
 
     /**
@@ -70,12 +81,12 @@ public class LedFlash implements Callable<Integer> {
     @Override
     public Integer call() throws InterruptedException {
         var exitCode = 0;
-        try (final var pwm = new Pwm(chip, channel)) {
+        try (final var pwm = new Pwm(chip, channel); final var executor = new PeriodicExecutor("flash")) {
             logger.info("Flash LED");
             Pwm.pwmEnable(pwm.getHandle());
             for (var i = 0; i < 10; i++) {
-                changeBrightness(pwm.getHandle(), 1000, 0, 10, 100, 5000);
-                changeBrightness(pwm.getHandle(), 1000, 1000, -10, 100, 5000);
+                changeBrightness(executor, pwm.getHandle(), 1000, 0, 10, 100, 5000);
+                changeBrightness(executor, pwm.getHandle(), 1000, 1000, -10, 100, 5000);
             }
             Pwm.pwmSetDutyCycleNs(pwm.getHandle(), 0);
             Pwm.pwmSetPeriod(pwm.getHandle(), 0);
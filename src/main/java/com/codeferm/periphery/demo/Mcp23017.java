@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.demo;
+
+import static com.codeferm.periphery.Common.cString;
+import com.codeferm.periphery.Gpio;
+import static com.codeferm.periphery.Gpio.GPIO_BIAS_PULL_UP;
+import static com.codeferm.periphery.Gpio.GPIO_DIR_IN;
+import static com.codeferm.periphery.Gpio.GPIO_DRIVE_DEFAULT;
+import static com.codeferm.periphery.Gpio.GPIO_EDGE_FALLING;
+import static com.codeferm.periphery.Gpio.GPIO_POLL_EVENT;
+import com.codeferm.periphery.Gpio.GpioConfig;
+import com.codeferm.periphery.I2c;
+import static com.codeferm.periphery.I2c.I2C_SUCCESS;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * MCP23017 16 bit I2C IO expander with cached inputs and batched outputs. Pins 0 - 7 are port A and 8 - 15 are port B.
+ *
+ * Both ports are read in one burst and kept in a cache. With INT wired to a GPIO the cache is only refreshed when the expander
+ * signals a change, so reading inputs costs no bus traffic. Output writes change a pending latch value and flush writes each port
+ * that changed, both ports in one burst if needed.
+ *
+ * INTA and INTB are mirrored, active low, so connect INTA to a GPIO input.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Command(name = "Mcp23017", mixinStandardHelpOptions = true, version = "1.0.0-SNAPSHOT",
+        description = "Mirror port B inputs to port A outputs.")
+public class Mcp23017 implements Callable<Integer> {
+
+    /**
+     * Registers with IOCON.BANK = 0, so A and B are next to each other.
+     */
+    public static final short IODIRA = 0x00;
+    public static final short GPINTENA = 0x04;
+    public static final short INTCONA = 0x08;
+    public static final short IOCON = 0x0a;
+    public static final short GPPUA = 0x0c;
+    public static final short INTFA = 0x0e;
+    public static final short GPIOA = 0x12;
+    public static final short OLATA = 0x14;
+    public static final short OLATB = 0x15;
+    /**
+     * IOCON mirror INTA and INTB.
+     */
+    public static final short IOCON_MIRROR = 0x40;
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(Mcp23017.class);
+    /**
+     * Device option.
+     */
+    @Option(names = {"-d", "--device"}, description = "I2C device, ${DEFAULT-VALUE} by default.")
+    private String device = "/dev/i2c-0";
+    /**
+     * Address option.
+     */
+    @Option(names = {"-a", "--address"}, description = "Address, ${DEFAULT-VALUE} by default.")
+    private short address = 0x20;
+    /**
+     * Interrupt GPIO device option.
+     */
+    @Option(names = {"-g", "--int-device"}, description = "INT GPIO device, ${DEFAULT-VALUE} by default.")
+    private String intDevice = "/dev/gpiochip0";
+    /**
+     * Interrupt GPIO line option.
+     */
+    @Option(names = {"-l", "--int-line"}, description = "INT GPIO line, ${DEFAULT-VALUE} by default.")
+    private int intLine = 198;
+    /**
+     * Seconds option.
+     */
+    @Option(names = {"-s", "--seconds"}, description = "Seconds to run, ${DEFAULT-VALUE} by default.")
+    private int seconds = 30;
+    /**
+     * I2C handle.
+     */
+    private long handle;
+    /**
+     * Direction cache, 1 = input.
+     */
+    private int direction;
+    /**
+     * Input cache.
+     */
+    private volatile int inputs;
+    /**
+     * Latch value last written.
+     */
+    private int latch;
+    /**
+     * Latch value to write on flush.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+    /**
+     * Called on input change or null.
+     */
+    private volatile Listener listener;
+    /**
+     * Interrupt thread.
+     */
+    private Thread intThread;
+    /**
+     * Interrupt thread stop flag.
+     */
+    private volatile boolean intStopped;
+    /**
+     * Read transactions.
+     */
+    private volatile long busReads;
+    /**
+     * Write transactions.
+     */
+    private volatile long busWrites;
+    /**
+     * Read buffer.
+     */
+    private final byte[] readBuf = new byte[2];
+
+    /**
+     * Input change listener.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Inputs changed.
+         *
+         * @param changed Bits that changed.
+         * @param inputs All input values.
+         */
+        void changed(int changed, int inputs);
+    }
+
+    /**
+     * Used by CLI.
+     */
+    public Mcp23017() {
+    }
+
+    /**
+     * Expander constructor. Reads direction and latch registers and both ports into the caches.
+     *
+     * @param handle I2C handle.
+     * @param address Expander address.
+     */
+    public Mcp23017(final long handle, final short address) {
+        this.handle = handle;
+        this.address = address;
+        direction = readWord(IODIRA);
+        latch = readWord(OLATA);
+        pending.set(latch);
+        refresh();
+    }
+
+    public long getBusReads() {
+        return busReads;
+    }
+
+    public long getBusWrites() {
+        return busWrites;
+    }
+
+    public Mcp23017 setListener(final Listener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Read register pair A and B in one burst.
+     *
+     * @param reg Port A register.
+     * @return B in high byte and A in low byte.
+     */
+    private int readWord(final short reg) {
+        final var buf = new byte[2];
+        if (I2c.i2cReadReg8(handle, address, reg, buf) != I2C_SUCCESS) {
+            throw new RuntimeException(String.format("Unable to read register 0x%02x", reg));
+        }
+        busReads++;
+        return (buf[0] & 0xff) | (buf[1] & 0xff) << 8;
+    }
+
+    /**
+     * Write register pair A and B in one burst.
+     *
+     * @param reg Port A register.
+     * @param value B in high byte and A in low byte.
+     */
+    private void writeWord(final short reg, final int value) {
+        if (I2c.i2cWriteReg16(handle, address, reg, (short) value) != I2C_SUCCESS) {
+            throw new RuntimeException(String.format("Unable to write register 0x%02x", reg));
+        }
+        busWrites++;
+    }
+
+    /**
+     * Write one register.
+     *
+     * @param reg Register.
+     * @param value Value.
+     */
+    private void writeByte(final short reg, final int value) {
+        if (I2c.i2cWriteReg8(handle, address, reg, (short) (value & 0xff)) != I2C_SUCCESS) {
+            throw new RuntimeException(String.format("Unable to write register 0x%02x", reg));
+        }
+        busWrites++;
+    }
+
+    /**
+     * Set pin directions and pull ups for all pins at once.
+     *
+     * @param inputMask Bits set are inputs.
+     * @param pullUpMask Bits set have 100K pull up.
+     * @return This object.
+     */
+    public Mcp23017 configure(final int inputMask, final int pullUpMask) {
+        direction = inputMask & 0xffff;
+        writeWord(IODIRA, direction);
+        writeWord(GPPUA, pullUpMask);
+        refresh();
+        return this;
+    }
+
+    /**
+     * Read both ports in one burst and update input cache. Notifies listener of changed inputs.
+     *
+     * @return Input values.
+     */
+    public synchronized int refresh() {
+        if (I2c.i2cReadReg8(handle, address, GPIOA, readBuf) != I2C_SUCCESS) {
+            throw new RuntimeException("Unable to read GPIO");
+        }
+        busReads++;
+        final var value = ((readBuf[0] & 0xff) | (readBuf[1] & 0xff) << 8) & direction;
+        final var changed = value ^ inputs;
+        inputs = value;
+        final var current = listener;
+        if (changed != 0 && current != null) {
+            current.changed(changed, value);
+        }
+        return value;
+    }
+
+    /**
+     * Return cached input values. Only touches the bus if no interrupt GPIO is watching for changes.
+     *
+     * @return Inputs, one bit for each pin.
+     */
+    public int getInputs() {
+        if (intThread == null) {
+            return refresh();
+        }
+        return inputs;
+    }
+
+    /**
+     * Return cached input value of pin.
+     *
+     * @param pin Pin 0 - 15.
+     * @return Pin value.
+     */
+    public boolean getPin(final int pin) {
+        return (getInputs() & (1 << pin)) != 0;
+    }
+
+    /**
+     * Set output pin. Written on next flush.
+     *
+     * @param pin Pin 0 - 15.
+     * @param value Pin value.
+     * @return This object.
+     */
+    public Mcp23017 setPin(final int pin, final boolean value) {
+        final var bit = 1 << pin;
+        pending.getAndUpdate(prev -> value ? prev | bit : prev & ~bit);
+        return this;
+    }
+
+    /**
+     * Set output pins. Written on next flush.
+     *
+     * @param mask Pins to change.
+     * @param values New values.
+     * @return This object.
+     */
+    public Mcp23017 setPins(final int mask, final int values) {
+        pending.getAndUpdate(prev -> (prev & ~mask) | (values & mask));
+        return this;
+    }
+
+    /**
+     * Write latch for each port that changed. Both ports changed is one burst write.
+     *
+     * @return Number of writes.
+     */
+    public synchronized int flush() {
+        final var value = pending.get() & 0xffff;
+        final var changed = value ^ latch;
+        var writes = 0;
+        if ((changed & 0xff) != 0 && (changed & 0xff00) != 0) {
+            writeWord(OLATA, value);
+            writes = 1;
+        } else if ((changed & 0xff) != 0) {
+            writeByte(OLATA, value);
+            writes = 1;
+        } else if ((changed & 0xff00) != 0) {
+            writeByte(OLATB, value >> 8);
+            writes = 1;
+        }
+        latch = value;
+        return writes;
+    }
+
+    /**
+     * Enable interrupt on change for all inputs and refresh the cache from INT edges on a background thread.
+     *
+     * @param intGpio GPIO connected to INTA, input with falling edge events.
+     */
+    public void startInterrupt(final Gpio intGpio) {
+        // Mirror INTA and INTB, active low, sequential addressing
+        writeByte(IOCON, IOCON_MIRROR);
+        // Compare against previous value
+        writeWord(INTCONA, 0);
+        writeWord(GPINTENA, direction);
+        intStopped = false;
+        intThread = new Thread(() -> {
+            final var edge = new int[1];
+            final var timestamp = new long[1];
+            while (!intStopped) {
+                if (Gpio.gpioPoll(intGpio.getHandle(), 100) == GPIO_POLL_EVENT) {
+                    Gpio.gpioReadEvent(intGpio.getHandle(), edge, timestamp);
+                    // Reading GPIO clears INT
+                    refresh();
+                }
+            }
+        }, "mcp23017");
+        // Clear anything pending before first edge
+        refresh();
+        intThread.start();
+    }
+
+    /**
+     * Stop interrupt thread and disable interrupt on change.
+     *
+     * @throws InterruptedException Possible exception.
+     */
+    public void stopInterrupt() throws InterruptedException {
+        if (intThread != null) {
+            intStopped = true;
+            intThread.join();
+            intThread = null;
+            writeWord(GPINTENA, 0);
+        }
+    }
+
+    /**
+     * Mirror port B inputs to port A outputs.
+     *
+     * @return Exit code.
+     * @throws InterruptedException Possible exception.
+     */
+    @Override
+    public Integer call() throws InterruptedException {
+        var exitCode = 0;
+        try (final var i2c = new I2c(device); final var intGpio = new Gpio(intDevice, intLine, new GpioConfig().setBias(
+                GPIO_BIAS_PULL_UP).setDirection(GPIO_DIR_IN).setDrive(GPIO_DRIVE_DEFAULT).setEdge(GPIO_EDGE_FALLING).setInverted(
+                false).setLabel(cString(Mcp23017.class.getSimpleName())))) {
+            final var expander = new Mcp23017(i2c.getHandle(), address);
+            // Port A outputs, port B inputs with pull ups
+            expander.configure(0xff00, 0xff00);
+            expander.setListener((changed, inputs) -> {
+                logger.info(String.format("Changed %04x inputs %04x", changed, inputs));
+                expander.setPins(0xff, inputs >> 8);
+                expander.flush();
+            });
+            expander.startInterrupt(intGpio);
+            final var start = System.nanoTime();
+            var cachedReads = 0L;
+            // Reads from the cache cost nothing
+            while (System.nanoTime() - start < seconds * 1000000000L) {
+                expander.getInputs();
+                cachedReads++;
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+            expander.stopInterrupt();
+            logger.info(String.format("Cached reads %d, bus reads %d, bus writes %d", cachedReads, expander.getBusReads(),
+                    expander.getBusWrites()));
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage());
+            exitCode = 1;
+        }
+        return exitCode;
+    }
+
+    /**
+     * Main parsing, error handling and handling user requests for usage help or version help are done with one line of code.
+     *
+     * @param args Argument list.
+     */
+    public static void main(String... args) {
+        System.exit(new CommandLine(new Mcp23017()).registerConverter(Short.class, Short::decode).registerConverter(Short.TYPE,
+                Short::decode).execute(args));
+    }
+}
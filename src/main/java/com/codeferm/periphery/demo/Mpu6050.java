@@ -3,9 +3,24 @@
  */
 package com.codeferm.periphery.demo;
 
+import static com.codeferm.periphery.Common.cString;
+import com.codeferm.periphery.Gpio;
+import static com.codeferm.periphery.Gpio.GPIO_BIAS_DEFAULT;
+import static com.codeferm.periphery.Gpio.GPIO_DIR_IN;
+import static com.codeferm.periphery.Gpio.GPIO_DRIVE_DEFAULT;
+import static com.codeferm.periphery.Gpio.GPIO_EDGE_RISING;
+import static com.codeferm.periphery.Gpio.GPIO_POLL_EVENT;
+import com.codeferm.periphery.Gpio.GpioConfig;
 import com.codeferm.periphery.I2c;
+import static com.codeferm.periphery.I2c.I2C_SUCCESS;
+import com.codeferm.periphery.bus.SampleRing;
+import com.codeferm.periphery.rt.PeriodicExecutor;
+import java.lang.management.ManagementFactory;
 import java.util.concurrent.Callable;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.StampedLock;
 import org.apache.logging.log4j.LogManager;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
@@ -131,6 +146,36 @@ public class Mpu6050 implements Callable<Integer> {
      */
     @Option(names = {"--address"}, description = "Address, ${DEFAULT-VALUE} by default.")
     private short address = 0x68;
+    /**
+     * FIFO mode option.
+     */
+    @Option(names = {"--fifo"}, description = "Sample through FIFO, ${DEFAULT-VALUE} by default.")
+    private boolean fifo = false;
+    /**
+     * FIFO sample rate option.
+     */
+    @Option(names = {"--rate"}, description = "FIFO sample rate in Hz (4 - 1000), ${DEFAULT-VALUE} by default.")
+    private int rate = 1000;
+    /**
+     * FIFO batch option.
+     */
+    @Option(names = {"--batch"}, description = "FIFO samples to read in each burst, ${DEFAULT-VALUE} by default.")
+    private int batch = 20;
+    /**
+     * INT GPIO device option.
+     */
+    @Option(names = {"--int-device"}, description = "INT GPIO device, ${DEFAULT-VALUE} by default.")
+    private String intDevice = "/dev/gpiochip0";
+    /**
+     * INT GPIO line option.
+     */
+    @Option(names = {"--int-line"}, description = "INT GPIO line or -1 to use a timer, ${DEFAULT-VALUE} by default.")
+    private int intLine = -1;
+    /**
+     * Seconds option.
+     */
+    @Option(names = {"--seconds"}, description = "Seconds to sample in FIFO mode, ${DEFAULT-VALUE} by default.")
+    private int seconds = 10;
     /**
      * I2C file handle.
      */
@@ -208,7 +253,77 @@ public class Mpu6050 implements Callable<Integer> {
      * <p>
      * This register enables interrupt generation by interrupt sources.</p>
      */
-    public static final int MPU6050_REG_ADDR_INT_ENABLE = 0x1A; // 56
+    public static final int MPU6050_REG_ADDR_INT_ENABLE = 0x38; // 56
+
+    /**
+     * <b>[datasheet 2 - p.16]</b> FIFO Enable
+     * <p>
+     * This register determines which sensor measurements are loaded into the FIFO buffer.</p>
+     */
+    public static final int MPU6050_REG_ADDR_FIFO_EN = 0x23; // 35
+
+    /**
+     * <b>[datasheet 2 - p.26]</b> INT Pin / Bypass Enable Configuration
+     * <p>
+     * This register configures the behavior of the interrupt signals at the INT pins.</p>
+     */
+    public static final int MPU6050_REG_ADDR_INT_PIN_CFG = 0x37; // 55
+
+    /**
+     * <b>[datasheet 2 - p.38]</b> User Control
+     * <p>
+     * This register allows the user to enable and disable the FIFO buffer and reset it.</p>
+     */
+    public static final int MPU6050_REG_ADDR_USER_CTRL = 0x6A; // 106
+
+    /**
+     * <b>[datasheet 2 - p.43]</b> FIFO Count Registers
+     * <p>
+     * Number of bytes stored in the FIFO buffer, high byte first.</p>
+     */
+    public static final int MPU6050_REG_ADDR_FIFO_COUNT_H = 0x72; // 114
+
+    /**
+     * <b>[datasheet 2 - p.44]</b> FIFO Read Write
+     * <p>
+     * Reading this register repeatedly reads the FIFO buffer in the order samples were written.</p>
+     */
+    public static final int MPU6050_REG_ADDR_FIFO_R_W = 0x74; // 116
+
+    /**
+     * FIFO_EN bits for accelerometer and gyroscope X, Y, Z.
+     */
+    public static final int FIFO_EN_ACCEL_GYRO = 0x78;
+
+    /**
+     * USER_CTRL FIFO enable bit.
+     */
+    public static final int USER_CTRL_FIFO_EN = 0x40;
+
+    /**
+     * USER_CTRL FIFO reset bit, clears itself.
+     */
+    public static final int USER_CTRL_FIFO_RESET = 0x04;
+
+    /**
+     * INT_PIN_CFG clear interrupt on any read.
+     */
+    public static final int INT_PIN_CFG_RD_CLEAR = 0x10;
+
+    /**
+     * INT_ENABLE data ready bit.
+     */
+    public static final int INT_ENABLE_DATA_RDY = 0x01;
+
+    /**
+     * FIFO size in bytes.
+     */
+    public static final int FIFO_SIZE = 1024;
+
+    /**
+     * Bytes in each FIFO sample (accelerometer and gyroscope, high byte first).
+     */
+    public static final int FIFO_SAMPLE_BYTES = 12;
 
     /**
      * <b>[datasheet 2 - p.40]</b> Power Management 1
@@ -428,9 +543,67 @@ public class Mpu6050 implements Callable<Integer> {
      */
     private double gyroLSBSensitivity;
 
-    private Thread updatingThread = null;
-    private boolean updatingThreadStopped = true;
+    /**
+     * FIFO read thread.
+     */
+    private Thread fifoThread = null;
+    /**
+     * FIFO read thread stop flag.
+     */
+    private volatile boolean fifoStopped = true;
+    /**
+     * FIFO burst read buffer, whole samples only.
+     */
+    private final byte[] fifoBuf = new byte[FIFO_SIZE / FIFO_SAMPLE_BYTES * FIFO_SAMPLE_BYTES];
+    /**
+     * FIFO count read buffer.
+     */
+    private final byte[] fifoCountBuf = new byte[2];
+    /**
+     * FIFO overflows.
+     */
+    private volatile long fifoOverflows;
+    /**
+     * FIFO burst reads.
+     */
+    private volatile long fifoReads;
+
+    /**
+     * Offset of accelerations in state.
+     */
+    public static final int STATE_ACCEL_ACCELERATIONS = 0;
+    /**
+     * Offset of accelerometer angles in state.
+     */
+    public static final int STATE_ACCEL_ANGLES = 3;
+    /**
+     * Offset of gyroscope angular speeds in state.
+     */
+    public static final int STATE_GYRO_ANGULAR_SPEEDS = 6;
+    /**
+     * Offset of gyroscope angles in state.
+     */
+    public static final int STATE_GYRO_ANGLES = 9;
+    /**
+     * Offset of filtered angles in state.
+     */
+    public static final int STATE_FILTERED_ANGLES = 12;
+    /**
+     * Number of values in state.
+     */
+    public static final int STATE_SIZE = 15;
+
+    private PeriodicExecutor updatingExecutor = null;
+    private volatile boolean updatingThreadStopped = true;
     private long lastUpdateTime = 0;
+    /**
+     * Values published by the updating thread. Only written while holding the write lock.
+     */
+    private final double[] state = new double[STATE_SIZE];
+    /**
+     * Sequence lock guarding state. Readers use optimistic reads, so they never block the updating thread.
+     */
+    private final StampedLock stateLock = new StampedLock();
 
     // ACCELEROMETER
     /**
@@ -676,18 +849,15 @@ public class Mpu6050 implements Callable<Integer> {
     }
 
     /**
-     * Starts the thread responsible to update MPU6050 values in background.
+     * Starts the thread responsible to update MPU6050 values in background. Values are updated at the sample rate on a fixed rate
+     * timer instead of polling the bus as fast as possible.
      */
     public void startUpdatingThread() {
-        if (updatingThread == null || !updatingThread.isAlive()) {
+        if (updatingExecutor == null) {
             updatingThreadStopped = false;
-            lastUpdateTime = System.currentTimeMillis();
-            updatingThread = new Thread(() -> {
-                while (!updatingThreadStopped) {
-                    updateValues();
-                }
-            });
-            updatingThread.start();
+            lastUpdateTime = System.nanoTime();
+            updatingExecutor = new PeriodicExecutor("mpu6050");
+            updatingExecutor.schedule(this::updateValues, 1000000000L / getSampleRate());
         } else {
             logger.debug("Updating thread of the MPU6050 is already started.");
         }
@@ -701,13 +871,14 @@ public class Mpu6050 implements Callable<Integer> {
      */
     public void stopUpdatingThread() throws InterruptedException {
         updatingThreadStopped = true;
-        try {
-            updatingThread.join();
-        } catch (InterruptedException e) {
+        if (updatingExecutor != null) {
+            updatingExecutor.close();
+            updatingExecutor = null;
+        }
+        if (Thread.interrupted()) {
             logger.info("Exception when joining the updating thread.");
-            throw e;
+            throw new InterruptedException();
         }
-        updatingThread = null;
     }
 
     /**
@@ -731,11 +902,12 @@ public class Mpu6050 implements Callable<Integer> {
         gyroAngularSpeedY = angularSpeeds[1] - gyroAngularSpeedOffsetY;
         gyroAngularSpeedZ = angularSpeeds[2] - gyroAngularSpeedOffsetZ;
         // angular speed * time = angle
-        double dt = Math.abs(System.currentTimeMillis() - lastUpdateTime) / 1000.; // s
+        final long now = System.nanoTime();
+        double dt = (now - lastUpdateTime) / 1e9; // s
         double deltaGyroAngleX = gyroAngularSpeedX * dt;
         double deltaGyroAngleY = gyroAngularSpeedY * dt;
         double deltaGyroAngleZ = gyroAngularSpeedZ * dt;
-        lastUpdateTime = System.currentTimeMillis();
+        lastUpdateTime = now;
 
         gyroAngleX += deltaGyroAngleX;
         gyroAngleY += deltaGyroAngleY;
@@ -746,6 +918,66 @@ public class Mpu6050 implements Callable<Integer> {
         filteredAngleX = alpha * (filteredAngleX + deltaGyroAngleX) + (1. - alpha) * accelAngleX;
         filteredAngleY = alpha * (filteredAngleY + deltaGyroAngleY) + (1. - alpha) * accelAngleY;
         filteredAngleZ = filteredAngleZ + deltaGyroAngleZ;
+        publishState();
+    }
+
+    /**
+     * Copy values calculated by the updating thread to state. The fields above are only touched by the updating thread.
+     */
+    private void publishState() {
+        final var stamp = stateLock.writeLock();
+        state[0] = accelAccelerationX;
+        state[1] = accelAccelerationY;
+        state[2] = accelAccelerationZ;
+        state[3] = accelAngleX;
+        state[4] = accelAngleY;
+        state[5] = accelAngleZ;
+        state[6] = gyroAngularSpeedX;
+        state[7] = gyroAngularSpeedY;
+        state[8] = gyroAngularSpeedZ;
+        state[9] = gyroAngleX;
+        state[10] = gyroAngleY;
+        state[11] = gyroAngleZ;
+        state[12] = filteredAngleX;
+        state[13] = filteredAngleY;
+        state[14] = filteredAngleZ;
+        stateLock.unlockWrite(stamp);
+    }
+
+    /**
+     * Copy consistent snapshot of state values. The copy is retried if the updating thread published during it, so readers don't
+     * lock or allocate.
+     *
+     * @param offset First state value.
+     * @param values Destination array.
+     * @param count Number of values.
+     * @return False and values set to -1 if the updating thread isn't running.
+     */
+    private boolean readState(final int offset, final double[] values, final int count) {
+        if (updatingThreadStopped) {
+            Arrays.fill(values, 0, count, -1.);
+            return false;
+        }
+        var stamp = stateLock.tryOptimisticRead();
+        System.arraycopy(state, offset, values, 0, count);
+        while (!stateLock.validate(stamp)) {
+            Thread.onSpinWait();
+            stamp = stateLock.tryOptimisticRead();
+            System.arraycopy(state, offset, values, 0, count);
+        }
+        return true;
+    }
+
+    /**
+     * Get consistent snapshot of all values calculated by the updating thread. Use the STATE_ offsets to find each triplet.
+     * <p>
+     * <i>(using the updating thread)</i></p>
+     *
+     * @param values Array of at least STATE_SIZE values to copy into.
+     * @return False and values set to -1 if the updating thread isn't running.
+     */
+    public boolean getState(final double[] values) {
+        return readState(0, values, STATE_SIZE);
     }
 
     /**
@@ -757,10 +989,19 @@ public class Mpu6050 implements Callable<Integer> {
      * @return the accelerations for the x, y and z axis. [-1, -1, -1] if the updating thread isn't running.
      */
     public double[] getAccelAccelerations() {
-        if (updatingThreadStopped) {
-            return new double[]{-1., -1., -1.};
-        }
-        return new double[]{accelAccelerationX, accelAccelerationY, accelAccelerationZ};
+        final var values = new double[3];
+        getAccelAccelerations(values);
+        return values;
+    }
+
+    /**
+     * Copy the last accelerations for the x, y and z axis without allocating.
+     *
+     * @param values Array of at least 3 values to copy into.
+     * @return False and values set to -1 if the updating thread isn't running.
+     */
+    public boolean getAccelAccelerations(final double[] values) {
+        return readState(STATE_ACCEL_ACCELERATIONS, values, 3);
     }
 
     /**
@@ -772,10 +1013,19 @@ public class Mpu6050 implements Callable<Integer> {
      * @return the angle values for the x, y and z axis. [-1, -1, -1] if the updating thread isn't running.
      */
     public double[] getAccelAngles() {
-        if (updatingThreadStopped) {
-            return new double[]{-1., -1., -1.};
-        }
-        return new double[]{accelAngleX, accelAngleY, accelAngleZ};
+        final var values = new double[3];
+        getAccelAngles(values);
+        return values;
+    }
+
+    /**
+     * Copy the last accelerometer angles for the x, y and z axis without allocating.
+     *
+     * @param values Array of at least 3 values to copy into.
+     * @return False and values set to -1 if the updating thread isn't running.
+     */
+    public boolean getAccelAngles(final double[] values) {
+        return readState(STATE_ACCEL_ANGLES, values, 3);
     }
 
     /**
@@ -787,10 +1037,19 @@ public class Mpu6050 implements Callable<Integer> {
      * @return the angular speed values for the x, y and z axis. [-1, -1, -1] if the updating thread isn't running.
      */
     public double[] getGyroAngularSpeeds() {
-        if (updatingThreadStopped) {
-            return new double[]{-1., -1., -1.};
-        }
-        return new double[]{gyroAngularSpeedX, gyroAngularSpeedY, gyroAngularSpeedZ};
+        final var values = new double[3];
+        getGyroAngularSpeeds(values);
+        return values;
+    }
+
+    /**
+     * Copy the last angular speeds for the x, y and z axis without allocating.
+     *
+     * @param values Array of at least 3 values to copy into.
+     * @return False and values set to -1 if the updating thread isn't running.
+     */
+    public boolean getGyroAngularSpeeds(final double[] values) {
+        return readState(STATE_GYRO_ANGULAR_SPEEDS, values, 3);
     }
 
     /**
@@ -802,10 +1061,19 @@ public class Mpu6050 implements Callable<Integer> {
      * @return the angles values from the gyroscope for the x, y and z axis. [-1, -1, -1] if the updating thread isn't running.
      */
     public double[] getGyroAngles() {
-        if (updatingThreadStopped) {
-            return new double[]{-1., -1., -1.};
-        }
-        return new double[]{gyroAngleX, gyroAngleY, gyroAngleZ};
+        final var values = new double[3];
+        getGyroAngles(values);
+        return values;
+    }
+
+    /**
+     * Copy the last gyroscope angles for the x, y and z axis without allocating.
+     *
+     * @param values Array of at least 3 values to copy into.
+     * @return False and values set to -1 if the updating thread isn't running.
+     */
+    public boolean getGyroAngles(final double[] values) {
+        return readState(STATE_GYRO_ANGLES, values, 3);
     }
 
     /**
@@ -829,10 +1097,169 @@ public class Mpu6050 implements Callable<Integer> {
      * @return the angles values, in °, filtered with values from the accelerometer and the gyroscope.
      */
     public double[] getFilteredAngles() {
-        if (updatingThreadStopped) {
-            return new double[]{-1., -1., -1.};
+        final var values = new double[3];
+        getFilteredAngles(values);
+        return values;
+    }
+
+    /**
+     * Copy the last filtered angles for the x, y and z axis without allocating.
+     *
+     * @param values Array of at least 3 values to copy into.
+     * @return False and values set to -1 if the updating thread isn't running.
+     */
+    public boolean getFilteredAngles(final double[] values) {
+        return readState(STATE_FILTERED_ANGLES, values, 3);
+    }
+
+    /*
+     * -----------------------------------------------------------------------
+     * FIFO
+     * -----------------------------------------------------------------------
+     */
+    public long getFifoOverflows() {
+        return fifoOverflows;
+    }
+
+    public long getFifoReads() {
+        return fifoReads;
+    }
+
+    /**
+     * Clear FIFO. FIFO_RESET clears itself, so the write isn't verified.
+     */
+    private void resetFifo() {
+        I2c.i2cWriteReg8(handle, address, (short) MPU6050_REG_ADDR_USER_CTRL, (short) (USER_CTRL_FIFO_EN | USER_CTRL_FIFO_RESET));
+    }
+
+    /**
+     * Read every whole sample in the FIFO with one burst and decode them into the ring. Samples are timestamped back from the read
+     * time at the sample period, since the FIFO has no timestamps.
+     *
+     * @param ring Ring with 6 channels (accelerometer X, Y, Z then gyroscope X, Y, Z).
+     * @param readTime System.nanoTime of read.
+     * @return Samples read.
+     */
+    public int readFifo(final SampleRing ring, final long readTime) {
+        if (I2c.i2cRead8(handle, address, (short) MPU6050_REG_ADDR_FIFO_COUNT_H, fifoCountBuf, 2) != I2C_SUCCESS) {
+            throw new RuntimeException("Unable to read FIFO count");
+        }
+        final var count = (fifoCountBuf[0] & 0xff) << 8 | (fifoCountBuf[1] & 0xff);
+        var samples = 0;
+        if (count >= FIFO_SIZE) {
+            // Full FIFO has lost samples and may be out of step, so start over
+            fifoOverflows++;
+            resetFifo();
+        } else {
+            samples = Math.min(count / FIFO_SAMPLE_BYTES, fifoBuf.length / FIFO_SAMPLE_BYTES);
+            if (samples > 0) {
+                if (I2c.i2cRead8(handle, address, (short) MPU6050_REG_ADDR_FIFO_R_W, fifoBuf, samples * FIFO_SAMPLE_BYTES)
+                        != I2C_SUCCESS) {
+                    throw new RuntimeException("Unable to read FIFO");
+                }
+                fifoReads++;
+                final var period = 1000000000L / getSampleRate();
+                for (int i = 0; i < samples; i++) {
+                    ring.offer(readTime - (samples - 1 - i) * period, fifoBuf, i * FIFO_SAMPLE_BYTES, true);
+                }
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * Start loading accelerometer and gyroscope samples into the FIFO and reading them in bursts on a background thread. The
+     * thread sleeps for about a batch of samples between reads instead of waking for every sample. With INT wired to a GPIO each
+     * read is lined up with data ready, otherwise it's timed by the sample period.
+     *
+     * @param intGpio GPIO connected to INT with rising edge events or null to use a timer.
+     * @param batchSize Samples to read in each burst.
+     * @param ring Ring with 6 channels.
+     */
+    public void startFifo(final Gpio intGpio, final int batchSize, final SampleRing ring) {
+        if (batchSize < 1 || batchSize > fifoBuf.length / FIFO_SAMPLE_BYTES) {
+            throw new IllegalArgumentException(String.format("Batch must be 1 - %d", fifoBuf.length / FIFO_SAMPLE_BYTES));
+        }
+        updateRegisterValue(MPU6050_REG_ADDR_FIFO_EN, FIFO_EN_ACCEL_GYRO);
+        updateRegisterValue(MPU6050_REG_ADDR_INT_PIN_CFG, INT_PIN_CFG_RD_CLEAR);
+        updateRegisterValue(MPU6050_REG_ADDR_INT_ENABLE, intGpio == null ? 0x00 : INT_ENABLE_DATA_RDY);
+        resetFifo();
+        final var period = 1000000000L / getSampleRate();
+        fifoStopped = false;
+        fifoThread = new Thread(() -> {
+            final var edge = new int[1];
+            final var timestamp = new long[1];
+            while (!fifoStopped) {
+                if (intGpio != null) {
+                    if (Gpio.gpioPoll(intGpio.getHandle(), 100) != GPIO_POLL_EVENT) {
+                        continue;
+                    }
+                    // Drain queued edges, FIFO count says how many samples there are
+                    do {
+                        Gpio.gpioReadEvent(intGpio.getHandle(), edge, timestamp);
+                    } while (Gpio.gpioPoll(intGpio.getHandle(), 0) == GPIO_POLL_EVENT);
+                }
+                readFifo(ring, System.nanoTime());
+                LockSupport.parkNanos((intGpio == null ? batchSize : batchSize - 1) * period);
+            }
+        }, "mpu6050-fifo");
+        fifoThread.start();
+    }
+
+    /**
+     * Stop FIFO read thread and disable FIFO and interrupts.
+     *
+     * @throws InterruptedException Possible exception.
+     */
+    public void stopFifo() throws InterruptedException {
+        if (fifoThread != null) {
+            fifoStopped = true;
+            fifoThread.join();
+            updateRegisterValue(MPU6050_REG_ADDR_INT_ENABLE, 0x00);
+            updateRegisterValue(MPU6050_REG_ADDR_USER_CTRL, 0x00);
+            updateRegisterValue(MPU6050_REG_ADDR_FIFO_EN, 0x00);
+        }
+    }
+
+    /**
+     * Sample through FIFO and log rate and CPU use every second.
+     *
+     * @throws InterruptedException Possible exception.
+     */
+    public void runFifo() throws InterruptedException {
+        // DLPF on gives 1 kHz gyroscope output rate
+        smplrtDiv = Math.max(0, Math.min(255, 1000 / rate - 1));
+        updateRegisterValue(MPU6050_REG_ADDR_SMPRT_DIV, smplrtDiv);
+        final var ring = new SampleRing(4096, 6);
+        final var last = new short[6];
+        final var threadBean = ManagementFactory.getThreadMXBean();
+        Gpio intGpio = null;
+        try {
+            if (intLine >= 0) {
+                intGpio = new Gpio(intDevice, intLine, new GpioConfig().setBias(GPIO_BIAS_DEFAULT).setDirection(GPIO_DIR_IN).
+                        setDrive(GPIO_DRIVE_DEFAULT).setEdge(GPIO_EDGE_RISING).setInverted(false).setLabel(cString(Mpu6050.class.
+                        getSimpleName())));
+            }
+            logger.info(String.format("FIFO sample rate %d Hz, batch %d, %s", getSampleRate(), batch, intGpio == null ? "timer"
+                    : "data ready interrupt"));
+            startFifo(intGpio, batch, ring);
+            final var fifoThreadId = fifoThread.getId();
+            var cpuStart = threadBean.getThreadCpuTime(fifoThreadId);
+            for (int i = 0; i < seconds; i++) {
+                TimeUnit.SECONDS.sleep(1);
+                final var samples = ring.drain((timestamp, data, offset) -> System.arraycopy(data, offset, last, 0, 6));
+                final var cpu = threadBean.getThreadCpuTime(fifoThreadId);
+                logger.info(String.format("%d samples/s, %d reads, CPU %.2f%%, overflows %d, accel %s g", samples, fifoReads,
+                        (cpu - cpuStart) / 1e7, fifoOverflows, xyzValuesToString(accelToString(last[0] / accelLSBSensitivity),
+                        accelToString(last[1] / accelLSBSensitivity), accelToString(last[2] / accelLSBSensitivity))));
+                cpuStart = cpu;
+            }
+            stopFifo();
+        } finally {
+            if (intGpio != null) {
+                intGpio.close();
+            }
         }
-        return new double[]{filteredAngleX, filteredAngleY, filteredAngleZ};
     }
 
     /*
@@ -984,28 +1411,27 @@ public class Mpu6050 implements Callable<Integer> {
      */
     public void run() {
         startUpdatingThread();
+        // One snapshot per loop, so every value comes from the same update
+        final var values = new double[STATE_SIZE];
         for (int i = 0; i < 10; i++) {
+            getState(values);
             // Accelerometer
             logger.info("Accelerometer:");
-            double[] accelAngles = getAccelAngles();
-            logger.info(xyzValuesToString(angleToString(accelAngles[0]), angleToString(accelAngles[1]), angleToString(
-                    accelAngles[2])));
+            logger.info(xyzValuesToString(angleToString(values[STATE_ACCEL_ANGLES]), angleToString(values[STATE_ACCEL_ANGLES + 1]),
+                    angleToString(values[STATE_ACCEL_ANGLES + 2])));
             logger.info("Accelerations:");
-            double[] accelAccelerations = getAccelAccelerations();
-            logger.info(xyzValuesToString(accelToString(accelAccelerations[0]), accelToString(accelAccelerations[1]), accelToString(
-                    accelAccelerations[2])));
+            logger.info(xyzValuesToString(accelToString(values[STATE_ACCEL_ACCELERATIONS]), accelToString(
+                    values[STATE_ACCEL_ACCELERATIONS + 1]), accelToString(values[STATE_ACCEL_ACCELERATIONS + 2])));
             // Gyroscope
             logger.info("Gyroscope:");
-            double[] gyroAngles = getGyroAngles();
-            logger.info(xyzValuesToString(angleToString(gyroAngles[0]), angleToString(gyroAngles[1]), angleToString(gyroAngles[2])));
-            double[] gyroAngularSpeeds = getGyroAngularSpeeds();
-            logger.info(xyzValuesToString(angularSpeedToString(gyroAngularSpeeds[0]), angularSpeedToString(gyroAngularSpeeds[1]),
-                    angularSpeedToString(gyroAngularSpeeds[2])));
+            logger.info(xyzValuesToString(angleToString(values[STATE_GYRO_ANGLES]), angleToString(values[STATE_GYRO_ANGLES + 1]),
+                    angleToString(values[STATE_GYRO_ANGLES + 2])));
+            logger.info(xyzValuesToString(angularSpeedToString(values[STATE_GYRO_ANGULAR_SPEEDS]), angularSpeedToString(
+                    values[STATE_GYRO_ANGULAR_SPEEDS + 1]), angularSpeedToString(values[STATE_GYRO_ANGULAR_SPEEDS + 2])));
             // Filtered angles
             logger.info("Filtered angles:");
-            double[] filteredAngles = getFilteredAngles();
-            logger.info(xyzValuesToString(angleToString(filteredAngles[0]),
-                    angleToString(filteredAngles[1]), angleToString(filteredAngles[2])));
+            logger.info(xyzValuesToString(angleToString(values[STATE_FILTERED_ANGLES]), angleToString(
+                    values[STATE_FILTERED_ANGLES + 1]), angleToString(values[STATE_FILTERED_ANGLES + 2])));
             try {
                 TimeUnit.SECONDS.sleep(3);
             } catch (InterruptedException e) {
@@ -1063,8 +1489,12 @@ public class Mpu6050 implements Callable<Integer> {
             // 7. Disable standby mode
             updateRegisterValue(MPU6050_REG_ADDR_PWR_MGMT_2, 0x00);
 
-            calibrateSensors();
-            run();
+            if (fifo) {
+                runFifo();
+            } else {
+                calibrateSensors();
+                run();
+            }
         } catch (RuntimeException e) {
             logger.error(e.getMessage());
             exitCode = 1;
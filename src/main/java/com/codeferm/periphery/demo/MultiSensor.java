@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.demo;
+
+import com.codeferm.periphery.I2c;
+import static com.codeferm.periphery.I2c.I2C_SUCCESS;
+import com.codeferm.periphery.bus.Acquisition;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Sample an ADXL345 and an MPU6050 at fixed rates with Acquisition. Put the sensors on different buses to read them in parallel
+ * or on the same bus to see reads share one worker without colliding.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Command(name = "MultiSensor", mixinStandardHelpOptions = true, version = "1.0.0-SNAPSHOT",
+        description = "Sample ADXL345 and MPU6050 on a common timebase.")
+public class MultiSensor implements Callable<Integer> {
+
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(MultiSensor.class);
+    /**
+     * ADXL345 device option.
+     */
+    @Option(names = {"--adxl-device"}, description = "ADXL345 I2C device, ${DEFAULT-VALUE} by default.")
+    private String adxlDevice = "/dev/i2c-0";
+    /**
+     * ADXL345 address option.
+     */
+    @Option(names = {"--adxl-address"}, description = "ADXL345 address, ${DEFAULT-VALUE} by default.")
+    private short adxlAddress = 0x53;
+    /**
+     * ADXL345 rate option.
+     */
+    @Option(names = {"--adxl-rate"}, description = "ADXL345 samples per second, ${DEFAULT-VALUE} by default.")
+    private double adxlRate = 100;
+    /**
+     * MPU6050 device option.
+     */
+    @Option(names = {"--mpu-device"}, description = "MPU6050 I2C device, ${DEFAULT-VALUE} by default.")
+    private String mpuDevice = "/dev/i2c-1";
+    /**
+     * MPU6050 address option.
+     */
+    @Option(names = {"--mpu-address"}, description = "MPU6050 address, ${DEFAULT-VALUE} by default.")
+    private short mpuAddress = 0x68;
+    /**
+     * MPU6050 rate option.
+     */
+    @Option(names = {"--mpu-rate"}, description = "MPU6050 samples per second, ${DEFAULT-VALUE} by default.")
+    private double mpuRate = 200;
+    /**
+     * Seconds option.
+     */
+    @Option(names = {"--seconds"}, description = "Seconds to run, ${DEFAULT-VALUE} by default.")
+    private int seconds = 10;
+
+    /**
+     * Return sampler that burst reads registers and counts failures.
+     *
+     * @param handle I2C handle.
+     * @param addr Address.
+     * @param reg First data register.
+     * @param buf Read buffer.
+     * @return Sampler.
+     */
+    public Acquisition.Sampler burstRead(final long handle, final short addr, final short reg, final byte[] buf) {
+        return timestamp -> {
+            if (I2c.i2cReadReg8(handle, addr, reg, buf) != I2C_SUCCESS) {
+                throw new RuntimeException(String.format("Read failed at %d", timestamp));
+            }
+        };
+    }
+
+    /**
+     * Sample both sensors and log rates and jitter.
+     *
+     * @return Exit code.
+     * @throws InterruptedException Possible exception.
+     */
+    @Override
+    public Integer call() throws InterruptedException {
+        var exitCode = 0;
+        // Sharing one handle when both sensors are on the same bus
+        final var sameBus = adxlDevice.equals(mpuDevice);
+        try (final var adxlI2c = new I2c(adxlDevice); final var mpuI2c = sameBus ? null : new I2c(mpuDevice)) {
+            final var mpuHandle = sameBus ? adxlI2c.getHandle() : mpuI2c.getHandle();
+            // ADXL345 measure mode, MPU6050 wake up
+            I2c.i2cWriteReg8(adxlI2c.getHandle(), adxlAddress, (short) 0x2d, (short) 0x08);
+            I2c.i2cWriteReg8(mpuHandle, mpuAddress, (short) 0x6b, (short) 0x00);
+            final var acquisition = new Acquisition();
+            try (acquisition) {
+                acquisition.add("ADXL345", adxlDevice, adxlRate, burstRead(adxlI2c.getHandle(), adxlAddress, (short) 0x32,
+                        new byte[6]));
+                // Accelerometer, temperature and gyroscope
+                acquisition.add("MPU6050", mpuDevice, mpuRate, burstRead(mpuHandle, mpuAddress, (short) 0x3b, new byte[14]));
+                TimeUnit.SECONDS.sleep(seconds);
+            }
+            // Jobs are stopped, so stats are final
+            acquisition.getJobs().forEach(job -> logger.info(job));
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage());
+            exitCode = 1;
+        }
+        return exitCode;
+    }
+
+    /**
+     * Main parsing, error handling and handling user requests for usage help or version help are done with one line of code.
+     *
+     * @param args Argument list.
+     */
+    public static void main(String... args) {
+        System.exit(new CommandLine(new MultiSensor()).registerConverter(Short.class, Short::decode).registerConverter(Short.TYPE,
+                Short::decode).execute(args));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.demo;
+
+import com.codeferm.periphery.Spi;
+import static com.codeferm.periphery.Spi.SPI_SUCCESS;
+import com.codeferm.periphery.SpiBatch;
+import java.util.concurrent.Callable;
+import org.apache.logging.log4j.LogManager;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Compare sending segments with one spiTransfer ioctl each against sending them with one SpiBatch ioctl. Segments look like
+ * command then read pairs, so every other segment deselects the device. Then measures throughput of one large transfer split at
+ * the spidev buffer size. No wiring is needed, received data is ignored.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Command(name = "SpiBatchPerf", mixinStandardHelpOptions = true, version = "1.0.0-SNAPSHOT",
+        description = "Benchmark batched SPI transfers.")
+public class SpiBatchPerf implements Callable<Integer> {
+
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(SpiBatchPerf.class);
+    /**
+     * Device option.
+     */
+    @Option(names = {"-d", "--device"}, description = "SPI device, ${DEFAULT-VALUE} by default.")
+    private String device = "/dev/spidev1.0";
+    /**
+     * Speed option.
+     */
+    @Option(names = {"-s", "--speed"}, description = "SPI speed in Hz, ${DEFAULT-VALUE} by default.")
+    private int speed = 8000000;
+    /**
+     * Segment counts option.
+     */
+    @Option(names = {"-c", "--segments"}, split = ",", description = "Segments per operation, ${DEFAULT-VALUE} by default.")
+    private int[] segmentCounts = {2, 4, 8, 16, 32};
+    /**
+     * Length option.
+     */
+    @Option(names = {"-l", "--length"}, description = "Bytes per segment, ${DEFAULT-VALUE} by default.")
+    private int length = 4;
+    /**
+     * Operations option.
+     */
+    @Option(names = {"-o", "--operations"}, description = "Operations per test, ${DEFAULT-VALUE} by default.")
+    private int operations = 10000;
+    /**
+     * Large transfer option.
+     */
+    @Option(names = {"-L", "--large"}, description = "Bytes in large transfer, ${DEFAULT-VALUE} by default.")
+    private int large = 4194304;
+
+    /**
+     * Send segments one ioctl at a time.
+     *
+     * @param handle SPI handle.
+     * @param segments Segments per operation.
+     * @param txBuf Transmit buffer.
+     * @param rxBuf Receive buffer.
+     * @return Operations per second.
+     */
+    public double separate(final long handle, final int segments, final byte[] txBuf, final byte[] rxBuf) {
+        final var start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            for (int j = 0; j < segments; j++) {
+                if (Spi.spiTransfer(handle, txBuf, rxBuf, length) != SPI_SUCCESS) {
+                    throw new RuntimeException(Spi.spiErrMessage(handle));
+                }
+            }
+        }
+        return operations * 1000000000.0 / (System.nanoTime() - start);
+    }
+
+    /**
+     * Send segments with one ioctl.
+     *
+     * @param handle SPI handle.
+     * @param batch Batch with segments added.
+     * @return Operations per second.
+     */
+    public double batched(final long handle, final SpiBatch batch) {
+        final var start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            final var rc = batch.transfer(handle);
+            if (rc != SPI_SUCCESS) {
+                throw new RuntimeException(String.format("Batch transfer failed errno %d", -rc));
+            }
+        }
+        return operations * 1000000000.0 / (System.nanoTime() - start);
+    }
+
+    /**
+     * Benchmark each segment count.
+     *
+     * @return Exit code.
+     * @throws InterruptedException Possible exception.
+     */
+    @Override
+    public Integer call() throws InterruptedException {
+        var exitCode = 0;
+        try (final var spi = new Spi(device, 0, speed)) {
+            final var txBuf = new byte[length];
+            final var rxBuf = new byte[length];
+            logger.info(String.format("%s %d Hz, %d bytes per segment, %d operations", device, speed, length, operations));
+            for (final var segments : segmentCounts) {
+                final var batch = new SpiBatch(segments, segments * length);
+                for (int j = 0; j < segments; j++) {
+                    // Command then read, deselect after each pair. The last segment leaves cs_change clear, since it would
+                    // keep the device selected after the ioctl
+                    batch.add(txBuf, length, 0, 0, j % 2 == 1 && j < segments - 1, 0);
+                }
+                // Warm up
+                separate(spi.getHandle(), segments, txBuf, rxBuf);
+                batched(spi.getHandle(), batch);
+                final var each = separate(spi.getHandle(), segments, txBuf, rxBuf);
+                final var batchedOps = batched(spi.getHandle(), batch);
+                logger.info(String.format("%3d segments  separate %8.0f ops/s %8d ioctls  batched %8.0f ops/s %8d ioctls  %.1fx",
+                        segments, each, (long) operations * segments, batchedOps, operations, batchedOps / each));
+            }
+            final var largeBuf = new byte[large];
+            final var start = System.nanoTime();
+            final var rc = Spi.spiTransferLarge(spi.getHandle(), largeBuf, largeBuf, large);
+            if (rc != SPI_SUCCESS) {
+                throw new RuntimeException(String.format("Large transfer failed errno %d", -rc));
+            }
+            final var seconds = (System.nanoTime() - start) / 1e9;
+            logger.info(String.format("%d bytes in %d byte chunks, %.3f s, %.2f Mbit/s of %.2f Mbit/s line rate", large, Spi.
+                    getBufSize(), seconds, large * 8 / seconds / 1e6, speed / 1e6));
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage());
+            exitCode = 1;
+        }
+        return exitCode;
+    }
+
+    /**
+     * Main parsing, error handling and handling user requests for usage help or version help are done with one line of code.
+     *
+     * @param args Argument list.
+     */
+    public static void main(String... args) {
+        System.exit(new CommandLine(new SpiBatchPerf()).execute(args));
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.demo;
+
+import com.codeferm.periphery.Spi;
+import static com.codeferm.periphery.Spi.SPI_SUCCESS;
+import java.util.concurrent.Callable;
+import org.apache.logging.log4j.LogManager;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Compare transferring 16 bit words by packing them into bytes, setting bits per word on the handle and unpacking the reply with
+ * Spi.spiTransfer16, which passes the words straight to spidev. Wire MOSI to MISO to check the words come back unchanged. Packing
+ * and the handle's bits per word ioctls are timed separately, since a handle shared with 8 bit devices pays for both.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Command(name = "SpiWordPerf", mixinStandardHelpOptions = true, version = "1.0.0-SNAPSHOT",
+        description = "Benchmark 16 bit word SPI transfers.")
+public class SpiWordPerf implements Callable<Integer> {
+
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(SpiWordPerf.class);
+    /**
+     * Device option.
+     */
+    @Option(names = {"-d", "--device"}, description = "SPI device, ${DEFAULT-VALUE} by default.")
+    private String device = "/dev/spidev1.0";
+    /**
+     * Speed option.
+     */
+    @Option(names = {"-s", "--speed"}, description = "SPI speed in Hz, ${DEFAULT-VALUE} by default.")
+    private int speed = 8000000;
+    /**
+     * Bits option.
+     */
+    @Option(names = {"-b", "--bits"}, description = "Bits per word (9 - 16), ${DEFAULT-VALUE} by default.")
+    private byte bits = 16;
+    /**
+     * Words option.
+     */
+    @Option(names = {"-w", "--words"}, description = "Words per transfer, ${DEFAULT-VALUE} by default.")
+    private int words = 256;
+    /**
+     * Operations option.
+     */
+    @Option(names = {"-o", "--operations"}, description = "Transfers per test, ${DEFAULT-VALUE} by default.")
+    private int operations = 10000;
+
+    /**
+     * Pack words into bytes in little endian CPU order the way spidev expects wide words, transfer and unpack. Bits per word is set
+     * on the handle once, so only packing is measured.
+     *
+     * @param handle SPI handle.
+     * @param tx Transmit words.
+     * @param rx Receive words.
+     * @return Transfers per second.
+     */
+    public double packed(final long handle, final short[] tx, final short[] rx) {
+        final var txBuf = new byte[tx.length * 2];
+        final var rxBuf = new byte[rx.length * 2];
+        setBitsPerWord(handle, bits);
+        final var start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            for (int j = 0; j < tx.length; j++) {
+                txBuf[j * 2] = (byte) tx[j];
+                txBuf[j * 2 + 1] = (byte) (tx[j] >> 8);
+            }
+            if (Spi.spiTransfer(handle, txBuf, rxBuf, txBuf.length) != SPI_SUCCESS) {
+                throw new RuntimeException(Spi.spiErrMessage(handle));
+            }
+            for (int j = 0; j < rx.length; j++) {
+                rx[j] = (short) ((rxBuf[j * 2] & 0xff) | (rxBuf[j * 2 + 1] << 8));
+            }
+        }
+        final var ops = operations * 1000000000.0 / (System.nanoTime() - start);
+        setBitsPerWord(handle, (byte) 8);
+        return ops;
+    }
+
+    /**
+     * Set bits per word on handle.
+     *
+     * @param handle SPI handle.
+     * @param value Bits per word.
+     */
+    public void setBitsPerWord(final long handle, final byte value) {
+        if (Spi.spiSetBitsPerWord(handle, value) != SPI_SUCCESS) {
+            throw new RuntimeException(Spi.spiErrMessage(handle));
+        }
+    }
+
+    /**
+     * Switch handle to word size and back to 8 bits, which is what the packed path costs per transfer on a shared handle.
+     *
+     * @param handle SPI handle.
+     * @return Nanoseconds per switch and back.
+     */
+    public double reconfigure(final long handle) {
+        final var start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            setBitsPerWord(handle, bits);
+            setBitsPerWord(handle, (byte) 8);
+        }
+        return (double) (System.nanoTime() - start) / operations;
+    }
+
+    /**
+     * Transfer words directly.
+     *
+     * @param handle SPI handle.
+     * @param tx Transmit words.
+     * @param rx Receive words.
+     * @return Transfers per second.
+     */
+    public double direct(final long handle, final short[] tx, final short[] rx) {
+        final var start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            final var rc = Spi.spiTransfer16(handle, tx, rx, tx.length, bits, 0);
+            if (rc != SPI_SUCCESS) {
+                throw new RuntimeException(String.format("Word transfer failed errno %d", -rc));
+            }
+        }
+        return operations * 1000000000.0 / (System.nanoTime() - start);
+    }
+
+    /**
+     * Run both paths and log transfers per second.
+     *
+     * @return Exit code.
+     * @throws InterruptedException Possible exception.
+     */
+    @Override
+    public Integer call() throws InterruptedException {
+        var exitCode = 0;
+        try (final var spi = new Spi(device, 0, speed)) {
+            final var tx = new short[words];
+            final var rx = new short[words];
+            final var mask = (1 << bits) - 1;
+            for (int i = 0; i < words; i++) {
+                tx[i] = (short) (i * 0x0123 & mask);
+            }
+            logger.info(String.format("%s %d Hz, %d words of %d bits, %d transfers", device, speed, words, bits, operations));
+            // Warm up
+            packed(spi.getHandle(), tx, rx);
+            direct(spi.getHandle(), tx, rx);
+            final var packedOps = packed(spi.getHandle(), tx, rx);
+            final var packedEcho = rx[words - 1] == tx[words - 1];
+            final var directOps = direct(spi.getHandle(), tx, rx);
+            final var directEcho = rx[words - 1] == tx[words - 1];
+            logger.info(String.format("packed %8.0f transfers/s (loopback %b)  direct %8.0f transfers/s (loopback %b)  %.1fx",
+                    packedOps, packedEcho, directOps, directEcho, directOps / packedOps));
+            logger.info(String.format("Shared handle adds %.1f us per packed transfer to set bits per word and back", reconfigure(
+                    spi.getHandle()) / 1000));
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage());
+            exitCode = 1;
+        }
+        return exitCode;
+    }
+
+    /**
+     * Main parsing, error handling and handling user requests for usage help or version help are done with one line of code.
+     *
+     * @param args Argument list.
+     */
+    public static void main(String... args) {
+        System.exit(new CommandLine(new SpiWordPerf()).registerConverter(Byte.class, Byte::decode).registerConverter(Byte.TYPE,
+                Byte::decode).execute(args));
+    }
+}
@@ -4,8 +4,9 @@
 package com.codeferm.periphery.demo;
 
 import com.codeferm.periphery.Led;
+import com.codeferm.periphery.rt.PeriodicExecutor;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CountDownLatch;
 import org.apache.logging.log4j.LogManager;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
@@ -46,14 +47,19 @@ public class SysLedBlink implements Callable<Integer> {
             // Get current value
             Led.ledRead(led.getHandle(), value);
             logger.info("Blinking LED");
-            var i = 0;
-            while (i < 10) {
-                Led.ledWrite(led.getHandle(), true);
-                TimeUnit.SECONDS.sleep(1);
-                Led.ledWrite(led.getHandle(), false);
-                TimeUnit.SECONDS.sleep(1);
-                i++;
+            final var toggles = new CountDownLatch(20);
+            final var executor = new PeriodicExecutor("blink");
+            // Toggle every second at a fixed rate, so blinks don't drift
+            final var task = executor.schedule(() -> {
+                Led.ledWrite(led.getHandle(), toggles.getCount() % 2 == 0);
+                toggles.countDown();
+            }, 1000000000L);
+            try {
+                toggles.await();
+            } finally {
+                executor.close();
             }
+            logger.info(String.format("Blink %s", task));
             // Restore led value
             Led.ledWrite(led.getHandle(), value[0]);
         } catch (RuntimeException e) {
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.demo;
+
+import com.codeferm.periphery.Spi;
+import static com.codeferm.periphery.Spi.SPI_SUCCESS;
+import com.codeferm.periphery.rt.PeriodicExecutor;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import org.apache.logging.log4j.LogManager;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * WS2812 (NeoPixel) LED strip driven by SPI MOSI at 2.4 MHz. Each WS2812 bit becomes three SPI bits (1 = 110, 0 = 100), so each
+ * byte becomes three SPI bytes from a lookup table. Pixels are encoded in GRB order straight into reused transfer buffers, and only
+ * pixels that changed since the last show are encoded again.
+ *
+ * Frames bigger than the spidev buffer (4096 bytes unless spidev bufsiz is raised) are sent in several transfers. A gap between
+ * transfers longer than the reset time latches the strip early, so for long strips raise bufsiz (spidev.bufsiz=65536 on the kernel
+ * command line) and keep the whole frame in one transfer.
+ *
+ * The strip itself runs at 800 kHz (30 us per LED), which limits refresh to about 33 fps for 1000 LEDs no matter how fast the
+ * encoding is.
+ *
+ * Connect MOSI to DIN through a level shifter.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Command(name = "Ws2812", mixinStandardHelpOptions = true, version = "1.0.0-SNAPSHOT",
+        description = "Rainbow on WS2812 LED strip.")
+public class Ws2812 implements Callable<Integer> {
+
+    /**
+     * SPI clock for 3 SPI bits per WS2812 bit.
+     */
+    public static final int SPI_SPEED = 2400000;
+    /**
+     * SPI bytes for each LED.
+     */
+    public static final int BYTES_PER_LED = 9;
+    /**
+     * Zero bytes at end of frame to latch (over 300 us at 2.4 MHz).
+     */
+    public static final int RESET_BYTES = 96;
+    /**
+     * Three SPI bytes for each data byte.
+     */
+    private static final byte[] LOOKUP = new byte[256 * 3];
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(Ws2812.class);
+    /**
+     * Device option.
+     */
+    @Option(names = {"-d", "--device"}, description = "SPI device, ${DEFAULT-VALUE} by default.")
+    private String device = "/dev/spidev1.0";
+    /**
+     * LEDs option.
+     */
+    @Option(names = {"-n", "--leds"}, description = "Number of LEDs, ${DEFAULT-VALUE} by default.")
+    private int leds = 60;
+    /**
+     * Frame rate option.
+     */
+    @Option(names = {"-f", "--fps"}, description = "Frames per second, ${DEFAULT-VALUE} by default.")
+    private int fps = 30;
+    /**
+     * Seconds option.
+     */
+    @Option(names = {"-s", "--seconds"}, description = "Seconds to run, ${DEFAULT-VALUE} by default.")
+    private int seconds = 10;
+    /**
+     * SPI handle.
+     */
+    private long handle;
+    /**
+     * Pixels as 0xRRGGBB.
+     */
+    private int[] pixels;
+    /**
+     * Pixels as last encoded.
+     */
+    private int[] encoded;
+    /**
+     * Transfer buffers, each a whole number of LEDs, last one ends with reset bytes.
+     */
+    private byte[][] chunks;
+    /**
+     * LEDs in each transfer buffer.
+     */
+    private int ledsPerChunk;
+    /**
+     * Nothing changed since last show.
+     */
+    private boolean clean;
+
+    /**
+     * Build lookup table.
+     */
+    static {
+        for (int value = 0; value < 256; value++) {
+            var bits = 0;
+            for (int bit = 7; bit >= 0; bit--) {
+                bits = (bits << 3) | (((value >> bit) & 1) == 1 ? 0b110 : 0b100);
+            }
+            LOOKUP[value * 3] = (byte) (bits >> 16);
+            LOOKUP[value * 3 + 1] = (byte) (bits >> 8);
+            LOOKUP[value * 3 + 2] = (byte) bits;
+        }
+    }
+
+    /**
+     * Used by CLI.
+     */
+    public Ws2812() {
+    }
+
+    /**
+     * Strip constructor. SPI should be open at SPI_SPEED in mode 0.
+     *
+     * @param handle SPI handle.
+     * @param leds Number of LEDs.
+     * @param bufSize spidev buffer size.
+     */
+    public Ws2812(final long handle, final int leds, final int bufSize) {
+        if (bufSize < BYTES_PER_LED + RESET_BYTES) {
+            throw new RuntimeException(String.format("Buffer size %d too small", bufSize));
+        }
+        this.handle = handle;
+        this.leds = leds;
+        pixels = new int[leds];
+        encoded = new int[leds];
+        ledsPerChunk = bufSize / BYTES_PER_LED;
+        // Last chunk needs room for reset bytes
+        final var lastLeds = leds % ledsPerChunk;
+        final var count = (leds + ledsPerChunk - 1) / ledsPerChunk;
+        final var lastFits = lastLeds != 0 && lastLeds * BYTES_PER_LED + RESET_BYTES <= bufSize;
+        chunks = new byte[lastFits ? count : count + 1][];
+        for (int i = 0; i < chunks.length; i++) {
+            final var chunkLeds = Math.max(0, Math.min(ledsPerChunk, leds - i * ledsPerChunk));
+            chunks[i] = new byte[chunkLeds * BYTES_PER_LED + (i == chunks.length - 1 ? RESET_BYTES : 0)];
+        }
+        // Encode all black
+        for (int i = 0; i < leds; i++) {
+            encode(i);
+        }
+    }
+
+    public int getLeds() {
+        return leds;
+    }
+
+    /**
+     * Number of SPI transfers for each frame.
+     *
+     * @return Transfers.
+     */
+    public int getTransfers() {
+        return chunks.length;
+    }
+
+    /**
+     * Time on the wire for a frame including reset.
+     *
+     * @return Nanoseconds.
+     */
+    public long getFrameNanos() {
+        return ((long) leds * BYTES_PER_LED + RESET_BYTES) * 8 * 1000000000L / SPI_SPEED;
+    }
+
+    /**
+     * Return pixel color.
+     *
+     * @param index LED index.
+     * @return Color as 0xRRGGBB.
+     */
+    public int getPixel(final int index) {
+        return pixels[index];
+    }
+
+    /**
+     * Set pixel color.
+     *
+     * @param index LED index.
+     * @param rgb Color as 0xRRGGBB.
+     * @return This object.
+     */
+    public Ws2812 setPixel(final int index, final int rgb) {
+        pixels[index] = rgb & 0xffffff;
+        clean = false;
+        return this;
+    }
+
+    /**
+     * Set all pixels to one color.
+     *
+     * @param rgb Color as 0xRRGGBB.
+     * @return This object.
+     */
+    public Ws2812 fill(final int rgb) {
+        Arrays.fill(pixels, rgb & 0xffffff);
+        clean = false;
+        return this;
+    }
+
+    /**
+     * Encode one LED into its transfer buffer as GRB.
+     *
+     * @param index LED index.
+     */
+    private void encode(final int index) {
+        final var rgb = pixels[index];
+        final var chunk = chunks[index / ledsPerChunk];
+        var pos = (index % ledsPerChunk) * BYTES_PER_LED;
+        var lookup = ((rgb >> 8) & 0xff) * 3;
+        chunk[pos++] = LOOKUP[lookup++];
+        chunk[pos++] = LOOKUP[lookup++];
+        chunk[pos++] = LOOKUP[lookup];
+        lookup = ((rgb >> 16) & 0xff) * 3;
+        chunk[pos++] = LOOKUP[lookup++];
+        chunk[pos++] = LOOKUP[lookup++];
+        chunk[pos++] = LOOKUP[lookup];
+        lookup = (rgb & 0xff) * 3;
+        chunk[pos++] = LOOKUP[lookup++];
+        chunk[pos++] = LOOKUP[lookup++];
+        chunk[pos] = LOOKUP[lookup];
+        encoded[index] = rgb;
+    }
+
+    /**
+     * Encode changed pixels and send frame. Does nothing if no pixel was set since last show.
+     *
+     * @return True if frame was sent.
+     */
+    public boolean show() {
+        if (clean) {
+            return false;
+        }
+        for (int i = 0; i < leds; i++) {
+            if (pixels[i] != encoded[i]) {
+                encode(i);
+            }
+        }
+        for (final var chunk : chunks) {
+            // No receive buffer, so nothing is copied back
+            if (Spi.spiTransfer(handle, chunk, null, chunk.length) != SPI_SUCCESS) {
+                throw new RuntimeException(Spi.spiErrMessage(handle));
+            }
+        }
+        clean = true;
+        return true;
+    }
+
+    /**
+     * Return color on a color wheel.
+     *
+     * @param position Position 0 - 255.
+     * @return Color as 0xRRGGBB.
+     */
+    public int wheel(final int position) {
+        final var pos = position & 0xff;
+        final int rgb;
+        if (pos < 85) {
+            rgb = ((255 - pos * 3) << 16) | (pos * 3 << 8);
+        } else if (pos < 170) {
+            rgb = ((255 - (pos - 85) * 3) << 8) | ((pos - 85) * 3);
+        } else {
+            rgb = ((pos - 170) * 3 << 16) | (255 - (pos - 170) * 3);
+        }
+        return rgb;
+    }
+
+    /**
+     * Show rainbow at fixed frame rate.
+     *
+     * @return Exit code.
+     * @throws InterruptedException Possible exception.
+     */
+    @Override
+    public Integer call() throws InterruptedException {
+        var exitCode = 0;
+        try (final var spi = new Spi(device, 0, SPI_SPEED)) {
+            final var strip = new Ws2812(spi.getHandle(), leds, Spi.getBufSize());
+            logger.info(String.format("%d LEDs, %d transfers, %.2f ms on the wire", leds, strip.getTransfers(), strip.
+                    getFrameNanos() / 1000000.0));
+            final var frames = new CountDownLatch(fps * seconds);
+            final var executor = new PeriodicExecutor("ws2812");
+            final var task = executor.schedule(() -> {
+                final var offset = (int) frames.getCount();
+                for (int i = 0; i < leds; i++) {
+                    strip.setPixel(i, wheel(i * 256 / leds + offset));
+                }
+                strip.show();
+                frames.countDown();
+            }, 1000000000L / fps);
+            try {
+                frames.await();
+            } finally {
+                executor.close();
+            }
+            logger.info(String.format("Frames %s", task));
+            strip.fill(0).show();
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage());
+            exitCode = 1;
+        }
+        return exitCode;
+    }
+
+    /**
+     * Main parsing, error handling and handling user requests for usage help or version help are done with one line of code.
+     *
+     * @param args Argument list.
+     */
+    public static void main(String... args) {
+        System.exit(new CommandLine(new Ws2812()).execute(args));
+    }
+}
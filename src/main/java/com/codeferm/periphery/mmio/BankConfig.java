@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio;
+
+import com.codeferm.periphery.Mmio;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Batch pin mode, pull and drive settings, so a bank of pins is configured with one read and one write per register instead of a
+ * gpiod ioctl per line. Settings are merged by MMIO handle and register offset and applied in the order registers were first
+ * used.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BankConfig {
+
+    /**
+     * Pending register updates keyed by MMIO handle then offset. Value is {clear mask, set bits}.
+     */
+    private final Map<Long, Map<Integer, int[]>> pending = new LinkedHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    public BankConfig() {
+    }
+
+    /**
+     * Add field setting for register.
+     *
+     * @param mmioHandle MMIO handle.
+     * @param reg Configuration register.
+     * @param setting Setting index.
+     * @return This object.
+     */
+    public BankConfig set(final long mmioHandle, final ConfigRegister reg, final int setting) {
+        if (reg == null) {
+            throw new RuntimeException("Configuration register not in pin map");
+        }
+        final var update = pending.computeIfAbsent(mmioHandle, k -> new LinkedHashMap<>()).computeIfAbsent(reg.getOffset(),
+                k -> new int[2]);
+        update[0] |= reg.getMask();
+        update[1] = (update[1] & ~reg.getMask()) | (reg.getValue(setting) & reg.getMask());
+        return this;
+    }
+
+    /**
+     * Set pin mode.
+     *
+     * @param pin Pin with MMIO handle set.
+     * @param mode ConfigRegister.MODE_IN or MODE_OUT.
+     * @return This object.
+     */
+    public BankConfig setMode(final Pin pin, final int mode) {
+        return set(pin.getMmioHadle(), pin.getMode(), mode);
+    }
+
+    /**
+     * Set pin pull.
+     *
+     * @param pin Pin with MMIO handle set.
+     * @param pull ConfigRegister.PULL_DISABLE, PULL_UP or PULL_DOWN.
+     * @return This object.
+     */
+    public BankConfig setPull(final Pin pin, final int pull) {
+        return set(pin.getMmioHadle(), pin.getPull(), pull);
+    }
+
+    /**
+     * Set pin drive.
+     *
+     * @param pin Pin with MMIO handle set.
+     * @param drive ConfigRegister.DRIVE_PUSH_PULL, DRIVE_OPEN_DRAIN or DRIVE_OPEN_SOURCE.
+     * @return This object.
+     */
+    public BankConfig setDrive(final Pin pin, final int drive) {
+        return set(pin.getMmioHadle(), pin.getDrive(), drive);
+    }
+
+    /**
+     * Return number of registers that will be written.
+     *
+     * @return Register count.
+     */
+    public int size() {
+        return pending.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Read, modify and write each register once and clear pending settings.
+     *
+     * @return Number of registers written.
+     */
+    public int apply() {
+        final var value = new int[1];
+        var count = 0;
+        for (final var chip : pending.entrySet()) {
+            final long handle = chip.getKey();
+            for (final var reg : chip.getValue().entrySet()) {
+                final long offset = reg.getKey();
+                if (Mmio.mmioRead32(handle, offset, value) != Mmio.MMIO_SUCCESS) {
+                    throw new RuntimeException(String.format("Unable to read offset 0x%02x", offset));
+                }
+                final var update = reg.getValue();
+                if (Mmio.mmioWrite32(handle, offset, (value[0] & ~update[0]) | update[1]) != Mmio.MMIO_SUCCESS) {
+                    throw new RuntimeException(String.format("Unable to write offset 0x%02x", offset));
+                }
+                count++;
+            }
+        }
+        pending.clear();
+        return count;
+    }
+}
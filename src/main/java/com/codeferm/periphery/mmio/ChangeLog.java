@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Memory mapped log of register change records. The file starts with a long record count followed by fixed size little endian
+ * records of long timestamp, int offset, int old value and int new value. Records past capacity are dropped and counted.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ChangeLog implements ChangeRing.Consumer, AutoCloseable {
+
+    /**
+     * Header size in bytes.
+     */
+    public static final int HEADER_SIZE = Long.BYTES;
+    /**
+     * Record size in bytes.
+     */
+    public static final int RECORD_SIZE = Long.BYTES + 3 * Integer.BYTES;
+    /**
+     * Backing file.
+     */
+    private final RandomAccessFile file;
+    /**
+     * Mapped buffer.
+     */
+    private final MappedByteBuffer buffer;
+    /**
+     * Records written.
+     */
+    private long count;
+    /**
+     * Records dropped because log was full.
+     */
+    private long dropped;
+
+    /**
+     * Create log file sized for capacity records.
+     *
+     * @param fileName Log file name.
+     * @param capacity Maximum records.
+     */
+    public ChangeLog(final String fileName, final int capacity) {
+        try {
+            file = new RandomAccessFile(fileName, "rw");
+            final var size = HEADER_SIZE + (long) capacity * RECORD_SIZE;
+            file.setLength(size);
+            buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Unable to map %s", fileName), e);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putLong(0, 0);
+        buffer.position(HEADER_SIZE);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Append record and update count in header.
+     *
+     * @param offset Register byte offset.
+     * @param oldValue Value before change.
+     * @param newValue Value after change.
+     * @param timestamp Nanoseconds since watch started.
+     */
+    @Override
+    public void accept(final int offset, final int oldValue, final int newValue, final long timestamp) {
+        if (buffer.remaining() >= RECORD_SIZE) {
+            buffer.putLong(timestamp).putInt(offset).putInt(oldValue).putInt(newValue);
+            buffer.putLong(0, ++count);
+        } else {
+            dropped++;
+        }
+    }
+
+    /**
+     * Flush to disk and close file.
+     */
+    @Override
+    public void close() {
+        buffer.force();
+        try {
+            file.close();
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to close change log", e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio;
+
+/**
+ * Single producer single consumer ring of register change records. Records are stored in parallel primitive arrays, so offering
+ * and polling never allocate. When the ring is full new records are dropped and counted, so a slow consumer can never stall the
+ * register poller.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ChangeRing {
+
+    /**
+     * Index mask (capacity - 1).
+     */
+    private final int mask;
+    /**
+     * Register byte offset.
+     */
+    private final int[] offset;
+    /**
+     * Value before change.
+     */
+    private final int[] oldValue;
+    /**
+     * Value after change.
+     */
+    private final int[] newValue;
+    /**
+     * Nanoseconds since watch started.
+     */
+    private final long[] timestamp;
+    /**
+     * Next slot to write. Only the producer writes this.
+     */
+    private volatile long head;
+    /**
+     * Next slot to read. Only the consumer writes this.
+     */
+    private volatile long tail;
+    /**
+     * Records dropped because ring was full. Only the producer writes this.
+     */
+    private volatile long dropped;
+
+    /**
+     * Capacity constructor.
+     *
+     * @param capacity Number of records rounded up to a power of 2.
+     */
+    public ChangeRing(final int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new RuntimeException(String.format("Invalid capacity %d", capacity));
+        }
+        final var size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        mask = size - 1;
+        offset = new int[size];
+        oldValue = new int[size];
+        newValue = new int[size];
+        timestamp = new long[size];
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Return number of records waiting.
+     *
+     * @return Record count.
+     */
+    public int size() {
+        return (int) (head - tail);
+    }
+
+    /**
+     * Add record. Producer only.
+     *
+     * @param off Register byte offset.
+     * @param oldVal Value before change.
+     * @param newVal Value after change.
+     * @param time Nanoseconds since watch started.
+     * @return True if added or false if dropped.
+     */
+    public boolean offer(final int off, final int oldVal, final int newVal, final long time) {
+        final var h = head;
+        var ret = false;
+        if (h - tail <= mask) {
+            final var i = (int) h & mask;
+            offset[i] = off;
+            oldValue[i] = oldVal;
+            newValue[i] = newVal;
+            timestamp[i] = time;
+            // Volatile write publishes the record
+            head = h + 1;
+            ret = true;
+        } else {
+            dropped++;
+        }
+        return ret;
+    }
+
+    /**
+     * Remove oldest record and pass it to consumer. Consumer only.
+     *
+     * @param consumer Record consumer.
+     * @return True if a record was consumed.
+     */
+    public boolean poll(final Consumer consumer) {
+        final var t = tail;
+        var ret = false;
+        if (t < head) {
+            final var i = (int) t & mask;
+            consumer.accept(offset[i], oldValue[i], newValue[i], timestamp[i]);
+            // Volatile write frees the slot
+            tail = t + 1;
+            ret = true;
+        }
+        return ret;
+    }
+
+    /**
+     * Remove all waiting records. Consumer only.
+     *
+     * @param consumer Record consumer.
+     * @return Number of records consumed.
+     */
+    public int drain(final Consumer consumer) {
+        var count = 0;
+        while (poll(consumer)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Change record consumer taking primitives, so nothing is boxed.
+     */
+    @FunctionalInterface
+    public interface Consumer {
+
+        /**
+         * Accept change record.
+         *
+         * @param offset Register byte offset.
+         * @param oldValue Value before change.
+         * @param newValue Value after change.
+         * @param timestamp Nanoseconds since watch started.
+         */
+        void accept(int offset, int oldValue, int newValue, long timestamp);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio;
+
+import java.util.Arrays;
+
+/**
+ * GPIO configuration register field such as mode, pull or drive. The mask covers the whole field for the pin and values holds the
+ * field value for each setting, so a setting is applied with (register &amp; ~mask) | values[setting].
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ConfigRegister extends Register {
+
+    /**
+     * Mode input value index.
+     */
+    public static final int MODE_IN = 0;
+    /**
+     * Mode output value index.
+     */
+    public static final int MODE_OUT = 1;
+    /**
+     * Pull disabled value index.
+     */
+    public static final int PULL_DISABLE = 0;
+    /**
+     * Pull up value index.
+     */
+    public static final int PULL_UP = 1;
+    /**
+     * Pull down value index.
+     */
+    public static final int PULL_DOWN = 2;
+    /**
+     * Drive push-pull value index.
+     */
+    public static final int DRIVE_PUSH_PULL = 0;
+    /**
+     * Drive open drain value index.
+     */
+    public static final int DRIVE_OPEN_DRAIN = 1;
+    /**
+     * Drive open source value index.
+     */
+    public static final int DRIVE_OPEN_SOURCE = 2;
+
+    /**
+     * Field value for each setting.
+     */
+    private int[] values;
+
+    /**
+     * Default constructor.
+     */
+    public ConfigRegister() {
+    }
+
+    /**
+     * All fields constructor.
+     *
+     * @param name Register name.
+     * @param offset Register offset.
+     * @param mask Field mask.
+     * @param values Field value for each setting.
+     */
+    public ConfigRegister(final String name, final Integer offset, final Integer mask, final int[] values) {
+        super(name, offset, mask);
+        this.values = values;
+    }
+
+    public int[] getValues() {
+        return values;
+    }
+
+    public ConfigRegister setValues(final int[] values) {
+        this.values = values;
+        return this;
+    }
+
+    /**
+     * Return field value for setting.
+     *
+     * @param setting Setting index such as MODE_OUT.
+     * @return Field value.
+     */
+    public int getValue(final int setting) {
+        return values[setting];
+    }
+
+    /**
+     * Object hash code.
+     *
+     * @return Hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 97 * super.hashCode() + Arrays.hashCode(values);
+    }
+
+    /**
+     * Object equals.
+     *
+     * @param obj Object to compare to.
+     * @return True if equal.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (!super.equals(obj)) {
+            return false;
+        }
+        return Arrays.equals(values, ((ConfigRegister) obj).values);
+    }
+
+    /**
+     * String representation of Object.
+     *
+     * @return String of Object fields.
+     */
+    @Override
+    public String toString() {
+        return "ConfigRegister{" + "name=" + getName() + ", offset=" + getOffset() + ", mask=" + getMask() + ", values=" + Arrays.
+                toString(values) + '}';
+    }
+}
@@ -7,9 +7,11 @@ import java.io.BufferedWriter;
 import java.io.FileInputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -344,7 +346,9 @@ public class File {
             writer.write(String.format(
                     "#\n# Generated by %s on %s\n#\n# Format: pin.chip.number = group name, pin name, data in on name, "
                     + "data in on offset, data in on mask, data in off name, data in off offset, data in off mask, data out on name, "
-                    + "data out on offset, data out on mask, data out off name, data out off offset, data out off mask\n#\n\n",
+                    + "data out on offset, data out on mask, data out off name, data out off offset, data out off mask[, mode name, "
+                    + "mode offset, mode mask, mode in, mode out, pull name, pull offset, pull mask, pull disable, pull up, pull down, "
+                    + "drive name, drive offset, drive mask, drive push-pull, drive open drain, drive open source]\n#\n\n",
                     this.getClass().getCanonicalName(), DateTimeFormatter.ISO_INSTANT.format(Instant.now())));
             // Write individual properties from input file
             writer.write(String.format("description = %s\nchips = %s\nchip.size = %s\ngpio.dev = %s\nmem.path = %s\n", properties.
@@ -357,12 +361,13 @@ public class File {
                 // Make sure detect worked by making sure there's a group name
                 if (value.getGroupName() != null) {
                     writer.write(String.format(
-                            "pin.%d.%d = %s, %s, %s, 0x%02x, 0x%08x, %s, 0x%02x, 0x%08x, %s, 0x%02x, 0x%08x, %s, 0x%02x, 0x%08x\n",
+                            "pin.%d.%d = %s, %s, %s, 0x%02x, 0x%08x, %s, 0x%02x, 0x%08x, %s, 0x%02x, 0x%08x, %s, 0x%02x, 0x%08x%s",
                             key.getChip(), key.getPin(), value.getGroupName(), value.getName(),
                             value.getDataInOn().getName(), value.getDataInOn().getOffset(), value.getDataInOn().getMask(), value.
                             getDataInOff().getName(), value.getDataInOff().getOffset(), value.getDataInOff().getMask(), value.
                             getDataOutOn().getName(), value.getDataOutOn().getOffset(), value.getDataOutOn().getMask(), value.
-                            getDataOutOff().getName(), value.getDataOutOff().getOffset(), value.getDataOutOff().getMask()));
+                            getDataOutOff().getName(), value.getDataOutOff().getOffset(), value.getDataOutOff().getMask(),
+                            configToStr(value)));
                 } else {
                     logger.warn(String.format("Chip %d pin %d detection failed, so skipping", key.getChip(), key.getPin()));
                 }
@@ -372,6 +377,215 @@ public class File {
         }
     }
 
+    /**
+     * Return property fields for one configuration register. A null register is written as null for every field.
+     *
+     * @param reg Configuration register or null.
+     * @param count Number of setting values.
+     * @return Comma delimited fields starting with a comma.
+     */
+    public String configToStr(final ConfigRegister reg, final int count) {
+        final var str = new StringBuilder();
+        if (reg != null) {
+            str.append(String.format(", %s, 0x%02x, 0x%08x", reg.getName(), reg.getOffset(), reg.getMask()));
+            for (final var v : reg.getValues()) {
+                str.append(String.format(", 0x%08x", v));
+            }
+        } else {
+            for (int i = 0; i < count + 3; i++) {
+                str.append(", null");
+            }
+        }
+        return str.toString();
+    }
+
+    /**
+     * Return configuration register property fields for pin and line terminator. Nothing is added if pin has no configuration
+     * registers, so data only maps keep the original format.
+     *
+     * @param pin Pin.
+     * @return Configuration fields and new line.
+     */
+    public String configToStr(final Pin pin) {
+        var str = "\n";
+        if (pin.getMode() != null || pin.getPull() != null || pin.getDrive() != null) {
+            str = configToStr(pin.getMode(), 2) + configToStr(pin.getPull(), 3) + configToStr(pin.getDrive(), 3) + str;
+        }
+        return str;
+    }
+
+    /**
+     * Parse configuration register from property fields.
+     *
+     * @param value Property fields.
+     * @param index Index of register name.
+     * @param count Number of setting values.
+     * @return Configuration register or null.
+     */
+    public ConfigRegister toConfigRegister(final String[] value, final int index, final int count) {
+        ConfigRegister reg = null;
+        if (value.length >= index + count + 3 && strToStr(value[index]) != null) {
+            final var values = new int[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = hexToInt(value[index + 3 + i]);
+            }
+            reg = new ConfigRegister(strToStr(value[index]), hexToInt(value[index + 1]), hexToInt(value[index + 2]), values);
+        }
+        return reg;
+    }
+
+    /**
+     * Return Java setter call for configuration register or empty string if null.
+     *
+     * @param setter Pin setter name.
+     * @param reg Configuration register or null.
+     * @return Java source.
+     */
+    public String configToJava(final String setter, final ConfigRegister reg) {
+        var str = "";
+        if (reg != null) {
+            str = String.format("\n                .%s(new ConfigRegister(%s, 0x%02x, 0x%08x, new int[]{%s}))", setter, toLiteral(reg.
+                    getName()), reg.getOffset(), reg.getMask(), Arrays.stream(reg.getValues()).mapToObj(v -> String.format("0x%08x",
+                    v)).collect(Collectors.joining(", ")));
+        }
+        return str;
+    }
+
+    /**
+     * Return Java identifier for pin name. Characters that are not letters or digits are replaced with an underscore.
+     *
+     * @param name Pin name.
+     * @return Upper case identifier.
+     */
+    public String toIdentifier(final String name) {
+        var id = name.toUpperCase().replaceAll("[^A-Z0-9]", "_");
+        if (id.isEmpty() || Character.isDigit(id.charAt(0))) {
+            id = "PIN_" + id;
+        }
+        return id;
+    }
+
+    /**
+     * Return Java string literal or null.
+     *
+     * @param str String.
+     * @return Quoted string or null.
+     */
+    public String toLiteral(final String str) {
+        String s = "null";
+        if (str != null) {
+            s = String.format("\"%s\"", str.replace("\\", "\\\\").replace("\"", "\\\""));
+        }
+        return s;
+    }
+
+    /**
+     * Generate Java source file from pin Map. The class has a constant for chip, line, offset and mask of each pin, so they are
+     * folded into code that uses them. pinMap(File) builds the same Map as loadPinMap without parsing a property file. Class name
+     * is taken from output file name. Uses description, chips, chip size, GPIO devices and MMIO path loaded by parseInput or
+     * loadPinMap.
+     *
+     * @param pinMap Pin Map.
+     * @param packageName Package of generated class.
+     * @param outFileName Output Java file.
+     */
+    public void genJava(final Map<PinKey, Pin> pinMap, final String packageName, final String outFileName) {
+        logger.debug("Generating Java file {}", outFileName);
+        final var className = Paths.get(outFileName).getFileName().toString().replaceFirst("\\.java$", "");
+        // Constant name prefix for each pin
+        final Map<PinKey, String> ids = new TreeMap<>();
+        final var used = new HashSet<String>();
+        for (final var entry : pinMap.entrySet()) {
+            final var key = entry.getKey();
+            final var value = entry.getValue();
+            // Make sure detect worked by making sure there's a group name
+            if (value.getGroupName() != null) {
+                var id = toIdentifier(value.getName());
+                // Duplicate names get chip and line appended
+                if (!used.add(id)) {
+                    id = String.format("%s_%d_%d", id, key.getChip(), key.getPin());
+                    used.add(id);
+                }
+                ids.put(key, id);
+            } else {
+                logger.warn(String.format("Chip %d pin %d detection failed, so skipping", key.getChip(), key.getPin()));
+            }
+        }
+        try (final var writer = new BufferedWriter(new FileWriter(outFileName))) {
+            writer.write(String.format("/*\n * Copyright (c) Steven P. Goldsmith. All rights reserved.\n */\npackage %s;\n\n", packageName));
+            // Only import ConfigRegister if a pin has one
+            if (ids.keySet().stream().map(pinMap::get).anyMatch(v -> v.getMode() != null || v.getPull() != null || v.getDrive()
+                    != null)) {
+                writer.write("import com.codeferm.periphery.mmio.ConfigRegister;\n");
+            }
+            writer.write("import com.codeferm.periphery.mmio.File;\nimport com.codeferm.periphery.mmio.Pin;\n"
+                    + "import com.codeferm.periphery.mmio.PinKey;\nimport com.codeferm.periphery.mmio.Register;\nimport java.util.List;\n"
+                    + "import java.util.Map;\nimport java.util.TreeMap;\n\n");
+            // No timestamp, so the same map always generates the same source
+            writer.write(String.format("/**\n * Pin map for %s.\n *\n * Generated by %s\n *\n * @author Steven P. Goldsmith\n"
+                    + " * @version 1.0.0\n * @since 1.0.0\n */\npublic final class %s {\n\n", description, this.getClass().
+                    getCanonicalName(), className));
+            writer.write(String.format("    /**\n     * Board description.\n     */\n    public static final String DESCRIPTION = %s;\n",
+                    toLiteral(description)));
+            writer.write(String.format("    /**\n     * MMIO path.\n     */\n    public static final String MEM_PATH = %s;\n",
+                    toLiteral(memPath)));
+            // Write constants for each pin
+            for (final var entry : ids.entrySet()) {
+                final var key = entry.getKey();
+                final var id = entry.getValue();
+                final var value = pinMap.get(key);
+                writer.write(String.format("    // %s group %s\n", value.getName(), value.getGroupName()));
+                writer.write(String.format("    public static final int %s_CHIP = %d;\n", id, key.getChip()));
+                writer.write(String.format("    public static final int %s_LINE = %d;\n", id, key.getPin()));
+                final Register[] regs = {value.getDataInOn(), value.getDataInOff(), value.getDataOutOn(), value.getDataOutOff()};
+                final String[] suffix = {"IN_ON", "IN_OFF", "OUT_ON", "OUT_OFF"};
+                for (int i = 0; i < regs.length; i++) {
+                    writer.write(String.format("    public static final int %s_%s_OFFSET = 0x%02x;\n", id, suffix[i], regs[i].
+                            getOffset()));
+                    writer.write(String.format("    public static final int %s_%s_MASK = 0x%08x;\n", id, suffix[i], regs[i].getMask()));
+                }
+            }
+            writer.write(String.format("\n    /**\n     * Constants only.\n     */\n    private %s() {\n    }\n\n", className));
+            // Write pin Map builder
+            writer.write("    /**\n     * Return pin Map and set chips, chip size, GPIO devices and MMIO path of file without parsing a "
+                    + "property file.\n     *\n     * @param file File to set board information on.\n     * @return Pin Map.\n     */\n"
+                    + "    public static Map<PinKey, Pin> pinMap(final File file) {\n");
+            writer.write("        file.setDescription(DESCRIPTION);\n");
+            writer.write(String.format("        file.setChips(List.of(%s));\n", chips.stream().map(v -> String.format("0x%xL", v)).
+                    collect(Collectors.joining(", "))));
+            writer.write(String.format("        file.setMmioSize(List.of(%s));\n", mmioSize.stream().map(v -> String.format("%dL", v)).
+                    collect(Collectors.joining(", "))));
+            writer.write(String.format("        file.setGpioDev(List.of(%s));\n", gpioDev.stream().map(String::valueOf).collect(
+                    Collectors.joining(", "))));
+            writer.write("        file.setMemPath(MEM_PATH);\n        final Map<PinKey, Pin> pinMap = new TreeMap<>();\n");
+            for (final var entry : ids.entrySet()) {
+                final var id = entry.getValue();
+                final var value = pinMap.get(entry.getKey());
+                writer.write(String.format("        add(pinMap, new Pin(new PinKey(%s_CHIP, %s_LINE), %s, %s,\n", id, id, toLiteral(value.
+                        getGroupName()), toLiteral(value.getName())));
+                writer.write(String.format("                new Register(%s, %s_IN_ON_OFFSET, %s_IN_ON_MASK),\n", toLiteral(value.
+                        getDataInOn().getName()), id, id));
+                writer.write(String.format("                new Register(%s, %s_IN_OFF_OFFSET, %s_IN_OFF_MASK),\n", toLiteral(value.
+                        getDataInOff().getName()), id, id));
+                writer.write(String.format("                new Register(%s, %s_OUT_ON_OFFSET, %s_OUT_ON_MASK),\n", toLiteral(value.
+                        getDataOutOn().getName()), id, id));
+                writer.write(String.format("                new Register(%s, %s_OUT_OFF_OFFSET, %s_OUT_OFF_MASK))", toLiteral(value.
+                        getDataOutOff().getName()), id, id));
+                // Configuration registers are optional
+                writer.write(configToJava("setMode", value.getMode()));
+                writer.write(configToJava("setPull", value.getPull()));
+                writer.write(configToJava("setDrive", value.getDrive()));
+                writer.write(");\n");
+            }
+            writer.write("        return pinMap;\n    }\n\n");
+            writer.write("    /**\n     * Add pin to Map.\n     *\n     * @param pinMap Pin Map.\n     * @param pin Pin.\n     */\n"
+                    + "    private static void add(final Map<PinKey, Pin> pinMap, final Pin pin) {\n        pinMap.put(pin.getKey(), pin);\n"
+                    + "    }\n}\n");
+        } catch (IOException e) {
+            logger.error(String.format("Error %s", e.getMessage()));
+        }
+    }
+
     /**
      * Convert hex string to int.
      *
@@ -409,6 +623,7 @@ public class File {
      */
     public Map<PinKey, Pin> loadPinMap(final String inFileName) {
         final var properties = loadProperties(inFileName);
+        description = properties.getProperty("description");
         chips = hexToLongList(properties.getProperty("chips"));
         mmioSize = decToLongList(properties.getProperty("chip.size"));
         gpioDev = decToIntList(properties.getProperty("gpio.dev"));
@@ -426,9 +641,22 @@ public class File {
                 final var dataOutOn = new Register(strToStr(value[8]), hexToInt(value[9]), hexToInt(value[10]));
                 final var dataOutOff = new Register(strToStr(value[11]), hexToInt(value[12]), hexToInt(value[13]));
                 final var pin = new Pin(pinKey, strToStr(value[0]), strToStr(value[1]), dataInOn, dataInOff, dataOutOn, dataOutOff);
+                // Optional configuration registers
+                pin.setMode(toConfigRegister(value, 14, 2)).setPull(toConfigRegister(value, 19, 3)).setDrive(toConfigRegister(value,
+                        25, 3));
                 pinMap.put(pinKey, pin);
             }
         });
         return pinMap;
     }
+
+    /**
+     * Parse property file into dense pin table.
+     *
+     * @param inFileName Property file name.
+     * @return Pin table.
+     */
+    public PinTable loadPinTable(final String inFileName) {
+        return new PinTable(loadPinMap(inFileName));
+    }
 }
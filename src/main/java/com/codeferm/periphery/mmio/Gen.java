@@ -6,14 +6,25 @@ package com.codeferm.periphery.mmio;
 import static com.codeferm.periphery.Common.cString;
 import com.codeferm.periphery.Gpio;
 import static com.codeferm.periphery.Gpio.GPIO_BIAS_DEFAULT;
+import static com.codeferm.periphery.Gpio.GPIO_BIAS_DISABLE;
+import static com.codeferm.periphery.Gpio.GPIO_BIAS_PULL_DOWN;
+import static com.codeferm.periphery.Gpio.GPIO_BIAS_PULL_UP;
+import static com.codeferm.periphery.Gpio.GPIO_DIR_IN;
 import static com.codeferm.periphery.Gpio.GPIO_DIR_OUT;
 import static com.codeferm.periphery.Gpio.GPIO_DRIVE_DEFAULT;
+import static com.codeferm.periphery.Gpio.GPIO_DRIVE_OPEN_DRAIN;
+import static com.codeferm.periphery.Gpio.GPIO_DRIVE_OPEN_SOURCE;
 import static com.codeferm.periphery.Gpio.GPIO_EDGE_NONE;
 import com.codeferm.periphery.Mmio;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import picocli.CommandLine;
 
@@ -45,44 +56,100 @@ public class Gen implements Callable<Integer> {
      */
     @CommandLine.Option(names = {"-o", "--out"}, description = "Output property file name")
     private String outFileName = "out.properties";
+    /**
+     * Binary coded detection.
+     */
+    @CommandLine.Option(names = {"-b", "--binary"}, description = "Detect all pins at once using binary coded patterns")
+    private boolean binary = false;
+    /**
+     * Java output file.
+     */
+    @CommandLine.Option(names = {"-j", "--java"}, description = "Optional Java pin map class file name")
+    private String javaFileName;
+    /**
+     * Java package.
+     */
+    @CommandLine.Option(names = {"-p", "--package"}, description = "Package of Java pin map class")
+    private String packageName = "com.codeferm.periphery.mmio.board";
+    /**
+     * Configuration register detection.
+     */
+    @CommandLine.Option(names = {"-c", "--config"}, description = "Also detect mode, pull and drive registers")
+    private boolean config = false;
+    /**
+     * Configuration snapshot end.
+     */
+    @CommandLine.Option(names = {"-e", "--config-end"}, description = "Bytes of each chip read for configuration detection, 0 to "
+            + "round the highest data register up to 0x100")
+    private int configEnd = 0;
+
+    /**
+     * Snapshot of each chip's register range.
+     */
+    private int[][] chipValues;
+    /**
+     * Words of each chip read for configuration detection.
+     */
+    private int[] configWords;
+
+    /**
+     * Allocate snapshot arrays for each chip.
+     *
+     * @param mmioSize MMIO size for each chip.
+     */
+    public void allocChipValues(final List<Long> mmioSize) {
+        chipValues = new int[mmioSize.size()][];
+        for (int chip = 0; chip < mmioSize.size(); chip++) {
+            chipValues[chip] = new int[(int) (mmioSize.get(chip) / 4)];
+        }
+    }
 
     /**
-     * Return values from all registers.
+     * Return values from all registers. Each chip is read with one native call covering only the span from its lowest to highest
+     * data register, so registers outside it (status or FIFO registers that clear on read) are never touched. The group registers
+     * are picked out of the snapshot.
      *
      * @param mmioHandle MMIO handles.
      * @param groupChip Chip group is on.
      * @param dataOffset Data register offsets in chip.
-     * @return List of register values.
+     * @return Array of register values.
      */
-    public List<Integer> getRegValues(final List<Long> mmioHandle, final List<Integer> groupChip, final List<Integer> dataOffset) {
-        final var list = new ArrayList<Integer>();
-        final var value = new int[1];
+    public int[] getRegValues(final List<Long> mmioHandle, final List<Integer> groupChip, final List<Integer> dataOffset) {
+        // Data register span of each chip
+        final var minOffset = new int[chipValues.length];
+        final var maxOffset = new int[chipValues.length];
+        Arrays.fill(minOffset, Integer.MAX_VALUE);
+        Arrays.fill(maxOffset, -1);
+        for (int group = 0; group < groupChip.size(); group++) {
+            final var chip = groupChip.get(group);
+            minOffset[chip] = Math.min(minOffset[chip], dataOffset.get(group));
+            maxOffset[chip] = Math.max(maxOffset[chip], dataOffset.get(group));
+        }
+        // Snapshot span of each chip with groups
+        for (int chip = 0; chip < chipValues.length; chip++) {
+            if (maxOffset[chip] >= 0 && Mmio.mmioRead32Array(mmioHandle.get(chip), minOffset[chip], chipValues[chip], (maxOffset[chip]
+                    - minOffset[chip]) / 4 + 1) != Mmio.MMIO_SUCCESS) {
+                throw new RuntimeException(String.format("Unable to read chip %d registers", chip));
+            }
+        }
+        final var values = new int[groupChip.size()];
         // Read all groups
-        for (int chip = 0; chip < groupChip.size(); chip++) {
-            Mmio.mmioRead32(mmioHandle.get(groupChip.get(chip)), dataOffset.get(chip), value);
-            list.add(value[0]);
+        for (int group = 0; group < groupChip.size(); group++) {
+            final var chip = groupChip.get(group);
+            values[group] = chipValues[chip][(dataOffset.get(group) - minOffset[chip]) / 4];
         }
-        return list;
+        return values;
     }
 
     /**
-     * Compare list values and return index where difference is found. Filter is used to select on desired register name.
+     * Compare array values and return index where difference is found.
      *
-     * @param list1 First list.
-     * @param list2 Second list.
-     * @return Index of difference.
+     * @param values1 First array.
+     * @param values2 Second array.
+     * @return Index of difference or -1 if no difference.
      */
-    public int listDiff(final List<Integer> list1, final List<Integer> list2) {
-        var i = 0;
-        // Look for difference based on filter and exit on first instance
-        while (i < list1.size() && list1.get(i).equals(list2.get(i))) {
-            i++;
-        }
-        // No difference
-        if (i == list1.size()) {
-            i = -1;
-        }
-        return i;
+    public int listDiff(final int[] values1, final int[] values2) {
+        return Arrays.mismatch(values1, values2);
     }
 
     /**
@@ -102,6 +169,31 @@ public class Gen implements Callable<Integer> {
         return diff;
     }
 
+    /**
+     * Set data registers in pin DTO once the group register and mask are known.
+     *
+     * @param pin Pin DTO.
+     * @param reg Group register index.
+     * @param mask Data bit mask.
+     * @param groupName Pin group names.
+     * @param dataInOnOffset Data register in on offsets.
+     * @param dataInOffOffset Data register in 0ff offsets.
+     * @param dataOutOnOffset Data register out on offsets.
+     * @param dataOutOffOffset Data register out off offsets.
+     */
+    public void setPinRegs(final Pin pin, final int reg, final int mask, final List<String> groupName,
+            final List<Integer> dataInOnOffset, final List<Integer> dataInOffOffset, final List<Integer> dataOutOnOffset,
+            final List<Integer> dataOutOffOffset) {
+        pin.setGroupName(groupName.get(reg)).setDataInOn(new Register("IN_ON", dataInOnOffset.get(reg % dataInOnOffset.size()),
+                mask)).setDataInOff(new Register("IN_OFF", dataInOffOffset.get(reg % dataInOffOffset.size()), mask)).setDataOutOn(
+                new Register("OUT_ON", dataOutOnOffset.get(reg % dataOutOnOffset.size()), mask)).setDataOutOff(new Register(
+                "OUT_OFF", dataOutOffOffset.get(reg % dataOutOffOffset.size()), mask));
+        // If data out uses same register for on/off then generate AND mask for off.
+        if (pin.getDataOutOn().getOffset().equals(pin.getDataOutOff().getOffset())) {
+            pin.getDataOutOff().setMask(pin.getDataOutOff().getMask() ^ 0xffffffff);
+        }
+    }
+
     /**
      * Set data register info in pin DTO.
      *
@@ -131,23 +223,15 @@ public class Gen implements Callable<Integer> {
                 setDirection(GPIO_DIR_OUT).setDrive(GPIO_DRIVE_DEFAULT).setEdge(GPIO_EDGE_NONE).setInverted(false).setLabel(cString(
                 Gen.class.getSimpleName())))) {
             Gpio.gpioWrite(gpio.getHandle(), false);
-            final var list1 = getRegValues(mmioHandle, groupChip, dataOffset);
+            final var values1 = getRegValues(mmioHandle, groupChip, dataOffset);
             Gpio.gpioWrite(gpio.getHandle(), true);
-            final var list2 = getRegValues(mmioHandle, groupChip, dataOffset);
+            final var values2 = getRegValues(mmioHandle, groupChip, dataOffset);
             // Find the register delta
-            final var reg = listDiff(list1, list2);
+            final var reg = listDiff(values1, values2);
             // Make sure a delta is detected
             if (reg >= 0) {
-                pin.setGroupName(groupName.get(reg)).setDataInOn(new Register("IN_ON", dataInOnOffset.get(reg % dataInOnOffset.
-                        size()), valueDiff(list1.get(reg), list2.get(reg)))).setDataInOff(new Register("IN_OFF", dataInOffOffset.
-                        get(reg % dataInOffOffset.size()), valueDiff(list1.get(reg), list2.get(reg)))).setDataOutOn(new Register(
-                        "OUT_ON", dataOutOnOffset.get(reg % dataOutOnOffset.size()), valueDiff(list1.get(reg), list2.get(reg)))).
-                        setDataOutOff(new Register("OUT_OFF", dataOutOffOffset.get(reg % dataOutOffOffset.size()), valueDiff(list1.
-                                get(reg), list2.get(reg))));
-                // If data out uses same register for on/off then generate AND mask for off.
-                if (pin.getDataOutOn().getOffset().equals(pin.getDataOutOff().getOffset())) {
-                    pin.getDataOutOff().setMask(pin.getDataOutOff().getMask() ^ 0xffffffff);
-                }
+                setPinRegs(pin, reg, valueDiff(values1[reg], values2[reg]), groupName, dataInOnOffset, dataInOffOffset,
+                        dataOutOnOffset, dataOutOffOffset);
             } else {
                 logger.warn(String.format("Chip %d Pin %d data register change not detected", pin.getKey().getChip(),
                         pin.getKey().getPin()));
@@ -157,6 +241,381 @@ public class Gen implements Callable<Integer> {
         }
     }
 
+    /**
+     * Number of binary coded passes needed to give count pins a unique non-zero code.
+     *
+     * @param count Number of pins.
+     * @return Number of passes.
+     */
+    public int passCount(final int count) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(count);
+    }
+
+    /**
+     * Decode binary coded passes. Pin n (0 based) is driven high in pass p when bit p of code n + 1 is set, so every register bit
+     * driven by a pin changes from the baseline in exactly the pattern of that pin's code. Bits that never change (or change in a
+     * pattern no pin uses) are ignored. A code matched by more than one bit is ambiguous and left undecoded.
+     *
+     * @param baseline Register values with all pins low.
+     * @param passes Register values for each pass.
+     * @param count Number of pins.
+     * @return Register index * 32 + bit for each pin or -1 if pin not decoded.
+     */
+    public int[] decodeBinary(final int[] baseline, final int[][] passes, final int count) {
+        final var regBit = new int[count];
+        Arrays.fill(regBit, -1);
+        final var matches = new int[count];
+        for (int reg = 0; reg < baseline.length; reg++) {
+            // Only bits that changed in some pass need to be looked at
+            var changed = 0;
+            for (final var pass : passes) {
+                changed |= pass[reg] ^ baseline[reg];
+            }
+            while (changed != 0) {
+                final var bit = Integer.numberOfTrailingZeros(changed);
+                changed &= changed - 1;
+                var code = 0;
+                for (int p = 0; p < passes.length; p++) {
+                    code |= (((passes[p][reg] ^ baseline[reg]) >>> bit) & 1) << p;
+                }
+                if (code > 0 && code <= count) {
+                    regBit[code - 1] = reg * Integer.SIZE + bit;
+                    matches[code - 1]++;
+                }
+            }
+        }
+        // Ambiguous codes are not decoded
+        for (int i = 0; i < count; i++) {
+            if (matches[i] > 1) {
+                regBit[i] = -1;
+            }
+        }
+        return regBit;
+    }
+
+    /**
+     * Set data register info for many pins at once using binary coded toggle patterns. All pins are opened as outputs and driven
+     * with log2(N) patterns, so only log2(N) + 1 snapshots are needed instead of two per pin.
+     *
+     * @param pins Pins to detect.
+     * @param mmioHandle MMIO handles.
+     * @param groupChip Chips ports are on.
+     * @param groupName Pin group names.
+     * @param dataInOnOffset Data register in on offsets.
+     * @param dataInOffOffset Data register in 0ff offsets.
+     * @param dataOutOnOffset Data register out on offsets.
+     * @param dataOutOffOffset Data register out off offsets.
+     * @param useInputDataReg Use input register instead of output register.
+     * @return Pins that were not detected.
+     */
+    public List<Pin> setDataRegBinary(final List<Pin> pins, final List<Long> mmioHandle, final List<Integer> groupChip,
+            final List<String> groupName, final List<Integer> dataInOnOffset, final List<Integer> dataInOffOffset,
+            final List<Integer> dataOutOnOffset, final List<Integer> dataOutOffOffset, final boolean useInputDataReg) {
+        final List<Integer> dataOffset;
+        // Use input data register to check for changes
+        if (useInputDataReg) {
+            dataOffset = dataInOnOffset;
+        } else {
+            dataOffset = dataOutOnOffset;
+        }
+        final List<Pin> undetected = new ArrayList<>();
+        final List<Pin> opened = new ArrayList<>();
+        final List<Gpio> gpios = new ArrayList<>();
+        try {
+            // Open all pins as outputs and start low
+            for (final var pin : pins) {
+                try {
+                    final var gpio = new Gpio(String.format("/dev/gpiochip%d", pin.getKey().getChip()), pin.getKey().getPin(),
+                            new Gpio.GpioConfig().setBias(GPIO_BIAS_DEFAULT).setDirection(GPIO_DIR_OUT).setDrive(
+                                    GPIO_DRIVE_DEFAULT).setEdge(GPIO_EDGE_NONE).setInverted(false).setLabel(cString(Gen.class.
+                                    getSimpleName())));
+                    Gpio.gpioWrite(gpio.getHandle(), false);
+                    gpios.add(gpio);
+                    opened.add(pin);
+                } catch (RuntimeException e) {
+                    logger.error(String.format("Chip %d Pin %d Error %s", pin.getKey().getChip(), pin.getKey().getPin(), e.
+                            getMessage()));
+                    undetected.add(pin);
+                }
+            }
+            final var baseline = getRegValues(mmioHandle, groupChip, dataOffset);
+            final var passes = new int[passCount(opened.size())][];
+            for (int p = 0; p < passes.length; p++) {
+                // Drive each pin with bit p of its code
+                for (int i = 0; i < gpios.size(); i++) {
+                    Gpio.gpioWrite(gpios.get(i).getHandle(), (((i + 1) >>> p) & 1) == 1);
+                }
+                passes[p] = getRegValues(mmioHandle, groupChip, dataOffset);
+            }
+            final var regBit = decodeBinary(baseline, passes, opened.size());
+            for (int i = 0; i < opened.size(); i++) {
+                if (regBit[i] >= 0) {
+                    setPinRegs(opened.get(i), regBit[i] / Integer.SIZE, 1 << (regBit[i] % Integer.SIZE), groupName,
+                            dataInOnOffset, dataInOffOffset, dataOutOnOffset, dataOutOffOffset);
+                } else {
+                    undetected.add(opened.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error(String.format("Binary detection Error %s", e.getMessage()));
+            // Let single pin detection handle everything
+            undetected.clear();
+            undetected.addAll(pins);
+        } finally {
+            gpios.forEach((gpio) -> {
+                gpio.close();
+            });
+        }
+        return undetected;
+    }
+
+    /**
+     * Set span of each chip read for configuration detection. GPIO controllers put configuration and data registers together at
+     * the start of the window with interrupt and status registers after, so by default the span ends at the highest data register
+     * rounded up to 0x100. Registers past it, which could clear on read, are never touched.
+     *
+     * @param mmioSize MMIO size for each chip.
+     * @param groupChip Chip group is on.
+     * @param dataOffsets Data register offset lists, each with one offset per group.
+     * @param end Bytes to read or 0 for default.
+     * @return Words to read for each chip.
+     */
+    public int[] setConfigSpan(final List<Long> mmioSize, final List<Integer> groupChip, final List<List<Integer>> dataOffsets,
+            final int end) {
+        configWords = new int[mmioSize.size()];
+        for (int group = 0; group < groupChip.size(); group++) {
+            final var chip = groupChip.get(group);
+            for (final var offsets : dataOffsets) {
+                final var bytes = end > 0 ? end : (offsets.get(group) + 4 + 0xff) & ~0xff;
+                configWords[chip] = Math.max(configWords[chip], (int) Math.min(bytes, mmioSize.get(chip)) / 4);
+            }
+        }
+        return configWords;
+    }
+
+    /**
+     * Read configuration span of chip registers and return copy.
+     *
+     * @param mmioHandle MMIO handles.
+     * @param chip Chip index.
+     * @return Register values.
+     */
+    public int[] getChipValues(final List<Long> mmioHandle, final int chip) {
+        if (Mmio.mmioRead32Array(mmioHandle.get(chip), 0, chipValues[chip], configWords[chip]) != Mmio.MMIO_SUCCESS) {
+            throw new RuntimeException(String.format("Unable to read chip %d registers", chip));
+        }
+        return Arrays.copyOf(chipValues[chip], configWords[chip]);
+    }
+
+    /**
+     * Return index of each word that differs in any snapshot skipping data registers, since they can change as a side effect.
+     *
+     * @param snapshots Chip register snapshots with the first as baseline.
+     * @param dataOffsets Data register offsets to skip.
+     * @return Word indexes in order, empty if no difference.
+     */
+    public List<Integer> configDiff(final int[][] snapshots, final List<Integer> dataOffsets) {
+        final List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < snapshots[0].length; i++) {
+            if (!dataOffsets.contains(i * 4)) {
+                var changed = false;
+                for (int s = 1; s < snapshots.length; s++) {
+                    changed |= snapshots[s][i] != snapshots[0][i];
+                }
+                if (changed) {
+                    indexes.add(i);
+                }
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Return raw configuration register from snapshots. Mask holds only the bits that changed and values hold whole words until
+     * widenConfig sizes the field. If more than one word changed the first is used and the others are logged.
+     *
+     * @param name Register name.
+     * @param snapshots Chip register snapshots, one for each setting.
+     * @param dataOffsets Data register offsets to skip.
+     * @return Configuration register or null if nothing changed.
+     */
+    public ConfigRegister toConfigRegister(final String name, final int[][] snapshots, final List<Integer> dataOffsets) {
+        ConfigRegister reg = null;
+        final var indexes = configDiff(snapshots, dataOffsets);
+        if (!indexes.isEmpty()) {
+            final int i = indexes.get(0);
+            if (indexes.size() > 1) {
+                logger.warn(String.format("%s changed %d registers %s, using offset 0x%02x", name, indexes.size(), indexes.stream().
+                        map(v -> String.format("0x%02x", v * 4)).collect(Collectors.toList()), i * 4));
+            }
+            var mask = 0;
+            final var values = new int[snapshots.length];
+            for (int s = 0; s < snapshots.length; s++) {
+                mask |= snapshots[s][i] ^ snapshots[0][i];
+                values[s] = snapshots[s][i];
+            }
+            reg = new ConfigRegister(name, i * 4, mask, values);
+        }
+        return reg;
+    }
+
+    /**
+     * Return drive register or null if it's really the mode register. gpiolib emulates open drain and open source by switching
+     * direction on most SoCs, so the drive settings change mode bits.
+     *
+     * @param drive Drive register or null.
+     * @param mode Mode register or null.
+     * @return Drive register or null.
+     */
+    public ConfigRegister checkDrive(final ConfigRegister drive, final ConfigRegister mode) {
+        var reg = drive;
+        if (drive != null && mode != null && drive.getOffset().equals(mode.getOffset()) && (drive.getMask() & mode.getMask()) != 0) {
+            logger.warn(String.format("Drive changed mode register offset 0x%02x, so drive is emulated", drive.getOffset()));
+            reg = null;
+        }
+        return reg;
+    }
+
+    /**
+     * Detect mode, pull and drive registers for a pin whose data registers are known. Each setting is made with gpiod and the whole
+     * chip is compared. Settings the kernel or hardware do not support leave the register null.
+     *
+     * @param pin Pin DTO.
+     * @param mmioHandle MMIO handles.
+     * @param chip Chip index of pin's group.
+     * @param dataOffsets Data register offsets to skip.
+     */
+    public void setConfigRegs(final Pin pin, final List<Long> mmioHandle, final int chip, final List<Integer> dataOffsets) {
+        final var dev = String.format("/dev/gpiochip%d", pin.getKey().getChip());
+        try (final var gpio = new Gpio(dev, pin.getKey().getPin(), new Gpio.GpioConfig().setBias(GPIO_BIAS_DEFAULT).
+                setDirection(GPIO_DIR_IN).setDrive(GPIO_DRIVE_DEFAULT).setEdge(GPIO_EDGE_NONE).setInverted(false).setLabel(cString(
+                Gen.class.getSimpleName())))) {
+            final var handle = gpio.getHandle();
+            // Mode in, out
+            final var mode = new int[2][];
+            mode[0] = getChipValues(mmioHandle, chip);
+            Gpio.gpioSetDirection(handle, GPIO_DIR_OUT);
+            mode[1] = getChipValues(mmioHandle, chip);
+            pin.setMode(toConfigRegister("MODE", mode, dataOffsets));
+            // Drive push-pull, open drain, open source
+            final var drive = new int[3][];
+            drive[0] = getChipValues(mmioHandle, chip);
+            Gpio.gpioSetDrive(handle, GPIO_DRIVE_OPEN_DRAIN);
+            drive[1] = getChipValues(mmioHandle, chip);
+            Gpio.gpioSetDrive(handle, GPIO_DRIVE_OPEN_SOURCE);
+            drive[2] = getChipValues(mmioHandle, chip);
+            Gpio.gpioSetDrive(handle, GPIO_DRIVE_DEFAULT);
+            pin.setDrive(checkDrive(toConfigRegister("DRIVE", drive, dataOffsets), pin.getMode()));
+            // Pull disable, up, down
+            Gpio.gpioSetDirection(handle, GPIO_DIR_IN);
+            final var pull = new int[3][];
+            Gpio.gpioSetBias(handle, GPIO_BIAS_DISABLE);
+            pull[0] = getChipValues(mmioHandle, chip);
+            Gpio.gpioSetBias(handle, GPIO_BIAS_PULL_UP);
+            pull[1] = getChipValues(mmioHandle, chip);
+            Gpio.gpioSetBias(handle, GPIO_BIAS_PULL_DOWN);
+            pull[2] = getChipValues(mmioHandle, chip);
+            pin.setPull(toConfigRegister("PULL", pull, dataOffsets));
+        } catch (RuntimeException e) {
+            logger.error(String.format("Chip %d Pin %d Error %s", pin.getKey().getChip(), pin.getKey().getPin(), e.getMessage()));
+        }
+    }
+
+    /**
+     * Return field width in bits. Lines sharing a register have fields spaced by the width, so the smallest bit distance per line is
+     * used. The bits that changed for one pin can be narrower than its field (mode 0 to 1 only changes 1 bit), so a register with
+     * only one pin can't be sized on its own.
+     *
+     * @param lines Pin lines.
+     * @param masks Changed bits for each pin.
+     * @return Field width or 0 if unknown.
+     */
+    public int fieldWidth(final int[] lines, final int[] masks) {
+        var width = 0;
+        for (int i = 0; i < lines.length; i++) {
+            for (int j = 0; j < lines.length; j++) {
+                final var lineGap = lines[j] - lines[i];
+                final var bitGap = Integer.numberOfTrailingZeros(masks[j]) - Integer.numberOfTrailingZeros(masks[i]);
+                if (lineGap > 0 && bitGap > 0 && bitGap % lineGap == 0 && (width == 0 || bitGap / lineGap < width)) {
+                    width = bitGap / lineGap;
+                }
+            }
+        }
+        return width;
+    }
+
+    /**
+     * Return mask of whole field containing changed bits. Fields are assumed to be aligned to their width.
+     *
+     * @param mask Changed bits.
+     * @param width Field width.
+     * @return Field mask.
+     */
+    public int fieldMask(final int mask, final int width) {
+        final var lowest = Integer.numberOfTrailingZeros(mask);
+        int field;
+        if (width >= Integer.SIZE) {
+            field = 0xffffffff;
+        } else {
+            field = ((1 << width) - 1) << (lowest - lowest % width);
+        }
+        return field;
+    }
+
+    /**
+     * Size configuration register masks to whole fields and mask values, so writing a setting also clears bits left by alternate
+     * functions. A register whose width can't be worked out from its own pins uses the width found for the other registers of the
+     * same kind (32 / pins per register), preferring the same chip. If no register of that kind can be sized detection fails for
+     * it and the register is cleared.
+     *
+     * @param pins Pins with raw configuration registers.
+     * @param getter Configuration register getter.
+     * @param setter Configuration register setter.
+     */
+    public void widenConfig(final List<Pin> pins, final Function<Pin, ConfigRegister> getter,
+            final BiConsumer<Pin, ConfigRegister> setter) {
+        // Group pins by chip and register offset
+        final Map<Long, List<Pin>> byReg = new TreeMap<>();
+        pins.stream().filter((pin) -> getter.apply(pin) != null).forEach((pin) -> {
+            byReg.computeIfAbsent(((long) pin.getKey().getChip() << Integer.SIZE) | getter.apply(pin).getOffset(),
+                    k -> new ArrayList<>()).add(pin);
+        });
+        // Widths of registers with enough pins, by chip
+        final Map<Long, Integer> widths = new TreeMap<>();
+        final Map<Integer, Integer> chipWidths = new TreeMap<>();
+        byReg.forEach((key, group) -> {
+            final var width = fieldWidth(group.stream().mapToInt((pin) -> pin.getKey().getPin()).toArray(), group.stream().mapToInt(
+                    (pin) -> getter.apply(pin).getMask()).toArray());
+            if (width > 0) {
+                widths.put(key, width);
+                chipWidths.putIfAbsent((int) (key >>> Integer.SIZE), width);
+            }
+        });
+        for (final var entry : byReg.entrySet()) {
+            final var group = entry.getValue();
+            var width = widths.getOrDefault(entry.getKey(), chipWidths.getOrDefault((int) (entry.getKey() >>> Integer.SIZE), 0));
+            if (width == 0 && !chipWidths.isEmpty()) {
+                width = chipWidths.values().iterator().next();
+            }
+            if (width == 0) {
+                final var reg = getter.apply(group.get(0));
+                logger.error(String.format("Unable to determine field width of %s register offset 0x%x", reg.getName(), reg.
+                        getOffset()));
+                group.forEach((pin) -> setter.accept(pin, null));
+            } else {
+                for (final var pin : group) {
+                    final var reg = getter.apply(pin);
+                    final var mask = fieldMask(reg.getMask(), width);
+                    reg.setMask(mask);
+                    final var values = reg.getValues();
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] &= mask;
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Detect changes made by GPIO at register level.
      *
@@ -176,13 +635,44 @@ public class Gen implements Callable<Integer> {
                 final var mmio = new Mmio(file.getChips().get(i), file.getMmioSize().get(i), file.getMemPath());
                 mmioHandle.add(mmio.getHandle());
             }
+            allocChipValues(file.getMmioSize());
+            List<Pin> pins = new ArrayList<>(pinMap.values());
+            // Detect all pins at once and fall back to one pin at a time for pins that could not be decoded
+            if (binary) {
+                pins = setDataRegBinary(pins, mmioHandle, file.getGroupChip(), file.getGroupName(), file.getDataInOnOffset(), file.
+                        getDataInOffOffset(), file.getDataOutOnOffset(), file.getDataOutOffOffset(), file.isUseInputDataReg());
+                logger.info(String.format("Binary detection decoded %d of %d pins", pinMap.size() - pins.size(), pinMap.size()));
+            }
             // Set register offset and mask for each pin
-            pinMap.entrySet().stream().map((entry) -> entry.getValue()).forEachOrdered((value) -> {
+            pins.forEach((value) -> {
                 setDataReg(value, mmioHandle, file.getGroupChip(), file.getGroupName(), file.getDataInOnOffset(), file.
                         getDataInOffOffset(), file.getDataOutOnOffset(), file.getDataOutOffOffset(), file.isUseInputDataReg());
             });
+            // Detect configuration registers for pins with known data registers
+            if (config) {
+                final List<Integer> dataOffsets = new ArrayList<>();
+                dataOffsets.addAll(file.getDataInOnOffset());
+                dataOffsets.addAll(file.getDataInOffOffset());
+                dataOffsets.addAll(file.getDataOutOnOffset());
+                dataOffsets.addAll(file.getDataOutOffOffset());
+                setConfigSpan(file.getMmioSize(), file.getGroupChip(), List.of(file.getDataInOnOffset(), file.getDataInOffOffset(),
+                        file.getDataOutOnOffset(), file.getDataOutOffOffset()), configEnd);
+                final var detected = new ArrayList<Pin>();
+                pinMap.values().stream().filter((value) -> value.getGroupName() != null).forEach((value) -> {
+                    setConfigRegs(value, mmioHandle, file.getGroupChip().get(file.getGroupName().indexOf(value.getGroupName())),
+                            dataOffsets);
+                    detected.add(value);
+                });
+                widenConfig(detected, Pin::getMode, Pin::setMode);
+                widenConfig(detected, Pin::getPull, Pin::setPull);
+                widenConfig(detected, Pin::getDrive, Pin::setDrive);
+            }
             // Generate properties file
             file.genProperties(pinMap, inFileName, outFileName);
+            // Generate Java pin map class
+            if (javaFileName != null) {
+                file.genJava(pinMap, packageName, javaFileName);
+            }
             // Close MMIO for each handle
             mmioHandle.forEach((handle) -> {
                 Mmio.mmioClose(handle);
@@ -200,6 +690,7 @@ public class Gen implements Callable<Integer> {
      * @param args Argument list.
      */
     public static void main(String... args) {
-        System.exit(new CommandLine(new Gen()).execute(args));
+        System.exit(new CommandLine(new Gen()).registerConverter(Integer.class, Integer::decode).registerConverter(Integer.TYPE,
+                Integer::decode).execute(args));
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import org.apache.logging.log4j.LogManager;
+import picocli.CommandLine;
+
+/**
+ * Generate Java pin map class from existing pin map property file. No hardware is accessed, so this can run on any machine.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@CommandLine.Command(name = "genjava", mixinStandardHelpOptions = true, version = "genjava 1.0.0",
+        description = "Generate Java pin map class from pin map property file")
+public class GenJava implements Callable<Integer> {
+
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(GenJava.class);
+    /**
+     * Input file.
+     */
+    @CommandLine.Option(names = {"-i", "--in"}, description = "Input pin map property file name")
+    private String inFileName = "duo-map.properties";
+    /**
+     * Output file.
+     */
+    @CommandLine.Option(names = {"-o", "--out"}, description = "Output Java file name")
+    private String outFileName = "DuoPins.java";
+    /**
+     * Java package.
+     */
+    @CommandLine.Option(names = {"-p", "--package"}, description = "Package of Java pin map class")
+    private String packageName = "com.codeferm.periphery.mmio.board";
+
+    /**
+     * Load pin map and generate Java class.
+     *
+     * @return Exit code.
+     */
+    @Override
+    public Integer call() {
+        var exitCode = 0;
+        final var file = new File();
+        final Map<PinKey, Pin> pinMap = file.loadPinMap(inFileName);
+        // Make sure we have pins loaded
+        if (!pinMap.isEmpty()) {
+            file.genJava(pinMap, packageName, outFileName);
+        } else {
+            logger.error("Pin map empty. Make sure you have a valid property file.");
+            exitCode = 1;
+        }
+        return exitCode;
+    }
+
+    /**
+     * Main parsing, error handling and handling user requests for usage help or version help are done with one line of code.
+     *
+     * @param args Argument list.
+     */
+    public static void main(String... args) {
+        System.exit(new CommandLine(new GenJava()).execute(args));
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio;
+
+import com.codeferm.periphery.Gpio;
+import static com.codeferm.periphery.Gpio.GPIO_DIR_IN;
+import static com.codeferm.periphery.Gpio.GPIO_DIR_OUT;
+import static com.codeferm.periphery.Gpio.GPIO_EDGE_BOTH;
+import static com.codeferm.periphery.Gpio.GPIO_EDGE_NONE;
+import static com.codeferm.periphery.Gpio.GPIO_POLL_EVENT;
+import com.codeferm.periphery.Mmio;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import org.apache.logging.log4j.LogManager;
+import picocli.CommandLine;
+
+/**
+ * Input change latency using gpiod edge events compared to MMIO busy polling. Wire the output pin to the input pin. The output is
+ * toggled with MMIO and the time until the change is seen on the input is measured for each method.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@CommandLine.Command(name = "latency", mixinStandardHelpOptions = true, version = "latency 1.0.0",
+        description = "Compare gpiod event and MMIO spin input latency")
+public class Latency implements Callable<Integer> {
+
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(Latency.class);
+    /**
+     * Input file.
+     */
+    @CommandLine.Option(names = {"-i", "--in"}, description = "Input property file name")
+    private String inFileName = "duo-map.properties";
+    /**
+     * Output device option.
+     */
+    @CommandLine.Option(names = {"-d", "--device"}, description = "Output GPIO device defaults to 0")
+    private int device = 0;
+    /**
+     * Output line option.
+     */
+    @CommandLine.Option(names = {"-l", "--line"}, description = "Output GPIO line defaults to 203 IOG11 for NanoPi Duo")
+    private int line = 203;
+    /**
+     * Input device option.
+     */
+    @CommandLine.Option(names = {"-e", "--in-device"}, description = "Input GPIO device defaults to 0")
+    private int inDevice = 0;
+    /**
+     * Input line option.
+     */
+    @CommandLine.Option(names = {"-n", "--in-line"}, description = "Input GPIO line defaults to 198 IOG6 for NanoPi Duo")
+    private int inLine = 198;
+    /**
+     * Samples option.
+     */
+    @CommandLine.Option(names = {"-s", "--samples"}, description = "Samples for each method defaults to 1000")
+    private int samples = 1000;
+    /**
+     * Timeout option.
+     */
+    @CommandLine.Option(names = {"-t", "--timeout"}, description = "Timeout in milliseconds defaults to 1000")
+    private int timeout = 1000;
+
+    /**
+     * Log latency statistics.
+     *
+     * @param name Method name.
+     * @param latency Latency in nanoseconds (sorted in place).
+     * @param count Number of valid samples.
+     */
+    public void logStats(final String name, final long[] latency, final int count) {
+        if (count > 0) {
+            Arrays.sort(latency, 0, count);
+            final var avg = Arrays.stream(latency, 0, count).average().orElse(0);
+            logger.info(String.format("%-14s samples %d min %.2f us avg %.2f us p50 %.2f us p99 %.2f us max %.2f us", name, count,
+                    latency[0] / 1000.0, avg / 1000.0, latency[count / 2] / 1000.0, latency[(int) (count * 0.99)] / 1000.0,
+                    latency[count - 1] / 1000.0));
+        } else {
+            logger.warn(String.format("%s no samples, check wiring", name));
+        }
+    }
+
+    /**
+     * Measure gpiod edge event latency.
+     *
+     * @param perf Used for MMIO write.
+     * @param out Output pin.
+     * @param in Input GPIO.
+     * @return Latency for each sample.
+     */
+    public long[] gpiodLatency(final Perf perf, final Pin out, final Gpio in) {
+        final var latency = new long[samples];
+        final var edge = new int[1];
+        final var timestamp = new long[1];
+        var count = 0;
+        var level = false;
+        Gpio.gpioSetEdge(in.getHandle(), GPIO_EDGE_BOTH);
+        for (int i = 0; i < samples; i++) {
+            level = !level;
+            final var start = System.nanoTime();
+            perf.write(out, level);
+            if (Gpio.gpioPoll(in.getHandle(), timeout) == GPIO_POLL_EVENT) {
+                Gpio.gpioReadEvent(in.getHandle(), edge, timestamp);
+                latency[count++] = System.nanoTime() - start;
+            }
+        }
+        Gpio.gpioSetEdge(in.getHandle(), GPIO_EDGE_NONE);
+        return Arrays.copyOf(latency, count);
+    }
+
+    /**
+     * Measure MMIO spin latency on calling thread.
+     *
+     * @param perf Used for MMIO write.
+     * @param out Output pin.
+     * @param in Input pin.
+     * @return Latency for each sample.
+     */
+    public long[] spinLatency(final Perf perf, final Pin out, final Pin in) {
+        final var latency = new long[samples];
+        final var timeoutNs = timeout * 1000000L;
+        var count = 0;
+        var level = false;
+        for (int i = 0; i < samples; i++) {
+            level = !level;
+            final var start = System.nanoTime();
+            perf.write(out, level);
+            // Spin until input matches output or timeout
+            while (perf.read(in) != level && System.nanoTime() - start < timeoutNs) {
+            }
+            final var elapsed = System.nanoTime() - start;
+            if (elapsed < timeoutNs) {
+                latency[count++] = elapsed;
+            }
+        }
+        return Arrays.copyOf(latency, count);
+    }
+
+    /**
+     * Measure SpinDetector latency including hand off from detector thread through ring.
+     *
+     * @param perf Used for MMIO write.
+     * @param out Output pin.
+     * @param in Input pin.
+     * @return Latency for each sample.
+     * @throws InterruptedException Possible exception.
+     */
+    public long[] detectorLatency(final Perf perf, final Pin out, final Pin in) throws InterruptedException {
+        final var latency = new long[samples];
+        final var timeoutNs = timeout * 1000000L;
+        final var ring = new ChangeRing(64);
+        final var detector = new SpinDetector(List.of(in), ring);
+        final var thread = new Thread(detector, "spin-detector");
+        final long[] seen = new long[1];
+        final ChangeRing.Consumer consumer = (pin, oldLevel, newLevel, timestamp) -> {
+            seen[0] = System.nanoTime();
+        };
+        var count = 0;
+        var level = false;
+        thread.start();
+        // Let detector read initial state
+        while (detector.getPolls() == 0) {
+            Thread.onSpinWait();
+        }
+        for (int i = 0; i < samples; i++) {
+            level = !level;
+            final var start = System.nanoTime();
+            perf.write(out, level);
+            while (!ring.poll(consumer) && System.nanoTime() - start < timeoutNs) {
+                Thread.onSpinWait();
+            }
+            if (seen[0] - start > 0) {
+                latency[count++] = seen[0] - start;
+            }
+        }
+        detector.stop();
+        thread.join();
+        return Arrays.copyOf(latency, count);
+    }
+
+    /**
+     * Read pin map properties and run latency tests.
+     *
+     * @return Exit code.
+     * @throws InterruptedException Possible exception.
+     */
+    @Override
+    public Integer call() throws InterruptedException {
+        var exitCode = 0;
+        final var file = new File();
+        final var pinTable = file.loadPinTable(inFileName);
+        final var out = pinTable.get(device, line);
+        final var in = pinTable.get(inDevice, inLine);
+        if (out != null && in != null) {
+            final Map<Integer, Long> mmioHandle = new HashMap<>();
+            // Open MMIO for each chip
+            for (int i = 0; i < file.getChips().size(); i++) {
+                final var mmio = new Mmio(file.getChips().get(i), file.getMmioSize().get(i), file.getMemPath());
+                mmioHandle.put(file.getGpioDev().get(i), mmio.getHandle());
+            }
+            out.setMmioHadle(mmioHandle.get(out.getKey().getChip()));
+            in.setMmioHadle(mmioHandle.get(in.getKey().getChip()));
+            final var perf = new Perf();
+            try (final var outGpio = new Gpio(String.format("/dev/gpiochip%d", device), line, GPIO_DIR_OUT); final var inGpio
+                    = new Gpio(String.format("/dev/gpiochip%d", inDevice), inLine, GPIO_DIR_IN)) {
+                // Each test starts by driving high, so start low or the first edge is lost
+                Gpio.gpioWrite(outGpio.getHandle(), false);
+                var latency = gpiodLatency(perf, out, inGpio);
+                logStats("gpiod event", latency, latency.length);
+                Gpio.gpioWrite(outGpio.getHandle(), false);
+                latency = spinLatency(perf, out, in);
+                logStats("MMIO spin", latency, latency.length);
+                Gpio.gpioWrite(outGpio.getHandle(), false);
+                latency = detectorLatency(perf, out, in);
+                logStats("SpinDetector", latency, latency.length);
+            } catch (RuntimeException e) {
+                logger.error(e.getMessage());
+                exitCode = 1;
+            }
+            // Close all MMIO handles
+            mmioHandle.entrySet().forEach((entry) -> {
+                Mmio.mmioClose(entry.getValue());
+            });
+        } else {
+            logger.error("Output or input pin not found in pin map.");
+            exitCode = 1;
+        }
+        return exitCode;
+    }
+
+    /**
+     * Main parsing, error handling and handling user requests for usage help or version help are done with one line of code.
+     *
+     * @param args Argument list.
+     */
+    public static void main(String... args) {
+        System.exit(new CommandLine(new Latency()).execute(args));
+    }
+}
@@ -14,8 +14,7 @@ import static com.codeferm.periphery.Gpio.GPIO_DIR_OUT;
 import static com.codeferm.periphery.Gpio.GPIO_DRIVE_DEFAULT;
 import static com.codeferm.periphery.Gpio.GPIO_EDGE_NONE;
 import com.codeferm.periphery.Mmio;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.concurrent.Callable;
 import org.apache.logging.log4j.LogManager;
 import picocli.CommandLine;
@@ -65,39 +64,43 @@ public class MemScan implements Callable<Integer> {
     private int line = 1;
 
     /**
-     * Return values from all registers.
+     * Return values from all registers. The whole range is read with one native call.
      *
      * @param mmioHandle MMIO handle.
-     * @return List of register values.
+     * @return Array of register values.
      */
-    public List<Integer> getRegValues(final Long mmioHandle) {
-        final var list = new ArrayList<Integer>();
-        final var value = new int[1];
-        for (long i = 0; i < words; i++) {
-            Mmio.mmioRead32(mmioHandle, i * 4, value);
-            list.add(value[0]);
+    public int[] getRegValues(final long mmioHandle) {
+        final var values = new int[(int) words];
+        if (Mmio.mmioRead32Array(mmioHandle, 0, values, values.length) != Mmio.MMIO_SUCCESS) {
+            throw new RuntimeException(String.format("Unable to read %d words", values.length));
         }
-        return list;
+        return values;
     }
 
     /**
-     * Compare list values and log difference.
+     * Compare array values and log difference. Arrays.mismatch is used to skip over equal ranges since it's vectorized by the JIT.
      *
-     * @param list1 First list.
-     * @param list2 Second list.
+     * @param values1 First array.
+     * @param values2 Second array.
      * @param text Description text.
      */
-    public void listDiff(final List<Integer> list1, final List<Integer> list2, final String text) {
-        for (int i = 0; i < list1.size(); i++) {
-            if (!list1.get(i).equals(list2.get(i))) {
-                int diff;
-                if (list1.get(i) > list2.get(i)) {
-                    diff = list1.get(i) - list2.get(i);
-                } else {
-                    diff = list2.get(i) - list1.get(i);
-                }
-                logger.info(String.format("%s difference found at offset 0x%08x before 0x%08x after 0x%08x difference 0x%08x", text,
-                        i * 4, list1.get(i), list2.get(i), diff));
+    public void listDiff(final int[] values1, final int[] values2, final String text) {
+        var i = Arrays.mismatch(values1, values2);
+        while (i >= 0) {
+            int diff;
+            if (values1[i] > values2[i]) {
+                diff = values1[i] - values2[i];
+            } else {
+                diff = values2[i] - values1[i];
+            }
+            logger.info(String.format("%s difference found at offset 0x%08x before 0x%08x after 0x%08x difference 0x%08x", text,
+                    i * 4, values1[i], values2[i], diff));
+            // Find next difference after this one
+            final var next = Arrays.mismatch(values1, i + 1, values1.length, values2, i + 1, values2.length);
+            if (next >= 0) {
+                i += next + 1;
+            } else {
+                i = -1;
             }
         }
     }
@@ -113,11 +116,11 @@ public class MemScan implements Callable<Integer> {
         try (final var gpio = new Gpio(dev, line, new Gpio.GpioConfig().setBias(GPIO_BIAS_DEFAULT).setDirection(GPIO_DIR_IN).setDrive(
                 GPIO_DRIVE_DEFAULT).setEdge(GPIO_EDGE_NONE).setInverted(false).setLabel(cString(
                 MemScan.class.getSimpleName())))) {
-            final var list1 = getRegValues(mmioHandle);
+            final var values1 = getRegValues(mmioHandle);
             Gpio.gpioSetDirection(gpio.getHandle(), GPIO_DIR_OUT);
-            final var list2 = getRegValues(mmioHandle);
+            final var values2 = getRegValues(mmioHandle);
             // Show the register delta
-            listDiff(list1, list2, "Mode");
+            listDiff(values1, values2, "Mode");
         } catch (RuntimeException e) {
             logger.error(String.format("Device %d line %d Error %s", device, line, e.getMessage()));
         }
@@ -135,11 +138,11 @@ public class MemScan implements Callable<Integer> {
                 GPIO_DRIVE_DEFAULT).setEdge(GPIO_EDGE_NONE).setInverted(false).setLabel(cString(
                 MemScan.class.getSimpleName())))) {
             Gpio.gpioWrite(gpio.getHandle(), false);
-            final var list1 = getRegValues(mmioHandle);
+            final var values1 = getRegValues(mmioHandle);
             Gpio.gpioWrite(gpio.getHandle(), true);
-            final var list2 = getRegValues(mmioHandle);
+            final var values2 = getRegValues(mmioHandle);
             // Show the register delta
-            listDiff(list1, list2, "Data");
+            listDiff(values1, values2, "Data");
         } catch (RuntimeException e) {
             logger.error(String.format("Device %d line %d Error %s", device, line, e.getMessage()));
         }
@@ -156,16 +159,16 @@ public class MemScan implements Callable<Integer> {
         try (final var gpio = new Gpio(dev, line, new Gpio.GpioConfig().setBias(GPIO_BIAS_DISABLE).setDirection(GPIO_DIR_IN).setDrive(
                 GPIO_DRIVE_DEFAULT).setEdge(GPIO_EDGE_NONE).setInverted(false).setLabel(cString(
                 MemScan.class.getSimpleName())))) {
-            var list1 = getRegValues(mmioHandle);
+            var values1 = getRegValues(mmioHandle);
             Gpio.gpioSetBias(gpio.getHandle(), GPIO_BIAS_PULL_UP);
-            var list2 = getRegValues(mmioHandle);
+            var values2 = getRegValues(mmioHandle);
             // Show the register delta
-            listDiff(list1, list2, "Pull up");
-            list1 = getRegValues(mmioHandle);
+            listDiff(values1, values2, "Pull up");
+            values1 = getRegValues(mmioHandle);
             Gpio.gpioSetBias(gpio.getHandle(), GPIO_BIAS_PULL_DOWN);
-            list2 = getRegValues(mmioHandle);
+            values2 = getRegValues(mmioHandle);
             // Show the register delta
-            listDiff(list1, list2, "Pull down");
+            listDiff(values1, values2, "Pull down");
         } catch (RuntimeException e) {
             logger.error(String.format("Device %d line %d Error %s", device, line, e.getMessage()));
         }
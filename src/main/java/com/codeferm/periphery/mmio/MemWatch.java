@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio;
+
+import com.codeferm.periphery.Mmio;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.LogManager;
+import picocli.CommandLine;
+
+/**
+ * Watch a register range continuously and stream changes. A poller snapshots the range at a fixed rate and puts a record for
+ * each changed word in a ring. A separate thread drains the ring to the log and optional memory mapped change log, so you can
+ * change pins with gpiod tools or another program and see which registers move in one pass.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@CommandLine.Command(name = "memwatch", mixinStandardHelpOptions = true, version = "memwatch 1.0.0",
+        description = "Watch memory range and log changes")
+public class MemWatch implements Callable<Integer> {
+
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(MemWatch.class);
+    /**
+     * MMIO path.
+     */
+    @CommandLine.Option(names = {"-p", "--path"}, description = "Path defaults to /dev/mem")
+    private String path = "/dev/mem";
+    /**
+     * Memory address.
+     */
+    @CommandLine.Option(names = {"-a", "--address"}, description = "Memory address defaults to 0x00")
+    private long address = 0x00;
+    /**
+     * Memory size to watch.
+     */
+    @CommandLine.Option(names = {"-w", "--words"}, description = "32 bit words to watch defaults to 0x01")
+    private long words = 0x01;
+    /**
+     * Poll rate.
+     */
+    @CommandLine.Option(names = {"-r", "--rate"}, description = "Polls per second defaults to 1000")
+    private long rate = 1000;
+    /**
+     * Watch duration.
+     */
+    @CommandLine.Option(names = {"-s", "--seconds"}, description = "Seconds to watch defaults to 10, 0 to watch until killed")
+    private long seconds = 10;
+    /**
+     * Ring capacity.
+     */
+    @CommandLine.Option(names = {"-c", "--capacity"}, description = "Change ring capacity defaults to 65536")
+    private int capacity = 65536;
+    /**
+     * Change log file.
+     */
+    @CommandLine.Option(names = {"-f", "--file"}, description = "Optional memory mapped change log file")
+    private String logFileName;
+    /**
+     * Change log records.
+     */
+    @CommandLine.Option(names = {"-n", "--records"}, description = "Change log records defaults to 1000000")
+    private int records = 1000000;
+    /**
+     * Stop flag for drain thread.
+     */
+    private volatile boolean stopped;
+
+    /**
+     * Read all registers into values with one native call.
+     *
+     * @param mmioHandle MMIO handle.
+     * @param values Array sized to words.
+     */
+    public void read(final long mmioHandle, final int[] values) {
+        if (Mmio.mmioRead32Array(mmioHandle, 0, values, values.length) != Mmio.MMIO_SUCCESS) {
+            throw new RuntimeException(String.format("Unable to read %d words", values.length));
+        }
+    }
+
+    /**
+     * Offer a record for every word that differs and copy new values to previous.
+     *
+     * @param previous Last values seen.
+     * @param current Values just read.
+     * @param time Nanoseconds since watch started.
+     * @param ring Change ring.
+     * @return Number of changed words.
+     */
+    public int scan(final int[] previous, final int[] current, final long time, final ChangeRing ring) {
+        var changes = 0;
+        var i = Arrays.mismatch(previous, current);
+        while (i >= 0) {
+            ring.offer(i * 4, previous[i], current[i], time);
+            previous[i] = current[i];
+            changes++;
+            // Find next difference after this one
+            final var next = Arrays.mismatch(previous, i + 1, previous.length, current, i + 1, current.length);
+            if (next >= 0) {
+                i += next + 1;
+            } else {
+                i = -1;
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Poll at fixed rate until deadline. Sleeps are to absolute times, so slow reads don't make the rate drift.
+     *
+     * @param mmioHandle MMIO handle.
+     * @param ring Change ring.
+     * @return Number of polls.
+     */
+    public long watch(final long mmioHandle, final ChangeRing ring) {
+        final var previous = new int[(int) words];
+        final var current = new int[(int) words];
+        read(mmioHandle, previous);
+        final var period = TimeUnit.SECONDS.toNanos(1) / rate;
+        final var start = System.nanoTime();
+        final var end = seconds > 0 ? start + TimeUnit.SECONDS.toNanos(seconds) : Long.MAX_VALUE;
+        var polls = 0L;
+        var next = start;
+        while (next - end < 0) {
+            read(mmioHandle, current);
+            scan(previous, current, System.nanoTime() - start, ring);
+            polls++;
+            next += period;
+            final var delay = next - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+        }
+        return polls;
+    }
+
+    /**
+     * Drain ring to log and optional change log until stopped.
+     *
+     * @param ring Change ring.
+     * @param changeLog Change log or null.
+     */
+    public void drain(final ChangeRing ring, final ChangeLog changeLog) {
+        final ChangeRing.Consumer consumer = (offset, oldValue, newValue, timestamp) -> {
+            logger.info(String.format("%.6f offset 0x%08x before 0x%08x after 0x%08x", timestamp / 1e9, offset, oldValue, newValue));
+            if (changeLog != null) {
+                changeLog.accept(offset, oldValue, newValue, timestamp);
+            }
+        };
+        while (!stopped) {
+            if (ring.drain(consumer) == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+            }
+        }
+        // Get anything left after poller stopped
+        ring.drain(consumer);
+    }
+
+    /**
+     * Watch memory and log changes.
+     *
+     * @return Exit code.
+     * @throws InterruptedException Possible exception.
+     */
+    @Override
+    public Integer call() throws InterruptedException {
+        var exitCode = 0;
+        logger.debug(String.format("Memory address 0x%08x words 0x%08x rate %d", address, words, rate));
+        final var ring = new ChangeRing(capacity);
+        ChangeLog changeLog = null;
+        try (final var mmio = new Mmio(address, words * 4, path)) {
+            if (logFileName != null) {
+                changeLog = new ChangeLog(logFileName, records);
+            }
+            final var log = changeLog;
+            final var drainThread = new Thread(() -> drain(ring, log), "memwatch-drain");
+            drainThread.start();
+            long polls;
+            try {
+                polls = watch(mmio.getHandle(), ring);
+            } finally {
+                stopped = true;
+                drainThread.join();
+            }
+            logger.info(String.format("%d polls, %d changes dropped by ring", polls, ring.getDropped()));
+            if (changeLog != null) {
+                logger.info(String.format("%d changes logged to %s, %d dropped", changeLog.getCount(), logFileName, changeLog.
+                        getDropped()));
+            }
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage());
+            exitCode = 1;
+        } finally {
+            if (changeLog != null) {
+                changeLog.close();
+            }
+        }
+        return exitCode;
+    }
+
+    /**
+     * Main parsing, error handling and handling user requests for usage help or version help are done with one line of code.
+     *
+     * @param args Argument list.
+     */
+    public static void main(String... args) {
+        System.exit(new CommandLine(new MemWatch()).registerConverter(Long.class, Long::decode).registerConverter(Long.TYPE,
+                Long::decode).execute(args));
+    }
+}
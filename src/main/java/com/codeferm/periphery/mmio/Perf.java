@@ -188,10 +188,10 @@ public class Perf implements Callable<Integer> {
     public Integer call() throws InterruptedException {
         var exitCode = 0;
         final var file = new File();
-        // Build pin Map
-        final Map<PinKey, Pin> pinMap = file.loadPinMap(inFileName);
+        // Build pin table
+        final var pinTable = file.loadPinTable(inFileName);
         // Make sure we have pins loaded
-        if (!pinMap.isEmpty()) {
+        if (!pinTable.isEmpty()) {
             // MMIO handle map based on GPIO dev key
             final Map<Integer, Long> mmioHandle = new HashMap<>();
             // Open MMIO for each chip
@@ -200,10 +200,10 @@ public class Perf implements Callable<Integer> {
                 mmioHandle.put(file.getGpioDev().get(i), mmio.getHandle());
             }
             // Set MMIO handle for each pin
-            pinMap.entrySet().forEach((entry) -> {
-                entry.getValue().setMmioHadle(mmioHandle.get(entry.getKey().getChip()));
+            pinTable.getPins().forEach((value) -> {
+                value.setMmioHadle(mmioHandle.get(value.getKey().getChip()));
             });
-            final var pin = pinMap.get(new PinKey(device, line));
+            final var pin = pinTable.get(device, line);
             perfGpiod(pin, 10000000);
             perfGood(pin, 10000000);
             perfBest(pin, 10000000);
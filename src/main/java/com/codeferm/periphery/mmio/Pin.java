@@ -42,6 +42,18 @@ public class Pin {
      * Pin data output off register.
      */
     private Register dataOutOff;
+    /**
+     * Pin mode (direction) register field or null if not detected.
+     */
+    private ConfigRegister mode;
+    /**
+     * Pin pull (bias) register field or null if not detected.
+     */
+    private ConfigRegister pull;
+    /**
+     * Pin drive register field or null if not detected.
+     */
+    private ConfigRegister drive;
     /**
      * MMIO handle.
      */
@@ -158,6 +170,33 @@ public class Pin {
         return this;
     }
 
+    public ConfigRegister getMode() {
+        return mode;
+    }
+
+    public Pin setMode(ConfigRegister mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    public ConfigRegister getPull() {
+        return pull;
+    }
+
+    public Pin setPull(ConfigRegister pull) {
+        this.pull = pull;
+        return this;
+    }
+
+    public ConfigRegister getDrive() {
+        return drive;
+    }
+
+    public Pin setDrive(ConfigRegister drive) {
+        this.drive = drive;
+        return this;
+    }
+
     public long getMmioHadle() {
         return mmioHadle;
     }
@@ -182,6 +221,9 @@ public class Pin {
         hash = 83 * hash + Objects.hashCode(this.dataInOff);
         hash = 83 * hash + Objects.hashCode(this.dataOutOn);
         hash = 83 * hash + Objects.hashCode(this.dataOutOff);
+        hash = 83 * hash + Objects.hashCode(this.mode);
+        hash = 83 * hash + Objects.hashCode(this.pull);
+        hash = 83 * hash + Objects.hashCode(this.drive);
         hash = 83 * hash + (int) (this.mmioHadle ^ (this.mmioHadle >>> 32));
         return hash;
     }
@@ -228,6 +270,15 @@ public class Pin {
         if (!Objects.equals(this.dataOutOff, other.dataOutOff)) {
             return false;
         }
+        if (!Objects.equals(this.mode, other.mode)) {
+            return false;
+        }
+        if (!Objects.equals(this.pull, other.pull)) {
+            return false;
+        }
+        if (!Objects.equals(this.drive, other.drive)) {
+            return false;
+        }
         return true;
     }
 
@@ -239,6 +290,7 @@ public class Pin {
     @Override
     public String toString() {
         return "Pin{" + "key=" + key + ", groupName=" + groupName + ", name=" + name + ", dataInOn=" + dataInOn + ", dataInOff="
-                + dataInOff + ", dataOutOn=" + dataOutOn + ", dataOutOff=" + dataOutOff + ", mmioHadle=" + mmioHadle + '}';
+                + dataInOff + ", dataOutOn=" + dataOutOn + ", dataOutOff=" + dataOutOff + ", mode=" + mode + ", pull=" + pull + ", drive="
+                + drive + ", mmioHadle=" + mmioHadle + '}';
     }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dense pin table indexed by chip and line. Each chip has an array of pins indexed by line, so a lookup is two array loads
+ * without allocating a PinKey or hashing. Built once from a pin Map and not modified afterwards.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PinTable {
+
+    /**
+     * Pins indexed by chip then line. Chips without pins are null.
+     */
+    private final Pin[][] table;
+    /**
+     * Pins indexed by name. The first pin in key order wins if names are duplicated.
+     */
+    private final Map<String, Pin> nameIndex;
+    /**
+     * All pins in key order.
+     */
+    private final List<Pin> pins;
+
+    /**
+     * Build table from pin Map.
+     *
+     * @param pinMap Pin Map.
+     */
+    public PinTable(final Map<PinKey, Pin> pinMap) {
+        var maxChip = -1;
+        for (final var key : pinMap.keySet()) {
+            maxChip = Math.max(maxChip, key.getChip());
+        }
+        // Size each chip's line array to its highest line
+        final var lines = new int[maxChip + 1];
+        for (final var key : pinMap.keySet()) {
+            lines[key.getChip()] = Math.max(lines[key.getChip()], key.getPin() + 1);
+        }
+        table = new Pin[maxChip + 1][];
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i] > 0) {
+                table[i] = new Pin[lines[i]];
+            }
+        }
+        final var list = new ArrayList<Pin>(pinMap.size());
+        final var names = new HashMap<String, Pin>();
+        pinMap.values().stream().sorted((a, b) -> a.getKey().compareTo(b.getKey())).forEach((pin) -> {
+            table[pin.getKey().getChip()][pin.getKey().getPin()] = pin;
+            list.add(pin);
+            if (pin.getName() != null) {
+                names.putIfAbsent(pin.getName(), pin);
+            }
+        });
+        pins = Collections.unmodifiableList(list);
+        nameIndex = Collections.unmodifiableMap(names);
+    }
+
+    /**
+     * Return pin for chip and line.
+     *
+     * @param chip GPIO device number.
+     * @param line GPIO line.
+     * @return Pin or null if not in table.
+     */
+    public Pin get(final int chip, final int line) {
+        Pin pin = null;
+        if (chip >= 0 && chip < table.length) {
+            final var lines = table[chip];
+            if (lines != null && line >= 0 && line < lines.length) {
+                pin = lines[line];
+            }
+        }
+        return pin;
+    }
+
+    /**
+     * Return pin for name.
+     *
+     * @param name Pin name.
+     * @return Pin or null if not in table.
+     */
+    public Pin get(final String name) {
+        return nameIndex.get(name);
+    }
+
+    /**
+     * Return all pins in chip and line order.
+     *
+     * @return Unmodifiable pin List.
+     */
+    public List<Pin> getPins() {
+        return pins;
+    }
+
+    /**
+     * Return number of pins.
+     *
+     * @return Pin count.
+     */
+    public int size() {
+        return pins.size();
+    }
+
+    /**
+     * Return true if no pins.
+     *
+     * @return True if empty.
+     */
+    public boolean isEmpty() {
+        return pins.isEmpty();
+    }
+}
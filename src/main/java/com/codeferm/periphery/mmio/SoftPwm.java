@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio;
+
+import com.codeferm.periphery.Mmio;
+import com.codeferm.periphery.rt.Delay;
+import com.codeferm.periphery.rt.Histogram;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Software PWM on any MMIO output pins. Every period all channels with a duty cycle turn on together, then each channel turns off
+ * at its duty cycle. Channels sharing an output register and turning off at the same step are merged into one register write, so
+ * 16 channels on one port cost at most 17 writes a period. The edge schedule is only rebuilt when a duty cycle changes.
+ *
+ * Duty cycles can be set from any thread without locks. Run on a dedicated thread from RtThreadFactory since edges are timed by
+ * spinning. Short gaps spin and long gaps park through Delay. Registers where on and off are the same (read, modify, write ports)
+ * are read once at start and then written from a shadow copy, so other outputs on those ports should not change while running.
+ * Pins must have MMIO handle set and already be outputs.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SoftPwm implements Runnable {
+
+    /**
+     * How often CPU usage is sampled in nanoseconds.
+     */
+    private static final long CPU_SAMPLE_NS = 100000000L;
+    /**
+     * Period in nanoseconds.
+     */
+    private final long period;
+    /**
+     * Steps in a period.
+     */
+    private final int resolution;
+    /**
+     * Step in nanoseconds.
+     */
+    private final long step;
+    /**
+     * Delay used between edges.
+     */
+    private final Delay delay;
+    /**
+     * Duty cycle of each channel in steps.
+     */
+    private final AtomicIntegerArray duty;
+    /**
+     * Duty cycle used by current schedule.
+     */
+    private final int[] applied;
+    /**
+     * Port index of each channel.
+     */
+    private final int[] channelPort;
+    /**
+     * Bits set to turn each channel on.
+     */
+    private final int[] onBits;
+    /**
+     * Bits cleared (same register) or written to off register to turn each channel off.
+     */
+    private final int[] offBits;
+    /**
+     * MMIO handle of each port.
+     */
+    private final long[] handle;
+    /**
+     * Output on register offset of each port.
+     */
+    private final long[] onOffset;
+    /**
+     * Output off register offset of each port.
+     */
+    private final long[] offOffset;
+    /**
+     * True if port turns bits off by clearing them in the on register.
+     */
+    private final boolean[] shared;
+    /**
+     * Shadow of shared registers.
+     */
+    private final int[] shadow;
+    /**
+     * Bits to turn on at period start for each port.
+     */
+    private final int[] startOn;
+    /**
+     * Bits to turn off at period start (0% channels) for each port.
+     */
+    private final int[] startOff;
+    /**
+     * Time of each edge from period start.
+     */
+    private final long[] edgeTime;
+    /**
+     * Bits to turn off at each edge for each port.
+     */
+    private final int[][] edgeBits;
+    /**
+     * Sort keys of duty and channel.
+     */
+    private final long[] order;
+    /**
+     * Number of edges in schedule.
+     */
+    private int edges;
+    /**
+     * Lateness of each edge.
+     */
+    private final Histogram jitter = new Histogram(1000, 100);
+    /**
+     * Stop flag.
+     */
+    private volatile boolean stopped;
+    /**
+     * Periods run.
+     */
+    private volatile long periods;
+    /**
+     * Periods skipped because thread was late.
+     */
+    private volatile long overruns;
+    /**
+     * Fraction of a CPU used.
+     */
+    private volatile double cpuUsage;
+
+    /**
+     * Pins, period, resolution and delay constructor. All channels start at 0% duty cycle.
+     *
+     * @param pins Output pins, one channel each.
+     * @param period Period in nanoseconds.
+     * @param resolution Steps in a period.
+     * @param delay Calibrated delay.
+     */
+    public SoftPwm(final List<Pin> pins, final long period, final int resolution, final Delay delay) {
+        if (resolution <= 0 || period < resolution) {
+            throw new RuntimeException(String.format("Invalid period %d or resolution %d", period, resolution));
+        }
+        this.period = period;
+        this.resolution = resolution;
+        this.step = period / resolution;
+        this.delay = delay;
+        final var channels = pins.size();
+        duty = new AtomicIntegerArray(channels);
+        applied = new int[channels];
+        // Force schedule build on first period
+        Arrays.fill(applied, -1);
+        channelPort = new int[channels];
+        onBits = new int[channels];
+        offBits = new int[channels];
+        // Group channels by MMIO handle and output register
+        final Map<List<Long>, Integer> ports = new LinkedHashMap<>();
+        final List<Pin> portPins = new ArrayList<>();
+        for (int i = 0; i < channels; i++) {
+            final var pin = pins.get(i);
+            final var key = List.of(pin.getMmioHadle(), (long) pin.getDataOutOn().getOffset(), (long) pin.getDataOutOff().
+                    getOffset());
+            var port = ports.get(key);
+            if (port == null) {
+                port = ports.size();
+                ports.put(key, port);
+                portPins.add(pin);
+            }
+            channelPort[i] = port;
+            onBits[i] = pin.getDataOutOn().getMask();
+            // Same register off mask is an AND mask
+            if (pin.getDataOutOn().getOffset().equals(pin.getDataOutOff().getOffset())) {
+                offBits[i] = ~pin.getDataOutOff().getMask();
+            } else {
+                offBits[i] = pin.getDataOutOff().getMask();
+            }
+        }
+        final var portCount = portPins.size();
+        handle = new long[portCount];
+        onOffset = new long[portCount];
+        offOffset = new long[portCount];
+        shared = new boolean[portCount];
+        shadow = new int[portCount];
+        startOn = new int[portCount];
+        startOff = new int[portCount];
+        for (int i = 0; i < portCount; i++) {
+            final var pin = portPins.get(i);
+            handle[i] = pin.getMmioHadle();
+            onOffset[i] = pin.getDataOutOn().getOffset();
+            offOffset[i] = pin.getDataOutOff().getOffset();
+            shared[i] = onOffset[i] == offOffset[i];
+        }
+        edgeTime = new long[channels];
+        edgeBits = new int[channels][portCount];
+        order = new long[channels];
+    }
+
+    public long getPeriod() {
+        return period;
+    }
+
+    public int getResolution() {
+        return resolution;
+    }
+
+    public int getChannels() {
+        return applied.length;
+    }
+
+    public int getPorts() {
+        return handle.length;
+    }
+
+    /**
+     * Return edge lateness. The PWM thread records without locking to keep edges on time, so read it after the thread stops.
+     *
+     * @return Histogram.
+     */
+    public Histogram getJitter() {
+        return jitter;
+    }
+
+    public long getPeriods() {
+        return periods;
+    }
+
+    public long getOverruns() {
+        return overruns;
+    }
+
+    public double getCpuUsage() {
+        return cpuUsage;
+    }
+
+    /**
+     * Number of edges in current schedule, not counting period start.
+     *
+     * @return Edges.
+     */
+    public int getEdges() {
+        return edges;
+    }
+
+    /**
+     * Return duty cycle of channel.
+     *
+     * @param channel Channel.
+     * @return Duty cycle in steps.
+     */
+    public int getDuty(final int channel) {
+        return duty.get(channel);
+    }
+
+    /**
+     * Set duty cycle of channel. Takes effect next period. Safe to call from any thread.
+     *
+     * @param channel Channel.
+     * @param value Duty cycle in steps, clamped to 0 through resolution.
+     * @return This object.
+     */
+    public SoftPwm setDuty(final int channel, final int value) {
+        duty.set(channel, Math.max(0, Math.min(resolution, value)));
+        return this;
+    }
+
+    /**
+     * Stop run loop. All channels are turned off before run returns.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Rebuild edge schedule if any duty cycle changed.
+     */
+    private void schedule() {
+        var changed = false;
+        for (int i = 0; i < applied.length; i++) {
+            final var value = duty.get(i);
+            if (value != applied[i]) {
+                applied[i] = value;
+                changed = true;
+            }
+        }
+        if (changed) {
+            Arrays.fill(startOn, 0);
+            Arrays.fill(startOff, 0);
+            // Sort partial channels by duty cycle using primitive keys
+            var partial = 0;
+            for (int i = 0; i < applied.length; i++) {
+                final var port = channelPort[i];
+                if (applied[i] == 0) {
+                    startOff[port] |= offBits[i];
+                } else {
+                    startOn[port] |= onBits[i];
+                    if (applied[i] < resolution) {
+                        order[partial++] = ((long) applied[i] << 32) | i;
+                    }
+                }
+            }
+            Arrays.sort(order, 0, partial);
+            // Merge channels turning off at the same step into one edge
+            var edge = -1;
+            var lastDuty = -1;
+            for (int i = 0; i < partial; i++) {
+                final var value = (int) (order[i] >>> 32);
+                final var channel = (int) order[i];
+                if (value != lastDuty) {
+                    edge++;
+                    edgeTime[edge] = value * step;
+                    Arrays.fill(edgeBits[edge], 0);
+                    lastDuty = value;
+                }
+                edgeBits[edge][channelPort[channel]] |= offBits[channel];
+            }
+            edges = edge + 1;
+        }
+    }
+
+    /**
+     * Write bits to turn on and off for each port.
+     *
+     * @param on Bits to turn on.
+     * @param off Bits to turn off.
+     */
+    private void write(final int[] on, final int[] off) {
+        for (int i = 0; i < handle.length; i++) {
+            if (shared[i]) {
+                final var value = (shadow[i] | on[i]) & ~off[i];
+                if (value != shadow[i]) {
+                    shadow[i] = value;
+                    Mmio.mmioWrite32(handle[i], onOffset[i], value);
+                }
+            } else {
+                if (on[i] != 0) {
+                    Mmio.mmioWrite32(handle[i], onOffset[i], on[i]);
+                }
+                if (off[i] != 0) {
+                    Mmio.mmioWrite32(handle[i], offOffset[i], off[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Wait until deadline.
+     *
+     * @param deadline System.nanoTime deadline.
+     */
+    private void waitUntil(final long deadline) {
+        final var remaining = deadline - System.nanoTime();
+        if (remaining > 0) {
+            delay.delay(remaining);
+        }
+    }
+
+    /**
+     * Generate PWM until stopped.
+     */
+    @Override
+    public void run() {
+        final var value = new int[1];
+        final var none = new int[handle.length];
+        final var all = new int[handle.length];
+        for (int i = 0; i < handle.length; i++) {
+            if (shared[i]) {
+                Mmio.mmioRead32(handle[i], onOffset[i], value);
+                shadow[i] = value[0];
+            }
+        }
+        for (int i = 0; i < offBits.length; i++) {
+            all[channelPort[i]] |= offBits[i];
+        }
+        final var threadBean = ManagementFactory.getThreadMXBean();
+        var cpuStart = threadBean.getCurrentThreadCpuTime();
+        var wallStart = System.nanoTime();
+        var periodStart = wallStart;
+        while (!stopped) {
+            schedule();
+            waitUntil(periodStart);
+            write(startOn, startOff);
+            jitter.record(System.nanoTime() - periodStart);
+            for (int e = 0; e < edges; e++) {
+                final var deadline = periodStart + edgeTime[e];
+                waitUntil(deadline);
+                write(none, edgeBits[e]);
+                jitter.record(System.nanoTime() - deadline);
+            }
+            periods++;
+            periodStart += period;
+            // Skip periods already missed instead of bursting to catch up
+            final var now = System.nanoTime();
+            if (now - periodStart > period) {
+                final var missed = (now - periodStart) / period;
+                overruns += missed;
+                periodStart += missed * period;
+            }
+            if (now - wallStart >= CPU_SAMPLE_NS) {
+                final var cpu = threadBean.getCurrentThreadCpuTime();
+                cpuUsage = (double) (cpu - cpuStart) / (now - wallStart);
+                cpuStart = cpu;
+                wallStart = now;
+            }
+        }
+        write(none, all);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio;
+
+import com.codeferm.periphery.Gpio;
+import static com.codeferm.periphery.Gpio.GPIO_DIR_OUT;
+import com.codeferm.periphery.Mmio;
+import static com.codeferm.periphery.Sched.SCHED_FIFO;
+import com.codeferm.periphery.rt.Delay;
+import com.codeferm.periphery.rt.RtThreadFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import picocli.CommandLine;
+
+/**
+ * Fade many LEDs with SoftPwm and report CPU usage and edge jitter. Each channel ramps up and down with a different phase, so edges
+ * spread out and merge as they pass each other.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@CommandLine.Command(name = "softpwmperf", mixinStandardHelpOptions = true, version = "softpwmperf 1.0.0",
+        description = "Software PWM on MMIO pins")
+public class SoftPwmPerf implements Callable<Integer> {
+
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(SoftPwmPerf.class);
+    /**
+     * Input file.
+     */
+    @CommandLine.Option(names = {"-i", "--in"}, description = "Input property file name")
+    private String inFileName = "duo-map.properties";
+    /**
+     * Device option.
+     */
+    @CommandLine.Option(names = {"-d", "--device"}, description = "GPIO device defaults to 0")
+    private int device = 0;
+    /**
+     * Lines option.
+     */
+    @CommandLine.Option(names = {"-l", "--lines"}, split = ",", description = "GPIO lines defaults to 203 IOG11 for NanoPi Duo")
+    private int[] lines = {203};
+    /**
+     * Period option.
+     */
+    @CommandLine.Option(names = {"-p", "--period"}, description = "Period in microseconds defaults to 10000")
+    private long period = 10000;
+    /**
+     * Resolution option.
+     */
+    @CommandLine.Option(names = {"-r", "--resolution"}, description = "Steps in a period defaults to 100")
+    private int resolution = 100;
+    /**
+     * Seconds option.
+     */
+    @CommandLine.Option(names = {"-s", "--seconds"}, description = "Seconds to run defaults to 10")
+    private int seconds = 10;
+    /**
+     * CPU option.
+     */
+    @CommandLine.Option(names = {"-c", "--cpu"}, description = "CPU to pin to defaults to last CPU")
+    private int cpu = Runtime.getRuntime().availableProcessors() - 1;
+    /**
+     * Priority option.
+     */
+    @CommandLine.Option(names = {"-t", "--priority"}, description = "SCHED_FIFO priority defaults to 80")
+    private int priority = 80;
+
+    /**
+     * Set triangle wave duty cycles for time.
+     *
+     * @param pwm Software PWM.
+     * @param elapsed Elapsed milliseconds.
+     */
+    public void fade(final SoftPwm pwm, final long elapsed) {
+        final var channels = pwm.getChannels();
+        final var max = pwm.getResolution();
+        for (int i = 0; i < channels; i++) {
+            // Two second ramp up and down shifted for each channel
+            final var phase = (elapsed + i * 2000L / channels) % 2000;
+            pwm.setDuty(i, (int) (phase < 1000 ? phase * max / 1000 : (2000 - phase) * max / 1000));
+        }
+    }
+
+    /**
+     * Fade pins, log statistics every second and jitter at the end.
+     *
+     * @param pins Output pins with MMIO handle set.
+     * @throws InterruptedException Possible exception.
+     */
+    public void run(final List<Pin> pins) throws InterruptedException {
+        final var pwm = new SoftPwm(pins, period * 1000, resolution, Delay.getDefault());
+        logger.info(String.format("%d channels on %d ports, period %d us, %d steps", pwm.getChannels(), pwm.getPorts(), period,
+                resolution));
+        final var thread = new RtThreadFactory("softpwm", cpu).setPolicy(SCHED_FIFO, priority).newThread(pwm);
+        thread.start();
+        final var start = System.nanoTime();
+        var nextLog = 1000L;
+        try {
+            var elapsed = 0L;
+            while (elapsed < seconds * 1000L) {
+                fade(pwm, elapsed);
+                TimeUnit.MILLISECONDS.sleep(20);
+                elapsed = (System.nanoTime() - start) / 1000000;
+                if (elapsed >= nextLog) {
+                    logger.info(String.format("periods %d overruns %d edges %d CPU %.1f%%", pwm.getPeriods(), pwm.getOverruns(),
+                            pwm.getEdges(), pwm.getCpuUsage() * 100));
+                    nextLog += 1000;
+                }
+            }
+        } finally {
+            pwm.stop();
+            thread.join();
+        }
+        // Jitter isn't locked, so it's only read once the PWM thread is done
+        logger.info(String.format("jitter %s", pwm.getJitter()));
+    }
+
+    /**
+     * Read pin map properties and run software PWM.
+     *
+     * @return Exit code.
+     * @throws InterruptedException Possible exception.
+     */
+    @Override
+    public Integer call() throws InterruptedException {
+        var exitCode = 0;
+        final var file = new File();
+        final var pinTable = file.loadPinTable(inFileName);
+        final List<Pin> pins = new ArrayList<>();
+        for (final var line : lines) {
+            final var pin = pinTable.get(device, line);
+            if (pin == null) {
+                logger.error(String.format("Line %d not found in pin map.", line));
+                return 1;
+            }
+            pins.add(pin);
+        }
+        final Map<Integer, Long> mmioHandle = new HashMap<>();
+        // Open MMIO for each chip
+        for (int i = 0; i < file.getChips().size(); i++) {
+            final var mmio = new Mmio(file.getChips().get(i), file.getMmioSize().get(i), file.getMemPath());
+            mmioHandle.put(file.getGpioDev().get(i), mmio.getHandle());
+        }
+        pins.forEach(pin -> pin.setMmioHadle(mmioHandle.get(pin.getKey().getChip())));
+        // Use gpiod to make pins outputs
+        final List<Gpio> gpios = new ArrayList<>();
+        try {
+            for (final var line : lines) {
+                gpios.add(new Gpio(String.format("/dev/gpiochip%d", device), line, GPIO_DIR_OUT));
+            }
+            run(pins);
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage());
+            exitCode = 1;
+        } finally {
+            gpios.forEach(Gpio::close);
+        }
+        // Close all MMIO handles
+        mmioHandle.entrySet().forEach((entry) -> {
+            Mmio.mmioClose(entry.getValue());
+        });
+        return exitCode;
+    }
+
+    /**
+     * Main parsing, error handling and handling user requests for usage help or version help are done with one line of code.
+     *
+     * @param args Argument list.
+     */
+    public static void main(String... args) {
+        System.exit(new CommandLine(new SoftPwmPerf()).execute(args));
+    }
+}
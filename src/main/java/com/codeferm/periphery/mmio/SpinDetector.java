@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio;
+
+import com.codeferm.periphery.Mmio;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Busy poll input data registers and hand off pin changes through a ChangeRing. Pins sharing a register are read with one access
+ * and changes are found by XOR against the previous word, so reaction time is a few register reads instead of a kernel wakeup. Run
+ * on a dedicated thread (ideally pinned to an isolated core) since it never sleeps.
+ *
+ * Ring records are (pin index, old level, new level, nanoTime) where pin index is the position in the pin List and levels are 0
+ * or 1.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SpinDetector implements Runnable {
+
+    /**
+     * Pins being watched.
+     */
+    private final List<Pin> pins;
+    /**
+     * MMIO handle for each register.
+     */
+    private final long[] handle;
+    /**
+     * Offset of each register.
+     */
+    private final long[] offset;
+    /**
+     * Pin indexes for each register.
+     */
+    private final int[][] regPins;
+    /**
+     * Union of pin masks for each register.
+     */
+    private final int[] regMask;
+    /**
+     * Last value of each register.
+     */
+    private final int[] previous;
+    /**
+     * Change ring.
+     */
+    private final ChangeRing ring;
+    /**
+     * Read buffer.
+     */
+    private final int[] value = new int[1];
+    /**
+     * Stop flag.
+     */
+    private volatile boolean stopped;
+    /**
+     * Number of passes over all registers.
+     */
+    private volatile long polls;
+
+    /**
+     * Pins and ring constructor. Pins must have MMIO handle set.
+     *
+     * @param pins Input pins.
+     * @param ring Change ring.
+     */
+    public SpinDetector(final List<Pin> pins, final ChangeRing ring) {
+        this.pins = pins;
+        this.ring = ring;
+        // Group pins by MMIO handle and input register offset
+        final Map<List<Long>, List<Integer>> regs = new LinkedHashMap<>();
+        for (int i = 0; i < pins.size(); i++) {
+            final var pin = pins.get(i);
+            regs.computeIfAbsent(List.of(pin.getMmioHadle(), (long) pin.getDataInOn().getOffset()), k -> new ArrayList<>()).add(i);
+        }
+        handle = new long[regs.size()];
+        offset = new long[regs.size()];
+        regPins = new int[regs.size()][];
+        regMask = new int[regs.size()];
+        previous = new int[regs.size()];
+        var reg = 0;
+        for (final var entry : regs.entrySet()) {
+            handle[reg] = entry.getKey().get(0);
+            offset[reg] = entry.getKey().get(1);
+            regPins[reg] = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            for (final var i : regPins[reg]) {
+                regMask[reg] |= pins.get(i).getDataInOn().getMask();
+            }
+            reg++;
+        }
+    }
+
+    public List<Pin> getPins() {
+        return pins;
+    }
+
+    public long getPolls() {
+        return polls;
+    }
+
+    /**
+     * Return number of registers read each pass.
+     *
+     * @return Register count.
+     */
+    public int getRegisters() {
+        return handle.length;
+    }
+
+    /**
+     * Set previous value of register without detecting changes.
+     *
+     * @param reg Register index.
+     * @param regValue Register value.
+     */
+    public void setPrevious(final int reg, final int regValue) {
+        previous[reg] = regValue;
+    }
+
+    /**
+     * Compare register value to previous and offer a record for each pin that changed.
+     *
+     * @param reg Register index.
+     * @param regValue Register value just read.
+     * @param time Time of read.
+     * @return Number of pins that changed.
+     */
+    public int detect(final int reg, final int regValue, final long time) {
+        final var changed = (regValue ^ previous[reg]) & regMask[reg];
+        var count = 0;
+        if (changed != 0) {
+            for (final var i : regPins[reg]) {
+                final int mask = pins.get(i).getDataInOn().getMask();
+                if ((changed & mask) != 0) {
+                    ring.offer(i, (previous[reg] & mask) != 0 ? 1 : 0, (regValue & mask) != 0 ? 1 : 0, time);
+                    count++;
+                }
+            }
+            previous[reg] = regValue;
+        }
+        return count;
+    }
+
+    /**
+     * Read register.
+     *
+     * @param reg Register index.
+     * @return Register value.
+     */
+    public int read(final int reg) {
+        Mmio.mmioRead32(handle[reg], offset[reg], value);
+        return value[0];
+    }
+
+    /**
+     * Read every register once and detect changes.
+     *
+     * @return Number of pins that changed.
+     */
+    public int poll() {
+        var count = 0;
+        for (int reg = 0; reg < handle.length; reg++) {
+            final var regValue = read(reg);
+            count += detect(reg, regValue, System.nanoTime());
+        }
+        polls++;
+        return count;
+    }
+
+    /**
+     * Spin until stopped.
+     */
+    @Override
+    public void run() {
+        for (int reg = 0; reg < handle.length; reg++) {
+            previous[reg] = read(reg);
+        }
+        while (!stopped) {
+            poll();
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Stop spinning.
+     */
+    public void stop() {
+        stopped = true;
+    }
+}
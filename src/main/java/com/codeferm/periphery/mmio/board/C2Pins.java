@@ -0,0 +1,417 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio.board;
+
+import com.codeferm.periphery.mmio.File;
+import com.codeferm.periphery.mmio.Pin;
+import com.codeferm.periphery.mmio.PinKey;
+import com.codeferm.periphery.mmio.Register;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Pin map for ODROID C2 (S905) rev0.1, rev0.2.
+ *
+ * Generated by com.codeferm.periphery.mmio.File
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class C2Pins {
+
+    /**
+     * Board description.
+     */
+    public static final String DESCRIPTION = "ODROID C2 (S905) rev0.1, rev0.2";
+    /**
+     * MMIO path.
+     */
+    public static final String MEM_PATH = "/dev/mem";
+    // GPIOAO.6 group GPIOAO
+    public static final int GPIOAO_6_CHIP = 0;
+    public static final int GPIOAO_6_LINE = 6;
+    public static final int GPIOAO_6_IN_ON_OFFSET = 0x28;
+    public static final int GPIOAO_6_IN_ON_MASK = 0x00400000;
+    public static final int GPIOAO_6_IN_OFF_OFFSET = 0x28;
+    public static final int GPIOAO_6_IN_OFF_MASK = 0x00400000;
+    public static final int GPIOAO_6_OUT_ON_OFFSET = 0x24;
+    public static final int GPIOAO_6_OUT_ON_MASK = 0x00400000;
+    public static final int GPIOAO_6_OUT_OFF_OFFSET = 0x24;
+    public static final int GPIOAO_6_OUT_OFF_MASK = 0xffbfffff;
+    // GPIOAO.8 group GPIOAO
+    public static final int GPIOAO_8_CHIP = 0;
+    public static final int GPIOAO_8_LINE = 8;
+    public static final int GPIOAO_8_IN_ON_OFFSET = 0x28;
+    public static final int GPIOAO_8_IN_ON_MASK = 0x01000000;
+    public static final int GPIOAO_8_IN_OFF_OFFSET = 0x28;
+    public static final int GPIOAO_8_IN_OFF_MASK = 0x01000000;
+    public static final int GPIOAO_8_OUT_ON_OFFSET = 0x24;
+    public static final int GPIOAO_8_OUT_ON_MASK = 0x01000000;
+    public static final int GPIOAO_8_OUT_OFF_OFFSET = 0x24;
+    public static final int GPIOAO_8_OUT_OFF_MASK = 0xfeffffff;
+    // GPIOAO.9 group GPIOAO
+    public static final int GPIOAO_9_CHIP = 0;
+    public static final int GPIOAO_9_LINE = 9;
+    public static final int GPIOAO_9_IN_ON_OFFSET = 0x28;
+    public static final int GPIOAO_9_IN_ON_MASK = 0x02000000;
+    public static final int GPIOAO_9_IN_OFF_OFFSET = 0x28;
+    public static final int GPIOAO_9_IN_OFF_MASK = 0x02000000;
+    public static final int GPIOAO_9_OUT_ON_OFFSET = 0x24;
+    public static final int GPIOAO_9_OUT_ON_MASK = 0x02000000;
+    public static final int GPIOAO_9_OUT_OFF_OFFSET = 0x24;
+    public static final int GPIOAO_9_OUT_OFF_MASK = 0xfdffffff;
+    // GPIOAO.10 group GPIOAO
+    public static final int GPIOAO_10_CHIP = 0;
+    public static final int GPIOAO_10_LINE = 10;
+    public static final int GPIOAO_10_IN_ON_OFFSET = 0x28;
+    public static final int GPIOAO_10_IN_ON_MASK = 0x04000000;
+    public static final int GPIOAO_10_IN_OFF_OFFSET = 0x28;
+    public static final int GPIOAO_10_IN_OFF_MASK = 0x04000000;
+    public static final int GPIOAO_10_OUT_ON_OFFSET = 0x24;
+    public static final int GPIOAO_10_OUT_ON_MASK = 0x04000000;
+    public static final int GPIOAO_10_OUT_OFF_OFFSET = 0x24;
+    public static final int GPIOAO_10_OUT_OFF_MASK = 0xfbffffff;
+    // GPIOAO.11 group GPIOAO
+    public static final int GPIOAO_11_CHIP = 0;
+    public static final int GPIOAO_11_LINE = 11;
+    public static final int GPIOAO_11_IN_ON_OFFSET = 0x28;
+    public static final int GPIOAO_11_IN_ON_MASK = 0x08000000;
+    public static final int GPIOAO_11_IN_OFF_OFFSET = 0x28;
+    public static final int GPIOAO_11_IN_OFF_MASK = 0x08000000;
+    public static final int GPIOAO_11_OUT_ON_OFFSET = 0x24;
+    public static final int GPIOAO_11_OUT_ON_MASK = 0x08000000;
+    public static final int GPIOAO_11_OUT_OFF_OFFSET = 0x24;
+    public static final int GPIOAO_11_OUT_OFF_MASK = 0xf7ffffff;
+    // GPIOY.3 group GPIOY
+    public static final int GPIOY_3_CHIP = 1;
+    public static final int GPIOY_3_LINE = 78;
+    public static final int GPIOY_3_IN_ON_OFFSET = 0x44;
+    public static final int GPIOY_3_IN_ON_MASK = 0x00000008;
+    public static final int GPIOY_3_IN_OFF_OFFSET = 0x44;
+    public static final int GPIOY_3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIOY_3_OUT_ON_OFFSET = 0x40;
+    public static final int GPIOY_3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIOY_3_OUT_OFF_OFFSET = 0x40;
+    public static final int GPIOY_3_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOY.7 group GPIOY
+    public static final int GPIOY_7_CHIP = 1;
+    public static final int GPIOY_7_LINE = 82;
+    public static final int GPIOY_7_IN_ON_OFFSET = 0x44;
+    public static final int GPIOY_7_IN_ON_MASK = 0x00000080;
+    public static final int GPIOY_7_IN_OFF_OFFSET = 0x44;
+    public static final int GPIOY_7_IN_OFF_MASK = 0x00000080;
+    public static final int GPIOY_7_OUT_ON_OFFSET = 0x40;
+    public static final int GPIOY_7_OUT_ON_MASK = 0x00000080;
+    public static final int GPIOY_7_OUT_OFF_OFFSET = 0x40;
+    public static final int GPIOY_7_OUT_OFF_MASK = 0xffffff7f;
+    // GPIOY.8 group GPIOY
+    public static final int GPIOY_8_CHIP = 1;
+    public static final int GPIOY_8_LINE = 83;
+    public static final int GPIOY_8_IN_ON_OFFSET = 0x44;
+    public static final int GPIOY_8_IN_ON_MASK = 0x00000100;
+    public static final int GPIOY_8_IN_OFF_OFFSET = 0x44;
+    public static final int GPIOY_8_IN_OFF_MASK = 0x00000100;
+    public static final int GPIOY_8_OUT_ON_OFFSET = 0x40;
+    public static final int GPIOY_8_OUT_ON_MASK = 0x00000100;
+    public static final int GPIOY_8_OUT_OFF_OFFSET = 0x40;
+    public static final int GPIOY_8_OUT_OFF_MASK = 0xfffffeff;
+    // GPIOY.13 group GPIOY
+    public static final int GPIOY_13_CHIP = 1;
+    public static final int GPIOY_13_LINE = 88;
+    public static final int GPIOY_13_IN_ON_OFFSET = 0x44;
+    public static final int GPIOY_13_IN_ON_MASK = 0x00002000;
+    public static final int GPIOY_13_IN_OFF_OFFSET = 0x44;
+    public static final int GPIOY_13_IN_OFF_MASK = 0x00002000;
+    public static final int GPIOY_13_OUT_ON_OFFSET = 0x40;
+    public static final int GPIOY_13_OUT_ON_MASK = 0x00002000;
+    public static final int GPIOY_13_OUT_OFF_OFFSET = 0x40;
+    public static final int GPIOY_13_OUT_OFF_MASK = 0xffffdfff;
+    // GPIOY.14 group GPIOY
+    public static final int GPIOY_14_CHIP = 1;
+    public static final int GPIOY_14_LINE = 89;
+    public static final int GPIOY_14_IN_ON_OFFSET = 0x44;
+    public static final int GPIOY_14_IN_ON_MASK = 0x00004000;
+    public static final int GPIOY_14_IN_OFF_OFFSET = 0x44;
+    public static final int GPIOY_14_IN_OFF_MASK = 0x00004000;
+    public static final int GPIOY_14_OUT_ON_OFFSET = 0x40;
+    public static final int GPIOY_14_OUT_ON_MASK = 0x00004000;
+    public static final int GPIOY_14_OUT_OFF_OFFSET = 0x40;
+    public static final int GPIOY_14_OUT_OFF_MASK = 0xffffbfff;
+    // GPIOX.0 group GPIOX
+    public static final int GPIOX_0_CHIP = 1;
+    public static final int GPIOX_0_LINE = 92;
+    public static final int GPIOX_0_IN_ON_OFFSET = 0x68;
+    public static final int GPIOX_0_IN_ON_MASK = 0x00000001;
+    public static final int GPIOX_0_IN_OFF_OFFSET = 0x68;
+    public static final int GPIOX_0_IN_OFF_MASK = 0x00000001;
+    public static final int GPIOX_0_OUT_ON_OFFSET = 0x64;
+    public static final int GPIOX_0_OUT_ON_MASK = 0x00000001;
+    public static final int GPIOX_0_OUT_OFF_OFFSET = 0x64;
+    public static final int GPIOX_0_OUT_OFF_MASK = 0xfffffffe;
+    // GPIOX.1 group GPIOX
+    public static final int GPIOX_1_CHIP = 1;
+    public static final int GPIOX_1_LINE = 93;
+    public static final int GPIOX_1_IN_ON_OFFSET = 0x68;
+    public static final int GPIOX_1_IN_ON_MASK = 0x00000002;
+    public static final int GPIOX_1_IN_OFF_OFFSET = 0x68;
+    public static final int GPIOX_1_IN_OFF_MASK = 0x00000002;
+    public static final int GPIOX_1_OUT_ON_OFFSET = 0x64;
+    public static final int GPIOX_1_OUT_ON_MASK = 0x00000002;
+    public static final int GPIOX_1_OUT_OFF_OFFSET = 0x64;
+    public static final int GPIOX_1_OUT_OFF_MASK = 0xfffffffd;
+    // GPIOX.2 group GPIOX
+    public static final int GPIOX_2_CHIP = 1;
+    public static final int GPIOX_2_LINE = 94;
+    public static final int GPIOX_2_IN_ON_OFFSET = 0x68;
+    public static final int GPIOX_2_IN_ON_MASK = 0x00000004;
+    public static final int GPIOX_2_IN_OFF_OFFSET = 0x68;
+    public static final int GPIOX_2_IN_OFF_MASK = 0x00000004;
+    public static final int GPIOX_2_OUT_ON_OFFSET = 0x64;
+    public static final int GPIOX_2_OUT_ON_MASK = 0x00000004;
+    public static final int GPIOX_2_OUT_OFF_OFFSET = 0x64;
+    public static final int GPIOX_2_OUT_OFF_MASK = 0xfffffffb;
+    // GPIOX.3 group GPIOX
+    public static final int GPIOX_3_CHIP = 1;
+    public static final int GPIOX_3_LINE = 95;
+    public static final int GPIOX_3_IN_ON_OFFSET = 0x68;
+    public static final int GPIOX_3_IN_ON_MASK = 0x00000008;
+    public static final int GPIOX_3_IN_OFF_OFFSET = 0x68;
+    public static final int GPIOX_3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIOX_3_OUT_ON_OFFSET = 0x64;
+    public static final int GPIOX_3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIOX_3_OUT_OFF_OFFSET = 0x64;
+    public static final int GPIOX_3_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOX.4 group GPIOX
+    public static final int GPIOX_4_CHIP = 1;
+    public static final int GPIOX_4_LINE = 96;
+    public static final int GPIOX_4_IN_ON_OFFSET = 0x68;
+    public static final int GPIOX_4_IN_ON_MASK = 0x00000010;
+    public static final int GPIOX_4_IN_OFF_OFFSET = 0x68;
+    public static final int GPIOX_4_IN_OFF_MASK = 0x00000010;
+    public static final int GPIOX_4_OUT_ON_OFFSET = 0x64;
+    public static final int GPIOX_4_OUT_ON_MASK = 0x00000010;
+    public static final int GPIOX_4_OUT_OFF_OFFSET = 0x64;
+    public static final int GPIOX_4_OUT_OFF_MASK = 0xffffffef;
+    // GPIOX.5 group GPIOX
+    public static final int GPIOX_5_CHIP = 1;
+    public static final int GPIOX_5_LINE = 97;
+    public static final int GPIOX_5_IN_ON_OFFSET = 0x68;
+    public static final int GPIOX_5_IN_ON_MASK = 0x00000020;
+    public static final int GPIOX_5_IN_OFF_OFFSET = 0x68;
+    public static final int GPIOX_5_IN_OFF_MASK = 0x00000020;
+    public static final int GPIOX_5_OUT_ON_OFFSET = 0x64;
+    public static final int GPIOX_5_OUT_ON_MASK = 0x00000020;
+    public static final int GPIOX_5_OUT_OFF_OFFSET = 0x64;
+    public static final int GPIOX_5_OUT_OFF_MASK = 0xffffffdf;
+    // GPIOX.6 group GPIOX
+    public static final int GPIOX_6_CHIP = 1;
+    public static final int GPIOX_6_LINE = 98;
+    public static final int GPIOX_6_IN_ON_OFFSET = 0x68;
+    public static final int GPIOX_6_IN_ON_MASK = 0x00000040;
+    public static final int GPIOX_6_IN_OFF_OFFSET = 0x68;
+    public static final int GPIOX_6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIOX_6_OUT_ON_OFFSET = 0x64;
+    public static final int GPIOX_6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIOX_6_OUT_OFF_OFFSET = 0x64;
+    public static final int GPIOX_6_OUT_OFF_MASK = 0xffffffbf;
+    // GPIOX.7 group GPIOX
+    public static final int GPIOX_7_CHIP = 1;
+    public static final int GPIOX_7_LINE = 99;
+    public static final int GPIOX_7_IN_ON_OFFSET = 0x68;
+    public static final int GPIOX_7_IN_ON_MASK = 0x00000080;
+    public static final int GPIOX_7_IN_OFF_OFFSET = 0x68;
+    public static final int GPIOX_7_IN_OFF_MASK = 0x00000080;
+    public static final int GPIOX_7_OUT_ON_OFFSET = 0x64;
+    public static final int GPIOX_7_OUT_ON_MASK = 0x00000080;
+    public static final int GPIOX_7_OUT_OFF_OFFSET = 0x64;
+    public static final int GPIOX_7_OUT_OFF_MASK = 0xffffff7f;
+    // GPIOX.8 group GPIOX
+    public static final int GPIOX_8_CHIP = 1;
+    public static final int GPIOX_8_LINE = 100;
+    public static final int GPIOX_8_IN_ON_OFFSET = 0x68;
+    public static final int GPIOX_8_IN_ON_MASK = 0x00000100;
+    public static final int GPIOX_8_IN_OFF_OFFSET = 0x68;
+    public static final int GPIOX_8_IN_OFF_MASK = 0x00000100;
+    public static final int GPIOX_8_OUT_ON_OFFSET = 0x64;
+    public static final int GPIOX_8_OUT_ON_MASK = 0x00000100;
+    public static final int GPIOX_8_OUT_OFF_OFFSET = 0x64;
+    public static final int GPIOX_8_OUT_OFF_MASK = 0xfffffeff;
+    // GPIOX.9 group GPIOX
+    public static final int GPIOX_9_CHIP = 1;
+    public static final int GPIOX_9_LINE = 101;
+    public static final int GPIOX_9_IN_ON_OFFSET = 0x68;
+    public static final int GPIOX_9_IN_ON_MASK = 0x00000200;
+    public static final int GPIOX_9_IN_OFF_OFFSET = 0x68;
+    public static final int GPIOX_9_IN_OFF_MASK = 0x00000200;
+    public static final int GPIOX_9_OUT_ON_OFFSET = 0x64;
+    public static final int GPIOX_9_OUT_ON_MASK = 0x00000200;
+    public static final int GPIOX_9_OUT_OFF_OFFSET = 0x64;
+    public static final int GPIOX_9_OUT_OFF_MASK = 0xfffffdff;
+    // GPIOX.10 group GPIOX
+    public static final int GPIOX_10_CHIP = 1;
+    public static final int GPIOX_10_LINE = 102;
+    public static final int GPIOX_10_IN_ON_OFFSET = 0x68;
+    public static final int GPIOX_10_IN_ON_MASK = 0x00000400;
+    public static final int GPIOX_10_IN_OFF_OFFSET = 0x68;
+    public static final int GPIOX_10_IN_OFF_MASK = 0x00000400;
+    public static final int GPIOX_10_OUT_ON_OFFSET = 0x64;
+    public static final int GPIOX_10_OUT_ON_MASK = 0x00000400;
+    public static final int GPIOX_10_OUT_OFF_OFFSET = 0x64;
+    public static final int GPIOX_10_OUT_OFF_MASK = 0xfffffbff;
+    // GPIOX.11 group GPIOX
+    public static final int GPIOX_11_CHIP = 1;
+    public static final int GPIOX_11_LINE = 103;
+    public static final int GPIOX_11_IN_ON_OFFSET = 0x68;
+    public static final int GPIOX_11_IN_ON_MASK = 0x00000800;
+    public static final int GPIOX_11_IN_OFF_OFFSET = 0x68;
+    public static final int GPIOX_11_IN_OFF_MASK = 0x00000800;
+    public static final int GPIOX_11_OUT_ON_OFFSET = 0x64;
+    public static final int GPIOX_11_OUT_ON_MASK = 0x00000800;
+    public static final int GPIOX_11_OUT_OFF_OFFSET = 0x64;
+    public static final int GPIOX_11_OUT_OFF_MASK = 0xfffff7ff;
+
+    /**
+     * Constants only.
+     */
+    private C2Pins() {
+    }
+
+    /**
+     * Return pin Map and set chips, chip size, GPIO devices and MMIO path of file without parsing a property file.
+     *
+     * @param file File to set board information on.
+     * @return Pin Map.
+     */
+    public static Map<PinKey, Pin> pinMap(final File file) {
+        file.setDescription(DESCRIPTION);
+        file.setChips(List.of(0xc8100000L, 0xc8834400L));
+        file.setMmioSize(List.of(256L, 256L));
+        file.setGpioDev(List.of(0, 1));
+        file.setMemPath(MEM_PATH);
+        final Map<PinKey, Pin> pinMap = new TreeMap<>();
+        add(pinMap, new Pin(new PinKey(GPIOAO_6_CHIP, GPIOAO_6_LINE), "GPIOAO", "GPIOAO.6",
+                new Register("IN_ON", GPIOAO_6_IN_ON_OFFSET, GPIOAO_6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOAO_6_IN_OFF_OFFSET, GPIOAO_6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOAO_6_OUT_ON_OFFSET, GPIOAO_6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOAO_6_OUT_OFF_OFFSET, GPIOAO_6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOAO_8_CHIP, GPIOAO_8_LINE), "GPIOAO", "GPIOAO.8",
+                new Register("IN_ON", GPIOAO_8_IN_ON_OFFSET, GPIOAO_8_IN_ON_MASK),
+                new Register("IN_OFF", GPIOAO_8_IN_OFF_OFFSET, GPIOAO_8_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOAO_8_OUT_ON_OFFSET, GPIOAO_8_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOAO_8_OUT_OFF_OFFSET, GPIOAO_8_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOAO_9_CHIP, GPIOAO_9_LINE), "GPIOAO", "GPIOAO.9",
+                new Register("IN_ON", GPIOAO_9_IN_ON_OFFSET, GPIOAO_9_IN_ON_MASK),
+                new Register("IN_OFF", GPIOAO_9_IN_OFF_OFFSET, GPIOAO_9_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOAO_9_OUT_ON_OFFSET, GPIOAO_9_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOAO_9_OUT_OFF_OFFSET, GPIOAO_9_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOAO_10_CHIP, GPIOAO_10_LINE), "GPIOAO", "GPIOAO.10",
+                new Register("IN_ON", GPIOAO_10_IN_ON_OFFSET, GPIOAO_10_IN_ON_MASK),
+                new Register("IN_OFF", GPIOAO_10_IN_OFF_OFFSET, GPIOAO_10_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOAO_10_OUT_ON_OFFSET, GPIOAO_10_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOAO_10_OUT_OFF_OFFSET, GPIOAO_10_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOAO_11_CHIP, GPIOAO_11_LINE), "GPIOAO", "GPIOAO.11",
+                new Register("IN_ON", GPIOAO_11_IN_ON_OFFSET, GPIOAO_11_IN_ON_MASK),
+                new Register("IN_OFF", GPIOAO_11_IN_OFF_OFFSET, GPIOAO_11_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOAO_11_OUT_ON_OFFSET, GPIOAO_11_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOAO_11_OUT_OFF_OFFSET, GPIOAO_11_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOY_3_CHIP, GPIOY_3_LINE), "GPIOY", "GPIOY.3",
+                new Register("IN_ON", GPIOY_3_IN_ON_OFFSET, GPIOY_3_IN_ON_MASK),
+                new Register("IN_OFF", GPIOY_3_IN_OFF_OFFSET, GPIOY_3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOY_3_OUT_ON_OFFSET, GPIOY_3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOY_3_OUT_OFF_OFFSET, GPIOY_3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOY_7_CHIP, GPIOY_7_LINE), "GPIOY", "GPIOY.7",
+                new Register("IN_ON", GPIOY_7_IN_ON_OFFSET, GPIOY_7_IN_ON_MASK),
+                new Register("IN_OFF", GPIOY_7_IN_OFF_OFFSET, GPIOY_7_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOY_7_OUT_ON_OFFSET, GPIOY_7_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOY_7_OUT_OFF_OFFSET, GPIOY_7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOY_8_CHIP, GPIOY_8_LINE), "GPIOY", "GPIOY.8",
+                new Register("IN_ON", GPIOY_8_IN_ON_OFFSET, GPIOY_8_IN_ON_MASK),
+                new Register("IN_OFF", GPIOY_8_IN_OFF_OFFSET, GPIOY_8_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOY_8_OUT_ON_OFFSET, GPIOY_8_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOY_8_OUT_OFF_OFFSET, GPIOY_8_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOY_13_CHIP, GPIOY_13_LINE), "GPIOY", "GPIOY.13",
+                new Register("IN_ON", GPIOY_13_IN_ON_OFFSET, GPIOY_13_IN_ON_MASK),
+                new Register("IN_OFF", GPIOY_13_IN_OFF_OFFSET, GPIOY_13_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOY_13_OUT_ON_OFFSET, GPIOY_13_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOY_13_OUT_OFF_OFFSET, GPIOY_13_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOY_14_CHIP, GPIOY_14_LINE), "GPIOY", "GPIOY.14",
+                new Register("IN_ON", GPIOY_14_IN_ON_OFFSET, GPIOY_14_IN_ON_MASK),
+                new Register("IN_OFF", GPIOY_14_IN_OFF_OFFSET, GPIOY_14_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOY_14_OUT_ON_OFFSET, GPIOY_14_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOY_14_OUT_OFF_OFFSET, GPIOY_14_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX_0_CHIP, GPIOX_0_LINE), "GPIOX", "GPIOX.0",
+                new Register("IN_ON", GPIOX_0_IN_ON_OFFSET, GPIOX_0_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX_0_IN_OFF_OFFSET, GPIOX_0_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX_0_OUT_ON_OFFSET, GPIOX_0_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX_0_OUT_OFF_OFFSET, GPIOX_0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX_1_CHIP, GPIOX_1_LINE), "GPIOX", "GPIOX.1",
+                new Register("IN_ON", GPIOX_1_IN_ON_OFFSET, GPIOX_1_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX_1_IN_OFF_OFFSET, GPIOX_1_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX_1_OUT_ON_OFFSET, GPIOX_1_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX_1_OUT_OFF_OFFSET, GPIOX_1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX_2_CHIP, GPIOX_2_LINE), "GPIOX", "GPIOX.2",
+                new Register("IN_ON", GPIOX_2_IN_ON_OFFSET, GPIOX_2_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX_2_IN_OFF_OFFSET, GPIOX_2_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX_2_OUT_ON_OFFSET, GPIOX_2_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX_2_OUT_OFF_OFFSET, GPIOX_2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX_3_CHIP, GPIOX_3_LINE), "GPIOX", "GPIOX.3",
+                new Register("IN_ON", GPIOX_3_IN_ON_OFFSET, GPIOX_3_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX_3_IN_OFF_OFFSET, GPIOX_3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX_3_OUT_ON_OFFSET, GPIOX_3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX_3_OUT_OFF_OFFSET, GPIOX_3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX_4_CHIP, GPIOX_4_LINE), "GPIOX", "GPIOX.4",
+                new Register("IN_ON", GPIOX_4_IN_ON_OFFSET, GPIOX_4_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX_4_IN_OFF_OFFSET, GPIOX_4_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX_4_OUT_ON_OFFSET, GPIOX_4_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX_4_OUT_OFF_OFFSET, GPIOX_4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX_5_CHIP, GPIOX_5_LINE), "GPIOX", "GPIOX.5",
+                new Register("IN_ON", GPIOX_5_IN_ON_OFFSET, GPIOX_5_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX_5_IN_OFF_OFFSET, GPIOX_5_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX_5_OUT_ON_OFFSET, GPIOX_5_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX_5_OUT_OFF_OFFSET, GPIOX_5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX_6_CHIP, GPIOX_6_LINE), "GPIOX", "GPIOX.6",
+                new Register("IN_ON", GPIOX_6_IN_ON_OFFSET, GPIOX_6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX_6_IN_OFF_OFFSET, GPIOX_6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX_6_OUT_ON_OFFSET, GPIOX_6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX_6_OUT_OFF_OFFSET, GPIOX_6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX_7_CHIP, GPIOX_7_LINE), "GPIOX", "GPIOX.7",
+                new Register("IN_ON", GPIOX_7_IN_ON_OFFSET, GPIOX_7_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX_7_IN_OFF_OFFSET, GPIOX_7_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX_7_OUT_ON_OFFSET, GPIOX_7_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX_7_OUT_OFF_OFFSET, GPIOX_7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX_8_CHIP, GPIOX_8_LINE), "GPIOX", "GPIOX.8",
+                new Register("IN_ON", GPIOX_8_IN_ON_OFFSET, GPIOX_8_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX_8_IN_OFF_OFFSET, GPIOX_8_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX_8_OUT_ON_OFFSET, GPIOX_8_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX_8_OUT_OFF_OFFSET, GPIOX_8_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX_9_CHIP, GPIOX_9_LINE), "GPIOX", "GPIOX.9",
+                new Register("IN_ON", GPIOX_9_IN_ON_OFFSET, GPIOX_9_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX_9_IN_OFF_OFFSET, GPIOX_9_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX_9_OUT_ON_OFFSET, GPIOX_9_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX_9_OUT_OFF_OFFSET, GPIOX_9_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX_10_CHIP, GPIOX_10_LINE), "GPIOX", "GPIOX.10",
+                new Register("IN_ON", GPIOX_10_IN_ON_OFFSET, GPIOX_10_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX_10_IN_OFF_OFFSET, GPIOX_10_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX_10_OUT_ON_OFFSET, GPIOX_10_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX_10_OUT_OFF_OFFSET, GPIOX_10_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX_11_CHIP, GPIOX_11_LINE), "GPIOX", "GPIOX.11",
+                new Register("IN_ON", GPIOX_11_IN_ON_OFFSET, GPIOX_11_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX_11_IN_OFF_OFFSET, GPIOX_11_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX_11_OUT_ON_OFFSET, GPIOX_11_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX_11_OUT_OFF_OFFSET, GPIOX_11_OUT_OFF_MASK)));
+        return pinMap;
+    }
+
+    /**
+     * Add pin to Map.
+     *
+     * @param pinMap Pin Map.
+     * @param pin Pin.
+     */
+    private static void add(final Map<PinKey, Pin> pinMap, final Pin pin) {
+        pinMap.put(pin.getKey(), pin);
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio.board;
+
+import com.codeferm.periphery.mmio.File;
+import com.codeferm.periphery.mmio.Pin;
+import com.codeferm.periphery.mmio.PinKey;
+import com.codeferm.periphery.mmio.Register;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Pin map for NanoPi Duo (H2+) v1.0, v1.1, v2.0.
+ *
+ * Generated by com.codeferm.periphery.mmio.File
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class DuoPins {
+
+    /**
+     * Board description.
+     */
+    public static final String DESCRIPTION = "NanoPi Duo (H2+) v1.0, v1.1, v2.0";
+    /**
+     * MMIO path.
+     */
+    public static final String MEM_PATH = "/dev/mem";
+    // GPIOA4 group A
+    public static final int GPIOA4_CHIP = 0;
+    public static final int GPIOA4_LINE = 4;
+    public static final int GPIOA4_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA4_IN_ON_MASK = 0x00000010;
+    public static final int GPIOA4_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA4_IN_OFF_MASK = 0x00000010;
+    public static final int GPIOA4_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA4_OUT_ON_MASK = 0x00000010;
+    public static final int GPIOA4_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA4_OUT_OFF_MASK = 0xffffffef;
+    // GPIOA5 group A
+    public static final int GPIOA5_CHIP = 0;
+    public static final int GPIOA5_LINE = 5;
+    public static final int GPIOA5_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA5_IN_ON_MASK = 0x00000020;
+    public static final int GPIOA5_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA5_IN_OFF_MASK = 0x00000020;
+    public static final int GPIOA5_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA5_OUT_ON_MASK = 0x00000020;
+    public static final int GPIOA5_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA5_OUT_OFF_MASK = 0xffffffdf;
+    // GPIOA11 group A
+    public static final int GPIOA11_CHIP = 0;
+    public static final int GPIOA11_LINE = 11;
+    public static final int GPIOA11_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA11_IN_ON_MASK = 0x00000800;
+    public static final int GPIOA11_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA11_IN_OFF_MASK = 0x00000800;
+    public static final int GPIOA11_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA11_OUT_ON_MASK = 0x00000800;
+    public static final int GPIOA11_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA11_OUT_OFF_MASK = 0xfffff7ff;
+    // GPIOA12 group A
+    public static final int GPIOA12_CHIP = 0;
+    public static final int GPIOA12_LINE = 12;
+    public static final int GPIOA12_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA12_IN_ON_MASK = 0x00001000;
+    public static final int GPIOA12_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA12_IN_OFF_MASK = 0x00001000;
+    public static final int GPIOA12_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA12_OUT_ON_MASK = 0x00001000;
+    public static final int GPIOA12_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA12_OUT_OFF_MASK = 0xffffefff;
+    // GPIOA13 group A
+    public static final int GPIOA13_CHIP = 0;
+    public static final int GPIOA13_LINE = 13;
+    public static final int GPIOA13_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA13_IN_ON_MASK = 0x00002000;
+    public static final int GPIOA13_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA13_IN_OFF_MASK = 0x00002000;
+    public static final int GPIOA13_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA13_OUT_ON_MASK = 0x00002000;
+    public static final int GPIOA13_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA13_OUT_OFF_MASK = 0xffffdfff;
+    // GPIOA14 group A
+    public static final int GPIOA14_CHIP = 0;
+    public static final int GPIOA14_LINE = 14;
+    public static final int GPIOA14_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA14_IN_ON_MASK = 0x00004000;
+    public static final int GPIOA14_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA14_IN_OFF_MASK = 0x00004000;
+    public static final int GPIOA14_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA14_OUT_ON_MASK = 0x00004000;
+    public static final int GPIOA14_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA14_OUT_OFF_MASK = 0xffffbfff;
+    // GPIOA15 group A
+    public static final int GPIOA15_CHIP = 0;
+    public static final int GPIOA15_LINE = 15;
+    public static final int GPIOA15_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA15_IN_ON_MASK = 0x00008000;
+    public static final int GPIOA15_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA15_IN_OFF_MASK = 0x00008000;
+    public static final int GPIOA15_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA15_OUT_ON_MASK = 0x00008000;
+    public static final int GPIOA15_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA15_OUT_OFF_MASK = 0xffff7fff;
+    // GPIOA16 group A
+    public static final int GPIOA16_CHIP = 0;
+    public static final int GPIOA16_LINE = 16;
+    public static final int GPIOA16_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA16_IN_ON_MASK = 0x00010000;
+    public static final int GPIOA16_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA16_IN_OFF_MASK = 0x00010000;
+    public static final int GPIOA16_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA16_OUT_ON_MASK = 0x00010000;
+    public static final int GPIOA16_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA16_OUT_OFF_MASK = 0xfffeffff;
+    // GPIOG6 group G
+    public static final int GPIOG6_CHIP = 0;
+    public static final int GPIOG6_LINE = 198;
+    public static final int GPIOG6_IN_ON_OFFSET = 0xe8;
+    public static final int GPIOG6_IN_ON_MASK = 0x00000040;
+    public static final int GPIOG6_IN_OFF_OFFSET = 0xe8;
+    public static final int GPIOG6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIOG6_OUT_ON_OFFSET = 0xe8;
+    public static final int GPIOG6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIOG6_OUT_OFF_OFFSET = 0xe8;
+    public static final int GPIOG6_OUT_OFF_MASK = 0xffffffbf;
+    // GPIOG7 group G
+    public static final int GPIOG7_CHIP = 0;
+    public static final int GPIOG7_LINE = 199;
+    public static final int GPIOG7_IN_ON_OFFSET = 0xe8;
+    public static final int GPIOG7_IN_ON_MASK = 0x00000080;
+    public static final int GPIOG7_IN_OFF_OFFSET = 0xe8;
+    public static final int GPIOG7_IN_OFF_MASK = 0x00000080;
+    public static final int GPIOG7_OUT_ON_OFFSET = 0xe8;
+    public static final int GPIOG7_OUT_ON_MASK = 0x00000080;
+    public static final int GPIOG7_OUT_OFF_OFFSET = 0xe8;
+    public static final int GPIOG7_OUT_OFF_MASK = 0xffffff7f;
+    // GPIOG11 group G
+    public static final int GPIOG11_CHIP = 0;
+    public static final int GPIOG11_LINE = 203;
+    public static final int GPIOG11_IN_ON_OFFSET = 0xe8;
+    public static final int GPIOG11_IN_ON_MASK = 0x00000800;
+    public static final int GPIOG11_IN_OFF_OFFSET = 0xe8;
+    public static final int GPIOG11_IN_OFF_MASK = 0x00000800;
+    public static final int GPIOG11_OUT_ON_OFFSET = 0xe8;
+    public static final int GPIOG11_OUT_ON_MASK = 0x00000800;
+    public static final int GPIOG11_OUT_OFF_OFFSET = 0xe8;
+    public static final int GPIOG11_OUT_OFF_MASK = 0xfffff7ff;
+    // BUTTON group L
+    public static final int BUTTON_CHIP = 1;
+    public static final int BUTTON_LINE = 3;
+    public static final int BUTTON_IN_ON_OFFSET = 0x10;
+    public static final int BUTTON_IN_ON_MASK = 0x00000008;
+    public static final int BUTTON_IN_OFF_OFFSET = 0x10;
+    public static final int BUTTON_IN_OFF_MASK = 0x00000008;
+    public static final int BUTTON_OUT_ON_OFFSET = 0x10;
+    public static final int BUTTON_OUT_ON_MASK = 0x00000008;
+    public static final int BUTTON_OUT_OFF_OFFSET = 0x10;
+    public static final int BUTTON_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOL11 group L
+    public static final int GPIOL11_CHIP = 1;
+    public static final int GPIOL11_LINE = 11;
+    public static final int GPIOL11_IN_ON_OFFSET = 0x10;
+    public static final int GPIOL11_IN_ON_MASK = 0x00000800;
+    public static final int GPIOL11_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOL11_IN_OFF_MASK = 0x00000800;
+    public static final int GPIOL11_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOL11_OUT_ON_MASK = 0x00000800;
+    public static final int GPIOL11_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOL11_OUT_OFF_MASK = 0xfffff7ff;
+
+    /**
+     * Constants only.
+     */
+    private DuoPins() {
+    }
+
+    /**
+     * Return pin Map and set chips, chip size, GPIO devices and MMIO path of file without parsing a property file.
+     *
+     * @param file File to set board information on.
+     * @return Pin Map.
+     */
+    public static Map<PinKey, Pin> pinMap(final File file) {
+        file.setDescription(DESCRIPTION);
+        file.setChips(List.of(0x1c20800L, 0x1f02c00L));
+        file.setMmioSize(List.of(252L, 36L));
+        file.setGpioDev(List.of(0, 1));
+        file.setMemPath(MEM_PATH);
+        final Map<PinKey, Pin> pinMap = new TreeMap<>();
+        add(pinMap, new Pin(new PinKey(GPIOA4_CHIP, GPIOA4_LINE), "A", "GPIOA4",
+                new Register("IN_ON", GPIOA4_IN_ON_OFFSET, GPIOA4_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA4_IN_OFF_OFFSET, GPIOA4_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA4_OUT_ON_OFFSET, GPIOA4_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA4_OUT_OFF_OFFSET, GPIOA4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA5_CHIP, GPIOA5_LINE), "A", "GPIOA5",
+                new Register("IN_ON", GPIOA5_IN_ON_OFFSET, GPIOA5_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA5_IN_OFF_OFFSET, GPIOA5_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA5_OUT_ON_OFFSET, GPIOA5_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA5_OUT_OFF_OFFSET, GPIOA5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA11_CHIP, GPIOA11_LINE), "A", "GPIOA11",
+                new Register("IN_ON", GPIOA11_IN_ON_OFFSET, GPIOA11_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA11_IN_OFF_OFFSET, GPIOA11_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA11_OUT_ON_OFFSET, GPIOA11_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA11_OUT_OFF_OFFSET, GPIOA11_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA12_CHIP, GPIOA12_LINE), "A", "GPIOA12",
+                new Register("IN_ON", GPIOA12_IN_ON_OFFSET, GPIOA12_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA12_IN_OFF_OFFSET, GPIOA12_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA12_OUT_ON_OFFSET, GPIOA12_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA12_OUT_OFF_OFFSET, GPIOA12_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA13_CHIP, GPIOA13_LINE), "A", "GPIOA13",
+                new Register("IN_ON", GPIOA13_IN_ON_OFFSET, GPIOA13_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA13_IN_OFF_OFFSET, GPIOA13_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA13_OUT_ON_OFFSET, GPIOA13_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA13_OUT_OFF_OFFSET, GPIOA13_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA14_CHIP, GPIOA14_LINE), "A", "GPIOA14",
+                new Register("IN_ON", GPIOA14_IN_ON_OFFSET, GPIOA14_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA14_IN_OFF_OFFSET, GPIOA14_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA14_OUT_ON_OFFSET, GPIOA14_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA14_OUT_OFF_OFFSET, GPIOA14_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA15_CHIP, GPIOA15_LINE), "A", "GPIOA15",
+                new Register("IN_ON", GPIOA15_IN_ON_OFFSET, GPIOA15_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA15_IN_OFF_OFFSET, GPIOA15_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA15_OUT_ON_OFFSET, GPIOA15_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA15_OUT_OFF_OFFSET, GPIOA15_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA16_CHIP, GPIOA16_LINE), "A", "GPIOA16",
+                new Register("IN_ON", GPIOA16_IN_ON_OFFSET, GPIOA16_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA16_IN_OFF_OFFSET, GPIOA16_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA16_OUT_ON_OFFSET, GPIOA16_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA16_OUT_OFF_OFFSET, GPIOA16_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOG6_CHIP, GPIOG6_LINE), "G", "GPIOG6",
+                new Register("IN_ON", GPIOG6_IN_ON_OFFSET, GPIOG6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOG6_IN_OFF_OFFSET, GPIOG6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOG6_OUT_ON_OFFSET, GPIOG6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOG6_OUT_OFF_OFFSET, GPIOG6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOG7_CHIP, GPIOG7_LINE), "G", "GPIOG7",
+                new Register("IN_ON", GPIOG7_IN_ON_OFFSET, GPIOG7_IN_ON_MASK),
+                new Register("IN_OFF", GPIOG7_IN_OFF_OFFSET, GPIOG7_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOG7_OUT_ON_OFFSET, GPIOG7_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOG7_OUT_OFF_OFFSET, GPIOG7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOG11_CHIP, GPIOG11_LINE), "G", "GPIOG11",
+                new Register("IN_ON", GPIOG11_IN_ON_OFFSET, GPIOG11_IN_ON_MASK),
+                new Register("IN_OFF", GPIOG11_IN_OFF_OFFSET, GPIOG11_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOG11_OUT_ON_OFFSET, GPIOG11_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOG11_OUT_OFF_OFFSET, GPIOG11_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(BUTTON_CHIP, BUTTON_LINE), "L", "BUTTON",
+                new Register("IN_ON", BUTTON_IN_ON_OFFSET, BUTTON_IN_ON_MASK),
+                new Register("IN_OFF", BUTTON_IN_OFF_OFFSET, BUTTON_IN_OFF_MASK),
+                new Register("OUT_ON", BUTTON_OUT_ON_OFFSET, BUTTON_OUT_ON_MASK),
+                new Register("OUT_OFF", BUTTON_OUT_OFF_OFFSET, BUTTON_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOL11_CHIP, GPIOL11_LINE), "L", "GPIOL11",
+                new Register("IN_ON", GPIOL11_IN_ON_OFFSET, GPIOL11_IN_ON_MASK),
+                new Register("IN_OFF", GPIOL11_IN_OFF_OFFSET, GPIOL11_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOL11_OUT_ON_OFFSET, GPIOL11_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOL11_OUT_OFF_OFFSET, GPIOL11_OUT_OFF_MASK)));
+        return pinMap;
+    }
+
+    /**
+     * Add pin to Map.
+     *
+     * @param pinMap Pin Map.
+     * @param pin Pin.
+     */
+    private static void add(final Map<PinKey, Pin> pinMap, final Pin pin) {
+        pinMap.put(pin.getKey(), pin);
+    }
+}
@@ -0,0 +1,465 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio.board;
+
+import com.codeferm.periphery.mmio.File;
+import com.codeferm.periphery.mmio.Pin;
+import com.codeferm.periphery.mmio.PinKey;
+import com.codeferm.periphery.mmio.Register;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Pin map for NanoPi M1 (H3) v1.0, v1.1.
+ *
+ * Generated by com.codeferm.periphery.mmio.File
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class M1Pins {
+
+    /**
+     * Board description.
+     */
+    public static final String DESCRIPTION = "NanoPi M1 (H3) v1.0, v1.1";
+    /**
+     * MMIO path.
+     */
+    public static final String MEM_PATH = "/dev/mem";
+    // GPIOA0 group A
+    public static final int GPIOA0_CHIP = 0;
+    public static final int GPIOA0_LINE = 0;
+    public static final int GPIOA0_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA0_IN_ON_MASK = 0x00000001;
+    public static final int GPIOA0_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA0_IN_OFF_MASK = 0x00000001;
+    public static final int GPIOA0_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA0_OUT_ON_MASK = 0x00000001;
+    public static final int GPIOA0_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA0_OUT_OFF_MASK = 0xfffffffe;
+    // GPIOA2 group A
+    public static final int GPIOA2_CHIP = 0;
+    public static final int GPIOA2_LINE = 2;
+    public static final int GPIOA2_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA2_IN_ON_MASK = 0x00000004;
+    public static final int GPIOA2_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA2_IN_OFF_MASK = 0x00000004;
+    public static final int GPIOA2_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA2_OUT_ON_MASK = 0x00000004;
+    public static final int GPIOA2_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA2_OUT_OFF_MASK = 0xfffffffb;
+    // GPIOA3 group A
+    public static final int GPIOA3_CHIP = 0;
+    public static final int GPIOA3_LINE = 3;
+    public static final int GPIOA3_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA3_IN_ON_MASK = 0x00000008;
+    public static final int GPIOA3_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIOA3_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIOA3_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA3_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOA6 group A
+    public static final int GPIOA6_CHIP = 0;
+    public static final int GPIOA6_LINE = 6;
+    public static final int GPIOA6_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA6_IN_ON_MASK = 0x00000040;
+    public static final int GPIOA6_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIOA6_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIOA6_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA6_OUT_OFF_MASK = 0xffffffbf;
+    // GPIOA7 group A
+    public static final int GPIOA7_CHIP = 0;
+    public static final int GPIOA7_LINE = 7;
+    public static final int GPIOA7_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA7_IN_ON_MASK = 0x00000080;
+    public static final int GPIOA7_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA7_IN_OFF_MASK = 0x00000080;
+    public static final int GPIOA7_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA7_OUT_ON_MASK = 0x00000080;
+    public static final int GPIOA7_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA7_OUT_OFF_MASK = 0xffffff7f;
+    // GPIOA8 group A
+    public static final int GPIOA8_CHIP = 0;
+    public static final int GPIOA8_LINE = 8;
+    public static final int GPIOA8_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA8_IN_ON_MASK = 0x00000100;
+    public static final int GPIOA8_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA8_IN_OFF_MASK = 0x00000100;
+    public static final int GPIOA8_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA8_OUT_ON_MASK = 0x00000100;
+    public static final int GPIOA8_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA8_OUT_OFF_MASK = 0xfffffeff;
+    // GPIOA9 group A
+    public static final int GPIOA9_CHIP = 0;
+    public static final int GPIOA9_LINE = 9;
+    public static final int GPIOA9_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA9_IN_ON_MASK = 0x00000200;
+    public static final int GPIOA9_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA9_IN_OFF_MASK = 0x00000200;
+    public static final int GPIOA9_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA9_OUT_ON_MASK = 0x00000200;
+    public static final int GPIOA9_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA9_OUT_OFF_MASK = 0xfffffdff;
+    // GPIOA13 group A
+    public static final int GPIOA13_CHIP = 0;
+    public static final int GPIOA13_LINE = 13;
+    public static final int GPIOA13_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA13_IN_ON_MASK = 0x00002000;
+    public static final int GPIOA13_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA13_IN_OFF_MASK = 0x00002000;
+    public static final int GPIOA13_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA13_OUT_ON_MASK = 0x00002000;
+    public static final int GPIOA13_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA13_OUT_OFF_MASK = 0xffffdfff;
+    // GPIOA14 group A
+    public static final int GPIOA14_CHIP = 0;
+    public static final int GPIOA14_LINE = 14;
+    public static final int GPIOA14_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA14_IN_ON_MASK = 0x00004000;
+    public static final int GPIOA14_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA14_IN_OFF_MASK = 0x00004000;
+    public static final int GPIOA14_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA14_OUT_ON_MASK = 0x00004000;
+    public static final int GPIOA14_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA14_OUT_OFF_MASK = 0xffffbfff;
+    // GPIOA15 group A
+    public static final int GPIOA15_CHIP = 0;
+    public static final int GPIOA15_LINE = 15;
+    public static final int GPIOA15_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA15_IN_ON_MASK = 0x00008000;
+    public static final int GPIOA15_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA15_IN_OFF_MASK = 0x00008000;
+    public static final int GPIOA15_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA15_OUT_ON_MASK = 0x00008000;
+    public static final int GPIOA15_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA15_OUT_OFF_MASK = 0xffff7fff;
+    // GPIOA16 group A
+    public static final int GPIOA16_CHIP = 0;
+    public static final int GPIOA16_LINE = 16;
+    public static final int GPIOA16_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA16_IN_ON_MASK = 0x00010000;
+    public static final int GPIOA16_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA16_IN_OFF_MASK = 0x00010000;
+    public static final int GPIOA16_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA16_OUT_ON_MASK = 0x00010000;
+    public static final int GPIOA16_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA16_OUT_OFF_MASK = 0xfffeffff;
+    // GPIOA17 group A
+    public static final int GPIOA17_CHIP = 0;
+    public static final int GPIOA17_LINE = 17;
+    public static final int GPIOA17_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA17_IN_ON_MASK = 0x00020000;
+    public static final int GPIOA17_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA17_IN_OFF_MASK = 0x00020000;
+    public static final int GPIOA17_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA17_OUT_ON_MASK = 0x00020000;
+    public static final int GPIOA17_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA17_OUT_OFF_MASK = 0xfffdffff;
+    // GPIOA18 group A
+    public static final int GPIOA18_CHIP = 0;
+    public static final int GPIOA18_LINE = 18;
+    public static final int GPIOA18_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA18_IN_ON_MASK = 0x00040000;
+    public static final int GPIOA18_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA18_IN_OFF_MASK = 0x00040000;
+    public static final int GPIOA18_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA18_OUT_ON_MASK = 0x00040000;
+    public static final int GPIOA18_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA18_OUT_OFF_MASK = 0xfffbffff;
+    // GPIOA19 group A
+    public static final int GPIOA19_CHIP = 0;
+    public static final int GPIOA19_LINE = 19;
+    public static final int GPIOA19_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA19_IN_ON_MASK = 0x00080000;
+    public static final int GPIOA19_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA19_IN_OFF_MASK = 0x00080000;
+    public static final int GPIOA19_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA19_OUT_ON_MASK = 0x00080000;
+    public static final int GPIOA19_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA19_OUT_OFF_MASK = 0xfff7ffff;
+    // GPIOA20 group A
+    public static final int GPIOA20_CHIP = 0;
+    public static final int GPIOA20_LINE = 20;
+    public static final int GPIOA20_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA20_IN_ON_MASK = 0x00100000;
+    public static final int GPIOA20_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA20_IN_OFF_MASK = 0x00100000;
+    public static final int GPIOA20_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA20_OUT_ON_MASK = 0x00100000;
+    public static final int GPIOA20_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA20_OUT_OFF_MASK = 0xffefffff;
+    // GPIOA21 group A
+    public static final int GPIOA21_CHIP = 0;
+    public static final int GPIOA21_LINE = 21;
+    public static final int GPIOA21_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA21_IN_ON_MASK = 0x00200000;
+    public static final int GPIOA21_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA21_IN_OFF_MASK = 0x00200000;
+    public static final int GPIOA21_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA21_OUT_ON_MASK = 0x00200000;
+    public static final int GPIOA21_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA21_OUT_OFF_MASK = 0xffdfffff;
+    // GPIOC0 group C
+    public static final int GPIOC0_CHIP = 0;
+    public static final int GPIOC0_LINE = 64;
+    public static final int GPIOC0_IN_ON_OFFSET = 0x58;
+    public static final int GPIOC0_IN_ON_MASK = 0x00000001;
+    public static final int GPIOC0_IN_OFF_OFFSET = 0x58;
+    public static final int GPIOC0_IN_OFF_MASK = 0x00000001;
+    public static final int GPIOC0_OUT_ON_OFFSET = 0x58;
+    public static final int GPIOC0_OUT_ON_MASK = 0x00000001;
+    public static final int GPIOC0_OUT_OFF_OFFSET = 0x58;
+    public static final int GPIOC0_OUT_OFF_MASK = 0xfffffffe;
+    // GPIOC1 group C
+    public static final int GPIOC1_CHIP = 0;
+    public static final int GPIOC1_LINE = 65;
+    public static final int GPIOC1_IN_ON_OFFSET = 0x58;
+    public static final int GPIOC1_IN_ON_MASK = 0x00000002;
+    public static final int GPIOC1_IN_OFF_OFFSET = 0x58;
+    public static final int GPIOC1_IN_OFF_MASK = 0x00000002;
+    public static final int GPIOC1_OUT_ON_OFFSET = 0x58;
+    public static final int GPIOC1_OUT_ON_MASK = 0x00000002;
+    public static final int GPIOC1_OUT_OFF_OFFSET = 0x58;
+    public static final int GPIOC1_OUT_OFF_MASK = 0xfffffffd;
+    // GPIOC2 group C
+    public static final int GPIOC2_CHIP = 0;
+    public static final int GPIOC2_LINE = 66;
+    public static final int GPIOC2_IN_ON_OFFSET = 0x58;
+    public static final int GPIOC2_IN_ON_MASK = 0x00000004;
+    public static final int GPIOC2_IN_OFF_OFFSET = 0x58;
+    public static final int GPIOC2_IN_OFF_MASK = 0x00000004;
+    public static final int GPIOC2_OUT_ON_OFFSET = 0x58;
+    public static final int GPIOC2_OUT_ON_MASK = 0x00000004;
+    public static final int GPIOC2_OUT_OFF_OFFSET = 0x58;
+    public static final int GPIOC2_OUT_OFF_MASK = 0xfffffffb;
+    // GPIOC3 group C
+    public static final int GPIOC3_CHIP = 0;
+    public static final int GPIOC3_LINE = 67;
+    public static final int GPIOC3_IN_ON_OFFSET = 0x58;
+    public static final int GPIOC3_IN_ON_MASK = 0x00000008;
+    public static final int GPIOC3_IN_OFF_OFFSET = 0x58;
+    public static final int GPIOC3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIOC3_OUT_ON_OFFSET = 0x58;
+    public static final int GPIOC3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIOC3_OUT_OFF_OFFSET = 0x58;
+    public static final int GPIOC3_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOG6 group G
+    public static final int GPIOG6_CHIP = 0;
+    public static final int GPIOG6_LINE = 198;
+    public static final int GPIOG6_IN_ON_OFFSET = 0xe8;
+    public static final int GPIOG6_IN_ON_MASK = 0x00000040;
+    public static final int GPIOG6_IN_OFF_OFFSET = 0xe8;
+    public static final int GPIOG6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIOG6_OUT_ON_OFFSET = 0xe8;
+    public static final int GPIOG6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIOG6_OUT_OFF_OFFSET = 0xe8;
+    public static final int GPIOG6_OUT_OFF_MASK = 0xffffffbf;
+    // GPIOG7 group G
+    public static final int GPIOG7_CHIP = 0;
+    public static final int GPIOG7_LINE = 199;
+    public static final int GPIOG7_IN_ON_OFFSET = 0xe8;
+    public static final int GPIOG7_IN_ON_MASK = 0x00000080;
+    public static final int GPIOG7_IN_OFF_OFFSET = 0xe8;
+    public static final int GPIOG7_IN_OFF_MASK = 0x00000080;
+    public static final int GPIOG7_OUT_ON_OFFSET = 0xe8;
+    public static final int GPIOG7_OUT_ON_MASK = 0x00000080;
+    public static final int GPIOG7_OUT_OFF_OFFSET = 0xe8;
+    public static final int GPIOG7_OUT_OFF_MASK = 0xffffff7f;
+    // GPIOG8 group G
+    public static final int GPIOG8_CHIP = 0;
+    public static final int GPIOG8_LINE = 200;
+    public static final int GPIOG8_IN_ON_OFFSET = 0xe8;
+    public static final int GPIOG8_IN_ON_MASK = 0x00000100;
+    public static final int GPIOG8_IN_OFF_OFFSET = 0xe8;
+    public static final int GPIOG8_IN_OFF_MASK = 0x00000100;
+    public static final int GPIOG8_OUT_ON_OFFSET = 0xe8;
+    public static final int GPIOG8_OUT_ON_MASK = 0x00000100;
+    public static final int GPIOG8_OUT_OFF_OFFSET = 0xe8;
+    public static final int GPIOG8_OUT_OFF_MASK = 0xfffffeff;
+    // GPIOG9 group G
+    public static final int GPIOG9_CHIP = 0;
+    public static final int GPIOG9_LINE = 201;
+    public static final int GPIOG9_IN_ON_OFFSET = 0xe8;
+    public static final int GPIOG9_IN_ON_MASK = 0x00000200;
+    public static final int GPIOG9_IN_OFF_OFFSET = 0xe8;
+    public static final int GPIOG9_IN_OFF_MASK = 0x00000200;
+    public static final int GPIOG9_OUT_ON_OFFSET = 0xe8;
+    public static final int GPIOG9_OUT_ON_MASK = 0x00000200;
+    public static final int GPIOG9_OUT_OFF_OFFSET = 0xe8;
+    public static final int GPIOG9_OUT_OFF_MASK = 0xfffffdff;
+    // GPIOG11 group G
+    public static final int GPIOG11_CHIP = 0;
+    public static final int GPIOG11_LINE = 203;
+    public static final int GPIOG11_IN_ON_OFFSET = 0xe8;
+    public static final int GPIOG11_IN_ON_MASK = 0x00000800;
+    public static final int GPIOG11_IN_OFF_OFFSET = 0xe8;
+    public static final int GPIOG11_IN_OFF_MASK = 0x00000800;
+    public static final int GPIOG11_OUT_ON_OFFSET = 0xe8;
+    public static final int GPIOG11_OUT_ON_MASK = 0x00000800;
+    public static final int GPIOG11_OUT_OFF_OFFSET = 0xe8;
+    public static final int GPIOG11_OUT_OFF_MASK = 0xfffff7ff;
+
+    /**
+     * Constants only.
+     */
+    private M1Pins() {
+    }
+
+    /**
+     * Return pin Map and set chips, chip size, GPIO devices and MMIO path of file without parsing a property file.
+     *
+     * @param file File to set board information on.
+     * @return Pin Map.
+     */
+    public static Map<PinKey, Pin> pinMap(final File file) {
+        file.setDescription(DESCRIPTION);
+        file.setChips(List.of(0x1c20800L));
+        file.setMmioSize(List.of(252L));
+        file.setGpioDev(List.of(0));
+        file.setMemPath(MEM_PATH);
+        final Map<PinKey, Pin> pinMap = new TreeMap<>();
+        add(pinMap, new Pin(new PinKey(GPIOA0_CHIP, GPIOA0_LINE), "A", "GPIOA0",
+                new Register("IN_ON", GPIOA0_IN_ON_OFFSET, GPIOA0_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA0_IN_OFF_OFFSET, GPIOA0_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA0_OUT_ON_OFFSET, GPIOA0_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA0_OUT_OFF_OFFSET, GPIOA0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA2_CHIP, GPIOA2_LINE), "A", "GPIOA2",
+                new Register("IN_ON", GPIOA2_IN_ON_OFFSET, GPIOA2_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA2_IN_OFF_OFFSET, GPIOA2_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA2_OUT_ON_OFFSET, GPIOA2_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA2_OUT_OFF_OFFSET, GPIOA2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA3_CHIP, GPIOA3_LINE), "A", "GPIOA3",
+                new Register("IN_ON", GPIOA3_IN_ON_OFFSET, GPIOA3_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA3_IN_OFF_OFFSET, GPIOA3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA3_OUT_ON_OFFSET, GPIOA3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA3_OUT_OFF_OFFSET, GPIOA3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA6_CHIP, GPIOA6_LINE), "A", "GPIOA6",
+                new Register("IN_ON", GPIOA6_IN_ON_OFFSET, GPIOA6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA6_IN_OFF_OFFSET, GPIOA6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA6_OUT_ON_OFFSET, GPIOA6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA6_OUT_OFF_OFFSET, GPIOA6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA7_CHIP, GPIOA7_LINE), "A", "GPIOA7",
+                new Register("IN_ON", GPIOA7_IN_ON_OFFSET, GPIOA7_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA7_IN_OFF_OFFSET, GPIOA7_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA7_OUT_ON_OFFSET, GPIOA7_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA7_OUT_OFF_OFFSET, GPIOA7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA8_CHIP, GPIOA8_LINE), "A", "GPIOA8",
+                new Register("IN_ON", GPIOA8_IN_ON_OFFSET, GPIOA8_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA8_IN_OFF_OFFSET, GPIOA8_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA8_OUT_ON_OFFSET, GPIOA8_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA8_OUT_OFF_OFFSET, GPIOA8_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA9_CHIP, GPIOA9_LINE), "A", "GPIOA9",
+                new Register("IN_ON", GPIOA9_IN_ON_OFFSET, GPIOA9_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA9_IN_OFF_OFFSET, GPIOA9_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA9_OUT_ON_OFFSET, GPIOA9_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA9_OUT_OFF_OFFSET, GPIOA9_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA13_CHIP, GPIOA13_LINE), "A", "GPIOA13",
+                new Register("IN_ON", GPIOA13_IN_ON_OFFSET, GPIOA13_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA13_IN_OFF_OFFSET, GPIOA13_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA13_OUT_ON_OFFSET, GPIOA13_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA13_OUT_OFF_OFFSET, GPIOA13_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA14_CHIP, GPIOA14_LINE), "A", "GPIOA14",
+                new Register("IN_ON", GPIOA14_IN_ON_OFFSET, GPIOA14_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA14_IN_OFF_OFFSET, GPIOA14_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA14_OUT_ON_OFFSET, GPIOA14_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA14_OUT_OFF_OFFSET, GPIOA14_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA15_CHIP, GPIOA15_LINE), "A", "GPIOA15",
+                new Register("IN_ON", GPIOA15_IN_ON_OFFSET, GPIOA15_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA15_IN_OFF_OFFSET, GPIOA15_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA15_OUT_ON_OFFSET, GPIOA15_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA15_OUT_OFF_OFFSET, GPIOA15_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA16_CHIP, GPIOA16_LINE), "A", "GPIOA16",
+                new Register("IN_ON", GPIOA16_IN_ON_OFFSET, GPIOA16_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA16_IN_OFF_OFFSET, GPIOA16_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA16_OUT_ON_OFFSET, GPIOA16_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA16_OUT_OFF_OFFSET, GPIOA16_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA17_CHIP, GPIOA17_LINE), "A", "GPIOA17",
+                new Register("IN_ON", GPIOA17_IN_ON_OFFSET, GPIOA17_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA17_IN_OFF_OFFSET, GPIOA17_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA17_OUT_ON_OFFSET, GPIOA17_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA17_OUT_OFF_OFFSET, GPIOA17_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA18_CHIP, GPIOA18_LINE), "A", "GPIOA18",
+                new Register("IN_ON", GPIOA18_IN_ON_OFFSET, GPIOA18_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA18_IN_OFF_OFFSET, GPIOA18_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA18_OUT_ON_OFFSET, GPIOA18_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA18_OUT_OFF_OFFSET, GPIOA18_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA19_CHIP, GPIOA19_LINE), "A", "GPIOA19",
+                new Register("IN_ON", GPIOA19_IN_ON_OFFSET, GPIOA19_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA19_IN_OFF_OFFSET, GPIOA19_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA19_OUT_ON_OFFSET, GPIOA19_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA19_OUT_OFF_OFFSET, GPIOA19_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA20_CHIP, GPIOA20_LINE), "A", "GPIOA20",
+                new Register("IN_ON", GPIOA20_IN_ON_OFFSET, GPIOA20_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA20_IN_OFF_OFFSET, GPIOA20_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA20_OUT_ON_OFFSET, GPIOA20_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA20_OUT_OFF_OFFSET, GPIOA20_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA21_CHIP, GPIOA21_LINE), "A", "GPIOA21",
+                new Register("IN_ON", GPIOA21_IN_ON_OFFSET, GPIOA21_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA21_IN_OFF_OFFSET, GPIOA21_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA21_OUT_ON_OFFSET, GPIOA21_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA21_OUT_OFF_OFFSET, GPIOA21_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOC0_CHIP, GPIOC0_LINE), "C", "GPIOC0",
+                new Register("IN_ON", GPIOC0_IN_ON_OFFSET, GPIOC0_IN_ON_MASK),
+                new Register("IN_OFF", GPIOC0_IN_OFF_OFFSET, GPIOC0_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOC0_OUT_ON_OFFSET, GPIOC0_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOC0_OUT_OFF_OFFSET, GPIOC0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOC1_CHIP, GPIOC1_LINE), "C", "GPIOC1",
+                new Register("IN_ON", GPIOC1_IN_ON_OFFSET, GPIOC1_IN_ON_MASK),
+                new Register("IN_OFF", GPIOC1_IN_OFF_OFFSET, GPIOC1_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOC1_OUT_ON_OFFSET, GPIOC1_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOC1_OUT_OFF_OFFSET, GPIOC1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOC2_CHIP, GPIOC2_LINE), "C", "GPIOC2",
+                new Register("IN_ON", GPIOC2_IN_ON_OFFSET, GPIOC2_IN_ON_MASK),
+                new Register("IN_OFF", GPIOC2_IN_OFF_OFFSET, GPIOC2_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOC2_OUT_ON_OFFSET, GPIOC2_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOC2_OUT_OFF_OFFSET, GPIOC2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOC3_CHIP, GPIOC3_LINE), "C", "GPIOC3",
+                new Register("IN_ON", GPIOC3_IN_ON_OFFSET, GPIOC3_IN_ON_MASK),
+                new Register("IN_OFF", GPIOC3_IN_OFF_OFFSET, GPIOC3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOC3_OUT_ON_OFFSET, GPIOC3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOC3_OUT_OFF_OFFSET, GPIOC3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOG6_CHIP, GPIOG6_LINE), "G", "GPIOG6",
+                new Register("IN_ON", GPIOG6_IN_ON_OFFSET, GPIOG6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOG6_IN_OFF_OFFSET, GPIOG6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOG6_OUT_ON_OFFSET, GPIOG6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOG6_OUT_OFF_OFFSET, GPIOG6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOG7_CHIP, GPIOG7_LINE), "G", "GPIOG7",
+                new Register("IN_ON", GPIOG7_IN_ON_OFFSET, GPIOG7_IN_ON_MASK),
+                new Register("IN_OFF", GPIOG7_IN_OFF_OFFSET, GPIOG7_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOG7_OUT_ON_OFFSET, GPIOG7_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOG7_OUT_OFF_OFFSET, GPIOG7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOG8_CHIP, GPIOG8_LINE), "G", "GPIOG8",
+                new Register("IN_ON", GPIOG8_IN_ON_OFFSET, GPIOG8_IN_ON_MASK),
+                new Register("IN_OFF", GPIOG8_IN_OFF_OFFSET, GPIOG8_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOG8_OUT_ON_OFFSET, GPIOG8_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOG8_OUT_OFF_OFFSET, GPIOG8_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOG9_CHIP, GPIOG9_LINE), "G", "GPIOG9",
+                new Register("IN_ON", GPIOG9_IN_ON_OFFSET, GPIOG9_IN_ON_MASK),
+                new Register("IN_OFF", GPIOG9_IN_OFF_OFFSET, GPIOG9_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOG9_OUT_ON_OFFSET, GPIOG9_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOG9_OUT_OFF_OFFSET, GPIOG9_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOG11_CHIP, GPIOG11_LINE), "G", "GPIOG11",
+                new Register("IN_ON", GPIOG11_IN_ON_OFFSET, GPIOG11_IN_ON_MASK),
+                new Register("IN_OFF", GPIOG11_IN_OFF_OFFSET, GPIOG11_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOG11_OUT_ON_OFFSET, GPIOG11_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOG11_OUT_OFF_OFFSET, GPIOG11_OUT_OFF_MASK)));
+        return pinMap;
+    }
+
+    /**
+     * Add pin to Map.
+     *
+     * @param pinMap Pin Map.
+     * @param pin Pin.
+     */
+    private static void add(final Map<PinKey, Pin> pinMap, final Pin pin) {
+        pinMap.put(pin.getKey(), pin);
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio.board;
+
+import com.codeferm.periphery.mmio.File;
+import com.codeferm.periphery.mmio.Pin;
+import com.codeferm.periphery.mmio.PinKey;
+import com.codeferm.periphery.mmio.Register;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Pin map for NanoPi Neo Plus2 (H5) v1.0, v1.1, v1.2, v2.0.
+ *
+ * Generated by com.codeferm.periphery.mmio.File
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class NeoPlus2Pins {
+
+    /**
+     * Board description.
+     */
+    public static final String DESCRIPTION = "NanoPi Neo Plus2 (H5) v1.0, v1.1, v1.2, v2.0";
+    /**
+     * MMIO path.
+     */
+    public static final String MEM_PATH = "/dev/mem";
+    // GPIOL11 group L
+    public static final int GPIOL11_CHIP = 0;
+    public static final int GPIOL11_LINE = 11;
+    public static final int GPIOL11_IN_ON_OFFSET = 0x10;
+    public static final int GPIOL11_IN_ON_MASK = 0x00000800;
+    public static final int GPIOL11_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOL11_IN_OFF_MASK = 0x00000800;
+    public static final int GPIOL11_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOL11_OUT_ON_MASK = 0x00000800;
+    public static final int GPIOL11_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOL11_OUT_OFF_MASK = 0xfffff7ff;
+    // GPIOA0 group A
+    public static final int GPIOA0_CHIP = 1;
+    public static final int GPIOA0_LINE = 0;
+    public static final int GPIOA0_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA0_IN_ON_MASK = 0x00000001;
+    public static final int GPIOA0_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA0_IN_OFF_MASK = 0x00000001;
+    public static final int GPIOA0_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA0_OUT_ON_MASK = 0x00000001;
+    public static final int GPIOA0_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA0_OUT_OFF_MASK = 0xfffffffe;
+    // GPIOA1 group A
+    public static final int GPIOA1_CHIP = 1;
+    public static final int GPIOA1_LINE = 1;
+    public static final int GPIOA1_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA1_IN_ON_MASK = 0x00000002;
+    public static final int GPIOA1_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA1_IN_OFF_MASK = 0x00000002;
+    public static final int GPIOA1_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA1_OUT_ON_MASK = 0x00000002;
+    public static final int GPIOA1_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA1_OUT_OFF_MASK = 0xfffffffd;
+    // GPIOA2 group A
+    public static final int GPIOA2_CHIP = 1;
+    public static final int GPIOA2_LINE = 2;
+    public static final int GPIOA2_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA2_IN_ON_MASK = 0x00000004;
+    public static final int GPIOA2_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA2_IN_OFF_MASK = 0x00000004;
+    public static final int GPIOA2_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA2_OUT_ON_MASK = 0x00000004;
+    public static final int GPIOA2_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA2_OUT_OFF_MASK = 0xfffffffb;
+    // GPIOA3 group A
+    public static final int GPIOA3_CHIP = 1;
+    public static final int GPIOA3_LINE = 3;
+    public static final int GPIOA3_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA3_IN_ON_MASK = 0x00000008;
+    public static final int GPIOA3_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIOA3_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIOA3_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA3_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOA6 group A
+    public static final int GPIOA6_CHIP = 1;
+    public static final int GPIOA6_LINE = 6;
+    public static final int GPIOA6_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA6_IN_ON_MASK = 0x00000040;
+    public static final int GPIOA6_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIOA6_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIOA6_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA6_OUT_OFF_MASK = 0xffffffbf;
+    // GPIOA11 group A
+    public static final int GPIOA11_CHIP = 1;
+    public static final int GPIOA11_LINE = 11;
+    public static final int GPIOA11_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA11_IN_ON_MASK = 0x00000800;
+    public static final int GPIOA11_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA11_IN_OFF_MASK = 0x00000800;
+    public static final int GPIOA11_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA11_OUT_ON_MASK = 0x00000800;
+    public static final int GPIOA11_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA11_OUT_OFF_MASK = 0xfffff7ff;
+    // GPIOA12 group A
+    public static final int GPIOA12_CHIP = 1;
+    public static final int GPIOA12_LINE = 12;
+    public static final int GPIOA12_IN_ON_OFFSET = 0x10;
+    public static final int GPIOA12_IN_ON_MASK = 0x00001000;
+    public static final int GPIOA12_IN_OFF_OFFSET = 0x10;
+    public static final int GPIOA12_IN_OFF_MASK = 0x00001000;
+    public static final int GPIOA12_OUT_ON_OFFSET = 0x10;
+    public static final int GPIOA12_OUT_ON_MASK = 0x00001000;
+    public static final int GPIOA12_OUT_OFF_OFFSET = 0x10;
+    public static final int GPIOA12_OUT_OFF_MASK = 0xffffefff;
+    // GPIOC0 group C
+    public static final int GPIOC0_CHIP = 1;
+    public static final int GPIOC0_LINE = 64;
+    public static final int GPIOC0_IN_ON_OFFSET = 0x58;
+    public static final int GPIOC0_IN_ON_MASK = 0x00000001;
+    public static final int GPIOC0_IN_OFF_OFFSET = 0x58;
+    public static final int GPIOC0_IN_OFF_MASK = 0x00000001;
+    public static final int GPIOC0_OUT_ON_OFFSET = 0x58;
+    public static final int GPIOC0_OUT_ON_MASK = 0x00000001;
+    public static final int GPIOC0_OUT_OFF_OFFSET = 0x58;
+    public static final int GPIOC0_OUT_OFF_MASK = 0xfffffffe;
+    // GPIOC1 group C
+    public static final int GPIOC1_CHIP = 1;
+    public static final int GPIOC1_LINE = 65;
+    public static final int GPIOC1_IN_ON_OFFSET = 0x58;
+    public static final int GPIOC1_IN_ON_MASK = 0x00000002;
+    public static final int GPIOC1_IN_OFF_OFFSET = 0x58;
+    public static final int GPIOC1_IN_OFF_MASK = 0x00000002;
+    public static final int GPIOC1_OUT_ON_OFFSET = 0x58;
+    public static final int GPIOC1_OUT_ON_MASK = 0x00000002;
+    public static final int GPIOC1_OUT_OFF_OFFSET = 0x58;
+    public static final int GPIOC1_OUT_OFF_MASK = 0xfffffffd;
+    // GPIOC2 group C
+    public static final int GPIOC2_CHIP = 1;
+    public static final int GPIOC2_LINE = 66;
+    public static final int GPIOC2_IN_ON_OFFSET = 0x58;
+    public static final int GPIOC2_IN_ON_MASK = 0x00000004;
+    public static final int GPIOC2_IN_OFF_OFFSET = 0x58;
+    public static final int GPIOC2_IN_OFF_MASK = 0x00000004;
+    public static final int GPIOC2_OUT_ON_OFFSET = 0x58;
+    public static final int GPIOC2_OUT_ON_MASK = 0x00000004;
+    public static final int GPIOC2_OUT_OFF_OFFSET = 0x58;
+    public static final int GPIOC2_OUT_OFF_MASK = 0xfffffffb;
+    // GPIOC3 group C
+    public static final int GPIOC3_CHIP = 1;
+    public static final int GPIOC3_LINE = 67;
+    public static final int GPIOC3_IN_ON_OFFSET = 0x58;
+    public static final int GPIOC3_IN_ON_MASK = 0x00000008;
+    public static final int GPIOC3_IN_OFF_OFFSET = 0x58;
+    public static final int GPIOC3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIOC3_OUT_ON_OFFSET = 0x58;
+    public static final int GPIOC3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIOC3_OUT_OFF_OFFSET = 0x58;
+    public static final int GPIOC3_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOG6 group G
+    public static final int GPIOG6_CHIP = 1;
+    public static final int GPIOG6_LINE = 198;
+    public static final int GPIOG6_IN_ON_OFFSET = 0xe8;
+    public static final int GPIOG6_IN_ON_MASK = 0x00000040;
+    public static final int GPIOG6_IN_OFF_OFFSET = 0xe8;
+    public static final int GPIOG6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIOG6_OUT_ON_OFFSET = 0xe8;
+    public static final int GPIOG6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIOG6_OUT_OFF_OFFSET = 0xe8;
+    public static final int GPIOG6_OUT_OFF_MASK = 0xffffffbf;
+    // GPIOG7 group G
+    public static final int GPIOG7_CHIP = 1;
+    public static final int GPIOG7_LINE = 199;
+    public static final int GPIOG7_IN_ON_OFFSET = 0xe8;
+    public static final int GPIOG7_IN_ON_MASK = 0x00000080;
+    public static final int GPIOG7_IN_OFF_OFFSET = 0xe8;
+    public static final int GPIOG7_IN_OFF_MASK = 0x00000080;
+    public static final int GPIOG7_OUT_ON_OFFSET = 0xe8;
+    public static final int GPIOG7_OUT_ON_MASK = 0x00000080;
+    public static final int GPIOG7_OUT_OFF_OFFSET = 0xe8;
+    public static final int GPIOG7_OUT_OFF_MASK = 0xffffff7f;
+    // GPIOG8 group G
+    public static final int GPIOG8_CHIP = 1;
+    public static final int GPIOG8_LINE = 200;
+    public static final int GPIOG8_IN_ON_OFFSET = 0xe8;
+    public static final int GPIOG8_IN_ON_MASK = 0x00000100;
+    public static final int GPIOG8_IN_OFF_OFFSET = 0xe8;
+    public static final int GPIOG8_IN_OFF_MASK = 0x00000100;
+    public static final int GPIOG8_OUT_ON_OFFSET = 0xe8;
+    public static final int GPIOG8_OUT_ON_MASK = 0x00000100;
+    public static final int GPIOG8_OUT_OFF_OFFSET = 0xe8;
+    public static final int GPIOG8_OUT_OFF_MASK = 0xfffffeff;
+    // GPIOG9 group G
+    public static final int GPIOG9_CHIP = 1;
+    public static final int GPIOG9_LINE = 201;
+    public static final int GPIOG9_IN_ON_OFFSET = 0xe8;
+    public static final int GPIOG9_IN_ON_MASK = 0x00000200;
+    public static final int GPIOG9_IN_OFF_OFFSET = 0xe8;
+    public static final int GPIOG9_IN_OFF_MASK = 0x00000200;
+    public static final int GPIOG9_OUT_ON_OFFSET = 0xe8;
+    public static final int GPIOG9_OUT_ON_MASK = 0x00000200;
+    public static final int GPIOG9_OUT_OFF_OFFSET = 0xe8;
+    public static final int GPIOG9_OUT_OFF_MASK = 0xfffffdff;
+    // GPIOG11 group G
+    public static final int GPIOG11_CHIP = 1;
+    public static final int GPIOG11_LINE = 203;
+    public static final int GPIOG11_IN_ON_OFFSET = 0xe8;
+    public static final int GPIOG11_IN_ON_MASK = 0x00000800;
+    public static final int GPIOG11_IN_OFF_OFFSET = 0xe8;
+    public static final int GPIOG11_IN_OFF_MASK = 0x00000800;
+    public static final int GPIOG11_OUT_ON_OFFSET = 0xe8;
+    public static final int GPIOG11_OUT_ON_MASK = 0x00000800;
+    public static final int GPIOG11_OUT_OFF_OFFSET = 0xe8;
+    public static final int GPIOG11_OUT_OFF_MASK = 0xfffff7ff;
+
+    /**
+     * Constants only.
+     */
+    private NeoPlus2Pins() {
+    }
+
+    /**
+     * Return pin Map and set chips, chip size, GPIO devices and MMIO path of file without parsing a property file.
+     *
+     * @param file File to set board information on.
+     * @return Pin Map.
+     */
+    public static Map<PinKey, Pin> pinMap(final File file) {
+        file.setDescription(DESCRIPTION);
+        file.setChips(List.of(0x1f02c00L, 0x1c20800L));
+        file.setMmioSize(List.of(36L, 252L));
+        file.setGpioDev(List.of(0, 1));
+        file.setMemPath(MEM_PATH);
+        final Map<PinKey, Pin> pinMap = new TreeMap<>();
+        add(pinMap, new Pin(new PinKey(GPIOL11_CHIP, GPIOL11_LINE), "L", "GPIOL11",
+                new Register("IN_ON", GPIOL11_IN_ON_OFFSET, GPIOL11_IN_ON_MASK),
+                new Register("IN_OFF", GPIOL11_IN_OFF_OFFSET, GPIOL11_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOL11_OUT_ON_OFFSET, GPIOL11_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOL11_OUT_OFF_OFFSET, GPIOL11_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA0_CHIP, GPIOA0_LINE), "A", "GPIOA0",
+                new Register("IN_ON", GPIOA0_IN_ON_OFFSET, GPIOA0_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA0_IN_OFF_OFFSET, GPIOA0_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA0_OUT_ON_OFFSET, GPIOA0_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA0_OUT_OFF_OFFSET, GPIOA0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA1_CHIP, GPIOA1_LINE), "A", "GPIOA1",
+                new Register("IN_ON", GPIOA1_IN_ON_OFFSET, GPIOA1_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA1_IN_OFF_OFFSET, GPIOA1_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA1_OUT_ON_OFFSET, GPIOA1_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA1_OUT_OFF_OFFSET, GPIOA1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA2_CHIP, GPIOA2_LINE), "A", "GPIOA2",
+                new Register("IN_ON", GPIOA2_IN_ON_OFFSET, GPIOA2_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA2_IN_OFF_OFFSET, GPIOA2_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA2_OUT_ON_OFFSET, GPIOA2_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA2_OUT_OFF_OFFSET, GPIOA2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA3_CHIP, GPIOA3_LINE), "A", "GPIOA3",
+                new Register("IN_ON", GPIOA3_IN_ON_OFFSET, GPIOA3_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA3_IN_OFF_OFFSET, GPIOA3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA3_OUT_ON_OFFSET, GPIOA3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA3_OUT_OFF_OFFSET, GPIOA3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA6_CHIP, GPIOA6_LINE), "A", "GPIOA6",
+                new Register("IN_ON", GPIOA6_IN_ON_OFFSET, GPIOA6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA6_IN_OFF_OFFSET, GPIOA6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA6_OUT_ON_OFFSET, GPIOA6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA6_OUT_OFF_OFFSET, GPIOA6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA11_CHIP, GPIOA11_LINE), "A", "GPIOA11",
+                new Register("IN_ON", GPIOA11_IN_ON_OFFSET, GPIOA11_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA11_IN_OFF_OFFSET, GPIOA11_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA11_OUT_ON_OFFSET, GPIOA11_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA11_OUT_OFF_OFFSET, GPIOA11_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA12_CHIP, GPIOA12_LINE), "A", "GPIOA12",
+                new Register("IN_ON", GPIOA12_IN_ON_OFFSET, GPIOA12_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA12_IN_OFF_OFFSET, GPIOA12_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA12_OUT_ON_OFFSET, GPIOA12_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA12_OUT_OFF_OFFSET, GPIOA12_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOC0_CHIP, GPIOC0_LINE), "C", "GPIOC0",
+                new Register("IN_ON", GPIOC0_IN_ON_OFFSET, GPIOC0_IN_ON_MASK),
+                new Register("IN_OFF", GPIOC0_IN_OFF_OFFSET, GPIOC0_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOC0_OUT_ON_OFFSET, GPIOC0_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOC0_OUT_OFF_OFFSET, GPIOC0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOC1_CHIP, GPIOC1_LINE), "C", "GPIOC1",
+                new Register("IN_ON", GPIOC1_IN_ON_OFFSET, GPIOC1_IN_ON_MASK),
+                new Register("IN_OFF", GPIOC1_IN_OFF_OFFSET, GPIOC1_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOC1_OUT_ON_OFFSET, GPIOC1_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOC1_OUT_OFF_OFFSET, GPIOC1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOC2_CHIP, GPIOC2_LINE), "C", "GPIOC2",
+                new Register("IN_ON", GPIOC2_IN_ON_OFFSET, GPIOC2_IN_ON_MASK),
+                new Register("IN_OFF", GPIOC2_IN_OFF_OFFSET, GPIOC2_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOC2_OUT_ON_OFFSET, GPIOC2_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOC2_OUT_OFF_OFFSET, GPIOC2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOC3_CHIP, GPIOC3_LINE), "C", "GPIOC3",
+                new Register("IN_ON", GPIOC3_IN_ON_OFFSET, GPIOC3_IN_ON_MASK),
+                new Register("IN_OFF", GPIOC3_IN_OFF_OFFSET, GPIOC3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOC3_OUT_ON_OFFSET, GPIOC3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOC3_OUT_OFF_OFFSET, GPIOC3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOG6_CHIP, GPIOG6_LINE), "G", "GPIOG6",
+                new Register("IN_ON", GPIOG6_IN_ON_OFFSET, GPIOG6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOG6_IN_OFF_OFFSET, GPIOG6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOG6_OUT_ON_OFFSET, GPIOG6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOG6_OUT_OFF_OFFSET, GPIOG6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOG7_CHIP, GPIOG7_LINE), "G", "GPIOG7",
+                new Register("IN_ON", GPIOG7_IN_ON_OFFSET, GPIOG7_IN_ON_MASK),
+                new Register("IN_OFF", GPIOG7_IN_OFF_OFFSET, GPIOG7_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOG7_OUT_ON_OFFSET, GPIOG7_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOG7_OUT_OFF_OFFSET, GPIOG7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOG8_CHIP, GPIOG8_LINE), "G", "GPIOG8",
+                new Register("IN_ON", GPIOG8_IN_ON_OFFSET, GPIOG8_IN_ON_MASK),
+                new Register("IN_OFF", GPIOG8_IN_OFF_OFFSET, GPIOG8_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOG8_OUT_ON_OFFSET, GPIOG8_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOG8_OUT_OFF_OFFSET, GPIOG8_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOG9_CHIP, GPIOG9_LINE), "G", "GPIOG9",
+                new Register("IN_ON", GPIOG9_IN_ON_OFFSET, GPIOG9_IN_ON_MASK),
+                new Register("IN_OFF", GPIOG9_IN_OFF_OFFSET, GPIOG9_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOG9_OUT_ON_OFFSET, GPIOG9_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOG9_OUT_OFF_OFFSET, GPIOG9_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOG11_CHIP, GPIOG11_LINE), "G", "GPIOG11",
+                new Register("IN_ON", GPIOG11_IN_ON_OFFSET, GPIOG11_IN_ON_MASK),
+                new Register("IN_OFF", GPIOG11_IN_OFF_OFFSET, GPIOG11_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOG11_OUT_ON_OFFSET, GPIOG11_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOG11_OUT_OFF_OFFSET, GPIOG11_OUT_OFF_MASK)));
+        return pinMap;
+    }
+
+    /**
+     * Add pin to Map.
+     *
+     * @param pinMap Pin Map.
+     * @param pin Pin.
+     */
+    private static void add(final Map<PinKey, Pin> pinMap, final Pin pin) {
+        pinMap.put(pin.getKey(), pin);
+    }
+}
@@ -0,0 +1,577 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio.board;
+
+import com.codeferm.periphery.mmio.File;
+import com.codeferm.periphery.mmio.Pin;
+import com.codeferm.periphery.mmio.PinKey;
+import com.codeferm.periphery.mmio.Register;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Pin map for Raspberry Pi 2 and 3 (BCM2836 and BCM2837).
+ *
+ * Generated by com.codeferm.periphery.mmio.File
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PiPins {
+
+    /**
+     * Board description.
+     */
+    public static final String DESCRIPTION = "Raspberry Pi 2 and 3 (BCM2836 and BCM2837)";
+    /**
+     * MMIO path.
+     */
+    public static final String MEM_PATH = "/dev/gpiomem";
+    // GPIO0 group GPLEV0
+    public static final int GPIO0_CHIP = 0;
+    public static final int GPIO0_LINE = 0;
+    public static final int GPIO0_IN_ON_OFFSET = 0x34;
+    public static final int GPIO0_IN_ON_MASK = 0x00000001;
+    public static final int GPIO0_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO0_IN_OFF_MASK = 0x00000001;
+    public static final int GPIO0_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO0_OUT_ON_MASK = 0x00000001;
+    public static final int GPIO0_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO0_OUT_OFF_MASK = 0x00000001;
+    // GPIO1 group GPLEV0
+    public static final int GPIO1_CHIP = 0;
+    public static final int GPIO1_LINE = 1;
+    public static final int GPIO1_IN_ON_OFFSET = 0x34;
+    public static final int GPIO1_IN_ON_MASK = 0x00000002;
+    public static final int GPIO1_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO1_IN_OFF_MASK = 0x00000002;
+    public static final int GPIO1_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO1_OUT_ON_MASK = 0x00000002;
+    public static final int GPIO1_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO1_OUT_OFF_MASK = 0x00000002;
+    // GPIO2 group GPLEV0
+    public static final int GPIO2_CHIP = 0;
+    public static final int GPIO2_LINE = 2;
+    public static final int GPIO2_IN_ON_OFFSET = 0x34;
+    public static final int GPIO2_IN_ON_MASK = 0x00000004;
+    public static final int GPIO2_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO2_IN_OFF_MASK = 0x00000004;
+    public static final int GPIO2_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO2_OUT_ON_MASK = 0x00000004;
+    public static final int GPIO2_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO2_OUT_OFF_MASK = 0x00000004;
+    // GPIO3 group GPLEV0
+    public static final int GPIO3_CHIP = 0;
+    public static final int GPIO3_LINE = 3;
+    public static final int GPIO3_IN_ON_OFFSET = 0x34;
+    public static final int GPIO3_IN_ON_MASK = 0x00000008;
+    public static final int GPIO3_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIO3_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIO3_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO3_OUT_OFF_MASK = 0x00000008;
+    // GPIO4 group GPLEV0
+    public static final int GPIO4_CHIP = 0;
+    public static final int GPIO4_LINE = 4;
+    public static final int GPIO4_IN_ON_OFFSET = 0x34;
+    public static final int GPIO4_IN_ON_MASK = 0x00000010;
+    public static final int GPIO4_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO4_IN_OFF_MASK = 0x00000010;
+    public static final int GPIO4_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO4_OUT_ON_MASK = 0x00000010;
+    public static final int GPIO4_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO4_OUT_OFF_MASK = 0x00000010;
+    // GPIO5 group GPLEV0
+    public static final int GPIO5_CHIP = 0;
+    public static final int GPIO5_LINE = 5;
+    public static final int GPIO5_IN_ON_OFFSET = 0x34;
+    public static final int GPIO5_IN_ON_MASK = 0x00000020;
+    public static final int GPIO5_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO5_IN_OFF_MASK = 0x00000020;
+    public static final int GPIO5_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO5_OUT_ON_MASK = 0x00000020;
+    public static final int GPIO5_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO5_OUT_OFF_MASK = 0x00000020;
+    // GPIO6 group GPLEV0
+    public static final int GPIO6_CHIP = 0;
+    public static final int GPIO6_LINE = 6;
+    public static final int GPIO6_IN_ON_OFFSET = 0x34;
+    public static final int GPIO6_IN_ON_MASK = 0x00000040;
+    public static final int GPIO6_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIO6_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIO6_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO6_OUT_OFF_MASK = 0x00000040;
+    // GPIO6 group GPLEV0
+    public static final int GPIO6_0_7_CHIP = 0;
+    public static final int GPIO6_0_7_LINE = 7;
+    public static final int GPIO6_0_7_IN_ON_OFFSET = 0x34;
+    public static final int GPIO6_0_7_IN_ON_MASK = 0x00000040;
+    public static final int GPIO6_0_7_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO6_0_7_IN_OFF_MASK = 0x00000080;
+    public static final int GPIO6_0_7_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO6_0_7_OUT_ON_MASK = 0x00000040;
+    public static final int GPIO6_0_7_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO6_0_7_OUT_OFF_MASK = 0x00000080;
+    // GPIO6 group GPLEV0
+    public static final int GPIO6_0_8_CHIP = 0;
+    public static final int GPIO6_0_8_LINE = 8;
+    public static final int GPIO6_0_8_IN_ON_OFFSET = 0x34;
+    public static final int GPIO6_0_8_IN_ON_MASK = 0x00000040;
+    public static final int GPIO6_0_8_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO6_0_8_IN_OFF_MASK = 0x00000100;
+    public static final int GPIO6_0_8_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO6_0_8_OUT_ON_MASK = 0x00000040;
+    public static final int GPIO6_0_8_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO6_0_8_OUT_OFF_MASK = 0x00000100;
+    // GPIO9 group GPLEV0
+    public static final int GPIO9_CHIP = 0;
+    public static final int GPIO9_LINE = 9;
+    public static final int GPIO9_IN_ON_OFFSET = 0x34;
+    public static final int GPIO9_IN_ON_MASK = 0x00000200;
+    public static final int GPIO9_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO9_IN_OFF_MASK = 0x00000200;
+    public static final int GPIO9_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO9_OUT_ON_MASK = 0x00000200;
+    public static final int GPIO9_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO9_OUT_OFF_MASK = 0x00000200;
+    // GPIO10 group GPLEV0
+    public static final int GPIO10_CHIP = 0;
+    public static final int GPIO10_LINE = 10;
+    public static final int GPIO10_IN_ON_OFFSET = 0x34;
+    public static final int GPIO10_IN_ON_MASK = 0x00000400;
+    public static final int GPIO10_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO10_IN_OFF_MASK = 0x00000400;
+    public static final int GPIO10_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO10_OUT_ON_MASK = 0x00000400;
+    public static final int GPIO10_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO10_OUT_OFF_MASK = 0x00000400;
+    // GPIO11 group GPLEV0
+    public static final int GPIO11_CHIP = 0;
+    public static final int GPIO11_LINE = 11;
+    public static final int GPIO11_IN_ON_OFFSET = 0x34;
+    public static final int GPIO11_IN_ON_MASK = 0x00000800;
+    public static final int GPIO11_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO11_IN_OFF_MASK = 0x00000800;
+    public static final int GPIO11_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO11_OUT_ON_MASK = 0x00000800;
+    public static final int GPIO11_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO11_OUT_OFF_MASK = 0x00000800;
+    // GPIO12 group GPLEV0
+    public static final int GPIO12_CHIP = 0;
+    public static final int GPIO12_LINE = 12;
+    public static final int GPIO12_IN_ON_OFFSET = 0x34;
+    public static final int GPIO12_IN_ON_MASK = 0x00001000;
+    public static final int GPIO12_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO12_IN_OFF_MASK = 0x00001000;
+    public static final int GPIO12_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO12_OUT_ON_MASK = 0x00001000;
+    public static final int GPIO12_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO12_OUT_OFF_MASK = 0x00001000;
+    // GPIO13 group GPLEV0
+    public static final int GPIO13_CHIP = 0;
+    public static final int GPIO13_LINE = 13;
+    public static final int GPIO13_IN_ON_OFFSET = 0x34;
+    public static final int GPIO13_IN_ON_MASK = 0x00002000;
+    public static final int GPIO13_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO13_IN_OFF_MASK = 0x00002000;
+    public static final int GPIO13_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO13_OUT_ON_MASK = 0x00002000;
+    public static final int GPIO13_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO13_OUT_OFF_MASK = 0x00002000;
+    // GPIO14 group GPLEV0
+    public static final int GPIO14_CHIP = 0;
+    public static final int GPIO14_LINE = 14;
+    public static final int GPIO14_IN_ON_OFFSET = 0x34;
+    public static final int GPIO14_IN_ON_MASK = 0x00004000;
+    public static final int GPIO14_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO14_IN_OFF_MASK = 0x00004000;
+    public static final int GPIO14_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO14_OUT_ON_MASK = 0x00004000;
+    public static final int GPIO14_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO14_OUT_OFF_MASK = 0x00004000;
+    // GPIO15 group GPLEV0
+    public static final int GPIO15_CHIP = 0;
+    public static final int GPIO15_LINE = 15;
+    public static final int GPIO15_IN_ON_OFFSET = 0x34;
+    public static final int GPIO15_IN_ON_MASK = 0x00008000;
+    public static final int GPIO15_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO15_IN_OFF_MASK = 0x00008000;
+    public static final int GPIO15_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO15_OUT_ON_MASK = 0x00008000;
+    public static final int GPIO15_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO15_OUT_OFF_MASK = 0x00008000;
+    // GPIO16 group GPLEV0
+    public static final int GPIO16_CHIP = 0;
+    public static final int GPIO16_LINE = 16;
+    public static final int GPIO16_IN_ON_OFFSET = 0x34;
+    public static final int GPIO16_IN_ON_MASK = 0x00010000;
+    public static final int GPIO16_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO16_IN_OFF_MASK = 0x00010000;
+    public static final int GPIO16_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO16_OUT_ON_MASK = 0x00010000;
+    public static final int GPIO16_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO16_OUT_OFF_MASK = 0x00010000;
+    // GPIO17 group GPLEV0
+    public static final int GPIO17_CHIP = 0;
+    public static final int GPIO17_LINE = 17;
+    public static final int GPIO17_IN_ON_OFFSET = 0x34;
+    public static final int GPIO17_IN_ON_MASK = 0x00020000;
+    public static final int GPIO17_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO17_IN_OFF_MASK = 0x00020000;
+    public static final int GPIO17_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO17_OUT_ON_MASK = 0x00020000;
+    public static final int GPIO17_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO17_OUT_OFF_MASK = 0x00020000;
+    // GPIO18 group GPLEV0
+    public static final int GPIO18_CHIP = 0;
+    public static final int GPIO18_LINE = 18;
+    public static final int GPIO18_IN_ON_OFFSET = 0x34;
+    public static final int GPIO18_IN_ON_MASK = 0x00040000;
+    public static final int GPIO18_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO18_IN_OFF_MASK = 0x00040000;
+    public static final int GPIO18_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO18_OUT_ON_MASK = 0x00040000;
+    public static final int GPIO18_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO18_OUT_OFF_MASK = 0x00040000;
+    // GPIO19 group GPLEV0
+    public static final int GPIO19_CHIP = 0;
+    public static final int GPIO19_LINE = 19;
+    public static final int GPIO19_IN_ON_OFFSET = 0x34;
+    public static final int GPIO19_IN_ON_MASK = 0x00080000;
+    public static final int GPIO19_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO19_IN_OFF_MASK = 0x00080000;
+    public static final int GPIO19_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO19_OUT_ON_MASK = 0x00080000;
+    public static final int GPIO19_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO19_OUT_OFF_MASK = 0x00080000;
+    // GPIO20 group GPLEV0
+    public static final int GPIO20_CHIP = 0;
+    public static final int GPIO20_LINE = 20;
+    public static final int GPIO20_IN_ON_OFFSET = 0x34;
+    public static final int GPIO20_IN_ON_MASK = 0x00100000;
+    public static final int GPIO20_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO20_IN_OFF_MASK = 0x00100000;
+    public static final int GPIO20_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO20_OUT_ON_MASK = 0x00100000;
+    public static final int GPIO20_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO20_OUT_OFF_MASK = 0x00100000;
+    // GPIO21 group GPLEV0
+    public static final int GPIO21_CHIP = 0;
+    public static final int GPIO21_LINE = 21;
+    public static final int GPIO21_IN_ON_OFFSET = 0x34;
+    public static final int GPIO21_IN_ON_MASK = 0x00200000;
+    public static final int GPIO21_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO21_IN_OFF_MASK = 0x00200000;
+    public static final int GPIO21_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO21_OUT_ON_MASK = 0x00200000;
+    public static final int GPIO21_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO21_OUT_OFF_MASK = 0x00200000;
+    // GPIO22 group GPLEV0
+    public static final int GPIO22_CHIP = 0;
+    public static final int GPIO22_LINE = 22;
+    public static final int GPIO22_IN_ON_OFFSET = 0x34;
+    public static final int GPIO22_IN_ON_MASK = 0x00400000;
+    public static final int GPIO22_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO22_IN_OFF_MASK = 0x00400000;
+    public static final int GPIO22_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO22_OUT_ON_MASK = 0x00400000;
+    public static final int GPIO22_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO22_OUT_OFF_MASK = 0x00400000;
+    // GPIO23 group GPLEV0
+    public static final int GPIO23_CHIP = 0;
+    public static final int GPIO23_LINE = 23;
+    public static final int GPIO23_IN_ON_OFFSET = 0x34;
+    public static final int GPIO23_IN_ON_MASK = 0x00800000;
+    public static final int GPIO23_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO23_IN_OFF_MASK = 0x00800000;
+    public static final int GPIO23_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO23_OUT_ON_MASK = 0x00800000;
+    public static final int GPIO23_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO23_OUT_OFF_MASK = 0x00800000;
+    // GPIO24 group GPLEV0
+    public static final int GPIO24_CHIP = 0;
+    public static final int GPIO24_LINE = 24;
+    public static final int GPIO24_IN_ON_OFFSET = 0x34;
+    public static final int GPIO24_IN_ON_MASK = 0x01000000;
+    public static final int GPIO24_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO24_IN_OFF_MASK = 0x01000000;
+    public static final int GPIO24_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO24_OUT_ON_MASK = 0x01000000;
+    public static final int GPIO24_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO24_OUT_OFF_MASK = 0x01000000;
+    // GPIO25 group GPLEV0
+    public static final int GPIO25_CHIP = 0;
+    public static final int GPIO25_LINE = 25;
+    public static final int GPIO25_IN_ON_OFFSET = 0x34;
+    public static final int GPIO25_IN_ON_MASK = 0x02000000;
+    public static final int GPIO25_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO25_IN_OFF_MASK = 0x02000000;
+    public static final int GPIO25_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO25_OUT_ON_MASK = 0x02000000;
+    public static final int GPIO25_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO25_OUT_OFF_MASK = 0x02000000;
+    // GPIO26 group GPLEV0
+    public static final int GPIO26_CHIP = 0;
+    public static final int GPIO26_LINE = 26;
+    public static final int GPIO26_IN_ON_OFFSET = 0x34;
+    public static final int GPIO26_IN_ON_MASK = 0x04000000;
+    public static final int GPIO26_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO26_IN_OFF_MASK = 0x04000000;
+    public static final int GPIO26_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO26_OUT_ON_MASK = 0x04000000;
+    public static final int GPIO26_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO26_OUT_OFF_MASK = 0x04000000;
+    // GPIO27 group GPLEV0
+    public static final int GPIO27_CHIP = 0;
+    public static final int GPIO27_LINE = 27;
+    public static final int GPIO27_IN_ON_OFFSET = 0x34;
+    public static final int GPIO27_IN_ON_MASK = 0x08000000;
+    public static final int GPIO27_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO27_IN_OFF_MASK = 0x08000000;
+    public static final int GPIO27_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO27_OUT_ON_MASK = 0x08000000;
+    public static final int GPIO27_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO27_OUT_OFF_MASK = 0x08000000;
+    // GPIO28 group GPLEV0
+    public static final int GPIO28_CHIP = 0;
+    public static final int GPIO28_LINE = 28;
+    public static final int GPIO28_IN_ON_OFFSET = 0x34;
+    public static final int GPIO28_IN_ON_MASK = 0x10000000;
+    public static final int GPIO28_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO28_IN_OFF_MASK = 0x10000000;
+    public static final int GPIO28_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO28_OUT_ON_MASK = 0x10000000;
+    public static final int GPIO28_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO28_OUT_OFF_MASK = 0x10000000;
+    // GPIO29 group GPLEV0
+    public static final int GPIO29_CHIP = 0;
+    public static final int GPIO29_LINE = 29;
+    public static final int GPIO29_IN_ON_OFFSET = 0x34;
+    public static final int GPIO29_IN_ON_MASK = 0x20000000;
+    public static final int GPIO29_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO29_IN_OFF_MASK = 0x20000000;
+    public static final int GPIO29_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO29_OUT_ON_MASK = 0x20000000;
+    public static final int GPIO29_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO29_OUT_OFF_MASK = 0x20000000;
+    // GPIO30 group GPLEV0
+    public static final int GPIO30_CHIP = 0;
+    public static final int GPIO30_LINE = 30;
+    public static final int GPIO30_IN_ON_OFFSET = 0x34;
+    public static final int GPIO30_IN_ON_MASK = 0x40000000;
+    public static final int GPIO30_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO30_IN_OFF_MASK = 0x40000000;
+    public static final int GPIO30_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO30_OUT_ON_MASK = 0x40000000;
+    public static final int GPIO30_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO30_OUT_OFF_MASK = 0x40000000;
+    // GPIO31 group GPLEV0
+    public static final int GPIO31_CHIP = 0;
+    public static final int GPIO31_LINE = 31;
+    public static final int GPIO31_IN_ON_OFFSET = 0x34;
+    public static final int GPIO31_IN_ON_MASK = 0x80000000;
+    public static final int GPIO31_IN_OFF_OFFSET = 0x34;
+    public static final int GPIO31_IN_OFF_MASK = 0x80000000;
+    public static final int GPIO31_OUT_ON_OFFSET = 0x1c;
+    public static final int GPIO31_OUT_ON_MASK = 0x80000000;
+    public static final int GPIO31_OUT_OFF_OFFSET = 0x28;
+    public static final int GPIO31_OUT_OFF_MASK = 0x80000000;
+
+    /**
+     * Constants only.
+     */
+    private PiPins() {
+    }
+
+    /**
+     * Return pin Map and set chips, chip size, GPIO devices and MMIO path of file without parsing a property file.
+     *
+     * @param file File to set board information on.
+     * @return Pin Map.
+     */
+    public static Map<PinKey, Pin> pinMap(final File file) {
+        file.setDescription(DESCRIPTION);
+        file.setChips(List.of(0x3f200000L));
+        file.setMmioSize(List.of(256L));
+        file.setGpioDev(List.of(0));
+        file.setMemPath(MEM_PATH);
+        final Map<PinKey, Pin> pinMap = new TreeMap<>();
+        add(pinMap, new Pin(new PinKey(GPIO0_CHIP, GPIO0_LINE), "GPLEV0", "GPIO0",
+                new Register("IN_ON", GPIO0_IN_ON_OFFSET, GPIO0_IN_ON_MASK),
+                new Register("IN_OFF", GPIO0_IN_OFF_OFFSET, GPIO0_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO0_OUT_ON_OFFSET, GPIO0_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO0_OUT_OFF_OFFSET, GPIO0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO1_CHIP, GPIO1_LINE), "GPLEV0", "GPIO1",
+                new Register("IN_ON", GPIO1_IN_ON_OFFSET, GPIO1_IN_ON_MASK),
+                new Register("IN_OFF", GPIO1_IN_OFF_OFFSET, GPIO1_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO1_OUT_ON_OFFSET, GPIO1_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO1_OUT_OFF_OFFSET, GPIO1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO2_CHIP, GPIO2_LINE), "GPLEV0", "GPIO2",
+                new Register("IN_ON", GPIO2_IN_ON_OFFSET, GPIO2_IN_ON_MASK),
+                new Register("IN_OFF", GPIO2_IN_OFF_OFFSET, GPIO2_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO2_OUT_ON_OFFSET, GPIO2_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO2_OUT_OFF_OFFSET, GPIO2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO3_CHIP, GPIO3_LINE), "GPLEV0", "GPIO3",
+                new Register("IN_ON", GPIO3_IN_ON_OFFSET, GPIO3_IN_ON_MASK),
+                new Register("IN_OFF", GPIO3_IN_OFF_OFFSET, GPIO3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO3_OUT_ON_OFFSET, GPIO3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO3_OUT_OFF_OFFSET, GPIO3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO4_CHIP, GPIO4_LINE), "GPLEV0", "GPIO4",
+                new Register("IN_ON", GPIO4_IN_ON_OFFSET, GPIO4_IN_ON_MASK),
+                new Register("IN_OFF", GPIO4_IN_OFF_OFFSET, GPIO4_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO4_OUT_ON_OFFSET, GPIO4_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO4_OUT_OFF_OFFSET, GPIO4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO5_CHIP, GPIO5_LINE), "GPLEV0", "GPIO5",
+                new Register("IN_ON", GPIO5_IN_ON_OFFSET, GPIO5_IN_ON_MASK),
+                new Register("IN_OFF", GPIO5_IN_OFF_OFFSET, GPIO5_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO5_OUT_ON_OFFSET, GPIO5_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO5_OUT_OFF_OFFSET, GPIO5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO6_CHIP, GPIO6_LINE), "GPLEV0", "GPIO6",
+                new Register("IN_ON", GPIO6_IN_ON_OFFSET, GPIO6_IN_ON_MASK),
+                new Register("IN_OFF", GPIO6_IN_OFF_OFFSET, GPIO6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO6_OUT_ON_OFFSET, GPIO6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO6_OUT_OFF_OFFSET, GPIO6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO6_0_7_CHIP, GPIO6_0_7_LINE), "GPLEV0", "GPIO6",
+                new Register("IN_ON", GPIO6_0_7_IN_ON_OFFSET, GPIO6_0_7_IN_ON_MASK),
+                new Register("IN_OFF", GPIO6_0_7_IN_OFF_OFFSET, GPIO6_0_7_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO6_0_7_OUT_ON_OFFSET, GPIO6_0_7_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO6_0_7_OUT_OFF_OFFSET, GPIO6_0_7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO6_0_8_CHIP, GPIO6_0_8_LINE), "GPLEV0", "GPIO6",
+                new Register("IN_ON", GPIO6_0_8_IN_ON_OFFSET, GPIO6_0_8_IN_ON_MASK),
+                new Register("IN_OFF", GPIO6_0_8_IN_OFF_OFFSET, GPIO6_0_8_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO6_0_8_OUT_ON_OFFSET, GPIO6_0_8_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO6_0_8_OUT_OFF_OFFSET, GPIO6_0_8_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO9_CHIP, GPIO9_LINE), "GPLEV0", "GPIO9",
+                new Register("IN_ON", GPIO9_IN_ON_OFFSET, GPIO9_IN_ON_MASK),
+                new Register("IN_OFF", GPIO9_IN_OFF_OFFSET, GPIO9_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO9_OUT_ON_OFFSET, GPIO9_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO9_OUT_OFF_OFFSET, GPIO9_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO10_CHIP, GPIO10_LINE), "GPLEV0", "GPIO10",
+                new Register("IN_ON", GPIO10_IN_ON_OFFSET, GPIO10_IN_ON_MASK),
+                new Register("IN_OFF", GPIO10_IN_OFF_OFFSET, GPIO10_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO10_OUT_ON_OFFSET, GPIO10_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO10_OUT_OFF_OFFSET, GPIO10_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO11_CHIP, GPIO11_LINE), "GPLEV0", "GPIO11",
+                new Register("IN_ON", GPIO11_IN_ON_OFFSET, GPIO11_IN_ON_MASK),
+                new Register("IN_OFF", GPIO11_IN_OFF_OFFSET, GPIO11_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO11_OUT_ON_OFFSET, GPIO11_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO11_OUT_OFF_OFFSET, GPIO11_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO12_CHIP, GPIO12_LINE), "GPLEV0", "GPIO12",
+                new Register("IN_ON", GPIO12_IN_ON_OFFSET, GPIO12_IN_ON_MASK),
+                new Register("IN_OFF", GPIO12_IN_OFF_OFFSET, GPIO12_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO12_OUT_ON_OFFSET, GPIO12_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO12_OUT_OFF_OFFSET, GPIO12_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO13_CHIP, GPIO13_LINE), "GPLEV0", "GPIO13",
+                new Register("IN_ON", GPIO13_IN_ON_OFFSET, GPIO13_IN_ON_MASK),
+                new Register("IN_OFF", GPIO13_IN_OFF_OFFSET, GPIO13_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO13_OUT_ON_OFFSET, GPIO13_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO13_OUT_OFF_OFFSET, GPIO13_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO14_CHIP, GPIO14_LINE), "GPLEV0", "GPIO14",
+                new Register("IN_ON", GPIO14_IN_ON_OFFSET, GPIO14_IN_ON_MASK),
+                new Register("IN_OFF", GPIO14_IN_OFF_OFFSET, GPIO14_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO14_OUT_ON_OFFSET, GPIO14_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO14_OUT_OFF_OFFSET, GPIO14_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO15_CHIP, GPIO15_LINE), "GPLEV0", "GPIO15",
+                new Register("IN_ON", GPIO15_IN_ON_OFFSET, GPIO15_IN_ON_MASK),
+                new Register("IN_OFF", GPIO15_IN_OFF_OFFSET, GPIO15_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO15_OUT_ON_OFFSET, GPIO15_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO15_OUT_OFF_OFFSET, GPIO15_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO16_CHIP, GPIO16_LINE), "GPLEV0", "GPIO16",
+                new Register("IN_ON", GPIO16_IN_ON_OFFSET, GPIO16_IN_ON_MASK),
+                new Register("IN_OFF", GPIO16_IN_OFF_OFFSET, GPIO16_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO16_OUT_ON_OFFSET, GPIO16_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO16_OUT_OFF_OFFSET, GPIO16_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO17_CHIP, GPIO17_LINE), "GPLEV0", "GPIO17",
+                new Register("IN_ON", GPIO17_IN_ON_OFFSET, GPIO17_IN_ON_MASK),
+                new Register("IN_OFF", GPIO17_IN_OFF_OFFSET, GPIO17_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO17_OUT_ON_OFFSET, GPIO17_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO17_OUT_OFF_OFFSET, GPIO17_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO18_CHIP, GPIO18_LINE), "GPLEV0", "GPIO18",
+                new Register("IN_ON", GPIO18_IN_ON_OFFSET, GPIO18_IN_ON_MASK),
+                new Register("IN_OFF", GPIO18_IN_OFF_OFFSET, GPIO18_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO18_OUT_ON_OFFSET, GPIO18_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO18_OUT_OFF_OFFSET, GPIO18_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO19_CHIP, GPIO19_LINE), "GPLEV0", "GPIO19",
+                new Register("IN_ON", GPIO19_IN_ON_OFFSET, GPIO19_IN_ON_MASK),
+                new Register("IN_OFF", GPIO19_IN_OFF_OFFSET, GPIO19_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO19_OUT_ON_OFFSET, GPIO19_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO19_OUT_OFF_OFFSET, GPIO19_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO20_CHIP, GPIO20_LINE), "GPLEV0", "GPIO20",
+                new Register("IN_ON", GPIO20_IN_ON_OFFSET, GPIO20_IN_ON_MASK),
+                new Register("IN_OFF", GPIO20_IN_OFF_OFFSET, GPIO20_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO20_OUT_ON_OFFSET, GPIO20_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO20_OUT_OFF_OFFSET, GPIO20_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO21_CHIP, GPIO21_LINE), "GPLEV0", "GPIO21",
+                new Register("IN_ON", GPIO21_IN_ON_OFFSET, GPIO21_IN_ON_MASK),
+                new Register("IN_OFF", GPIO21_IN_OFF_OFFSET, GPIO21_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO21_OUT_ON_OFFSET, GPIO21_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO21_OUT_OFF_OFFSET, GPIO21_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO22_CHIP, GPIO22_LINE), "GPLEV0", "GPIO22",
+                new Register("IN_ON", GPIO22_IN_ON_OFFSET, GPIO22_IN_ON_MASK),
+                new Register("IN_OFF", GPIO22_IN_OFF_OFFSET, GPIO22_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO22_OUT_ON_OFFSET, GPIO22_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO22_OUT_OFF_OFFSET, GPIO22_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO23_CHIP, GPIO23_LINE), "GPLEV0", "GPIO23",
+                new Register("IN_ON", GPIO23_IN_ON_OFFSET, GPIO23_IN_ON_MASK),
+                new Register("IN_OFF", GPIO23_IN_OFF_OFFSET, GPIO23_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO23_OUT_ON_OFFSET, GPIO23_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO23_OUT_OFF_OFFSET, GPIO23_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO24_CHIP, GPIO24_LINE), "GPLEV0", "GPIO24",
+                new Register("IN_ON", GPIO24_IN_ON_OFFSET, GPIO24_IN_ON_MASK),
+                new Register("IN_OFF", GPIO24_IN_OFF_OFFSET, GPIO24_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO24_OUT_ON_OFFSET, GPIO24_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO24_OUT_OFF_OFFSET, GPIO24_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO25_CHIP, GPIO25_LINE), "GPLEV0", "GPIO25",
+                new Register("IN_ON", GPIO25_IN_ON_OFFSET, GPIO25_IN_ON_MASK),
+                new Register("IN_OFF", GPIO25_IN_OFF_OFFSET, GPIO25_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO25_OUT_ON_OFFSET, GPIO25_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO25_OUT_OFF_OFFSET, GPIO25_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO26_CHIP, GPIO26_LINE), "GPLEV0", "GPIO26",
+                new Register("IN_ON", GPIO26_IN_ON_OFFSET, GPIO26_IN_ON_MASK),
+                new Register("IN_OFF", GPIO26_IN_OFF_OFFSET, GPIO26_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO26_OUT_ON_OFFSET, GPIO26_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO26_OUT_OFF_OFFSET, GPIO26_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO27_CHIP, GPIO27_LINE), "GPLEV0", "GPIO27",
+                new Register("IN_ON", GPIO27_IN_ON_OFFSET, GPIO27_IN_ON_MASK),
+                new Register("IN_OFF", GPIO27_IN_OFF_OFFSET, GPIO27_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO27_OUT_ON_OFFSET, GPIO27_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO27_OUT_OFF_OFFSET, GPIO27_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO28_CHIP, GPIO28_LINE), "GPLEV0", "GPIO28",
+                new Register("IN_ON", GPIO28_IN_ON_OFFSET, GPIO28_IN_ON_MASK),
+                new Register("IN_OFF", GPIO28_IN_OFF_OFFSET, GPIO28_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO28_OUT_ON_OFFSET, GPIO28_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO28_OUT_OFF_OFFSET, GPIO28_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO29_CHIP, GPIO29_LINE), "GPLEV0", "GPIO29",
+                new Register("IN_ON", GPIO29_IN_ON_OFFSET, GPIO29_IN_ON_MASK),
+                new Register("IN_OFF", GPIO29_IN_OFF_OFFSET, GPIO29_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO29_OUT_ON_OFFSET, GPIO29_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO29_OUT_OFF_OFFSET, GPIO29_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO30_CHIP, GPIO30_LINE), "GPLEV0", "GPIO30",
+                new Register("IN_ON", GPIO30_IN_ON_OFFSET, GPIO30_IN_ON_MASK),
+                new Register("IN_OFF", GPIO30_IN_OFF_OFFSET, GPIO30_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO30_OUT_ON_OFFSET, GPIO30_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO30_OUT_OFF_OFFSET, GPIO30_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIO31_CHIP, GPIO31_LINE), "GPLEV0", "GPIO31",
+                new Register("IN_ON", GPIO31_IN_ON_OFFSET, GPIO31_IN_ON_MASK),
+                new Register("IN_OFF", GPIO31_IN_OFF_OFFSET, GPIO31_IN_OFF_MASK),
+                new Register("OUT_ON", GPIO31_OUT_ON_OFFSET, GPIO31_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIO31_OUT_OFF_OFFSET, GPIO31_OUT_OFF_MASK)));
+        return pinMap;
+    }
+
+    /**
+     * Add pin to Map.
+     *
+     * @param pinMap Pin Map.
+     * @param pin Pin.
+     */
+    private static void add(final Map<PinKey, Pin> pinMap, final Pin pin) {
+        pinMap.put(pin.getKey(), pin);
+    }
+}
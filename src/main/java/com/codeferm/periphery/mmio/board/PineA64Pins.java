@@ -0,0 +1,801 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio.board;
+
+import com.codeferm.periphery.mmio.File;
+import com.codeferm.periphery.mmio.Pin;
+import com.codeferm.periphery.mmio.PinKey;
+import com.codeferm.periphery.mmio.Register;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Pin map for Pine A64, A64+ Rev B and Rev C.
+ *
+ * Generated by com.codeferm.periphery.mmio.File
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PineA64Pins {
+
+    /**
+     * Board description.
+     */
+    public static final String DESCRIPTION = "Pine A64, A64+ Rev B and Rev C";
+    /**
+     * MMIO path.
+     */
+    public static final String MEM_PATH = "/dev/mem";
+    // PB0 group B
+    public static final int PB0_CHIP = 1;
+    public static final int PB0_LINE = 32;
+    public static final int PB0_IN_ON_OFFSET = 0x34;
+    public static final int PB0_IN_ON_MASK = 0x00000001;
+    public static final int PB0_IN_OFF_OFFSET = 0x34;
+    public static final int PB0_IN_OFF_MASK = 0x00000001;
+    public static final int PB0_OUT_ON_OFFSET = 0x34;
+    public static final int PB0_OUT_ON_MASK = 0x00000001;
+    public static final int PB0_OUT_OFF_OFFSET = 0x34;
+    public static final int PB0_OUT_OFF_MASK = 0xfffffffe;
+    // PB1 group B
+    public static final int PB1_CHIP = 1;
+    public static final int PB1_LINE = 33;
+    public static final int PB1_IN_ON_OFFSET = 0x34;
+    public static final int PB1_IN_ON_MASK = 0x00000002;
+    public static final int PB1_IN_OFF_OFFSET = 0x34;
+    public static final int PB1_IN_OFF_MASK = 0x00000002;
+    public static final int PB1_OUT_ON_OFFSET = 0x34;
+    public static final int PB1_OUT_ON_MASK = 0x00000002;
+    public static final int PB1_OUT_OFF_OFFSET = 0x34;
+    public static final int PB1_OUT_OFF_MASK = 0xfffffffd;
+    // PB2 group B
+    public static final int PB2_CHIP = 1;
+    public static final int PB2_LINE = 34;
+    public static final int PB2_IN_ON_OFFSET = 0x34;
+    public static final int PB2_IN_ON_MASK = 0x00000004;
+    public static final int PB2_IN_OFF_OFFSET = 0x34;
+    public static final int PB2_IN_OFF_MASK = 0x00000004;
+    public static final int PB2_OUT_ON_OFFSET = 0x34;
+    public static final int PB2_OUT_ON_MASK = 0x00000004;
+    public static final int PB2_OUT_OFF_OFFSET = 0x34;
+    public static final int PB2_OUT_OFF_MASK = 0xfffffffb;
+    // PB3 group B
+    public static final int PB3_CHIP = 1;
+    public static final int PB3_LINE = 35;
+    public static final int PB3_IN_ON_OFFSET = 0x34;
+    public static final int PB3_IN_ON_MASK = 0x00000008;
+    public static final int PB3_IN_OFF_OFFSET = 0x34;
+    public static final int PB3_IN_OFF_MASK = 0x00000008;
+    public static final int PB3_OUT_ON_OFFSET = 0x34;
+    public static final int PB3_OUT_ON_MASK = 0x00000008;
+    public static final int PB3_OUT_OFF_OFFSET = 0x34;
+    public static final int PB3_OUT_OFF_MASK = 0xfffffff7;
+    // PB4 group B
+    public static final int PB4_CHIP = 1;
+    public static final int PB4_LINE = 36;
+    public static final int PB4_IN_ON_OFFSET = 0x34;
+    public static final int PB4_IN_ON_MASK = 0x00000010;
+    public static final int PB4_IN_OFF_OFFSET = 0x34;
+    public static final int PB4_IN_OFF_MASK = 0x00000010;
+    public static final int PB4_OUT_ON_OFFSET = 0x34;
+    public static final int PB4_OUT_ON_MASK = 0x00000010;
+    public static final int PB4_OUT_OFF_OFFSET = 0x34;
+    public static final int PB4_OUT_OFF_MASK = 0xffffffef;
+    // PB5 group B
+    public static final int PB5_CHIP = 1;
+    public static final int PB5_LINE = 37;
+    public static final int PB5_IN_ON_OFFSET = 0x34;
+    public static final int PB5_IN_ON_MASK = 0x00000020;
+    public static final int PB5_IN_OFF_OFFSET = 0x34;
+    public static final int PB5_IN_OFF_MASK = 0x00000020;
+    public static final int PB5_OUT_ON_OFFSET = 0x34;
+    public static final int PB5_OUT_ON_MASK = 0x00000020;
+    public static final int PB5_OUT_OFF_OFFSET = 0x34;
+    public static final int PB5_OUT_OFF_MASK = 0xffffffdf;
+    // PB6 group B
+    public static final int PB6_CHIP = 1;
+    public static final int PB6_LINE = 38;
+    public static final int PB6_IN_ON_OFFSET = 0x34;
+    public static final int PB6_IN_ON_MASK = 0x00000040;
+    public static final int PB6_IN_OFF_OFFSET = 0x34;
+    public static final int PB6_IN_OFF_MASK = 0x00000040;
+    public static final int PB6_OUT_ON_OFFSET = 0x34;
+    public static final int PB6_OUT_ON_MASK = 0x00000040;
+    public static final int PB6_OUT_OFF_OFFSET = 0x34;
+    public static final int PB6_OUT_OFF_MASK = 0xffffffbf;
+    // PB7 group B
+    public static final int PB7_CHIP = 1;
+    public static final int PB7_LINE = 39;
+    public static final int PB7_IN_ON_OFFSET = 0x34;
+    public static final int PB7_IN_ON_MASK = 0x00000080;
+    public static final int PB7_IN_OFF_OFFSET = 0x34;
+    public static final int PB7_IN_OFF_MASK = 0x00000080;
+    public static final int PB7_OUT_ON_OFFSET = 0x34;
+    public static final int PB7_OUT_ON_MASK = 0x00000080;
+    public static final int PB7_OUT_OFF_OFFSET = 0x34;
+    public static final int PB7_OUT_OFF_MASK = 0xffffff7f;
+    // PB8 group B
+    public static final int PB8_CHIP = 1;
+    public static final int PB8_LINE = 40;
+    public static final int PB8_IN_ON_OFFSET = 0x34;
+    public static final int PB8_IN_ON_MASK = 0x00000100;
+    public static final int PB8_IN_OFF_OFFSET = 0x34;
+    public static final int PB8_IN_OFF_MASK = 0x00000100;
+    public static final int PB8_OUT_ON_OFFSET = 0x34;
+    public static final int PB8_OUT_ON_MASK = 0x00000100;
+    public static final int PB8_OUT_OFF_OFFSET = 0x34;
+    public static final int PB8_OUT_OFF_MASK = 0xfffffeff;
+    // PB9 group B
+    public static final int PB9_CHIP = 1;
+    public static final int PB9_LINE = 41;
+    public static final int PB9_IN_ON_OFFSET = 0x34;
+    public static final int PB9_IN_ON_MASK = 0x00000200;
+    public static final int PB9_IN_OFF_OFFSET = 0x34;
+    public static final int PB9_IN_OFF_MASK = 0x00000200;
+    public static final int PB9_OUT_ON_OFFSET = 0x34;
+    public static final int PB9_OUT_ON_MASK = 0x00000200;
+    public static final int PB9_OUT_OFF_OFFSET = 0x34;
+    public static final int PB9_OUT_OFF_MASK = 0xfffffdff;
+    // PC1 group C
+    public static final int PC1_CHIP = 1;
+    public static final int PC1_LINE = 65;
+    public static final int PC1_IN_ON_OFFSET = 0x58;
+    public static final int PC1_IN_ON_MASK = 0x00000002;
+    public static final int PC1_IN_OFF_OFFSET = 0x58;
+    public static final int PC1_IN_OFF_MASK = 0x00000002;
+    public static final int PC1_OUT_ON_OFFSET = 0x58;
+    public static final int PC1_OUT_ON_MASK = 0x00000002;
+    public static final int PC1_OUT_OFF_OFFSET = 0x58;
+    public static final int PC1_OUT_OFF_MASK = 0xfffffffd;
+    // PC2 group C
+    public static final int PC2_CHIP = 1;
+    public static final int PC2_LINE = 66;
+    public static final int PC2_IN_ON_OFFSET = 0x58;
+    public static final int PC2_IN_ON_MASK = 0x00000004;
+    public static final int PC2_IN_OFF_OFFSET = 0x58;
+    public static final int PC2_IN_OFF_MASK = 0x00000004;
+    public static final int PC2_OUT_ON_OFFSET = 0x58;
+    public static final int PC2_OUT_ON_MASK = 0x00000004;
+    public static final int PC2_OUT_OFF_OFFSET = 0x58;
+    public static final int PC2_OUT_OFF_MASK = 0xfffffffb;
+    // PC3 group C
+    public static final int PC3_CHIP = 1;
+    public static final int PC3_LINE = 67;
+    public static final int PC3_IN_ON_OFFSET = 0x58;
+    public static final int PC3_IN_ON_MASK = 0x00000008;
+    public static final int PC3_IN_OFF_OFFSET = 0x58;
+    public static final int PC3_IN_OFF_MASK = 0x00000008;
+    public static final int PC3_OUT_ON_OFFSET = 0x58;
+    public static final int PC3_OUT_ON_MASK = 0x00000008;
+    public static final int PC3_OUT_OFF_OFFSET = 0x58;
+    public static final int PC3_OUT_OFF_MASK = 0xfffffff7;
+    // PC4 group C
+    public static final int PC4_CHIP = 1;
+    public static final int PC4_LINE = 68;
+    public static final int PC4_IN_ON_OFFSET = 0x58;
+    public static final int PC4_IN_ON_MASK = 0x00000010;
+    public static final int PC4_IN_OFF_OFFSET = 0x58;
+    public static final int PC4_IN_OFF_MASK = 0x00000010;
+    public static final int PC4_OUT_ON_OFFSET = 0x58;
+    public static final int PC4_OUT_ON_MASK = 0x00000010;
+    public static final int PC4_OUT_OFF_OFFSET = 0x58;
+    public static final int PC4_OUT_OFF_MASK = 0xffffffef;
+    // PC5 group C
+    public static final int PC5_CHIP = 1;
+    public static final int PC5_LINE = 69;
+    public static final int PC5_IN_ON_OFFSET = 0x58;
+    public static final int PC5_IN_ON_MASK = 0x00000020;
+    public static final int PC5_IN_OFF_OFFSET = 0x58;
+    public static final int PC5_IN_OFF_MASK = 0x00000020;
+    public static final int PC5_OUT_ON_OFFSET = 0x58;
+    public static final int PC5_OUT_ON_MASK = 0x00000020;
+    public static final int PC5_OUT_OFF_OFFSET = 0x58;
+    public static final int PC5_OUT_OFF_MASK = 0xffffffdf;
+    // PC6 group C
+    public static final int PC6_CHIP = 1;
+    public static final int PC6_LINE = 70;
+    public static final int PC6_IN_ON_OFFSET = 0x58;
+    public static final int PC6_IN_ON_MASK = 0x00000040;
+    public static final int PC6_IN_OFF_OFFSET = 0x58;
+    public static final int PC6_IN_OFF_MASK = 0x00000040;
+    public static final int PC6_OUT_ON_OFFSET = 0x58;
+    public static final int PC6_OUT_ON_MASK = 0x00000040;
+    public static final int PC6_OUT_OFF_OFFSET = 0x58;
+    public static final int PC6_OUT_OFF_MASK = 0xffffffbf;
+    // PC7 group C
+    public static final int PC7_CHIP = 1;
+    public static final int PC7_LINE = 71;
+    public static final int PC7_IN_ON_OFFSET = 0x58;
+    public static final int PC7_IN_ON_MASK = 0x00000080;
+    public static final int PC7_IN_OFF_OFFSET = 0x58;
+    public static final int PC7_IN_OFF_MASK = 0x00000080;
+    public static final int PC7_OUT_ON_OFFSET = 0x58;
+    public static final int PC7_OUT_ON_MASK = 0x00000080;
+    public static final int PC7_OUT_OFF_OFFSET = 0x58;
+    public static final int PC7_OUT_OFF_MASK = 0xffffff7f;
+    // PC8 group C
+    public static final int PC8_CHIP = 1;
+    public static final int PC8_LINE = 72;
+    public static final int PC8_IN_ON_OFFSET = 0x58;
+    public static final int PC8_IN_ON_MASK = 0x00000100;
+    public static final int PC8_IN_OFF_OFFSET = 0x58;
+    public static final int PC8_IN_OFF_MASK = 0x00000100;
+    public static final int PC8_OUT_ON_OFFSET = 0x58;
+    public static final int PC8_OUT_ON_MASK = 0x00000100;
+    public static final int PC8_OUT_OFF_OFFSET = 0x58;
+    public static final int PC8_OUT_OFF_MASK = 0xfffffeff;
+    // PC9 group C
+    public static final int PC9_CHIP = 1;
+    public static final int PC9_LINE = 73;
+    public static final int PC9_IN_ON_OFFSET = 0x58;
+    public static final int PC9_IN_ON_MASK = 0x00000200;
+    public static final int PC9_IN_OFF_OFFSET = 0x58;
+    public static final int PC9_IN_OFF_MASK = 0x00000200;
+    public static final int PC9_OUT_ON_OFFSET = 0x58;
+    public static final int PC9_OUT_ON_MASK = 0x00000200;
+    public static final int PC9_OUT_OFF_OFFSET = 0x58;
+    public static final int PC9_OUT_OFF_MASK = 0xfffffdff;
+    // PC10 group C
+    public static final int PC10_CHIP = 1;
+    public static final int PC10_LINE = 74;
+    public static final int PC10_IN_ON_OFFSET = 0x58;
+    public static final int PC10_IN_ON_MASK = 0x00000400;
+    public static final int PC10_IN_OFF_OFFSET = 0x58;
+    public static final int PC10_IN_OFF_MASK = 0x00000400;
+    public static final int PC10_OUT_ON_OFFSET = 0x58;
+    public static final int PC10_OUT_ON_MASK = 0x00000400;
+    public static final int PC10_OUT_OFF_OFFSET = 0x58;
+    public static final int PC10_OUT_OFF_MASK = 0xfffffbff;
+    // PC11 group C
+    public static final int PC11_CHIP = 1;
+    public static final int PC11_LINE = 75;
+    public static final int PC11_IN_ON_OFFSET = 0x58;
+    public static final int PC11_IN_ON_MASK = 0x00000800;
+    public static final int PC11_IN_OFF_OFFSET = 0x58;
+    public static final int PC11_IN_OFF_MASK = 0x00000800;
+    public static final int PC11_OUT_ON_OFFSET = 0x58;
+    public static final int PC11_OUT_ON_MASK = 0x00000800;
+    public static final int PC11_OUT_OFF_OFFSET = 0x58;
+    public static final int PC11_OUT_OFF_MASK = 0xfffff7ff;
+    // PC12 group C
+    public static final int PC12_CHIP = 1;
+    public static final int PC12_LINE = 76;
+    public static final int PC12_IN_ON_OFFSET = 0x58;
+    public static final int PC12_IN_ON_MASK = 0x00001000;
+    public static final int PC12_IN_OFF_OFFSET = 0x58;
+    public static final int PC12_IN_OFF_MASK = 0x00001000;
+    public static final int PC12_OUT_ON_OFFSET = 0x58;
+    public static final int PC12_OUT_ON_MASK = 0x00001000;
+    public static final int PC12_OUT_OFF_OFFSET = 0x58;
+    public static final int PC12_OUT_OFF_MASK = 0xffffefff;
+    // PC13 group C
+    public static final int PC13_CHIP = 1;
+    public static final int PC13_LINE = 77;
+    public static final int PC13_IN_ON_OFFSET = 0x58;
+    public static final int PC13_IN_ON_MASK = 0x00002000;
+    public static final int PC13_IN_OFF_OFFSET = 0x58;
+    public static final int PC13_IN_OFF_MASK = 0x00002000;
+    public static final int PC13_OUT_ON_OFFSET = 0x58;
+    public static final int PC13_OUT_ON_MASK = 0x00002000;
+    public static final int PC13_OUT_OFF_OFFSET = 0x58;
+    public static final int PC13_OUT_OFF_MASK = 0xffffdfff;
+    // PC14 group C
+    public static final int PC14_CHIP = 1;
+    public static final int PC14_LINE = 78;
+    public static final int PC14_IN_ON_OFFSET = 0x58;
+    public static final int PC14_IN_ON_MASK = 0x00004000;
+    public static final int PC14_IN_OFF_OFFSET = 0x58;
+    public static final int PC14_IN_OFF_MASK = 0x00004000;
+    public static final int PC14_OUT_ON_OFFSET = 0x58;
+    public static final int PC14_OUT_ON_MASK = 0x00004000;
+    public static final int PC14_OUT_OFF_OFFSET = 0x58;
+    public static final int PC14_OUT_OFF_MASK = 0xffffbfff;
+    // PC15 group C
+    public static final int PC15_CHIP = 1;
+    public static final int PC15_LINE = 79;
+    public static final int PC15_IN_ON_OFFSET = 0x58;
+    public static final int PC15_IN_ON_MASK = 0x00008000;
+    public static final int PC15_IN_OFF_OFFSET = 0x58;
+    public static final int PC15_IN_OFF_MASK = 0x00008000;
+    public static final int PC15_OUT_ON_OFFSET = 0x58;
+    public static final int PC15_OUT_ON_MASK = 0x00008000;
+    public static final int PC15_OUT_OFF_OFFSET = 0x58;
+    public static final int PC15_OUT_OFF_MASK = 0xffff7fff;
+    // PC16 group C
+    public static final int PC16_CHIP = 1;
+    public static final int PC16_LINE = 80;
+    public static final int PC16_IN_ON_OFFSET = 0x58;
+    public static final int PC16_IN_ON_MASK = 0x00010000;
+    public static final int PC16_IN_OFF_OFFSET = 0x58;
+    public static final int PC16_IN_OFF_MASK = 0x00010000;
+    public static final int PC16_OUT_ON_OFFSET = 0x58;
+    public static final int PC16_OUT_ON_MASK = 0x00010000;
+    public static final int PC16_OUT_OFF_OFFSET = 0x58;
+    public static final int PC16_OUT_OFF_MASK = 0xfffeffff;
+    // PD1 group D
+    public static final int PD1_CHIP = 1;
+    public static final int PD1_LINE = 97;
+    public static final int PD1_IN_ON_OFFSET = 0x7c;
+    public static final int PD1_IN_ON_MASK = 0x00000002;
+    public static final int PD1_IN_OFF_OFFSET = 0x7c;
+    public static final int PD1_IN_OFF_MASK = 0x00000002;
+    public static final int PD1_OUT_ON_OFFSET = 0x7c;
+    public static final int PD1_OUT_ON_MASK = 0x00000002;
+    public static final int PD1_OUT_OFF_OFFSET = 0x7c;
+    public static final int PD1_OUT_OFF_MASK = 0xfffffffd;
+    // PD2 group D
+    public static final int PD2_CHIP = 1;
+    public static final int PD2_LINE = 98;
+    public static final int PD2_IN_ON_OFFSET = 0x7c;
+    public static final int PD2_IN_ON_MASK = 0x00000004;
+    public static final int PD2_IN_OFF_OFFSET = 0x7c;
+    public static final int PD2_IN_OFF_MASK = 0x00000004;
+    public static final int PD2_OUT_ON_OFFSET = 0x7c;
+    public static final int PD2_OUT_ON_MASK = 0x00000004;
+    public static final int PD2_OUT_OFF_OFFSET = 0x7c;
+    public static final int PD2_OUT_OFF_MASK = 0xfffffffb;
+    // PD3 group D
+    public static final int PD3_CHIP = 1;
+    public static final int PD3_LINE = 99;
+    public static final int PD3_IN_ON_OFFSET = 0x7c;
+    public static final int PD3_IN_ON_MASK = 0x00000008;
+    public static final int PD3_IN_OFF_OFFSET = 0x7c;
+    public static final int PD3_IN_OFF_MASK = 0x00000008;
+    public static final int PD3_OUT_ON_OFFSET = 0x7c;
+    public static final int PD3_OUT_ON_MASK = 0x00000008;
+    public static final int PD3_OUT_OFF_OFFSET = 0x7c;
+    public static final int PD3_OUT_OFF_MASK = 0xfffffff7;
+    // PD4 group D
+    public static final int PD4_CHIP = 1;
+    public static final int PD4_LINE = 100;
+    public static final int PD4_IN_ON_OFFSET = 0x7c;
+    public static final int PD4_IN_ON_MASK = 0x00000010;
+    public static final int PD4_IN_OFF_OFFSET = 0x7c;
+    public static final int PD4_IN_OFF_MASK = 0x00000010;
+    public static final int PD4_OUT_ON_OFFSET = 0x7c;
+    public static final int PD4_OUT_ON_MASK = 0x00000010;
+    public static final int PD4_OUT_OFF_OFFSET = 0x7c;
+    public static final int PD4_OUT_OFF_MASK = 0xffffffef;
+    // PD5 group D
+    public static final int PD5_CHIP = 1;
+    public static final int PD5_LINE = 101;
+    public static final int PD5_IN_ON_OFFSET = 0x7c;
+    public static final int PD5_IN_ON_MASK = 0x00000020;
+    public static final int PD5_IN_OFF_OFFSET = 0x7c;
+    public static final int PD5_IN_OFF_MASK = 0x00000020;
+    public static final int PD5_OUT_ON_OFFSET = 0x7c;
+    public static final int PD5_OUT_ON_MASK = 0x00000020;
+    public static final int PD5_OUT_OFF_OFFSET = 0x7c;
+    public static final int PD5_OUT_OFF_MASK = 0xffffffdf;
+    // PD6 group D
+    public static final int PD6_CHIP = 1;
+    public static final int PD6_LINE = 102;
+    public static final int PD6_IN_ON_OFFSET = 0x7c;
+    public static final int PD6_IN_ON_MASK = 0x00000040;
+    public static final int PD6_IN_OFF_OFFSET = 0x7c;
+    public static final int PD6_IN_OFF_MASK = 0x00000040;
+    public static final int PD6_OUT_ON_OFFSET = 0x7c;
+    public static final int PD6_OUT_ON_MASK = 0x00000040;
+    public static final int PD6_OUT_OFF_OFFSET = 0x7c;
+    public static final int PD6_OUT_OFF_MASK = 0xffffffbf;
+    // PD7 group D
+    public static final int PD7_CHIP = 1;
+    public static final int PD7_LINE = 103;
+    public static final int PD7_IN_ON_OFFSET = 0x7c;
+    public static final int PD7_IN_ON_MASK = 0x00000080;
+    public static final int PD7_IN_OFF_OFFSET = 0x7c;
+    public static final int PD7_IN_OFF_MASK = 0x00000080;
+    public static final int PD7_OUT_ON_OFFSET = 0x7c;
+    public static final int PD7_OUT_ON_MASK = 0x00000080;
+    public static final int PD7_OUT_OFF_OFFSET = 0x7c;
+    public static final int PD7_OUT_OFF_MASK = 0xffffff7f;
+    // PG1 group G
+    public static final int PG1_CHIP = 1;
+    public static final int PG1_LINE = 193;
+    public static final int PG1_IN_ON_OFFSET = 0xe8;
+    public static final int PG1_IN_ON_MASK = 0x00000002;
+    public static final int PG1_IN_OFF_OFFSET = 0xe8;
+    public static final int PG1_IN_OFF_MASK = 0x00000002;
+    public static final int PG1_OUT_ON_OFFSET = 0xe8;
+    public static final int PG1_OUT_ON_MASK = 0x00000002;
+    public static final int PG1_OUT_OFF_OFFSET = 0xe8;
+    public static final int PG1_OUT_OFF_MASK = 0xfffffffd;
+    // PG2 group G
+    public static final int PG2_CHIP = 1;
+    public static final int PG2_LINE = 194;
+    public static final int PG2_IN_ON_OFFSET = 0xe8;
+    public static final int PG2_IN_ON_MASK = 0x00000004;
+    public static final int PG2_IN_OFF_OFFSET = 0xe8;
+    public static final int PG2_IN_OFF_MASK = 0x00000004;
+    public static final int PG2_OUT_ON_OFFSET = 0xe8;
+    public static final int PG2_OUT_ON_MASK = 0x00000004;
+    public static final int PG2_OUT_OFF_OFFSET = 0xe8;
+    public static final int PG2_OUT_OFF_MASK = 0xfffffffb;
+    // PG3 group G
+    public static final int PG3_CHIP = 1;
+    public static final int PG3_LINE = 195;
+    public static final int PG3_IN_ON_OFFSET = 0xe8;
+    public static final int PG3_IN_ON_MASK = 0x00000008;
+    public static final int PG3_IN_OFF_OFFSET = 0xe8;
+    public static final int PG3_IN_OFF_MASK = 0x00000008;
+    public static final int PG3_OUT_ON_OFFSET = 0xe8;
+    public static final int PG3_OUT_ON_MASK = 0x00000008;
+    public static final int PG3_OUT_OFF_OFFSET = 0xe8;
+    public static final int PG3_OUT_OFF_MASK = 0xfffffff7;
+    // PG4 group G
+    public static final int PG4_CHIP = 1;
+    public static final int PG4_LINE = 196;
+    public static final int PG4_IN_ON_OFFSET = 0xe8;
+    public static final int PG4_IN_ON_MASK = 0x00000010;
+    public static final int PG4_IN_OFF_OFFSET = 0xe8;
+    public static final int PG4_IN_OFF_MASK = 0x00000010;
+    public static final int PG4_OUT_ON_OFFSET = 0xe8;
+    public static final int PG4_OUT_ON_MASK = 0x00000010;
+    public static final int PG4_OUT_OFF_OFFSET = 0xe8;
+    public static final int PG4_OUT_OFF_MASK = 0xffffffef;
+    // PG5 group G
+    public static final int PG5_CHIP = 1;
+    public static final int PG5_LINE = 197;
+    public static final int PG5_IN_ON_OFFSET = 0xe8;
+    public static final int PG5_IN_ON_MASK = 0x00000020;
+    public static final int PG5_IN_OFF_OFFSET = 0xe8;
+    public static final int PG5_IN_OFF_MASK = 0x00000020;
+    public static final int PG5_OUT_ON_OFFSET = 0xe8;
+    public static final int PG5_OUT_ON_MASK = 0x00000020;
+    public static final int PG5_OUT_OFF_OFFSET = 0xe8;
+    public static final int PG5_OUT_OFF_MASK = 0xffffffdf;
+    // PG6 group G
+    public static final int PG6_CHIP = 1;
+    public static final int PG6_LINE = 198;
+    public static final int PG6_IN_ON_OFFSET = 0xe8;
+    public static final int PG6_IN_ON_MASK = 0x00000040;
+    public static final int PG6_IN_OFF_OFFSET = 0xe8;
+    public static final int PG6_IN_OFF_MASK = 0x00000040;
+    public static final int PG6_OUT_ON_OFFSET = 0xe8;
+    public static final int PG6_OUT_ON_MASK = 0x00000040;
+    public static final int PG6_OUT_OFF_OFFSET = 0xe8;
+    public static final int PG6_OUT_OFF_MASK = 0xffffffbf;
+    // PG7 group G
+    public static final int PG7_CHIP = 1;
+    public static final int PG7_LINE = 199;
+    public static final int PG7_IN_ON_OFFSET = 0xe8;
+    public static final int PG7_IN_ON_MASK = 0x00000080;
+    public static final int PG7_IN_OFF_OFFSET = 0xe8;
+    public static final int PG7_IN_OFF_MASK = 0x00000080;
+    public static final int PG7_OUT_ON_OFFSET = 0xe8;
+    public static final int PG7_OUT_ON_MASK = 0x00000080;
+    public static final int PG7_OUT_OFF_OFFSET = 0xe8;
+    public static final int PG7_OUT_OFF_MASK = 0xffffff7f;
+    // PG8 group G
+    public static final int PG8_CHIP = 1;
+    public static final int PG8_LINE = 200;
+    public static final int PG8_IN_ON_OFFSET = 0xe8;
+    public static final int PG8_IN_ON_MASK = 0x00000100;
+    public static final int PG8_IN_OFF_OFFSET = 0xe8;
+    public static final int PG8_IN_OFF_MASK = 0x00000100;
+    public static final int PG8_OUT_ON_OFFSET = 0xe8;
+    public static final int PG8_OUT_ON_MASK = 0x00000100;
+    public static final int PG8_OUT_OFF_OFFSET = 0xe8;
+    public static final int PG8_OUT_OFF_MASK = 0xfffffeff;
+    // PG9 group G
+    public static final int PG9_CHIP = 1;
+    public static final int PG9_LINE = 201;
+    public static final int PG9_IN_ON_OFFSET = 0xe8;
+    public static final int PG9_IN_ON_MASK = 0x00000200;
+    public static final int PG9_IN_OFF_OFFSET = 0xe8;
+    public static final int PG9_IN_OFF_MASK = 0x00000200;
+    public static final int PG9_OUT_ON_OFFSET = 0xe8;
+    public static final int PG9_OUT_ON_MASK = 0x00000200;
+    public static final int PG9_OUT_OFF_OFFSET = 0xe8;
+    public static final int PG9_OUT_OFF_MASK = 0xfffffdff;
+    // PG10 group G
+    public static final int PG10_CHIP = 1;
+    public static final int PG10_LINE = 202;
+    public static final int PG10_IN_ON_OFFSET = 0xe8;
+    public static final int PG10_IN_ON_MASK = 0x00000400;
+    public static final int PG10_IN_OFF_OFFSET = 0xe8;
+    public static final int PG10_IN_OFF_MASK = 0x00000400;
+    public static final int PG10_OUT_ON_OFFSET = 0xe8;
+    public static final int PG10_OUT_ON_MASK = 0x00000400;
+    public static final int PG10_OUT_OFF_OFFSET = 0xe8;
+    public static final int PG10_OUT_OFF_MASK = 0xfffffbff;
+    // PG11 group G
+    public static final int PG11_CHIP = 1;
+    public static final int PG11_LINE = 203;
+    public static final int PG11_IN_ON_OFFSET = 0xe8;
+    public static final int PG11_IN_ON_MASK = 0x00000800;
+    public static final int PG11_IN_OFF_OFFSET = 0xe8;
+    public static final int PG11_IN_OFF_MASK = 0x00000800;
+    public static final int PG11_OUT_ON_OFFSET = 0xe8;
+    public static final int PG11_OUT_ON_MASK = 0x00000800;
+    public static final int PG11_OUT_OFF_OFFSET = 0xe8;
+    public static final int PG11_OUT_OFF_MASK = 0xfffff7ff;
+    // PG12 group G
+    public static final int PG12_CHIP = 1;
+    public static final int PG12_LINE = 204;
+    public static final int PG12_IN_ON_OFFSET = 0xe8;
+    public static final int PG12_IN_ON_MASK = 0x00001000;
+    public static final int PG12_IN_OFF_OFFSET = 0xe8;
+    public static final int PG12_IN_OFF_MASK = 0x00001000;
+    public static final int PG12_OUT_ON_OFFSET = 0xe8;
+    public static final int PG12_OUT_ON_MASK = 0x00001000;
+    public static final int PG12_OUT_OFF_OFFSET = 0xe8;
+    public static final int PG12_OUT_OFF_MASK = 0xffffefff;
+    // PG13 group G
+    public static final int PG13_CHIP = 1;
+    public static final int PG13_LINE = 205;
+    public static final int PG13_IN_ON_OFFSET = 0xe8;
+    public static final int PG13_IN_ON_MASK = 0x00002000;
+    public static final int PG13_IN_OFF_OFFSET = 0xe8;
+    public static final int PG13_IN_OFF_MASK = 0x00002000;
+    public static final int PG13_OUT_ON_OFFSET = 0xe8;
+    public static final int PG13_OUT_ON_MASK = 0x00002000;
+    public static final int PG13_OUT_OFF_OFFSET = 0xe8;
+    public static final int PG13_OUT_OFF_MASK = 0xffffdfff;
+
+    /**
+     * Constants only.
+     */
+    private PineA64Pins() {
+    }
+
+    /**
+     * Return pin Map and set chips, chip size, GPIO devices and MMIO path of file without parsing a property file.
+     *
+     * @param file File to set board information on.
+     * @return Pin Map.
+     */
+    public static Map<PinKey, Pin> pinMap(final File file) {
+        file.setDescription(DESCRIPTION);
+        file.setChips(List.of(0x1f02c00L, 0x1c20800L));
+        file.setMmioSize(List.of(36L, 252L));
+        file.setGpioDev(List.of(0, 1));
+        file.setMemPath(MEM_PATH);
+        final Map<PinKey, Pin> pinMap = new TreeMap<>();
+        add(pinMap, new Pin(new PinKey(PB0_CHIP, PB0_LINE), "B", "PB0",
+                new Register("IN_ON", PB0_IN_ON_OFFSET, PB0_IN_ON_MASK),
+                new Register("IN_OFF", PB0_IN_OFF_OFFSET, PB0_IN_OFF_MASK),
+                new Register("OUT_ON", PB0_OUT_ON_OFFSET, PB0_OUT_ON_MASK),
+                new Register("OUT_OFF", PB0_OUT_OFF_OFFSET, PB0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PB1_CHIP, PB1_LINE), "B", "PB1",
+                new Register("IN_ON", PB1_IN_ON_OFFSET, PB1_IN_ON_MASK),
+                new Register("IN_OFF", PB1_IN_OFF_OFFSET, PB1_IN_OFF_MASK),
+                new Register("OUT_ON", PB1_OUT_ON_OFFSET, PB1_OUT_ON_MASK),
+                new Register("OUT_OFF", PB1_OUT_OFF_OFFSET, PB1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PB2_CHIP, PB2_LINE), "B", "PB2",
+                new Register("IN_ON", PB2_IN_ON_OFFSET, PB2_IN_ON_MASK),
+                new Register("IN_OFF", PB2_IN_OFF_OFFSET, PB2_IN_OFF_MASK),
+                new Register("OUT_ON", PB2_OUT_ON_OFFSET, PB2_OUT_ON_MASK),
+                new Register("OUT_OFF", PB2_OUT_OFF_OFFSET, PB2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PB3_CHIP, PB3_LINE), "B", "PB3",
+                new Register("IN_ON", PB3_IN_ON_OFFSET, PB3_IN_ON_MASK),
+                new Register("IN_OFF", PB3_IN_OFF_OFFSET, PB3_IN_OFF_MASK),
+                new Register("OUT_ON", PB3_OUT_ON_OFFSET, PB3_OUT_ON_MASK),
+                new Register("OUT_OFF", PB3_OUT_OFF_OFFSET, PB3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PB4_CHIP, PB4_LINE), "B", "PB4",
+                new Register("IN_ON", PB4_IN_ON_OFFSET, PB4_IN_ON_MASK),
+                new Register("IN_OFF", PB4_IN_OFF_OFFSET, PB4_IN_OFF_MASK),
+                new Register("OUT_ON", PB4_OUT_ON_OFFSET, PB4_OUT_ON_MASK),
+                new Register("OUT_OFF", PB4_OUT_OFF_OFFSET, PB4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PB5_CHIP, PB5_LINE), "B", "PB5",
+                new Register("IN_ON", PB5_IN_ON_OFFSET, PB5_IN_ON_MASK),
+                new Register("IN_OFF", PB5_IN_OFF_OFFSET, PB5_IN_OFF_MASK),
+                new Register("OUT_ON", PB5_OUT_ON_OFFSET, PB5_OUT_ON_MASK),
+                new Register("OUT_OFF", PB5_OUT_OFF_OFFSET, PB5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PB6_CHIP, PB6_LINE), "B", "PB6",
+                new Register("IN_ON", PB6_IN_ON_OFFSET, PB6_IN_ON_MASK),
+                new Register("IN_OFF", PB6_IN_OFF_OFFSET, PB6_IN_OFF_MASK),
+                new Register("OUT_ON", PB6_OUT_ON_OFFSET, PB6_OUT_ON_MASK),
+                new Register("OUT_OFF", PB6_OUT_OFF_OFFSET, PB6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PB7_CHIP, PB7_LINE), "B", "PB7",
+                new Register("IN_ON", PB7_IN_ON_OFFSET, PB7_IN_ON_MASK),
+                new Register("IN_OFF", PB7_IN_OFF_OFFSET, PB7_IN_OFF_MASK),
+                new Register("OUT_ON", PB7_OUT_ON_OFFSET, PB7_OUT_ON_MASK),
+                new Register("OUT_OFF", PB7_OUT_OFF_OFFSET, PB7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PB8_CHIP, PB8_LINE), "B", "PB8",
+                new Register("IN_ON", PB8_IN_ON_OFFSET, PB8_IN_ON_MASK),
+                new Register("IN_OFF", PB8_IN_OFF_OFFSET, PB8_IN_OFF_MASK),
+                new Register("OUT_ON", PB8_OUT_ON_OFFSET, PB8_OUT_ON_MASK),
+                new Register("OUT_OFF", PB8_OUT_OFF_OFFSET, PB8_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PB9_CHIP, PB9_LINE), "B", "PB9",
+                new Register("IN_ON", PB9_IN_ON_OFFSET, PB9_IN_ON_MASK),
+                new Register("IN_OFF", PB9_IN_OFF_OFFSET, PB9_IN_OFF_MASK),
+                new Register("OUT_ON", PB9_OUT_ON_OFFSET, PB9_OUT_ON_MASK),
+                new Register("OUT_OFF", PB9_OUT_OFF_OFFSET, PB9_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC1_CHIP, PC1_LINE), "C", "PC1",
+                new Register("IN_ON", PC1_IN_ON_OFFSET, PC1_IN_ON_MASK),
+                new Register("IN_OFF", PC1_IN_OFF_OFFSET, PC1_IN_OFF_MASK),
+                new Register("OUT_ON", PC1_OUT_ON_OFFSET, PC1_OUT_ON_MASK),
+                new Register("OUT_OFF", PC1_OUT_OFF_OFFSET, PC1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC2_CHIP, PC2_LINE), "C", "PC2",
+                new Register("IN_ON", PC2_IN_ON_OFFSET, PC2_IN_ON_MASK),
+                new Register("IN_OFF", PC2_IN_OFF_OFFSET, PC2_IN_OFF_MASK),
+                new Register("OUT_ON", PC2_OUT_ON_OFFSET, PC2_OUT_ON_MASK),
+                new Register("OUT_OFF", PC2_OUT_OFF_OFFSET, PC2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC3_CHIP, PC3_LINE), "C", "PC3",
+                new Register("IN_ON", PC3_IN_ON_OFFSET, PC3_IN_ON_MASK),
+                new Register("IN_OFF", PC3_IN_OFF_OFFSET, PC3_IN_OFF_MASK),
+                new Register("OUT_ON", PC3_OUT_ON_OFFSET, PC3_OUT_ON_MASK),
+                new Register("OUT_OFF", PC3_OUT_OFF_OFFSET, PC3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC4_CHIP, PC4_LINE), "C", "PC4",
+                new Register("IN_ON", PC4_IN_ON_OFFSET, PC4_IN_ON_MASK),
+                new Register("IN_OFF", PC4_IN_OFF_OFFSET, PC4_IN_OFF_MASK),
+                new Register("OUT_ON", PC4_OUT_ON_OFFSET, PC4_OUT_ON_MASK),
+                new Register("OUT_OFF", PC4_OUT_OFF_OFFSET, PC4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC5_CHIP, PC5_LINE), "C", "PC5",
+                new Register("IN_ON", PC5_IN_ON_OFFSET, PC5_IN_ON_MASK),
+                new Register("IN_OFF", PC5_IN_OFF_OFFSET, PC5_IN_OFF_MASK),
+                new Register("OUT_ON", PC5_OUT_ON_OFFSET, PC5_OUT_ON_MASK),
+                new Register("OUT_OFF", PC5_OUT_OFF_OFFSET, PC5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC6_CHIP, PC6_LINE), "C", "PC6",
+                new Register("IN_ON", PC6_IN_ON_OFFSET, PC6_IN_ON_MASK),
+                new Register("IN_OFF", PC6_IN_OFF_OFFSET, PC6_IN_OFF_MASK),
+                new Register("OUT_ON", PC6_OUT_ON_OFFSET, PC6_OUT_ON_MASK),
+                new Register("OUT_OFF", PC6_OUT_OFF_OFFSET, PC6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC7_CHIP, PC7_LINE), "C", "PC7",
+                new Register("IN_ON", PC7_IN_ON_OFFSET, PC7_IN_ON_MASK),
+                new Register("IN_OFF", PC7_IN_OFF_OFFSET, PC7_IN_OFF_MASK),
+                new Register("OUT_ON", PC7_OUT_ON_OFFSET, PC7_OUT_ON_MASK),
+                new Register("OUT_OFF", PC7_OUT_OFF_OFFSET, PC7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC8_CHIP, PC8_LINE), "C", "PC8",
+                new Register("IN_ON", PC8_IN_ON_OFFSET, PC8_IN_ON_MASK),
+                new Register("IN_OFF", PC8_IN_OFF_OFFSET, PC8_IN_OFF_MASK),
+                new Register("OUT_ON", PC8_OUT_ON_OFFSET, PC8_OUT_ON_MASK),
+                new Register("OUT_OFF", PC8_OUT_OFF_OFFSET, PC8_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC9_CHIP, PC9_LINE), "C", "PC9",
+                new Register("IN_ON", PC9_IN_ON_OFFSET, PC9_IN_ON_MASK),
+                new Register("IN_OFF", PC9_IN_OFF_OFFSET, PC9_IN_OFF_MASK),
+                new Register("OUT_ON", PC9_OUT_ON_OFFSET, PC9_OUT_ON_MASK),
+                new Register("OUT_OFF", PC9_OUT_OFF_OFFSET, PC9_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC10_CHIP, PC10_LINE), "C", "PC10",
+                new Register("IN_ON", PC10_IN_ON_OFFSET, PC10_IN_ON_MASK),
+                new Register("IN_OFF", PC10_IN_OFF_OFFSET, PC10_IN_OFF_MASK),
+                new Register("OUT_ON", PC10_OUT_ON_OFFSET, PC10_OUT_ON_MASK),
+                new Register("OUT_OFF", PC10_OUT_OFF_OFFSET, PC10_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC11_CHIP, PC11_LINE), "C", "PC11",
+                new Register("IN_ON", PC11_IN_ON_OFFSET, PC11_IN_ON_MASK),
+                new Register("IN_OFF", PC11_IN_OFF_OFFSET, PC11_IN_OFF_MASK),
+                new Register("OUT_ON", PC11_OUT_ON_OFFSET, PC11_OUT_ON_MASK),
+                new Register("OUT_OFF", PC11_OUT_OFF_OFFSET, PC11_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC12_CHIP, PC12_LINE), "C", "PC12",
+                new Register("IN_ON", PC12_IN_ON_OFFSET, PC12_IN_ON_MASK),
+                new Register("IN_OFF", PC12_IN_OFF_OFFSET, PC12_IN_OFF_MASK),
+                new Register("OUT_ON", PC12_OUT_ON_OFFSET, PC12_OUT_ON_MASK),
+                new Register("OUT_OFF", PC12_OUT_OFF_OFFSET, PC12_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC13_CHIP, PC13_LINE), "C", "PC13",
+                new Register("IN_ON", PC13_IN_ON_OFFSET, PC13_IN_ON_MASK),
+                new Register("IN_OFF", PC13_IN_OFF_OFFSET, PC13_IN_OFF_MASK),
+                new Register("OUT_ON", PC13_OUT_ON_OFFSET, PC13_OUT_ON_MASK),
+                new Register("OUT_OFF", PC13_OUT_OFF_OFFSET, PC13_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC14_CHIP, PC14_LINE), "C", "PC14",
+                new Register("IN_ON", PC14_IN_ON_OFFSET, PC14_IN_ON_MASK),
+                new Register("IN_OFF", PC14_IN_OFF_OFFSET, PC14_IN_OFF_MASK),
+                new Register("OUT_ON", PC14_OUT_ON_OFFSET, PC14_OUT_ON_MASK),
+                new Register("OUT_OFF", PC14_OUT_OFF_OFFSET, PC14_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC15_CHIP, PC15_LINE), "C", "PC15",
+                new Register("IN_ON", PC15_IN_ON_OFFSET, PC15_IN_ON_MASK),
+                new Register("IN_OFF", PC15_IN_OFF_OFFSET, PC15_IN_OFF_MASK),
+                new Register("OUT_ON", PC15_OUT_ON_OFFSET, PC15_OUT_ON_MASK),
+                new Register("OUT_OFF", PC15_OUT_OFF_OFFSET, PC15_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PC16_CHIP, PC16_LINE), "C", "PC16",
+                new Register("IN_ON", PC16_IN_ON_OFFSET, PC16_IN_ON_MASK),
+                new Register("IN_OFF", PC16_IN_OFF_OFFSET, PC16_IN_OFF_MASK),
+                new Register("OUT_ON", PC16_OUT_ON_OFFSET, PC16_OUT_ON_MASK),
+                new Register("OUT_OFF", PC16_OUT_OFF_OFFSET, PC16_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PD1_CHIP, PD1_LINE), "D", "PD1",
+                new Register("IN_ON", PD1_IN_ON_OFFSET, PD1_IN_ON_MASK),
+                new Register("IN_OFF", PD1_IN_OFF_OFFSET, PD1_IN_OFF_MASK),
+                new Register("OUT_ON", PD1_OUT_ON_OFFSET, PD1_OUT_ON_MASK),
+                new Register("OUT_OFF", PD1_OUT_OFF_OFFSET, PD1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PD2_CHIP, PD2_LINE), "D", "PD2",
+                new Register("IN_ON", PD2_IN_ON_OFFSET, PD2_IN_ON_MASK),
+                new Register("IN_OFF", PD2_IN_OFF_OFFSET, PD2_IN_OFF_MASK),
+                new Register("OUT_ON", PD2_OUT_ON_OFFSET, PD2_OUT_ON_MASK),
+                new Register("OUT_OFF", PD2_OUT_OFF_OFFSET, PD2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PD3_CHIP, PD3_LINE), "D", "PD3",
+                new Register("IN_ON", PD3_IN_ON_OFFSET, PD3_IN_ON_MASK),
+                new Register("IN_OFF", PD3_IN_OFF_OFFSET, PD3_IN_OFF_MASK),
+                new Register("OUT_ON", PD3_OUT_ON_OFFSET, PD3_OUT_ON_MASK),
+                new Register("OUT_OFF", PD3_OUT_OFF_OFFSET, PD3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PD4_CHIP, PD4_LINE), "D", "PD4",
+                new Register("IN_ON", PD4_IN_ON_OFFSET, PD4_IN_ON_MASK),
+                new Register("IN_OFF", PD4_IN_OFF_OFFSET, PD4_IN_OFF_MASK),
+                new Register("OUT_ON", PD4_OUT_ON_OFFSET, PD4_OUT_ON_MASK),
+                new Register("OUT_OFF", PD4_OUT_OFF_OFFSET, PD4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PD5_CHIP, PD5_LINE), "D", "PD5",
+                new Register("IN_ON", PD5_IN_ON_OFFSET, PD5_IN_ON_MASK),
+                new Register("IN_OFF", PD5_IN_OFF_OFFSET, PD5_IN_OFF_MASK),
+                new Register("OUT_ON", PD5_OUT_ON_OFFSET, PD5_OUT_ON_MASK),
+                new Register("OUT_OFF", PD5_OUT_OFF_OFFSET, PD5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PD6_CHIP, PD6_LINE), "D", "PD6",
+                new Register("IN_ON", PD6_IN_ON_OFFSET, PD6_IN_ON_MASK),
+                new Register("IN_OFF", PD6_IN_OFF_OFFSET, PD6_IN_OFF_MASK),
+                new Register("OUT_ON", PD6_OUT_ON_OFFSET, PD6_OUT_ON_MASK),
+                new Register("OUT_OFF", PD6_OUT_OFF_OFFSET, PD6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PD7_CHIP, PD7_LINE), "D", "PD7",
+                new Register("IN_ON", PD7_IN_ON_OFFSET, PD7_IN_ON_MASK),
+                new Register("IN_OFF", PD7_IN_OFF_OFFSET, PD7_IN_OFF_MASK),
+                new Register("OUT_ON", PD7_OUT_ON_OFFSET, PD7_OUT_ON_MASK),
+                new Register("OUT_OFF", PD7_OUT_OFF_OFFSET, PD7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PG1_CHIP, PG1_LINE), "G", "PG1",
+                new Register("IN_ON", PG1_IN_ON_OFFSET, PG1_IN_ON_MASK),
+                new Register("IN_OFF", PG1_IN_OFF_OFFSET, PG1_IN_OFF_MASK),
+                new Register("OUT_ON", PG1_OUT_ON_OFFSET, PG1_OUT_ON_MASK),
+                new Register("OUT_OFF", PG1_OUT_OFF_OFFSET, PG1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PG2_CHIP, PG2_LINE), "G", "PG2",
+                new Register("IN_ON", PG2_IN_ON_OFFSET, PG2_IN_ON_MASK),
+                new Register("IN_OFF", PG2_IN_OFF_OFFSET, PG2_IN_OFF_MASK),
+                new Register("OUT_ON", PG2_OUT_ON_OFFSET, PG2_OUT_ON_MASK),
+                new Register("OUT_OFF", PG2_OUT_OFF_OFFSET, PG2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PG3_CHIP, PG3_LINE), "G", "PG3",
+                new Register("IN_ON", PG3_IN_ON_OFFSET, PG3_IN_ON_MASK),
+                new Register("IN_OFF", PG3_IN_OFF_OFFSET, PG3_IN_OFF_MASK),
+                new Register("OUT_ON", PG3_OUT_ON_OFFSET, PG3_OUT_ON_MASK),
+                new Register("OUT_OFF", PG3_OUT_OFF_OFFSET, PG3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PG4_CHIP, PG4_LINE), "G", "PG4",
+                new Register("IN_ON", PG4_IN_ON_OFFSET, PG4_IN_ON_MASK),
+                new Register("IN_OFF", PG4_IN_OFF_OFFSET, PG4_IN_OFF_MASK),
+                new Register("OUT_ON", PG4_OUT_ON_OFFSET, PG4_OUT_ON_MASK),
+                new Register("OUT_OFF", PG4_OUT_OFF_OFFSET, PG4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PG5_CHIP, PG5_LINE), "G", "PG5",
+                new Register("IN_ON", PG5_IN_ON_OFFSET, PG5_IN_ON_MASK),
+                new Register("IN_OFF", PG5_IN_OFF_OFFSET, PG5_IN_OFF_MASK),
+                new Register("OUT_ON", PG5_OUT_ON_OFFSET, PG5_OUT_ON_MASK),
+                new Register("OUT_OFF", PG5_OUT_OFF_OFFSET, PG5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PG6_CHIP, PG6_LINE), "G", "PG6",
+                new Register("IN_ON", PG6_IN_ON_OFFSET, PG6_IN_ON_MASK),
+                new Register("IN_OFF", PG6_IN_OFF_OFFSET, PG6_IN_OFF_MASK),
+                new Register("OUT_ON", PG6_OUT_ON_OFFSET, PG6_OUT_ON_MASK),
+                new Register("OUT_OFF", PG6_OUT_OFF_OFFSET, PG6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PG7_CHIP, PG7_LINE), "G", "PG7",
+                new Register("IN_ON", PG7_IN_ON_OFFSET, PG7_IN_ON_MASK),
+                new Register("IN_OFF", PG7_IN_OFF_OFFSET, PG7_IN_OFF_MASK),
+                new Register("OUT_ON", PG7_OUT_ON_OFFSET, PG7_OUT_ON_MASK),
+                new Register("OUT_OFF", PG7_OUT_OFF_OFFSET, PG7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PG8_CHIP, PG8_LINE), "G", "PG8",
+                new Register("IN_ON", PG8_IN_ON_OFFSET, PG8_IN_ON_MASK),
+                new Register("IN_OFF", PG8_IN_OFF_OFFSET, PG8_IN_OFF_MASK),
+                new Register("OUT_ON", PG8_OUT_ON_OFFSET, PG8_OUT_ON_MASK),
+                new Register("OUT_OFF", PG8_OUT_OFF_OFFSET, PG8_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PG9_CHIP, PG9_LINE), "G", "PG9",
+                new Register("IN_ON", PG9_IN_ON_OFFSET, PG9_IN_ON_MASK),
+                new Register("IN_OFF", PG9_IN_OFF_OFFSET, PG9_IN_OFF_MASK),
+                new Register("OUT_ON", PG9_OUT_ON_OFFSET, PG9_OUT_ON_MASK),
+                new Register("OUT_OFF", PG9_OUT_OFF_OFFSET, PG9_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PG10_CHIP, PG10_LINE), "G", "PG10",
+                new Register("IN_ON", PG10_IN_ON_OFFSET, PG10_IN_ON_MASK),
+                new Register("IN_OFF", PG10_IN_OFF_OFFSET, PG10_IN_OFF_MASK),
+                new Register("OUT_ON", PG10_OUT_ON_OFFSET, PG10_OUT_ON_MASK),
+                new Register("OUT_OFF", PG10_OUT_OFF_OFFSET, PG10_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PG11_CHIP, PG11_LINE), "G", "PG11",
+                new Register("IN_ON", PG11_IN_ON_OFFSET, PG11_IN_ON_MASK),
+                new Register("IN_OFF", PG11_IN_OFF_OFFSET, PG11_IN_OFF_MASK),
+                new Register("OUT_ON", PG11_OUT_ON_OFFSET, PG11_OUT_ON_MASK),
+                new Register("OUT_OFF", PG11_OUT_OFF_OFFSET, PG11_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PG12_CHIP, PG12_LINE), "G", "PG12",
+                new Register("IN_ON", PG12_IN_ON_OFFSET, PG12_IN_ON_MASK),
+                new Register("IN_OFF", PG12_IN_OFF_OFFSET, PG12_IN_OFF_MASK),
+                new Register("OUT_ON", PG12_OUT_ON_OFFSET, PG12_OUT_ON_MASK),
+                new Register("OUT_OFF", PG12_OUT_OFF_OFFSET, PG12_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(PG13_CHIP, PG13_LINE), "G", "PG13",
+                new Register("IN_ON", PG13_IN_ON_OFFSET, PG13_IN_ON_MASK),
+                new Register("IN_OFF", PG13_IN_OFF_OFFSET, PG13_IN_OFF_MASK),
+                new Register("OUT_ON", PG13_OUT_ON_OFFSET, PG13_OUT_ON_MASK),
+                new Register("OUT_OFF", PG13_OUT_OFF_OFFSET, PG13_OUT_OFF_MASK)));
+        return pinMap;
+    }
+
+    /**
+     * Add pin to Map.
+     *
+     * @param pinMap Pin Map.
+     * @param pin Pin.
+     */
+    private static void add(final Map<PinKey, Pin> pinMap, final Pin pin) {
+        pinMap.put(pin.getKey(), pin);
+    }
+}
@@ -0,0 +1,945 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio.board;
+
+import com.codeferm.periphery.mmio.File;
+import com.codeferm.periphery.mmio.Pin;
+import com.codeferm.periphery.mmio.PinKey;
+import com.codeferm.periphery.mmio.Register;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Pin map for ODROID XU4 (Samsung Exynos5422) rev0.1.
+ *
+ * Generated by com.codeferm.periphery.mmio.File
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Xu4Pins {
+
+    /**
+     * Board description.
+     */
+    public static final String DESCRIPTION = "ODROID XU4 (Samsung Exynos5422) rev0.1";
+    /**
+     * MMIO path.
+     */
+    public static final String MEM_PATH = "/dev/mem";
+    // GPIOX1_0 group GPIOX1
+    public static final int GPIOX1_0_CHIP = 2;
+    public static final int GPIOX1_0_LINE = 0;
+    public static final int GPIOX1_0_IN_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_0_IN_ON_MASK = 0x00000001;
+    public static final int GPIOX1_0_IN_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_0_IN_OFF_MASK = 0x00000001;
+    public static final int GPIOX1_0_OUT_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_0_OUT_ON_MASK = 0x00000001;
+    public static final int GPIOX1_0_OUT_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_0_OUT_OFF_MASK = 0xfffffffe;
+    // GPIOX1_1 group GPIOX1
+    public static final int GPIOX1_1_CHIP = 2;
+    public static final int GPIOX1_1_LINE = 1;
+    public static final int GPIOX1_1_IN_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_1_IN_ON_MASK = 0x00000002;
+    public static final int GPIOX1_1_IN_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_1_IN_OFF_MASK = 0x00000002;
+    public static final int GPIOX1_1_OUT_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_1_OUT_ON_MASK = 0x00000002;
+    public static final int GPIOX1_1_OUT_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_1_OUT_OFF_MASK = 0xfffffffd;
+    // GPIOX1_2 group GPIOX1
+    public static final int GPIOX1_2_CHIP = 2;
+    public static final int GPIOX1_2_LINE = 2;
+    public static final int GPIOX1_2_IN_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_2_IN_ON_MASK = 0x00000004;
+    public static final int GPIOX1_2_IN_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_2_IN_OFF_MASK = 0x00000004;
+    public static final int GPIOX1_2_OUT_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_2_OUT_ON_MASK = 0x00000004;
+    public static final int GPIOX1_2_OUT_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_2_OUT_OFF_MASK = 0xfffffffb;
+    // GPIOX1_3 group GPIOX1
+    public static final int GPIOX1_3_CHIP = 2;
+    public static final int GPIOX1_3_LINE = 3;
+    public static final int GPIOX1_3_IN_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_3_IN_ON_MASK = 0x00000008;
+    public static final int GPIOX1_3_IN_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIOX1_3_OUT_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIOX1_3_OUT_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_3_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOX1_4 group GPIOX1
+    public static final int GPIOX1_4_CHIP = 2;
+    public static final int GPIOX1_4_LINE = 4;
+    public static final int GPIOX1_4_IN_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_4_IN_ON_MASK = 0x00000010;
+    public static final int GPIOX1_4_IN_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_4_IN_OFF_MASK = 0x00000010;
+    public static final int GPIOX1_4_OUT_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_4_OUT_ON_MASK = 0x00000010;
+    public static final int GPIOX1_4_OUT_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_4_OUT_OFF_MASK = 0xffffffef;
+    // GPIOX1_5 group GPIOX1
+    public static final int GPIOX1_5_CHIP = 2;
+    public static final int GPIOX1_5_LINE = 5;
+    public static final int GPIOX1_5_IN_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_5_IN_ON_MASK = 0x00000020;
+    public static final int GPIOX1_5_IN_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_5_IN_OFF_MASK = 0x00000020;
+    public static final int GPIOX1_5_OUT_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_5_OUT_ON_MASK = 0x00000020;
+    public static final int GPIOX1_5_OUT_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_5_OUT_OFF_MASK = 0xffffffdf;
+    // GPIOX1_6 group GPIOX1
+    public static final int GPIOX1_6_CHIP = 2;
+    public static final int GPIOX1_6_LINE = 6;
+    public static final int GPIOX1_6_IN_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_6_IN_ON_MASK = 0x00000040;
+    public static final int GPIOX1_6_IN_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIOX1_6_OUT_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIOX1_6_OUT_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_6_OUT_OFF_MASK = 0xffffffbf;
+    // GPIOX1_7 group GPIOX1
+    public static final int GPIOX1_7_CHIP = 2;
+    public static final int GPIOX1_7_LINE = 7;
+    public static final int GPIOX1_7_IN_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_7_IN_ON_MASK = 0x00000080;
+    public static final int GPIOX1_7_IN_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_7_IN_OFF_MASK = 0x00000080;
+    public static final int GPIOX1_7_OUT_ON_OFFSET = 0xc24;
+    public static final int GPIOX1_7_OUT_ON_MASK = 0x00000080;
+    public static final int GPIOX1_7_OUT_OFF_OFFSET = 0xc24;
+    public static final int GPIOX1_7_OUT_OFF_MASK = 0xffffff7f;
+    // GPIOX2_0 group GPIOX2
+    public static final int GPIOX2_0_CHIP = 3;
+    public static final int GPIOX2_0_LINE = 0;
+    public static final int GPIOX2_0_IN_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_0_IN_ON_MASK = 0x00000001;
+    public static final int GPIOX2_0_IN_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_0_IN_OFF_MASK = 0x00000001;
+    public static final int GPIOX2_0_OUT_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_0_OUT_ON_MASK = 0x00000001;
+    public static final int GPIOX2_0_OUT_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_0_OUT_OFF_MASK = 0xfffffffe;
+    // GPIOX2_1 group GPIOX2
+    public static final int GPIOX2_1_CHIP = 3;
+    public static final int GPIOX2_1_LINE = 1;
+    public static final int GPIOX2_1_IN_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_1_IN_ON_MASK = 0x00000002;
+    public static final int GPIOX2_1_IN_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_1_IN_OFF_MASK = 0x00000002;
+    public static final int GPIOX2_1_OUT_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_1_OUT_ON_MASK = 0x00000002;
+    public static final int GPIOX2_1_OUT_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_1_OUT_OFF_MASK = 0xfffffffd;
+    // GPIOX2_2 group GPIOX2
+    public static final int GPIOX2_2_CHIP = 3;
+    public static final int GPIOX2_2_LINE = 2;
+    public static final int GPIOX2_2_IN_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_2_IN_ON_MASK = 0x00000004;
+    public static final int GPIOX2_2_IN_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_2_IN_OFF_MASK = 0x00000004;
+    public static final int GPIOX2_2_OUT_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_2_OUT_ON_MASK = 0x00000004;
+    public static final int GPIOX2_2_OUT_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_2_OUT_OFF_MASK = 0xfffffffb;
+    // GPIOX2_3 group GPIOX2
+    public static final int GPIOX2_3_CHIP = 3;
+    public static final int GPIOX2_3_LINE = 3;
+    public static final int GPIOX2_3_IN_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_3_IN_ON_MASK = 0x00000008;
+    public static final int GPIOX2_3_IN_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIOX2_3_OUT_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIOX2_3_OUT_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_3_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOX2_4 group GPIOX2
+    public static final int GPIOX2_4_CHIP = 3;
+    public static final int GPIOX2_4_LINE = 4;
+    public static final int GPIOX2_4_IN_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_4_IN_ON_MASK = 0x00000010;
+    public static final int GPIOX2_4_IN_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_4_IN_OFF_MASK = 0x00000010;
+    public static final int GPIOX2_4_OUT_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_4_OUT_ON_MASK = 0x00000010;
+    public static final int GPIOX2_4_OUT_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_4_OUT_OFF_MASK = 0xffffffef;
+    // GPIOX2_5 group GPIOX2
+    public static final int GPIOX2_5_CHIP = 3;
+    public static final int GPIOX2_5_LINE = 5;
+    public static final int GPIOX2_5_IN_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_5_IN_ON_MASK = 0x00000020;
+    public static final int GPIOX2_5_IN_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_5_IN_OFF_MASK = 0x00000020;
+    public static final int GPIOX2_5_OUT_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_5_OUT_ON_MASK = 0x00000020;
+    public static final int GPIOX2_5_OUT_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_5_OUT_OFF_MASK = 0xffffffdf;
+    // GPIOX2_6 group GPIOX2
+    public static final int GPIOX2_6_CHIP = 3;
+    public static final int GPIOX2_6_LINE = 6;
+    public static final int GPIOX2_6_IN_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_6_IN_ON_MASK = 0x00000040;
+    public static final int GPIOX2_6_IN_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIOX2_6_OUT_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIOX2_6_OUT_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_6_OUT_OFF_MASK = 0xffffffbf;
+    // GPIOX2_7 group GPIOX2
+    public static final int GPIOX2_7_CHIP = 3;
+    public static final int GPIOX2_7_LINE = 7;
+    public static final int GPIOX2_7_IN_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_7_IN_ON_MASK = 0x00000080;
+    public static final int GPIOX2_7_IN_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_7_IN_OFF_MASK = 0x00000080;
+    public static final int GPIOX2_7_OUT_ON_OFFSET = 0xc44;
+    public static final int GPIOX2_7_OUT_ON_MASK = 0x00000080;
+    public static final int GPIOX2_7_OUT_OFF_OFFSET = 0xc44;
+    public static final int GPIOX2_7_OUT_OFF_MASK = 0xffffff7f;
+    // GPIOX3_0 group GPIOX3
+    public static final int GPIOX3_0_CHIP = 4;
+    public static final int GPIOX3_0_LINE = 0;
+    public static final int GPIOX3_0_IN_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_0_IN_ON_MASK = 0x00000001;
+    public static final int GPIOX3_0_IN_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_0_IN_OFF_MASK = 0x00000001;
+    public static final int GPIOX3_0_OUT_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_0_OUT_ON_MASK = 0x00000001;
+    public static final int GPIOX3_0_OUT_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_0_OUT_OFF_MASK = 0xfffffffe;
+    // GPIOX3_1 group GPIOX3
+    public static final int GPIOX3_1_CHIP = 4;
+    public static final int GPIOX3_1_LINE = 1;
+    public static final int GPIOX3_1_IN_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_1_IN_ON_MASK = 0x00000002;
+    public static final int GPIOX3_1_IN_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_1_IN_OFF_MASK = 0x00000002;
+    public static final int GPIOX3_1_OUT_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_1_OUT_ON_MASK = 0x00000002;
+    public static final int GPIOX3_1_OUT_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_1_OUT_OFF_MASK = 0xfffffffd;
+    // GPIOX3_2 group GPIOX3
+    public static final int GPIOX3_2_CHIP = 4;
+    public static final int GPIOX3_2_LINE = 2;
+    public static final int GPIOX3_2_IN_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_2_IN_ON_MASK = 0x00000004;
+    public static final int GPIOX3_2_IN_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_2_IN_OFF_MASK = 0x00000004;
+    public static final int GPIOX3_2_OUT_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_2_OUT_ON_MASK = 0x00000004;
+    public static final int GPIOX3_2_OUT_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_2_OUT_OFF_MASK = 0xfffffffb;
+    // GPIOX3_3 group GPIOX3
+    public static final int GPIOX3_3_CHIP = 4;
+    public static final int GPIOX3_3_LINE = 3;
+    public static final int GPIOX3_3_IN_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_3_IN_ON_MASK = 0x00000008;
+    public static final int GPIOX3_3_IN_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIOX3_3_OUT_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIOX3_3_OUT_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_3_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOX3_4 group GPIOX3
+    public static final int GPIOX3_4_CHIP = 4;
+    public static final int GPIOX3_4_LINE = 4;
+    public static final int GPIOX3_4_IN_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_4_IN_ON_MASK = 0x00000010;
+    public static final int GPIOX3_4_IN_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_4_IN_OFF_MASK = 0x00000010;
+    public static final int GPIOX3_4_OUT_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_4_OUT_ON_MASK = 0x00000010;
+    public static final int GPIOX3_4_OUT_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_4_OUT_OFF_MASK = 0xffffffef;
+    // GPIOX3_5 group GPIOX3
+    public static final int GPIOX3_5_CHIP = 4;
+    public static final int GPIOX3_5_LINE = 5;
+    public static final int GPIOX3_5_IN_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_5_IN_ON_MASK = 0x00000020;
+    public static final int GPIOX3_5_IN_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_5_IN_OFF_MASK = 0x00000020;
+    public static final int GPIOX3_5_OUT_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_5_OUT_ON_MASK = 0x00000020;
+    public static final int GPIOX3_5_OUT_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_5_OUT_OFF_MASK = 0xffffffdf;
+    // GPIOX3_6 group GPIOX3
+    public static final int GPIOX3_6_CHIP = 4;
+    public static final int GPIOX3_6_LINE = 6;
+    public static final int GPIOX3_6_IN_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_6_IN_ON_MASK = 0x00000040;
+    public static final int GPIOX3_6_IN_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIOX3_6_OUT_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIOX3_6_OUT_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_6_OUT_OFF_MASK = 0xffffffbf;
+    // GPIOX3_7 group GPIOX3
+    public static final int GPIOX3_7_CHIP = 4;
+    public static final int GPIOX3_7_LINE = 7;
+    public static final int GPIOX3_7_IN_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_7_IN_ON_MASK = 0x00000080;
+    public static final int GPIOX3_7_IN_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_7_IN_OFF_MASK = 0x00000080;
+    public static final int GPIOX3_7_OUT_ON_OFFSET = 0xc64;
+    public static final int GPIOX3_7_OUT_ON_MASK = 0x00000080;
+    public static final int GPIOX3_7_OUT_OFF_OFFSET = 0xc64;
+    public static final int GPIOX3_7_OUT_OFF_MASK = 0xffffff7f;
+    // GPIOA0_0 group GPIOA0
+    public static final int GPIOA0_0_CHIP = 26;
+    public static final int GPIOA0_0_LINE = 0;
+    public static final int GPIOA0_0_IN_ON_OFFSET = 0x04;
+    public static final int GPIOA0_0_IN_ON_MASK = 0x00000001;
+    public static final int GPIOA0_0_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_0_IN_OFF_MASK = 0x00000001;
+    public static final int GPIOA0_0_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOA0_0_OUT_ON_MASK = 0x00000001;
+    public static final int GPIOA0_0_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_0_OUT_OFF_MASK = 0xfffffffe;
+    // GPIOA0_1 group GPIOA0
+    public static final int GPIOA0_1_CHIP = 26;
+    public static final int GPIOA0_1_LINE = 1;
+    public static final int GPIOA0_1_IN_ON_OFFSET = 0x04;
+    public static final int GPIOA0_1_IN_ON_MASK = 0x00000002;
+    public static final int GPIOA0_1_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_1_IN_OFF_MASK = 0x00000002;
+    public static final int GPIOA0_1_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOA0_1_OUT_ON_MASK = 0x00000002;
+    public static final int GPIOA0_1_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_1_OUT_OFF_MASK = 0xfffffffd;
+    // GPIOA0_2 group GPIOA0
+    public static final int GPIOA0_2_CHIP = 26;
+    public static final int GPIOA0_2_LINE = 2;
+    public static final int GPIOA0_2_IN_ON_OFFSET = 0x04;
+    public static final int GPIOA0_2_IN_ON_MASK = 0x00000004;
+    public static final int GPIOA0_2_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_2_IN_OFF_MASK = 0x00000004;
+    public static final int GPIOA0_2_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOA0_2_OUT_ON_MASK = 0x00000004;
+    public static final int GPIOA0_2_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_2_OUT_OFF_MASK = 0xfffffffb;
+    // GPIOA0_3 group GPIOA0
+    public static final int GPIOA0_3_CHIP = 26;
+    public static final int GPIOA0_3_LINE = 3;
+    public static final int GPIOA0_3_IN_ON_OFFSET = 0x04;
+    public static final int GPIOA0_3_IN_ON_MASK = 0x00000008;
+    public static final int GPIOA0_3_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIOA0_3_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOA0_3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIOA0_3_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_3_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOA0_4 group GPIOA0
+    public static final int GPIOA0_4_CHIP = 26;
+    public static final int GPIOA0_4_LINE = 4;
+    public static final int GPIOA0_4_IN_ON_OFFSET = 0x04;
+    public static final int GPIOA0_4_IN_ON_MASK = 0x00000010;
+    public static final int GPIOA0_4_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_4_IN_OFF_MASK = 0x00000010;
+    public static final int GPIOA0_4_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOA0_4_OUT_ON_MASK = 0x00000010;
+    public static final int GPIOA0_4_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_4_OUT_OFF_MASK = 0xffffffef;
+    // GPIOA0_5 group GPIOA0
+    public static final int GPIOA0_5_CHIP = 26;
+    public static final int GPIOA0_5_LINE = 5;
+    public static final int GPIOA0_5_IN_ON_OFFSET = 0x04;
+    public static final int GPIOA0_5_IN_ON_MASK = 0x00000020;
+    public static final int GPIOA0_5_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_5_IN_OFF_MASK = 0x00000020;
+    public static final int GPIOA0_5_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOA0_5_OUT_ON_MASK = 0x00000020;
+    public static final int GPIOA0_5_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_5_OUT_OFF_MASK = 0xffffffdf;
+    // GPIOA0_6 group GPIOA0
+    public static final int GPIOA0_6_CHIP = 26;
+    public static final int GPIOA0_6_LINE = 6;
+    public static final int GPIOA0_6_IN_ON_OFFSET = 0x04;
+    public static final int GPIOA0_6_IN_ON_MASK = 0x00000040;
+    public static final int GPIOA0_6_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIOA0_6_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOA0_6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIOA0_6_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_6_OUT_OFF_MASK = 0xffffffbf;
+    // GPIOA0_7 group GPIOA0
+    public static final int GPIOA0_7_CHIP = 26;
+    public static final int GPIOA0_7_LINE = 7;
+    public static final int GPIOA0_7_IN_ON_OFFSET = 0x04;
+    public static final int GPIOA0_7_IN_ON_MASK = 0x00000080;
+    public static final int GPIOA0_7_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_7_IN_OFF_MASK = 0x00000080;
+    public static final int GPIOA0_7_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOA0_7_OUT_ON_MASK = 0x00000080;
+    public static final int GPIOA0_7_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOA0_7_OUT_OFF_MASK = 0xffffff7f;
+    // GPIOA2_0 group GPIOA2
+    public static final int GPIOA2_0_CHIP = 28;
+    public static final int GPIOA2_0_LINE = 0;
+    public static final int GPIOA2_0_IN_ON_OFFSET = 0x44;
+    public static final int GPIOA2_0_IN_ON_MASK = 0x00000001;
+    public static final int GPIOA2_0_IN_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_0_IN_OFF_MASK = 0x00000001;
+    public static final int GPIOA2_0_OUT_ON_OFFSET = 0x44;
+    public static final int GPIOA2_0_OUT_ON_MASK = 0x00000001;
+    public static final int GPIOA2_0_OUT_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_0_OUT_OFF_MASK = 0xfffffffe;
+    // GPIOA2_1 group GPIOA2
+    public static final int GPIOA2_1_CHIP = 28;
+    public static final int GPIOA2_1_LINE = 1;
+    public static final int GPIOA2_1_IN_ON_OFFSET = 0x44;
+    public static final int GPIOA2_1_IN_ON_MASK = 0x00000002;
+    public static final int GPIOA2_1_IN_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_1_IN_OFF_MASK = 0x00000002;
+    public static final int GPIOA2_1_OUT_ON_OFFSET = 0x44;
+    public static final int GPIOA2_1_OUT_ON_MASK = 0x00000002;
+    public static final int GPIOA2_1_OUT_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_1_OUT_OFF_MASK = 0xfffffffd;
+    // GPIOA2_2 group GPIOA2
+    public static final int GPIOA2_2_CHIP = 28;
+    public static final int GPIOA2_2_LINE = 2;
+    public static final int GPIOA2_2_IN_ON_OFFSET = 0x44;
+    public static final int GPIOA2_2_IN_ON_MASK = 0x00000004;
+    public static final int GPIOA2_2_IN_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_2_IN_OFF_MASK = 0x00000004;
+    public static final int GPIOA2_2_OUT_ON_OFFSET = 0x44;
+    public static final int GPIOA2_2_OUT_ON_MASK = 0x00000004;
+    public static final int GPIOA2_2_OUT_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_2_OUT_OFF_MASK = 0xfffffffb;
+    // GPIOA2_3 group GPIOA2
+    public static final int GPIOA2_3_CHIP = 28;
+    public static final int GPIOA2_3_LINE = 3;
+    public static final int GPIOA2_3_IN_ON_OFFSET = 0x44;
+    public static final int GPIOA2_3_IN_ON_MASK = 0x00000008;
+    public static final int GPIOA2_3_IN_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIOA2_3_OUT_ON_OFFSET = 0x44;
+    public static final int GPIOA2_3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIOA2_3_OUT_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_3_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOA2_4 group GPIOA2
+    public static final int GPIOA2_4_CHIP = 28;
+    public static final int GPIOA2_4_LINE = 4;
+    public static final int GPIOA2_4_IN_ON_OFFSET = 0x44;
+    public static final int GPIOA2_4_IN_ON_MASK = 0x00000010;
+    public static final int GPIOA2_4_IN_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_4_IN_OFF_MASK = 0x00000010;
+    public static final int GPIOA2_4_OUT_ON_OFFSET = 0x44;
+    public static final int GPIOA2_4_OUT_ON_MASK = 0x00000010;
+    public static final int GPIOA2_4_OUT_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_4_OUT_OFF_MASK = 0xffffffef;
+    // GPIOA2_5 group GPIOA2
+    public static final int GPIOA2_5_CHIP = 28;
+    public static final int GPIOA2_5_LINE = 5;
+    public static final int GPIOA2_5_IN_ON_OFFSET = 0x44;
+    public static final int GPIOA2_5_IN_ON_MASK = 0x00000020;
+    public static final int GPIOA2_5_IN_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_5_IN_OFF_MASK = 0x00000020;
+    public static final int GPIOA2_5_OUT_ON_OFFSET = 0x44;
+    public static final int GPIOA2_5_OUT_ON_MASK = 0x00000020;
+    public static final int GPIOA2_5_OUT_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_5_OUT_OFF_MASK = 0xffffffdf;
+    // GPIOA2_6 group GPIOA2
+    public static final int GPIOA2_6_CHIP = 28;
+    public static final int GPIOA2_6_LINE = 6;
+    public static final int GPIOA2_6_IN_ON_OFFSET = 0x44;
+    public static final int GPIOA2_6_IN_ON_MASK = 0x00000040;
+    public static final int GPIOA2_6_IN_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIOA2_6_OUT_ON_OFFSET = 0x44;
+    public static final int GPIOA2_6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIOA2_6_OUT_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_6_OUT_OFF_MASK = 0xffffffbf;
+    // GPIOA2_7 group GPIOA2
+    public static final int GPIOA2_7_CHIP = 28;
+    public static final int GPIOA2_7_LINE = 7;
+    public static final int GPIOA2_7_IN_ON_OFFSET = 0x44;
+    public static final int GPIOA2_7_IN_ON_MASK = 0x00000080;
+    public static final int GPIOA2_7_IN_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_7_IN_OFF_MASK = 0x00000080;
+    public static final int GPIOA2_7_OUT_ON_OFFSET = 0x44;
+    public static final int GPIOA2_7_OUT_ON_MASK = 0x00000080;
+    public static final int GPIOA2_7_OUT_OFF_OFFSET = 0x44;
+    public static final int GPIOA2_7_OUT_OFF_MASK = 0xffffff7f;
+    // GPIOB3_0 group GPIOB3
+    public static final int GPIOB3_0_CHIP = 32;
+    public static final int GPIOB3_0_LINE = 0;
+    public static final int GPIOB3_0_IN_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_0_IN_ON_MASK = 0x00000001;
+    public static final int GPIOB3_0_IN_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_0_IN_OFF_MASK = 0x00000001;
+    public static final int GPIOB3_0_OUT_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_0_OUT_ON_MASK = 0x00000001;
+    public static final int GPIOB3_0_OUT_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_0_OUT_OFF_MASK = 0xfffffffe;
+    // GPIOB3_1 group GPIOB3
+    public static final int GPIOB3_1_CHIP = 32;
+    public static final int GPIOB3_1_LINE = 1;
+    public static final int GPIOB3_1_IN_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_1_IN_ON_MASK = 0x00000002;
+    public static final int GPIOB3_1_IN_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_1_IN_OFF_MASK = 0x00000002;
+    public static final int GPIOB3_1_OUT_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_1_OUT_ON_MASK = 0x00000002;
+    public static final int GPIOB3_1_OUT_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_1_OUT_OFF_MASK = 0xfffffffd;
+    // GPIOB3_2 group GPIOB3
+    public static final int GPIOB3_2_CHIP = 32;
+    public static final int GPIOB3_2_LINE = 2;
+    public static final int GPIOB3_2_IN_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_2_IN_ON_MASK = 0x00000004;
+    public static final int GPIOB3_2_IN_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_2_IN_OFF_MASK = 0x00000004;
+    public static final int GPIOB3_2_OUT_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_2_OUT_ON_MASK = 0x00000004;
+    public static final int GPIOB3_2_OUT_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_2_OUT_OFF_MASK = 0xfffffffb;
+    // GPIOB3_3 group GPIOB3
+    public static final int GPIOB3_3_CHIP = 32;
+    public static final int GPIOB3_3_LINE = 3;
+    public static final int GPIOB3_3_IN_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_3_IN_ON_MASK = 0x00000008;
+    public static final int GPIOB3_3_IN_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIOB3_3_OUT_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIOB3_3_OUT_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_3_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOB3_4 group GPIOB3
+    public static final int GPIOB3_4_CHIP = 32;
+    public static final int GPIOB3_4_LINE = 4;
+    public static final int GPIOB3_4_IN_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_4_IN_ON_MASK = 0x00000010;
+    public static final int GPIOB3_4_IN_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_4_IN_OFF_MASK = 0x00000010;
+    public static final int GPIOB3_4_OUT_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_4_OUT_ON_MASK = 0x00000010;
+    public static final int GPIOB3_4_OUT_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_4_OUT_OFF_MASK = 0xffffffef;
+    // GPIOB3_5 group GPIOB3
+    public static final int GPIOB3_5_CHIP = 32;
+    public static final int GPIOB3_5_LINE = 5;
+    public static final int GPIOB3_5_IN_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_5_IN_ON_MASK = 0x00000020;
+    public static final int GPIOB3_5_IN_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_5_IN_OFF_MASK = 0x00000020;
+    public static final int GPIOB3_5_OUT_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_5_OUT_ON_MASK = 0x00000020;
+    public static final int GPIOB3_5_OUT_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_5_OUT_OFF_MASK = 0xffffffdf;
+    // GPIOB3_6 group GPIOB3
+    public static final int GPIOB3_6_CHIP = 32;
+    public static final int GPIOB3_6_LINE = 6;
+    public static final int GPIOB3_6_IN_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_6_IN_ON_MASK = 0x00000040;
+    public static final int GPIOB3_6_IN_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIOB3_6_OUT_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIOB3_6_OUT_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_6_OUT_OFF_MASK = 0xffffffbf;
+    // GPIOB3_7 group GPIOB3
+    public static final int GPIOB3_7_CHIP = 32;
+    public static final int GPIOB3_7_LINE = 7;
+    public static final int GPIOB3_7_IN_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_7_IN_ON_MASK = 0x00000080;
+    public static final int GPIOB3_7_IN_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_7_IN_OFF_MASK = 0x00000080;
+    public static final int GPIOB3_7_OUT_ON_OFFSET = 0xc4;
+    public static final int GPIOB3_7_OUT_ON_MASK = 0x00000080;
+    public static final int GPIOB3_7_OUT_OFF_OFFSET = 0xc4;
+    public static final int GPIOB3_7_OUT_OFF_MASK = 0xffffff7f;
+    // GPIOZ_0 group GPIOZ
+    public static final int GPIOZ_0_CHIP = 35;
+    public static final int GPIOZ_0_LINE = 0;
+    public static final int GPIOZ_0_IN_ON_OFFSET = 0x04;
+    public static final int GPIOZ_0_IN_ON_MASK = 0x00000001;
+    public static final int GPIOZ_0_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_0_IN_OFF_MASK = 0x00000001;
+    public static final int GPIOZ_0_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOZ_0_OUT_ON_MASK = 0x00000001;
+    public static final int GPIOZ_0_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_0_OUT_OFF_MASK = 0xfffffffe;
+    // GPIOZ_1 group GPIOZ
+    public static final int GPIOZ_1_CHIP = 35;
+    public static final int GPIOZ_1_LINE = 1;
+    public static final int GPIOZ_1_IN_ON_OFFSET = 0x04;
+    public static final int GPIOZ_1_IN_ON_MASK = 0x00000002;
+    public static final int GPIOZ_1_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_1_IN_OFF_MASK = 0x00000002;
+    public static final int GPIOZ_1_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOZ_1_OUT_ON_MASK = 0x00000002;
+    public static final int GPIOZ_1_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_1_OUT_OFF_MASK = 0xfffffffd;
+    // GPIOZ_2 group GPIOZ
+    public static final int GPIOZ_2_CHIP = 35;
+    public static final int GPIOZ_2_LINE = 2;
+    public static final int GPIOZ_2_IN_ON_OFFSET = 0x04;
+    public static final int GPIOZ_2_IN_ON_MASK = 0x00000004;
+    public static final int GPIOZ_2_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_2_IN_OFF_MASK = 0x00000004;
+    public static final int GPIOZ_2_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOZ_2_OUT_ON_MASK = 0x00000004;
+    public static final int GPIOZ_2_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_2_OUT_OFF_MASK = 0xfffffffb;
+    // GPIOZ_3 group GPIOZ
+    public static final int GPIOZ_3_CHIP = 35;
+    public static final int GPIOZ_3_LINE = 3;
+    public static final int GPIOZ_3_IN_ON_OFFSET = 0x04;
+    public static final int GPIOZ_3_IN_ON_MASK = 0x00000008;
+    public static final int GPIOZ_3_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_3_IN_OFF_MASK = 0x00000008;
+    public static final int GPIOZ_3_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOZ_3_OUT_ON_MASK = 0x00000008;
+    public static final int GPIOZ_3_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_3_OUT_OFF_MASK = 0xfffffff7;
+    // GPIOZ_4 group GPIOZ
+    public static final int GPIOZ_4_CHIP = 35;
+    public static final int GPIOZ_4_LINE = 4;
+    public static final int GPIOZ_4_IN_ON_OFFSET = 0x04;
+    public static final int GPIOZ_4_IN_ON_MASK = 0x00000010;
+    public static final int GPIOZ_4_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_4_IN_OFF_MASK = 0x00000010;
+    public static final int GPIOZ_4_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOZ_4_OUT_ON_MASK = 0x00000010;
+    public static final int GPIOZ_4_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_4_OUT_OFF_MASK = 0xffffffef;
+    // GPIOZ_5 group GPIOZ
+    public static final int GPIOZ_5_CHIP = 35;
+    public static final int GPIOZ_5_LINE = 5;
+    public static final int GPIOZ_5_IN_ON_OFFSET = 0x04;
+    public static final int GPIOZ_5_IN_ON_MASK = 0x00000020;
+    public static final int GPIOZ_5_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_5_IN_OFF_MASK = 0x00000020;
+    public static final int GPIOZ_5_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOZ_5_OUT_ON_MASK = 0x00000020;
+    public static final int GPIOZ_5_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_5_OUT_OFF_MASK = 0xffffffdf;
+    // GPIOZ_6 group GPIOZ
+    public static final int GPIOZ_6_CHIP = 35;
+    public static final int GPIOZ_6_LINE = 6;
+    public static final int GPIOZ_6_IN_ON_OFFSET = 0x04;
+    public static final int GPIOZ_6_IN_ON_MASK = 0x00000040;
+    public static final int GPIOZ_6_IN_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_6_IN_OFF_MASK = 0x00000040;
+    public static final int GPIOZ_6_OUT_ON_OFFSET = 0x04;
+    public static final int GPIOZ_6_OUT_ON_MASK = 0x00000040;
+    public static final int GPIOZ_6_OUT_OFF_OFFSET = 0x04;
+    public static final int GPIOZ_6_OUT_OFF_MASK = 0xffffffbf;
+
+    /**
+     * Constants only.
+     */
+    private Xu4Pins() {
+    }
+
+    /**
+     * Return pin Map and set chips, chip size, GPIO devices and MMIO path of file without parsing a property file.
+     *
+     * @param file File to set board information on.
+     * @return Pin Map.
+     */
+    public static Map<PinKey, Pin> pinMap(final File file) {
+        file.setDescription(DESCRIPTION);
+        file.setChips(List.of(0x14010000L, 0x14010000L, 0x14010000L, 0x13400000L, 0x13400000L, 0x13400000L, 0x3860000L));
+        file.setMmioSize(List.of(8L, 72L, 200L, 3116L, 3144L, 3176L, 8L));
+        file.setGpioDev(List.of(26, 28, 32, 2, 3, 4, 35));
+        file.setMemPath(MEM_PATH);
+        final Map<PinKey, Pin> pinMap = new TreeMap<>();
+        add(pinMap, new Pin(new PinKey(GPIOX1_0_CHIP, GPIOX1_0_LINE), "GPIOX1", "GPIOX1_0",
+                new Register("IN_ON", GPIOX1_0_IN_ON_OFFSET, GPIOX1_0_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX1_0_IN_OFF_OFFSET, GPIOX1_0_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX1_0_OUT_ON_OFFSET, GPIOX1_0_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX1_0_OUT_OFF_OFFSET, GPIOX1_0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX1_1_CHIP, GPIOX1_1_LINE), "GPIOX1", "GPIOX1_1",
+                new Register("IN_ON", GPIOX1_1_IN_ON_OFFSET, GPIOX1_1_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX1_1_IN_OFF_OFFSET, GPIOX1_1_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX1_1_OUT_ON_OFFSET, GPIOX1_1_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX1_1_OUT_OFF_OFFSET, GPIOX1_1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX1_2_CHIP, GPIOX1_2_LINE), "GPIOX1", "GPIOX1_2",
+                new Register("IN_ON", GPIOX1_2_IN_ON_OFFSET, GPIOX1_2_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX1_2_IN_OFF_OFFSET, GPIOX1_2_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX1_2_OUT_ON_OFFSET, GPIOX1_2_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX1_2_OUT_OFF_OFFSET, GPIOX1_2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX1_3_CHIP, GPIOX1_3_LINE), "GPIOX1", "GPIOX1_3",
+                new Register("IN_ON", GPIOX1_3_IN_ON_OFFSET, GPIOX1_3_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX1_3_IN_OFF_OFFSET, GPIOX1_3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX1_3_OUT_ON_OFFSET, GPIOX1_3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX1_3_OUT_OFF_OFFSET, GPIOX1_3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX1_4_CHIP, GPIOX1_4_LINE), "GPIOX1", "GPIOX1_4",
+                new Register("IN_ON", GPIOX1_4_IN_ON_OFFSET, GPIOX1_4_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX1_4_IN_OFF_OFFSET, GPIOX1_4_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX1_4_OUT_ON_OFFSET, GPIOX1_4_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX1_4_OUT_OFF_OFFSET, GPIOX1_4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX1_5_CHIP, GPIOX1_5_LINE), "GPIOX1", "GPIOX1_5",
+                new Register("IN_ON", GPIOX1_5_IN_ON_OFFSET, GPIOX1_5_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX1_5_IN_OFF_OFFSET, GPIOX1_5_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX1_5_OUT_ON_OFFSET, GPIOX1_5_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX1_5_OUT_OFF_OFFSET, GPIOX1_5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX1_6_CHIP, GPIOX1_6_LINE), "GPIOX1", "GPIOX1_6",
+                new Register("IN_ON", GPIOX1_6_IN_ON_OFFSET, GPIOX1_6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX1_6_IN_OFF_OFFSET, GPIOX1_6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX1_6_OUT_ON_OFFSET, GPIOX1_6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX1_6_OUT_OFF_OFFSET, GPIOX1_6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX1_7_CHIP, GPIOX1_7_LINE), "GPIOX1", "GPIOX1_7",
+                new Register("IN_ON", GPIOX1_7_IN_ON_OFFSET, GPIOX1_7_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX1_7_IN_OFF_OFFSET, GPIOX1_7_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX1_7_OUT_ON_OFFSET, GPIOX1_7_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX1_7_OUT_OFF_OFFSET, GPIOX1_7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX2_0_CHIP, GPIOX2_0_LINE), "GPIOX2", "GPIOX2_0",
+                new Register("IN_ON", GPIOX2_0_IN_ON_OFFSET, GPIOX2_0_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX2_0_IN_OFF_OFFSET, GPIOX2_0_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX2_0_OUT_ON_OFFSET, GPIOX2_0_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX2_0_OUT_OFF_OFFSET, GPIOX2_0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX2_1_CHIP, GPIOX2_1_LINE), "GPIOX2", "GPIOX2_1",
+                new Register("IN_ON", GPIOX2_1_IN_ON_OFFSET, GPIOX2_1_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX2_1_IN_OFF_OFFSET, GPIOX2_1_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX2_1_OUT_ON_OFFSET, GPIOX2_1_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX2_1_OUT_OFF_OFFSET, GPIOX2_1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX2_2_CHIP, GPIOX2_2_LINE), "GPIOX2", "GPIOX2_2",
+                new Register("IN_ON", GPIOX2_2_IN_ON_OFFSET, GPIOX2_2_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX2_2_IN_OFF_OFFSET, GPIOX2_2_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX2_2_OUT_ON_OFFSET, GPIOX2_2_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX2_2_OUT_OFF_OFFSET, GPIOX2_2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX2_3_CHIP, GPIOX2_3_LINE), "GPIOX2", "GPIOX2_3",
+                new Register("IN_ON", GPIOX2_3_IN_ON_OFFSET, GPIOX2_3_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX2_3_IN_OFF_OFFSET, GPIOX2_3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX2_3_OUT_ON_OFFSET, GPIOX2_3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX2_3_OUT_OFF_OFFSET, GPIOX2_3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX2_4_CHIP, GPIOX2_4_LINE), "GPIOX2", "GPIOX2_4",
+                new Register("IN_ON", GPIOX2_4_IN_ON_OFFSET, GPIOX2_4_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX2_4_IN_OFF_OFFSET, GPIOX2_4_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX2_4_OUT_ON_OFFSET, GPIOX2_4_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX2_4_OUT_OFF_OFFSET, GPIOX2_4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX2_5_CHIP, GPIOX2_5_LINE), "GPIOX2", "GPIOX2_5",
+                new Register("IN_ON", GPIOX2_5_IN_ON_OFFSET, GPIOX2_5_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX2_5_IN_OFF_OFFSET, GPIOX2_5_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX2_5_OUT_ON_OFFSET, GPIOX2_5_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX2_5_OUT_OFF_OFFSET, GPIOX2_5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX2_6_CHIP, GPIOX2_6_LINE), "GPIOX2", "GPIOX2_6",
+                new Register("IN_ON", GPIOX2_6_IN_ON_OFFSET, GPIOX2_6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX2_6_IN_OFF_OFFSET, GPIOX2_6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX2_6_OUT_ON_OFFSET, GPIOX2_6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX2_6_OUT_OFF_OFFSET, GPIOX2_6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX2_7_CHIP, GPIOX2_7_LINE), "GPIOX2", "GPIOX2_7",
+                new Register("IN_ON", GPIOX2_7_IN_ON_OFFSET, GPIOX2_7_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX2_7_IN_OFF_OFFSET, GPIOX2_7_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX2_7_OUT_ON_OFFSET, GPIOX2_7_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX2_7_OUT_OFF_OFFSET, GPIOX2_7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX3_0_CHIP, GPIOX3_0_LINE), "GPIOX3", "GPIOX3_0",
+                new Register("IN_ON", GPIOX3_0_IN_ON_OFFSET, GPIOX3_0_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX3_0_IN_OFF_OFFSET, GPIOX3_0_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX3_0_OUT_ON_OFFSET, GPIOX3_0_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX3_0_OUT_OFF_OFFSET, GPIOX3_0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX3_1_CHIP, GPIOX3_1_LINE), "GPIOX3", "GPIOX3_1",
+                new Register("IN_ON", GPIOX3_1_IN_ON_OFFSET, GPIOX3_1_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX3_1_IN_OFF_OFFSET, GPIOX3_1_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX3_1_OUT_ON_OFFSET, GPIOX3_1_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX3_1_OUT_OFF_OFFSET, GPIOX3_1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX3_2_CHIP, GPIOX3_2_LINE), "GPIOX3", "GPIOX3_2",
+                new Register("IN_ON", GPIOX3_2_IN_ON_OFFSET, GPIOX3_2_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX3_2_IN_OFF_OFFSET, GPIOX3_2_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX3_2_OUT_ON_OFFSET, GPIOX3_2_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX3_2_OUT_OFF_OFFSET, GPIOX3_2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX3_3_CHIP, GPIOX3_3_LINE), "GPIOX3", "GPIOX3_3",
+                new Register("IN_ON", GPIOX3_3_IN_ON_OFFSET, GPIOX3_3_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX3_3_IN_OFF_OFFSET, GPIOX3_3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX3_3_OUT_ON_OFFSET, GPIOX3_3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX3_3_OUT_OFF_OFFSET, GPIOX3_3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX3_4_CHIP, GPIOX3_4_LINE), "GPIOX3", "GPIOX3_4",
+                new Register("IN_ON", GPIOX3_4_IN_ON_OFFSET, GPIOX3_4_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX3_4_IN_OFF_OFFSET, GPIOX3_4_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX3_4_OUT_ON_OFFSET, GPIOX3_4_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX3_4_OUT_OFF_OFFSET, GPIOX3_4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX3_5_CHIP, GPIOX3_5_LINE), "GPIOX3", "GPIOX3_5",
+                new Register("IN_ON", GPIOX3_5_IN_ON_OFFSET, GPIOX3_5_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX3_5_IN_OFF_OFFSET, GPIOX3_5_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX3_5_OUT_ON_OFFSET, GPIOX3_5_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX3_5_OUT_OFF_OFFSET, GPIOX3_5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX3_6_CHIP, GPIOX3_6_LINE), "GPIOX3", "GPIOX3_6",
+                new Register("IN_ON", GPIOX3_6_IN_ON_OFFSET, GPIOX3_6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX3_6_IN_OFF_OFFSET, GPIOX3_6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX3_6_OUT_ON_OFFSET, GPIOX3_6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX3_6_OUT_OFF_OFFSET, GPIOX3_6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOX3_7_CHIP, GPIOX3_7_LINE), "GPIOX3", "GPIOX3_7",
+                new Register("IN_ON", GPIOX3_7_IN_ON_OFFSET, GPIOX3_7_IN_ON_MASK),
+                new Register("IN_OFF", GPIOX3_7_IN_OFF_OFFSET, GPIOX3_7_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOX3_7_OUT_ON_OFFSET, GPIOX3_7_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOX3_7_OUT_OFF_OFFSET, GPIOX3_7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA0_0_CHIP, GPIOA0_0_LINE), "GPIOA0", "GPIOA0_0",
+                new Register("IN_ON", GPIOA0_0_IN_ON_OFFSET, GPIOA0_0_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA0_0_IN_OFF_OFFSET, GPIOA0_0_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA0_0_OUT_ON_OFFSET, GPIOA0_0_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA0_0_OUT_OFF_OFFSET, GPIOA0_0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA0_1_CHIP, GPIOA0_1_LINE), "GPIOA0", "GPIOA0_1",
+                new Register("IN_ON", GPIOA0_1_IN_ON_OFFSET, GPIOA0_1_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA0_1_IN_OFF_OFFSET, GPIOA0_1_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA0_1_OUT_ON_OFFSET, GPIOA0_1_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA0_1_OUT_OFF_OFFSET, GPIOA0_1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA0_2_CHIP, GPIOA0_2_LINE), "GPIOA0", "GPIOA0_2",
+                new Register("IN_ON", GPIOA0_2_IN_ON_OFFSET, GPIOA0_2_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA0_2_IN_OFF_OFFSET, GPIOA0_2_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA0_2_OUT_ON_OFFSET, GPIOA0_2_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA0_2_OUT_OFF_OFFSET, GPIOA0_2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA0_3_CHIP, GPIOA0_3_LINE), "GPIOA0", "GPIOA0_3",
+                new Register("IN_ON", GPIOA0_3_IN_ON_OFFSET, GPIOA0_3_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA0_3_IN_OFF_OFFSET, GPIOA0_3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA0_3_OUT_ON_OFFSET, GPIOA0_3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA0_3_OUT_OFF_OFFSET, GPIOA0_3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA0_4_CHIP, GPIOA0_4_LINE), "GPIOA0", "GPIOA0_4",
+                new Register("IN_ON", GPIOA0_4_IN_ON_OFFSET, GPIOA0_4_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA0_4_IN_OFF_OFFSET, GPIOA0_4_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA0_4_OUT_ON_OFFSET, GPIOA0_4_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA0_4_OUT_OFF_OFFSET, GPIOA0_4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA0_5_CHIP, GPIOA0_5_LINE), "GPIOA0", "GPIOA0_5",
+                new Register("IN_ON", GPIOA0_5_IN_ON_OFFSET, GPIOA0_5_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA0_5_IN_OFF_OFFSET, GPIOA0_5_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA0_5_OUT_ON_OFFSET, GPIOA0_5_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA0_5_OUT_OFF_OFFSET, GPIOA0_5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA0_6_CHIP, GPIOA0_6_LINE), "GPIOA0", "GPIOA0_6",
+                new Register("IN_ON", GPIOA0_6_IN_ON_OFFSET, GPIOA0_6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA0_6_IN_OFF_OFFSET, GPIOA0_6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA0_6_OUT_ON_OFFSET, GPIOA0_6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA0_6_OUT_OFF_OFFSET, GPIOA0_6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA0_7_CHIP, GPIOA0_7_LINE), "GPIOA0", "GPIOA0_7",
+                new Register("IN_ON", GPIOA0_7_IN_ON_OFFSET, GPIOA0_7_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA0_7_IN_OFF_OFFSET, GPIOA0_7_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA0_7_OUT_ON_OFFSET, GPIOA0_7_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA0_7_OUT_OFF_OFFSET, GPIOA0_7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA2_0_CHIP, GPIOA2_0_LINE), "GPIOA2", "GPIOA2_0",
+                new Register("IN_ON", GPIOA2_0_IN_ON_OFFSET, GPIOA2_0_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA2_0_IN_OFF_OFFSET, GPIOA2_0_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA2_0_OUT_ON_OFFSET, GPIOA2_0_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA2_0_OUT_OFF_OFFSET, GPIOA2_0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA2_1_CHIP, GPIOA2_1_LINE), "GPIOA2", "GPIOA2_1",
+                new Register("IN_ON", GPIOA2_1_IN_ON_OFFSET, GPIOA2_1_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA2_1_IN_OFF_OFFSET, GPIOA2_1_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA2_1_OUT_ON_OFFSET, GPIOA2_1_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA2_1_OUT_OFF_OFFSET, GPIOA2_1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA2_2_CHIP, GPIOA2_2_LINE), "GPIOA2", "GPIOA2_2",
+                new Register("IN_ON", GPIOA2_2_IN_ON_OFFSET, GPIOA2_2_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA2_2_IN_OFF_OFFSET, GPIOA2_2_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA2_2_OUT_ON_OFFSET, GPIOA2_2_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA2_2_OUT_OFF_OFFSET, GPIOA2_2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA2_3_CHIP, GPIOA2_3_LINE), "GPIOA2", "GPIOA2_3",
+                new Register("IN_ON", GPIOA2_3_IN_ON_OFFSET, GPIOA2_3_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA2_3_IN_OFF_OFFSET, GPIOA2_3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA2_3_OUT_ON_OFFSET, GPIOA2_3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA2_3_OUT_OFF_OFFSET, GPIOA2_3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA2_4_CHIP, GPIOA2_4_LINE), "GPIOA2", "GPIOA2_4",
+                new Register("IN_ON", GPIOA2_4_IN_ON_OFFSET, GPIOA2_4_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA2_4_IN_OFF_OFFSET, GPIOA2_4_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA2_4_OUT_ON_OFFSET, GPIOA2_4_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA2_4_OUT_OFF_OFFSET, GPIOA2_4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA2_5_CHIP, GPIOA2_5_LINE), "GPIOA2", "GPIOA2_5",
+                new Register("IN_ON", GPIOA2_5_IN_ON_OFFSET, GPIOA2_5_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA2_5_IN_OFF_OFFSET, GPIOA2_5_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA2_5_OUT_ON_OFFSET, GPIOA2_5_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA2_5_OUT_OFF_OFFSET, GPIOA2_5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA2_6_CHIP, GPIOA2_6_LINE), "GPIOA2", "GPIOA2_6",
+                new Register("IN_ON", GPIOA2_6_IN_ON_OFFSET, GPIOA2_6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA2_6_IN_OFF_OFFSET, GPIOA2_6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA2_6_OUT_ON_OFFSET, GPIOA2_6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA2_6_OUT_OFF_OFFSET, GPIOA2_6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOA2_7_CHIP, GPIOA2_7_LINE), "GPIOA2", "GPIOA2_7",
+                new Register("IN_ON", GPIOA2_7_IN_ON_OFFSET, GPIOA2_7_IN_ON_MASK),
+                new Register("IN_OFF", GPIOA2_7_IN_OFF_OFFSET, GPIOA2_7_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOA2_7_OUT_ON_OFFSET, GPIOA2_7_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOA2_7_OUT_OFF_OFFSET, GPIOA2_7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOB3_0_CHIP, GPIOB3_0_LINE), "GPIOB3", "GPIOB3_0",
+                new Register("IN_ON", GPIOB3_0_IN_ON_OFFSET, GPIOB3_0_IN_ON_MASK),
+                new Register("IN_OFF", GPIOB3_0_IN_OFF_OFFSET, GPIOB3_0_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOB3_0_OUT_ON_OFFSET, GPIOB3_0_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOB3_0_OUT_OFF_OFFSET, GPIOB3_0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOB3_1_CHIP, GPIOB3_1_LINE), "GPIOB3", "GPIOB3_1",
+                new Register("IN_ON", GPIOB3_1_IN_ON_OFFSET, GPIOB3_1_IN_ON_MASK),
+                new Register("IN_OFF", GPIOB3_1_IN_OFF_OFFSET, GPIOB3_1_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOB3_1_OUT_ON_OFFSET, GPIOB3_1_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOB3_1_OUT_OFF_OFFSET, GPIOB3_1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOB3_2_CHIP, GPIOB3_2_LINE), "GPIOB3", "GPIOB3_2",
+                new Register("IN_ON", GPIOB3_2_IN_ON_OFFSET, GPIOB3_2_IN_ON_MASK),
+                new Register("IN_OFF", GPIOB3_2_IN_OFF_OFFSET, GPIOB3_2_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOB3_2_OUT_ON_OFFSET, GPIOB3_2_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOB3_2_OUT_OFF_OFFSET, GPIOB3_2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOB3_3_CHIP, GPIOB3_3_LINE), "GPIOB3", "GPIOB3_3",
+                new Register("IN_ON", GPIOB3_3_IN_ON_OFFSET, GPIOB3_3_IN_ON_MASK),
+                new Register("IN_OFF", GPIOB3_3_IN_OFF_OFFSET, GPIOB3_3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOB3_3_OUT_ON_OFFSET, GPIOB3_3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOB3_3_OUT_OFF_OFFSET, GPIOB3_3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOB3_4_CHIP, GPIOB3_4_LINE), "GPIOB3", "GPIOB3_4",
+                new Register("IN_ON", GPIOB3_4_IN_ON_OFFSET, GPIOB3_4_IN_ON_MASK),
+                new Register("IN_OFF", GPIOB3_4_IN_OFF_OFFSET, GPIOB3_4_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOB3_4_OUT_ON_OFFSET, GPIOB3_4_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOB3_4_OUT_OFF_OFFSET, GPIOB3_4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOB3_5_CHIP, GPIOB3_5_LINE), "GPIOB3", "GPIOB3_5",
+                new Register("IN_ON", GPIOB3_5_IN_ON_OFFSET, GPIOB3_5_IN_ON_MASK),
+                new Register("IN_OFF", GPIOB3_5_IN_OFF_OFFSET, GPIOB3_5_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOB3_5_OUT_ON_OFFSET, GPIOB3_5_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOB3_5_OUT_OFF_OFFSET, GPIOB3_5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOB3_6_CHIP, GPIOB3_6_LINE), "GPIOB3", "GPIOB3_6",
+                new Register("IN_ON", GPIOB3_6_IN_ON_OFFSET, GPIOB3_6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOB3_6_IN_OFF_OFFSET, GPIOB3_6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOB3_6_OUT_ON_OFFSET, GPIOB3_6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOB3_6_OUT_OFF_OFFSET, GPIOB3_6_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOB3_7_CHIP, GPIOB3_7_LINE), "GPIOB3", "GPIOB3_7",
+                new Register("IN_ON", GPIOB3_7_IN_ON_OFFSET, GPIOB3_7_IN_ON_MASK),
+                new Register("IN_OFF", GPIOB3_7_IN_OFF_OFFSET, GPIOB3_7_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOB3_7_OUT_ON_OFFSET, GPIOB3_7_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOB3_7_OUT_OFF_OFFSET, GPIOB3_7_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOZ_0_CHIP, GPIOZ_0_LINE), "GPIOZ", "GPIOZ_0",
+                new Register("IN_ON", GPIOZ_0_IN_ON_OFFSET, GPIOZ_0_IN_ON_MASK),
+                new Register("IN_OFF", GPIOZ_0_IN_OFF_OFFSET, GPIOZ_0_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOZ_0_OUT_ON_OFFSET, GPIOZ_0_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOZ_0_OUT_OFF_OFFSET, GPIOZ_0_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOZ_1_CHIP, GPIOZ_1_LINE), "GPIOZ", "GPIOZ_1",
+                new Register("IN_ON", GPIOZ_1_IN_ON_OFFSET, GPIOZ_1_IN_ON_MASK),
+                new Register("IN_OFF", GPIOZ_1_IN_OFF_OFFSET, GPIOZ_1_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOZ_1_OUT_ON_OFFSET, GPIOZ_1_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOZ_1_OUT_OFF_OFFSET, GPIOZ_1_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOZ_2_CHIP, GPIOZ_2_LINE), "GPIOZ", "GPIOZ_2",
+                new Register("IN_ON", GPIOZ_2_IN_ON_OFFSET, GPIOZ_2_IN_ON_MASK),
+                new Register("IN_OFF", GPIOZ_2_IN_OFF_OFFSET, GPIOZ_2_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOZ_2_OUT_ON_OFFSET, GPIOZ_2_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOZ_2_OUT_OFF_OFFSET, GPIOZ_2_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOZ_3_CHIP, GPIOZ_3_LINE), "GPIOZ", "GPIOZ_3",
+                new Register("IN_ON", GPIOZ_3_IN_ON_OFFSET, GPIOZ_3_IN_ON_MASK),
+                new Register("IN_OFF", GPIOZ_3_IN_OFF_OFFSET, GPIOZ_3_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOZ_3_OUT_ON_OFFSET, GPIOZ_3_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOZ_3_OUT_OFF_OFFSET, GPIOZ_3_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOZ_4_CHIP, GPIOZ_4_LINE), "GPIOZ", "GPIOZ_4",
+                new Register("IN_ON", GPIOZ_4_IN_ON_OFFSET, GPIOZ_4_IN_ON_MASK),
+                new Register("IN_OFF", GPIOZ_4_IN_OFF_OFFSET, GPIOZ_4_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOZ_4_OUT_ON_OFFSET, GPIOZ_4_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOZ_4_OUT_OFF_OFFSET, GPIOZ_4_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOZ_5_CHIP, GPIOZ_5_LINE), "GPIOZ", "GPIOZ_5",
+                new Register("IN_ON", GPIOZ_5_IN_ON_OFFSET, GPIOZ_5_IN_ON_MASK),
+                new Register("IN_OFF", GPIOZ_5_IN_OFF_OFFSET, GPIOZ_5_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOZ_5_OUT_ON_OFFSET, GPIOZ_5_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOZ_5_OUT_OFF_OFFSET, GPIOZ_5_OUT_OFF_MASK)));
+        add(pinMap, new Pin(new PinKey(GPIOZ_6_CHIP, GPIOZ_6_LINE), "GPIOZ", "GPIOZ_6",
+                new Register("IN_ON", GPIOZ_6_IN_ON_OFFSET, GPIOZ_6_IN_ON_MASK),
+                new Register("IN_OFF", GPIOZ_6_IN_OFF_OFFSET, GPIOZ_6_IN_OFF_MASK),
+                new Register("OUT_ON", GPIOZ_6_OUT_ON_OFFSET, GPIOZ_6_OUT_ON_MASK),
+                new Register("OUT_OFF", GPIOZ_6_OUT_OFF_OFFSET, GPIOZ_6_OUT_OFF_MASK)));
+        return pinMap;
+    }
+
+    /**
+     * Add pin to Map.
+     *
+     * @param pinMap Pin Map.
+     * @param pin Pin.
+     */
+    private static void add(final Map<PinKey, Pin> pinMap, final Pin pin) {
+        pinMap.put(pin.getKey(), pin);
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.rt;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Calibrated delay for bit-banged protocols. Very short delays use a counted loop calibrated against System.nanoTime (reading
+ * the clock would take longer than the delay), medium delays spin on System.nanoTime with Thread.onSpinWait and long delays park
+ * then spin the remainder. Absolute deviation from the requested delay can be recorded to a histogram, with delays that returned
+ * early counted separately.
+ *
+ * Calibration runs in the constructor, so create one instance at startup (or use getDefault) and share it. Run timed code on a
+ * thread from RtThreadFactory for best results.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class Delay {
+
+    /**
+     * Calibration loop count.
+     */
+    private static final int CALIBRATE_LOOPS = 1000000;
+    /**
+     * Calibration rounds. Early rounds warm up the JIT.
+     */
+    private static final int CALIBRATE_ROUNDS = 10;
+    /**
+     * Shared instance.
+     */
+    private static volatile Delay defaultDelay;
+    /**
+     * Keeps counted loop from being optimized away.
+     */
+    private volatile int sink;
+    /**
+     * Average System.nanoTime call cost in nanoseconds.
+     */
+    private final double nanoTimeCost;
+    /**
+     * Counted loop iterations per nanosecond.
+     */
+    private final double loopsPerNs;
+    /**
+     * Delays below this use the counted loop.
+     */
+    private long loopThreshold;
+    /**
+     * Delays at or above this park first.
+     */
+    private long parkThreshold = 100000;
+    /**
+     * Time left to spin after parking.
+     */
+    private long parkMargin = 60000;
+    /**
+     * Deviation histogram or null if not recording.
+     */
+    private Histogram deviation;
+    /**
+     * Recorded delays that returned early.
+     */
+    private long earlyReturns;
+
+    /**
+     * Calibrate and use default thresholds.
+     */
+    public Delay() {
+        nanoTimeCost = calibrateNanoTime();
+        loopsPerNs = calibrateLoop();
+        // Below a few clock reads the clock can't measure the delay
+        loopThreshold = Math.max(100, (long) (nanoTimeCost * 4));
+    }
+
+    /**
+     * Return shared calibrated instance.
+     *
+     * @return Delay.
+     */
+    public static Delay getDefault() {
+        var delay = defaultDelay;
+        if (delay == null) {
+            synchronized (Delay.class) {
+                delay = defaultDelay;
+                if (delay == null) {
+                    delay = new Delay();
+                    defaultDelay = delay;
+                }
+            }
+        }
+        return delay;
+    }
+
+    public double getNanoTimeCost() {
+        return nanoTimeCost;
+    }
+
+    public double getLoopsPerNs() {
+        return loopsPerNs;
+    }
+
+    public long getLoopThreshold() {
+        return loopThreshold;
+    }
+
+    public Delay setLoopThreshold(final long loopThreshold) {
+        this.loopThreshold = loopThreshold;
+        return this;
+    }
+
+    public long getParkThreshold() {
+        return parkThreshold;
+    }
+
+    public Delay setParkThreshold(final long parkThreshold) {
+        this.parkThreshold = parkThreshold;
+        return this;
+    }
+
+    public long getParkMargin() {
+        return parkMargin;
+    }
+
+    public Delay setParkMargin(final long parkMargin) {
+        this.parkMargin = parkMargin;
+        return this;
+    }
+
+    public Histogram getDeviation() {
+        return deviation;
+    }
+
+    public long getEarlyReturns() {
+        return earlyReturns;
+    }
+
+    /**
+     * Record absolute deviation of each delay and reset the early return count. Recording reads the clock twice more per delay, so
+     * leave it off in production.
+     *
+     * @param deviation Histogram (10 ns buckets work well) or null to stop recording.
+     * @return This object.
+     */
+    public Delay setDeviation(final Histogram deviation) {
+        this.deviation = deviation;
+        earlyReturns = 0;
+        return this;
+    }
+
+    /**
+     * Return average cost of System.nanoTime.
+     *
+     * @return Nanoseconds.
+     */
+    private double calibrateNanoTime() {
+        var cost = 0.0;
+        for (int round = 0; round < CALIBRATE_ROUNDS; round++) {
+            final var start = System.nanoTime();
+            var last = start;
+            for (int i = 0; i < CALIBRATE_LOOPS / 10; i++) {
+                last = System.nanoTime();
+            }
+            cost = (double) (last - start) / (CALIBRATE_LOOPS / 10);
+        }
+        return cost;
+    }
+
+    /**
+     * Return counted loop iterations per nanosecond after JIT warm up.
+     *
+     * @return Iterations per nanosecond.
+     */
+    private double calibrateLoop() {
+        var rate = 0.0;
+        for (int round = 0; round < CALIBRATE_ROUNDS; round++) {
+            final var start = System.nanoTime();
+            loop(CALIBRATE_LOOPS);
+            rate = (double) CALIBRATE_LOOPS / Math.max(1, System.nanoTime() - start);
+        }
+        return rate;
+    }
+
+    /**
+     * Counted loop.
+     *
+     * @param count Iterations.
+     */
+    private void loop(final long count) {
+        var x = 0;
+        for (long i = 0; i < count; i++) {
+            x += (int) i ^ x;
+        }
+        sink = x;
+    }
+
+    /**
+     * Spin until deadline.
+     *
+     * @param deadline System.nanoTime deadline.
+     */
+    public void spinUntil(final long deadline) {
+        while (deadline - System.nanoTime() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Delay without recording.
+     *
+     * @param nanos Nanoseconds.
+     * @param start System.nanoTime when delay started.
+     */
+    private void delay(final long nanos, final long start) {
+        if (nanos < loopThreshold) {
+            loop((long) (nanos * loopsPerNs));
+        } else if (nanos < parkThreshold) {
+            spinUntil(start + nanos);
+        } else {
+            final var deadline = start + nanos;
+            // Park wakes up late, so leave margin to spin
+            var remaining = deadline - parkMargin - System.nanoTime();
+            while (remaining > 0) {
+                LockSupport.parkNanos(remaining);
+                remaining = deadline - parkMargin - System.nanoTime();
+            }
+            spinUntil(deadline);
+        }
+    }
+
+    /**
+     * Delay for nanoseconds.
+     *
+     * @param nanos Nanoseconds.
+     */
+    public void delay(final long nanos) {
+        if (nanos > 0) {
+            final var histogram = deviation;
+            if (histogram == null) {
+                delay(nanos, nanos < loopThreshold ? 0 : System.nanoTime());
+            } else {
+                final var start = System.nanoTime();
+                delay(nanos, start);
+                final var error = System.nanoTime() - start - nanos;
+                // Histogram clamps negatives to 0, which would hide a short counted loop
+                if (error < 0) {
+                    earlyReturns++;
+                }
+                histogram.record(Math.abs(error));
+            }
+        }
+    }
+
+    /**
+     * Delay for microseconds.
+     *
+     * @param micros Microseconds.
+     */
+    public void delayMicros(final long micros) {
+        delay(micros * 1000);
+    }
+}
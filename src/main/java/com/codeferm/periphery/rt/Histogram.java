@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.rt;
+
+import java.util.Arrays;
+
+/**
+ * Fixed bucket latency histogram. Values are recorded in nanoseconds into equal buckets (1 microsecond by default) up to a
+ * maximum, with larger values counted in the last bucket. Recording never allocates, so it can be used inside timed loops.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class Histogram {
+
+    /**
+     * Nanoseconds per bucket.
+     */
+    private final long bucketNs;
+    /**
+     * Bucket counts.
+     */
+    private final long[] buckets;
+    /**
+     * Number of values.
+     */
+    private long count;
+    /**
+     * Sum of values.
+     */
+    private long sum;
+    /**
+     * Smallest value.
+     */
+    private long min = Long.MAX_VALUE;
+    /**
+     * Largest value.
+     */
+    private long max = Long.MIN_VALUE;
+
+    /**
+     * Create histogram with 1 microsecond buckets.
+     *
+     * @param maxMicros Largest value in microseconds with its own bucket.
+     */
+    public Histogram(final int maxMicros) {
+        this(maxMicros, 1000);
+    }
+
+    /**
+     * Create histogram with custom bucket size.
+     *
+     * @param bucketCount Buckets before overflow bucket.
+     * @param bucketNs Nanoseconds per bucket.
+     */
+    public Histogram(final int bucketCount, final long bucketNs) {
+        this.bucketNs = bucketNs;
+        buckets = new long[bucketCount + 2];
+    }
+
+    /**
+     * Record value.
+     *
+     * @param nanos Value in nanoseconds. Negative values are recorded as 0.
+     */
+    public void record(final long nanos) {
+        final var value = Math.max(nanos, 0);
+        buckets[(int) Math.min(value / bucketNs, buckets.length - 1)]++;
+        count++;
+        sum += value;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Clear all values.
+     */
+    public void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Return smallest value.
+     *
+     * @return Nanoseconds or 0 if empty.
+     */
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * Return largest value.
+     *
+     * @return Nanoseconds or 0 if empty.
+     */
+    public long getMax() {
+        return count == 0 ? 0 : max;
+    }
+
+    /**
+     * Return mean value.
+     *
+     * @return Nanoseconds or 0 if empty.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Return upper bound of bucket holding percentile. Values in the last bucket return max.
+     *
+     * @param percentile Percentile 0 to 100.
+     * @return Nanoseconds or 0 if empty.
+     */
+    public long getPercentile(final double percentile) {
+        var ret = 0L;
+        if (count > 0) {
+            final var target = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+            var total = 0L;
+            var i = 0;
+            while (total + buckets[i] < target) {
+                total += buckets[i++];
+            }
+            ret = i == buckets.length - 1 ? max : Math.min((i + 1) * bucketNs, max);
+        }
+        return ret;
+    }
+
+    /**
+     * Return summary in microseconds.
+     *
+     * @return Summary.
+     */
+    @Override
+    public String toString() {
+        return String.format("count %d min %.2f us avg %.2f us p50 %.2f us p99 %.2f us p99.9 %.2f us max %.2f us", count, getMin()
+                / 1000.0, getMean() / 1000.0, getPercentile(50) / 1000.0, getPercentile(99) / 1000.0, getPercentile(99.9) / 1000.0,
+                getMax() / 1000.0);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.rt;
+
+import com.codeferm.periphery.Sched;
+import static com.codeferm.periphery.Sched.SCHED_FIFO;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.LogManager;
+import picocli.CommandLine;
+
+/**
+ * Periodic wake up jitter on a default thread compared to a thread pinned to a CPU with SCHED_FIFO and locked memory. Run as root
+ * for real-time priority and mlockall. Try it with and without load on the other cores.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@CommandLine.Command(name = "jitter", mixinStandardHelpOptions = true, version = "jitter 1.0.0",
+        description = "Compare wake up jitter of default and real-time threads")
+public class Jitter implements Callable<Integer> {
+
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(Jitter.class);
+    /**
+     * Period option.
+     */
+    @CommandLine.Option(names = {"-p", "--period"}, description = "Period in microseconds defaults to 1000")
+    private long period = 1000;
+    /**
+     * Samples option.
+     */
+    @CommandLine.Option(names = {"-s", "--samples"}, description = "Samples for each thread defaults to 10000")
+    private int samples = 10000;
+    /**
+     * CPU option.
+     */
+    @CommandLine.Option(names = {"-c", "--cpu"}, description = "CPU to pin to defaults to last CPU")
+    private int cpu = Runtime.getRuntime().availableProcessors() - 1;
+    /**
+     * Priority option.
+     */
+    @CommandLine.Option(names = {"-r", "--priority"}, description = "SCHED_FIFO priority defaults to 80")
+    private int priority = 80;
+
+    /**
+     * Wake up at fixed period and record how late each wake up is.
+     *
+     * @param histogram Lateness histogram.
+     */
+    public void run(final Histogram histogram) {
+        final var periodNs = period * 1000;
+        var deadline = System.nanoTime() + periodNs;
+        for (int i = 0; i < samples; i++) {
+            var now = System.nanoTime();
+            while (deadline - now > 0) {
+                LockSupport.parkNanos(deadline - now);
+                now = System.nanoTime();
+            }
+            histogram.record(now - deadline);
+            deadline += periodNs;
+        }
+    }
+
+    /**
+     * Run samples on thread from factory and return lateness.
+     *
+     * @param factory Thread factory.
+     * @return Lateness histogram.
+     * @throws InterruptedException Possible exception.
+     */
+    public Histogram measure(final ThreadFactory factory) throws InterruptedException {
+        final var histogram = new Histogram(10000);
+        final var thread = factory.newThread(() -> run(histogram));
+        thread.start();
+        thread.join();
+        return histogram;
+    }
+
+    /**
+     * Run jitter test on default then tuned thread.
+     *
+     * @return Exit code.
+     * @throws InterruptedException Possible exception.
+     */
+    @Override
+    public Integer call() throws InterruptedException {
+        logger.info(String.format("Period %d us, %d samples", period, samples));
+        logger.info(String.format("Default thread  %s", measure(Thread::new)));
+        final var rc = RtThreadFactory.lockMemory();
+        if (rc != Sched.SCHED_SUCCESS) {
+            logger.warn(String.format("mlockall failed errno %d", -rc));
+        }
+        final var factory = new RtThreadFactory("jitter", cpu).setPolicy(SCHED_FIFO, priority);
+        logger.info(String.format("CPU %d FIFO %d  %s", cpu, priority, measure(factory)));
+        return 0;
+    }
+
+    /**
+     * Main parsing, error handling and handling user requests for usage help or version help are done with one line of code.
+     *
+     * @param args Argument list.
+     */
+    public static void main(String... args) {
+        System.exit(new CommandLine(new Jitter()).execute(args));
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.rt;
+
+import com.codeferm.periphery.TimerFd;
+import static com.codeferm.periphery.TimerFd.TIMERFD_SUCCESS;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import org.apache.logging.log4j.LogManager;
+
+/**
+ * Fixed rate executor on one thread driven by a CLOCK_MONOTONIC timerfd with absolute expirations, so periods never drift by
+ * the time the task takes. Tasks run in deadline order. With one task the timer is armed periodic and the kernel's expiration
+ * count gives overruns. With more tasks it is armed one shot for the earliest deadline and overruns are worked out from the time.
+ * Other threads wake the executor through an eventfd polled with the timer, so only the executor thread ever sets the timer.
+ *
+ * Tasks should be short. A slow task delays every task behind it and shows up as lateness and overruns.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PeriodicExecutor implements AutoCloseable {
+
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(PeriodicExecutor.class);
+    /**
+     * Timer.
+     */
+    private final TimerFd timer;
+    /**
+     * Tasks by deadline. Only the executor thread uses this.
+     */
+    private final PriorityQueue<PeriodicTask> queue = new PriorityQueue<>(Comparator.comparingLong(PeriodicTask::getDeadline));
+    /**
+     * Tasks scheduled from other threads.
+     */
+    private final ConcurrentLinkedQueue<PeriodicTask> added = new ConcurrentLinkedQueue<>();
+    /**
+     * Executor thread.
+     */
+    private final Thread thread;
+    /**
+     * Task owning periodic timer or null if timer is one shot.
+     */
+    private PeriodicTask periodicTask;
+    /**
+     * Stop flag.
+     */
+    private volatile boolean stopped;
+
+    /**
+     * Create executor with a default thread.
+     *
+     * @param name Thread name.
+     */
+    public PeriodicExecutor(final String name) {
+        this(runnable -> new Thread(runnable, name));
+    }
+
+    /**
+     * Create executor with thread from factory such as RtThreadFactory.
+     *
+     * @param factory Thread factory.
+     */
+    public PeriodicExecutor(final ThreadFactory factory) {
+        timer = new TimerFd();
+        thread = factory.newThread(this::run);
+        thread.start();
+    }
+
+    /**
+     * Run task every period starting one period from now.
+     *
+     * @param runnable Task.
+     * @param period Period in nanoseconds.
+     * @return Scheduled task.
+     */
+    public PeriodicTask schedule(final Runnable runnable, final long period) {
+        return schedule(runnable, period, period);
+    }
+
+    /**
+     * Run task every period after initial delay.
+     *
+     * @param runnable Task.
+     * @param initialDelay Delay before first run in nanoseconds.
+     * @param period Period in nanoseconds.
+     * @return Scheduled task.
+     */
+    public PeriodicTask schedule(final Runnable runnable, final long initialDelay, final long period) {
+        return scheduleAt(runnable, TimerFd.clockMonotonic() + initialDelay, period);
+    }
+
+    /**
+     * Run task every period starting at an absolute deadline, so tasks can share a timebase.
+     *
+     * @param runnable Task.
+     * @param deadline First deadline in CLOCK_MONOTONIC nanoseconds.
+     * @param period Period in nanoseconds.
+     * @return Scheduled task.
+     */
+    public PeriodicTask scheduleAt(final Runnable runnable, final long deadline, final long period) {
+        if (stopped) {
+            throw new RuntimeException("Executor closed");
+        }
+        final var task = new PeriodicTask(runnable, deadline, period);
+        added.add(task);
+        wake();
+        return task;
+    }
+
+    /**
+     * Wake executor thread, so it picks up changes.
+     */
+    private void wake() {
+        timer.wake();
+    }
+
+    /**
+     * Arm timer for earliest task.
+     *
+     * @param head Earliest task.
+     */
+    private void arm(final PeriodicTask head) {
+        int rc = TIMERFD_SUCCESS;
+        if (queue.size() == 1) {
+            // Single task lets the kernel count expirations
+            if (periodicTask != head) {
+                rc = TimerFd.timerFdSetAbs(timer.getFd(), head.getDeadline(), head.getPeriod());
+                periodicTask = head;
+            }
+        } else {
+            rc = TimerFd.timerFdSetAbs(timer.getFd(), head.getDeadline(), 0);
+            periodicTask = null;
+        }
+        if (rc != TIMERFD_SUCCESS) {
+            throw new RuntimeException(String.format("Unable to set timer errno %d", -rc));
+        }
+    }
+
+    /**
+     * Executor loop.
+     */
+    private void run() {
+        try {
+            while (!stopped) {
+                // Pick up new tasks
+                PeriodicTask task;
+                while ((task = added.poll()) != null) {
+                    queue.add(task);
+                    periodicTask = null;
+                }
+                // Drop cancelled tasks at head
+                while (!queue.isEmpty() && queue.peek().isCancelled()) {
+                    queue.poll();
+                    periodicTask = null;
+                }
+                final var head = queue.peek();
+                if (head != null) {
+                    arm(head);
+                } else {
+                    // Wait for schedule or close to wake us
+                    TimerFd.timerFdSetAbs(timer.getFd(), 0, 0);
+                    periodicTask = null;
+                }
+                // Wakes after draining are counted by the eventfd, so they aren't lost
+                final var expirations = timer.await();
+                if (expirations < 0) {
+                    throw new RuntimeException(String.format("Unable to read timer errno %d", -expirations));
+                }
+                final var now = TimerFd.clockMonotonic();
+                // Run everything due in deadline order
+                while (!queue.isEmpty() && queue.peek().getDeadline() - now <= 0) {
+                    task = queue.poll();
+                    if (!task.isCancelled()) {
+                        if (task.run(now, task == periodicTask ? expirations : 0)) {
+                            logger.warn(String.format("Task %s threw exception", task));
+                        }
+                        queue.add(task);
+                    } else {
+                        periodicTask = null;
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage());
+        }
+    }
+
+    /**
+     * Stop running tasks, wait for executor thread to finish and close timer. Cannot be called from a task.
+     */
+    @Override
+    public void close() {
+        if (Thread.currentThread() == thread) {
+            throw new RuntimeException("Cannot close executor from its own task");
+        }
+        stopped = true;
+        wake();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        timer.close();
+    }
+}
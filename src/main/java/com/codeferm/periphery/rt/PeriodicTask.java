@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.rt;
+
+/**
+ * Task scheduled on a PeriodicExecutor. Tracks next deadline, runs, overruns (periods skipped because the executor was late) and a
+ * lateness histogram. Statistics are written by the executor thread, so read them after the executor is closed for exact values.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PeriodicTask {
+
+    /**
+     * Task to run.
+     */
+    private final Runnable runnable;
+    /**
+     * Period in nanoseconds.
+     */
+    private final long period;
+    /**
+     * Lateness of each run.
+     */
+    private final Histogram lateness = new Histogram(10000);
+    /**
+     * Next deadline in CLOCK_MONOTONIC nanoseconds.
+     */
+    private long deadline;
+    /**
+     * Number of runs.
+     */
+    private volatile long runs;
+    /**
+     * Number of skipped periods.
+     */
+    private volatile long overruns;
+    /**
+     * Number of runs that threw.
+     */
+    private volatile long errors;
+    /**
+     * Cancel flag.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Task, first deadline and period constructor.
+     *
+     * @param runnable Task to run.
+     * @param deadline First deadline.
+     * @param period Period in nanoseconds.
+     */
+    PeriodicTask(final Runnable runnable, final long deadline, final long period) {
+        if (period <= 0) {
+            throw new RuntimeException(String.format("Invalid period %d", period));
+        }
+        this.runnable = runnable;
+        this.deadline = deadline;
+        this.period = period;
+    }
+
+    public long getPeriod() {
+        return period;
+    }
+
+    public Histogram getLateness() {
+        return lateness;
+    }
+
+    long getDeadline() {
+        return deadline;
+    }
+
+    public long getRuns() {
+        return runs;
+    }
+
+    public long getOverruns() {
+        return overruns;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Stop running task. Takes effect before the next run.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Run task and advance deadline. Called by executor thread only.
+     *
+     * @param now Current time.
+     * @param expirations Kernel expiration count when task owns the timer or 0 to work out skipped periods from time.
+     * @return True if task threw.
+     */
+    boolean run(final long now, final long expirations) {
+        lateness.record(now - deadline);
+        var failed = false;
+        try {
+            runnable.run();
+        } catch (RuntimeException e) {
+            errors++;
+            failed = true;
+        }
+        runs++;
+        final long missed;
+        if (expirations > 0) {
+            missed = expirations - 1;
+        } else {
+            missed = (now - deadline) / period;
+        }
+        overruns += missed;
+        deadline += (missed + 1) * period;
+        return failed;
+    }
+
+    /**
+     * Return summary.
+     *
+     * @return Summary.
+     */
+    @Override
+    public String toString() {
+        return String.format("period %d ns runs %d overruns %d errors %d lateness %s", period, runs, overruns, errors, lateness);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.rt;
+
+import com.codeferm.periphery.Sched;
+import static com.codeferm.periphery.Sched.MCL_CURRENT;
+import static com.codeferm.periphery.Sched.MCL_FUTURE;
+import static com.codeferm.periphery.Sched.SCHED_OTHER;
+import static com.codeferm.periphery.Sched.SCHED_SUCCESS;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+
+/**
+ * Thread factory for real-time loops. Each thread pins itself to a CPU set, optionally switches to SCHED_FIFO or SCHED_RR and
+ * touches its stack before running its task, so tight loops are not hit by migrations, preemption or page faults. Call lockMemory
+ * once at startup to lock the heap and direct buffers (use -XX:+AlwaysPreTouch to fault in the whole heap first).
+ *
+ * Settings that fail (usually because of missing privileges) are logged and the thread still runs.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RtThreadFactory implements ThreadFactory, ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+    /**
+     * Logger.
+     */
+    private final org.apache.logging.log4j.Logger logger = LogManager.getLogger(RtThreadFactory.class);
+    /**
+     * Page size used to touch memory.
+     */
+    private static final int PAGE_SIZE = 4096;
+    /**
+     * Thread name prefix.
+     */
+    private final String name;
+    /**
+     * CPUs to pin to.
+     */
+    private final int[] cpus;
+    /**
+     * Thread counter.
+     */
+    private final AtomicInteger counter = new AtomicInteger();
+    /**
+     * Scheduling policy.
+     */
+    private int policy = -1;
+    /**
+     * Real-time priority.
+     */
+    private int priority;
+    /**
+     * Pin each thread to one CPU in turn instead of the whole set.
+     */
+    private boolean spread;
+    /**
+     * Bytes of stack to touch.
+     */
+    private long stackPrefault = 64 * 1024;
+    /**
+     * Daemon threads.
+     */
+    private boolean daemon;
+
+    /**
+     * Name and CPU constructor. An empty CPU array leaves affinity alone.
+     *
+     * @param name Thread name prefix.
+     * @param cpus CPUs to pin to.
+     */
+    public RtThreadFactory(final String name, final int... cpus) {
+        this.name = name;
+        this.cpus = cpus.clone();
+    }
+
+    public int getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Set scheduling policy and priority.
+     *
+     * @param policy Sched.SCHED_FIFO, SCHED_RR or SCHED_OTHER.
+     * @param priority 1 to 99 for real-time policies or 0 for SCHED_OTHER.
+     * @return This object.
+     */
+    public RtThreadFactory setPolicy(final int policy, final int priority) {
+        this.policy = policy;
+        this.priority = priority;
+        return this;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public boolean isSpread() {
+        return spread;
+    }
+
+    public RtThreadFactory setSpread(final boolean spread) {
+        this.spread = spread;
+        return this;
+    }
+
+    public long getStackPrefault() {
+        return stackPrefault;
+    }
+
+    public RtThreadFactory setStackPrefault(final long stackPrefault) {
+        this.stackPrefault = stackPrefault;
+        return this;
+    }
+
+    public boolean isDaemon() {
+        return daemon;
+    }
+
+    public RtThreadFactory setDaemon(final boolean daemon) {
+        this.daemon = daemon;
+        return this;
+    }
+
+    /**
+     * Apply settings to calling thread. Used by threads this factory creates, but can be called directly to tune an existing
+     * thread such as main.
+     *
+     * @param index Thread index used to pick CPU when spread.
+     * @return True if all settings were applied.
+     */
+    public boolean configure(final int index) {
+        var ok = true;
+        if (cpus.length > 0) {
+            final int[] set;
+            if (spread) {
+                set = new int[]{cpus[index % cpus.length]};
+            } else {
+                set = cpus;
+            }
+            final var rc = Sched.schedSetAffinity(set, set.length);
+            if (rc != SCHED_SUCCESS) {
+                logger.warn(String.format("Unable to set affinity of %s errno %d", Thread.currentThread().getName(), -rc));
+                ok = false;
+            }
+        }
+        if (policy >= 0) {
+            final var rc = Sched.schedSetPriority(policy, policy == SCHED_OTHER ? 0 : priority);
+            if (rc != SCHED_SUCCESS) {
+                logger.warn(String.format("Unable to set policy %d priority %d of %s errno %d", policy, priority, Thread.
+                        currentThread().getName(), -rc));
+                ok = false;
+            }
+        }
+        if (stackPrefault > 0) {
+            final var rc = Sched.prefaultStack(stackPrefault);
+            if (rc != SCHED_SUCCESS) {
+                logger.warn(String.format("Unable to prefault %d bytes of %s stack errno %d", stackPrefault, Thread.currentThread().
+                        getName(), -rc));
+                ok = false;
+            }
+        }
+        return ok;
+    }
+
+    /**
+     * Create thread that configures itself before running task.
+     *
+     * @param runnable Task.
+     * @return New thread.
+     */
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        final var index = counter.getAndIncrement();
+        final var thread = new Thread(() -> {
+            configure(index);
+            runnable.run();
+        }, String.format("%s-%d", name, index));
+        thread.setDaemon(daemon);
+        return thread;
+    }
+
+    /**
+     * Create ForkJoinPool worker that configures itself when started. Carrier threads of a pool built with this factory are
+     * pinned, so tasks (or a virtual thread scheduler on newer JDKs) run only on the CPU set.
+     *
+     * @param pool Pool.
+     * @return New worker.
+     */
+    @Override
+    public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+        final var index = counter.getAndIncrement();
+        final var thread = new ForkJoinWorkerThread(pool) {
+            @Override
+            protected void onStart() {
+                super.onStart();
+                configure(index);
+            }
+        };
+        thread.setName(String.format("%s-%d", name, index));
+        thread.setDaemon(daemon);
+        return thread;
+    }
+
+    /**
+     * Return ForkJoinPool using this factory.
+     *
+     * @param parallelism Number of workers.
+     * @return Pool.
+     */
+    public ForkJoinPool newForkJoinPool(final int parallelism) {
+        return new ForkJoinPool(parallelism, this, null, false);
+    }
+
+    /**
+     * Lock current and future process memory.
+     *
+     * @return 0 on success, or a negative errno on failure.
+     */
+    public static int lockMemory() {
+        return Sched.mlockAll(MCL_CURRENT | MCL_FUTURE);
+    }
+
+    /**
+     * Touch every page of buffer, so it is faulted in before it is used in a timed loop.
+     *
+     * @param buffer Buffer (usually direct).
+     */
+    public static void prefault(final ByteBuffer buffer) {
+        for (int i = 0; i < buffer.capacity(); i += PAGE_SIZE) {
+            buffer.put(i, buffer.get(i));
+        }
+    }
+}
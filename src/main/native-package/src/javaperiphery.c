@@ -4,6 +4,9 @@
  * Copyright (c) Steven P. Goldsmith. All rights reserved.
  */
 
+// Needed for CPU_SET and sched_getcpu
+#define _GNU_SOURCE
+#include <alloca.h>
 #include "javaperiphery.h"
 
 /*
@@ -61,3 +64,389 @@ int i2c_write16(i2c_t *i2c, uint16_t addr, uint16_t reg, uint16_t value) {
 	// Transfer a transaction with three I2C messages
 	return i2c_transfer(i2c, msgs, 1);
 }
+
+/*
+ * Read len bytes starting at 8 bit register count times into consecutive parts of buf. Devices that pop a FIFO entry for each
+ * register read are drained with a few transfers instead of one per entry.
+ */
+int i2c_read8_repeat(i2c_t *i2c, uint16_t addr, uint16_t reg, uint8_t *buf, size_t len, size_t count) {
+	uint8_t msg_addr[1] = { reg & 0xff };
+	struct i2c_msg msgs[I2C_REPEAT_MAX * 2];
+	size_t i, n;
+	int ret;
+	while (count > 0) {
+		n = count < I2C_REPEAT_MAX ? count : I2C_REPEAT_MAX;
+		for (i = 0; i < n; i++) {
+			// Write 8-bit address then read len bytes
+			msgs[i * 2] = (struct i2c_msg) { .addr = addr, .flags = 0, .len = 1, .buf = msg_addr };
+			msgs[i * 2 + 1] = (struct i2c_msg) { .addr = addr, .flags = I2C_M_RD, .len = len, .buf = buf };
+			buf += len;
+		}
+		if ((ret = i2c_transfer(i2c, msgs, n * 2)) < 0) {
+			return ret;
+		}
+		count -= n;
+	}
+	return 0;
+}
+
+/*
+ * Transfer count segments with one SPI_IOC_MESSAGE ioctl. Segments are packed back to back in tx_buf and rx_buf, either of which
+ * can be NULL. A speed or bits per word of 0 uses the device setting. Returns 0 or -errno, the SPI handle's error state isn't
+ * updated.
+ */
+int spi_transfer_batch(spi_t *spi, const uint8_t *tx_buf, uint8_t *rx_buf, const uint32_t *lens, const uint32_t *speeds,
+		const uint8_t *bits_per_word, const uint8_t *cs_change, const uint16_t *delay_usecs, size_t count) {
+	struct spi_ioc_transfer *xfers;
+	size_t i, offset = 0;
+	if (count == 0 || count > SPI_BATCH_MAX) {
+		return -EINVAL;
+	}
+	xfers = alloca(count * sizeof(struct spi_ioc_transfer));
+	memset(xfers, 0, count * sizeof(struct spi_ioc_transfer));
+	for (i = 0; i < count; i++) {
+		xfers[i].tx_buf = tx_buf == NULL ? 0 : (uintptr_t) (tx_buf + offset);
+		xfers[i].rx_buf = rx_buf == NULL ? 0 : (uintptr_t) (rx_buf + offset);
+		xfers[i].len = lens[i];
+		xfers[i].speed_hz = speeds[i];
+		xfers[i].bits_per_word = bits_per_word[i];
+		xfers[i].cs_change = cs_change[i];
+		xfers[i].delay_usecs = delay_usecs[i];
+		offset += lens[i];
+	}
+	if (ioctl(spi_fd(spi), SPI_IOC_MESSAGE(count), xfers) < 0) {
+		return -errno;
+	}
+	return 0;
+}
+
+/*
+ * Transfer len bytes in chunks of at most chunk bytes, one ioctl each, since spidev rejects messages over bufsiz. The device stays
+ * selected between chunks, so they look like one transfer to it. Either buffer can be NULL. Returns 0 or -errno, the SPI handle's
+ * error state isn't updated.
+ */
+int spi_transfer_chunked(spi_t *spi, const uint8_t *tx_buf, uint8_t *rx_buf, size_t len, size_t chunk) {
+	struct spi_ioc_transfer xfer;
+	size_t offset, n;
+	int ret;
+	if (chunk == 0) {
+		return -EINVAL;
+	}
+	for (offset = 0; offset < len; offset += n) {
+		n = len - offset < chunk ? len - offset : chunk;
+		memset(&xfer, 0, sizeof(xfer));
+		xfer.tx_buf = tx_buf == NULL ? 0 : (uintptr_t) (tx_buf + offset);
+		xfer.rx_buf = rx_buf == NULL ? 0 : (uintptr_t) (rx_buf + offset);
+		xfer.len = n;
+		// cs_change on the last transfer of a message keeps the device selected
+		xfer.cs_change = offset + n < len;
+		if (ioctl(spi_fd(spi), SPI_IOC_MESSAGE(1), &xfer) < 0) {
+			ret = -errno;
+			if (offset > 0) {
+				// Earlier chunk left the device selected, so deselect with an empty transfer
+				memset(&xfer, 0, sizeof(xfer));
+				ioctl(spi_fd(spi), SPI_IOC_MESSAGE(1), &xfer);
+			}
+			return ret;
+		}
+	}
+	return 0;
+}
+
+/*
+ * Transfer count 16 or 32 bit words. spidev keeps words wider than 8 bits in CPU byte order and the controller shifts each word
+ * out MSB first, so word arrays go straight to the ioctl with bits_per_word set in the transfer. Controllers without wide word
+ * support get 16 or 32 bit words as big endian bytes, which is the same bit stream. Returns 0 or -errno, the SPI handle's error
+ * state isn't updated.
+ */
+static int spi_transfer_words(spi_t *spi, const void *tx_buf, void *rx_buf, size_t count, size_t word_size, uint8_t bits_per_word,
+		uint32_t speed_hz) {
+	struct spi_ioc_transfer xfer;
+	void *tx_be;
+	size_t i;
+	int ret;
+	memset(&xfer, 0, sizeof(xfer));
+	xfer.tx_buf = (uintptr_t) tx_buf;
+	xfer.rx_buf = (uintptr_t) rx_buf;
+	xfer.len = count * word_size;
+	xfer.speed_hz = speed_hz;
+	xfer.bits_per_word = bits_per_word;
+	if (ioctl(spi_fd(spi), SPI_IOC_MESSAGE(1), &xfer) >= 0) {
+		return 0;
+	}
+	if (errno != EINVAL || bits_per_word != word_size * 8) {
+		return -errno;
+	}
+	// Swap a copy, the caller's transmit words are left alone
+	tx_be = NULL;
+	if (tx_buf != NULL) {
+		if ((tx_be = malloc(xfer.len)) == NULL) {
+			return -ENOMEM;
+		}
+		for (i = 0; i < count; i++) {
+			if (word_size == 2) {
+				((uint16_t *) tx_be)[i] = htons(((const uint16_t *) tx_buf)[i]);
+			} else {
+				((uint32_t *) tx_be)[i] = htonl(((const uint32_t *) tx_buf)[i]);
+			}
+		}
+	}
+	xfer.tx_buf = (uintptr_t) tx_be;
+	xfer.bits_per_word = 8;
+	ret = ioctl(spi_fd(spi), SPI_IOC_MESSAGE(1), &xfer) < 0 ? -errno : 0;
+	free(tx_be);
+	if (ret < 0) {
+		return ret;
+	}
+	if (rx_buf != NULL) {
+		for (i = 0; i < count; i++) {
+			if (word_size == 2) {
+				((uint16_t *) rx_buf)[i] = ntohs(((uint16_t *) rx_buf)[i]);
+			} else {
+				((uint32_t *) rx_buf)[i] = ntohl(((uint32_t *) rx_buf)[i]);
+			}
+		}
+	}
+	return 0;
+}
+
+/*
+ * Transfer count words of 9 to 16 bits.
+ */
+int spi_transfer16(spi_t *spi, const uint16_t *tx_buf, uint16_t *rx_buf, size_t count, uint8_t bits_per_word, uint32_t speed_hz) {
+	if (bits_per_word < 9 || bits_per_word > 16) {
+		return -EINVAL;
+	}
+	return spi_transfer_words(spi, tx_buf, rx_buf, count, 2, bits_per_word, speed_hz);
+}
+
+/*
+ * Transfer count words of 17 to 32 bits.
+ */
+int spi_transfer32(spi_t *spi, const uint32_t *tx_buf, uint32_t *rx_buf, size_t count, uint8_t bits_per_word, uint32_t speed_hz) {
+	if (bits_per_word < 17 || bits_per_word > 32) {
+		return -EINVAL;
+	}
+	return spi_transfer_words(spi, tx_buf, rx_buf, count, 4, bits_per_word, speed_hz);
+}
+
+/*
+ * Read len 32 bit words starting at offset into buf with one call.
+ */
+int mmio_read32_array(mmio_t *mmio, uintptr_t offset, uint32_t *buf, size_t len) {
+	size_t i;
+	// Make sure whole range is mapped
+	if ((offset + (len * 4)) > mmio_size(mmio)) {
+		return MMIO_ERROR_ARG;
+	}
+	// Use volatile word reads, so registers are accessed 32 bits at a time
+	volatile uint32_t *reg = (volatile uint32_t *) ((uint8_t *) mmio_ptr(mmio) + offset);
+	for (i = 0; i < len; i++) {
+		buf[i] = reg[i];
+	}
+	return 0;
+}
+
+/*
+ * Pin calling thread to count CPUs.
+ */
+int sched_set_affinity(int *cpus, int count) {
+	int i;
+	cpu_set_t set;
+	CPU_ZERO(&set);
+	for (i = 0; i < count; i++) {
+		if (cpus[i] < 0 || cpus[i] >= CPU_SETSIZE) {
+			return -EINVAL;
+		}
+		CPU_SET(cpus[i], &set);
+	}
+	// 0 is the calling thread
+	if (sched_setaffinity(0, sizeof(set), &set) < 0) {
+		return -errno;
+	}
+	return 0;
+}
+
+/*
+ * Set scheduling policy and priority of calling thread.
+ */
+int sched_set_priority(int policy, int priority) {
+	struct sched_param param = { .sched_priority = priority };
+	// 0 is the calling thread
+	if (sched_setscheduler(0, policy, &param) < 0) {
+		return -errno;
+	}
+	return 0;
+}
+
+/*
+ * Return CPU calling thread is running on.
+ */
+int sched_get_cpu(void) {
+	int cpu = sched_getcpu();
+	if (cpu < 0) {
+		return -errno;
+	}
+	return cpu;
+}
+
+/*
+ * Lock process memory, so pages are never swapped or faulted in later.
+ */
+int mlock_all(int flags) {
+	if (mlockall(flags) < 0) {
+		return -errno;
+	}
+	return 0;
+}
+
+/*
+ * Unlock process memory.
+ */
+int munlock_all(void) {
+	if (munlockall() < 0) {
+		return -errno;
+	}
+	return 0;
+}
+
+/*
+ * Touch size bytes of calling thread's stack, so later calls don't page fault. Returns -ENOMEM instead of overflowing if size
+ * doesn't fit below the current frame with PREFAULT_STACK_RESERVE bytes left for guard pages and the JVM's shadow zone.
+ */
+int prefault_stack(size_t size) {
+	pthread_attr_t attr;
+	void *stack_addr;
+	size_t stack_size, free_size, i;
+	volatile unsigned char *buf;
+	int ret;
+	if ((ret = pthread_getattr_np(pthread_self(), &attr)) != 0) {
+		return -ret;
+	}
+	ret = pthread_attr_getstack(&attr, &stack_addr, &stack_size);
+	pthread_attr_destroy(&attr);
+	if (ret != 0) {
+		return -ret;
+	}
+	// Stack grows down from stack_addr + stack_size
+	free_size = (uintptr_t) &attr - (uintptr_t) stack_addr;
+	if (free_size < PREFAULT_STACK_RESERVE || size > free_size - PREFAULT_STACK_RESERVE) {
+		return -ENOMEM;
+	}
+	buf = alloca(size);
+	for (i = 0; i < size; i += 4096) {
+		buf[i] = 0;
+	}
+	return 0;
+}
+
+/*
+ * Create CLOCK_MONOTONIC timer.
+ */
+int timerfd_open(void) {
+	int fd = timerfd_create(CLOCK_MONOTONIC, TFD_CLOEXEC);
+	if (fd < 0) {
+		return -errno;
+	}
+	return fd;
+}
+
+/*
+ * Arm timer to expire at absolute CLOCK_MONOTONIC time and then every interval. Interval 0 is one shot and start 0 disarms.
+ */
+int timerfd_set_abs(int fd, int64_t start_ns, int64_t interval_ns) {
+	struct itimerspec spec = {
+		.it_interval = { .tv_sec = interval_ns / 1000000000, .tv_nsec = interval_ns % 1000000000 },
+		.it_value = { .tv_sec = start_ns / 1000000000, .tv_nsec = start_ns % 1000000000 } };
+	if (timerfd_settime(fd, TFD_TIMER_ABSTIME, &spec, NULL) < 0) {
+		return -errno;
+	}
+	return 0;
+}
+
+/*
+ * Block until timer expires and return number of expirations since last read.
+ */
+int64_t timerfd_wait(int fd) {
+	uint64_t expirations;
+	ssize_t len;
+	do {
+		len = read(fd, &expirations, sizeof(expirations));
+	} while (len < 0 && errno == EINTR);
+	if (len != sizeof(expirations)) {
+		return len < 0 ? -errno : -EIO;
+	}
+	return (int64_t) expirations;
+}
+
+/*
+ * Create eventfd used to wake a thread blocked in timerfd_wait_wake.
+ */
+int eventfd_open(void) {
+	int fd = eventfd(0, EFD_CLOEXEC);
+	if (fd < 0) {
+		return -errno;
+	}
+	return fd;
+}
+
+/*
+ * Wake thread waiting on eventfd. Wakes before the wait aren't lost, since the eventfd counts them.
+ */
+int eventfd_signal(int fd) {
+	uint64_t value = 1;
+	ssize_t len;
+	do {
+		len = write(fd, &value, sizeof(value));
+	} while (len < 0 && errno == EINTR);
+	if (len != sizeof(value)) {
+		return len < 0 ? -errno : -EIO;
+	}
+	return 0;
+}
+
+/*
+ * Block until timer expires or wake eventfd is signaled. Returns timer expirations, 0 if only woken. The timer setting is never
+ * touched, so a wake can't replace it.
+ */
+int64_t timerfd_wait_wake(int fd, int wake_fd) {
+	struct pollfd fds[2] = { { .fd = fd, .events = POLLIN }, { .fd = wake_fd, .events = POLLIN } };
+	uint64_t value;
+	int64_t expirations = 0;
+	int rc;
+	do {
+		rc = poll(fds, 2, -1);
+	} while (rc < 0 && errno == EINTR);
+	if (rc < 0) {
+		return -errno;
+	}
+	if (fds[1].revents & POLLIN) {
+		// Reset wake count
+		if (read(wake_fd, &value, sizeof(value)) != sizeof(value) && errno != EAGAIN) {
+			return -errno;
+		}
+	}
+	if (fds[0].revents & POLLIN) {
+		expirations = timerfd_wait(fd);
+	}
+	return expirations;
+}
+
+/*
+ * Return CLOCK_MONOTONIC time in nanoseconds.
+ */
+int64_t clock_monotonic_ns(void) {
+	struct timespec ts;
+	clock_gettime(CLOCK_MONOTONIC, &ts);
+	return (int64_t) ts.tv_sec * 1000000000 + ts.tv_nsec;
+}
+
+/*
+ * Close timer.
+ */
+int timerfd_close(int fd) {
+	if (close(fd) < 0) {
+		return -errno;
+	}
+	return 0;
+}
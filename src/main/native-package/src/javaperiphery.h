@@ -8,12 +8,56 @@
 extern "C" {
 #endif
 
+#include <arpa/inet.h>
+#include <errno.h>
+#include <stdlib.h>
+#include <poll.h>
+#include <pthread.h>
+#include <sched.h>
+#include <sys/eventfd.h>
+#include <string.h>
+#include <linux/spi/spidev.h>
+#include <sys/ioctl.h>
+#include <sys/mman.h>
+#include <sys/timerfd.h>
+#include <time.h>
+#include <unistd.h>
 #include "i2c.h"
+#include "mmio.h"
+#include "spi.h"
+
+// I2C_RDWR takes at most 42 messages, so 21 register reads
+#define I2C_REPEAT_MAX 21
+// SPI_IOC_MESSAGE size field is 14 bits, so 511 transfers
+#define SPI_BATCH_MAX 511
+// Stack left untouched by prefault_stack for guard pages and the JVM's stack shadow zone
+#define PREFAULT_STACK_RESERVE (128 * 1024)
 
 int i2c_read8(i2c_t *i2c, uint16_t addr, uint16_t reg, uint8_t *buf, size_t len);
 int i2c_read16(i2c_t *i2c, uint16_t addr, uint16_t reg, uint8_t *buf, size_t len);
 int i2c_write8(i2c_t *i2c, uint16_t addr, uint16_t reg, uint16_t value);
 int i2c_write16(i2c_t *i2c, uint16_t addr, uint16_t reg, uint16_t value);
+int i2c_read8_repeat(i2c_t *i2c, uint16_t addr, uint16_t reg, uint8_t *buf, size_t len, size_t count);
+int spi_transfer_batch(spi_t *spi, const uint8_t *tx_buf, uint8_t *rx_buf, const uint32_t *lens, const uint32_t *speeds,
+		const uint8_t *bits_per_word, const uint8_t *cs_change, const uint16_t *delay_usecs, size_t count);
+int spi_transfer_chunked(spi_t *spi, const uint8_t *tx_buf, uint8_t *rx_buf, size_t len, size_t chunk);
+int spi_transfer16(spi_t *spi, const uint16_t *tx_buf, uint16_t *rx_buf, size_t count, uint8_t bits_per_word, uint32_t speed_hz);
+int spi_transfer32(spi_t *spi, const uint32_t *tx_buf, uint32_t *rx_buf, size_t count, uint8_t bits_per_word, uint32_t speed_hz);
+int mmio_read32_array(mmio_t *mmio, uintptr_t offset, uint32_t *buf, size_t len);
+int sched_set_affinity(int *cpus, int count);
+int sched_set_priority(int policy, int priority);
+int sched_get_cpu(void);
+int mlock_all(int flags);
+int munlock_all(void);
+int prefault_stack(size_t size);
+int timerfd_open(void);
+int timerfd_set_abs(int fd, int64_t start_ns, int64_t interval_ns);
+int64_t timerfd_wait(int fd);
+int eventfd_open(void);
+int eventfd_signal(int fd);
+int64_t timerfd_wait_wake(int fd, int wake_fd);
+int64_t clock_monotonic_ns(void);
+int timerfd_close(int fd);
 
 #ifdef __cplusplus
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.bus;
+
+import static com.codeferm.periphery.bus.I2cArbiter.NO_DEADLINE;
+import static com.codeferm.periphery.bus.I2cArbiter.PRIORITY_HIGH;
+import static com.codeferm.periphery.bus.I2cArbiter.PRIORITY_LOW;
+import static com.codeferm.periphery.bus.I2cArbiter.PRIORITY_NORMAL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test transaction ordering with operations that don't touch the bus.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class I2cArbiterTest {
+
+    /**
+     * Test queued transactions run by priority, then deadline, then submit order.
+     *
+     * @throws InterruptedException Possible exception.
+     */
+    @Test
+    public void order() throws InterruptedException {
+        final List<String> ran = new ArrayList<>();
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        try (final var arbiter = new I2cArbiter(0)) {
+            // Hold the worker, so everything else queues up
+            arbiter.submit(h -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 0;
+            }, PRIORITY_LOW, NO_DEADLINE);
+            started.await();
+            arbiter.submit(h -> ran.add("config1") ? 0 : 1, PRIORITY_LOW, NO_DEADLINE);
+            arbiter.submit(h -> ran.add("config2") ? 0 : 1, PRIORITY_LOW, NO_DEADLINE);
+            arbiter.submit(h -> ran.add("normal") ? 0 : 1, PRIORITY_NORMAL, NO_DEADLINE);
+            // Deadlines far apart, so time between submits can't reorder them
+            arbiter.submit(h -> ran.add("sampleLate") ? 0 : 1, PRIORITY_HIGH, 2000000000L);
+            final var last = arbiter.submit(h -> ran.add("sampleSoon") ? 0 : 1, PRIORITY_HIGH, 1000000000L);
+            assertEquals(5, arbiter.getQueueDepth());
+            release.countDown();
+            assertEquals(0, last.getResult().join());
+            arbiter.execute(h -> 0, PRIORITY_LOW, NO_DEADLINE);
+            assertEquals(List.of("sampleSoon", "sampleLate", "normal", "config1", "config2"), ran);
+            assertEquals(7, arbiter.getTransactions());
+            assertEquals(0, arbiter.getDeadlineMisses());
+        }
+    }
+}
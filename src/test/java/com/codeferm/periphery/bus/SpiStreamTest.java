@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.bus;
+
+import static com.codeferm.periphery.Spi.SPI_SUCCESS;
+import com.codeferm.periphery.SpiTransfer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test SpiStream against a simulated SPI device that returns a running byte count.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SpiStreamTest {
+
+    /**
+     * Bytes sent by simulated device.
+     */
+    private long count;
+
+    /**
+     * Return simulated device. Received bytes are a running count, so each block's data follows from its sequence.
+     *
+     * @param nanos Time each transfer takes.
+     * @return Transfer.
+     */
+    public SpiTransfer simulated(final long nanos) {
+        return (txBuf, rxBuf, len) -> {
+            for (int i = 0; i < len; i++) {
+                rxBuf[i] = (byte) count++;
+            }
+            LockSupport.parkNanos(nanos);
+            return SPI_SUCCESS;
+        };
+    }
+
+    /**
+     * Test blocks arrive in order with the data of their transfer and are recycled.
+     *
+     * @throws InterruptedException Possible exception.
+     */
+    @Test
+    public void stream() throws InterruptedException {
+        final var len = 64;
+        final List<Long> sequences = new ArrayList<>();
+        final var stream = new SpiStream(simulated(50000), new byte[len], 8);
+        try (stream) {
+            stream.start();
+            while (sequences.size() < 200) {
+                stream.drain(block -> {
+                    for (int i = 0; i < len; i++) {
+                        assertEquals((byte) (block.getSequence() * len + i), block.getData()[i]);
+                    }
+                    assertTrue(block.getEnd() >= block.getStart());
+                    sequences.add(block.getSequence());
+                });
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+        }
+        // 200 blocks from a pool of 8, so blocks were recycled and stayed in order
+        for (int i = 1; i < sequences.size(); i++) {
+            assertTrue(sequences.get(i) > sequences.get(i - 1));
+        }
+        assertEquals(0, stream.getErrors());
+    }
+
+    /**
+     * Test transfers keep running and count overruns while the consumer holds every block.
+     *
+     * @throws InterruptedException Possible exception.
+     */
+    @Test
+    public void overrun() throws InterruptedException {
+        try (final var stream = new SpiStream(simulated(10000), new byte[16], 4)) {
+            stream.start();
+            final List<SpiStream.Block> held = new ArrayList<>();
+            while (held.size() < 4) {
+                final var block = stream.poll();
+                if (block != null) {
+                    held.add(block);
+                }
+            }
+            TimeUnit.MILLISECONDS.sleep(20);
+            assertTrue(stream.getOverruns() > 0);
+            final var last = held.get(3).getSequence();
+            held.forEach(stream::release);
+            SpiStream.Block next;
+            while ((next = stream.poll()) == null) {
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+            assertNotNull(next);
+            // Sequence gap shows the dropped transfers
+            assertTrue(next.getSequence() > last + 1);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test binary coded pin detection against a simulated register file.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GenTest {
+
+    /**
+     * Simulated group data registers.
+     */
+    private static final int REGS = 7;
+
+    /**
+     * Return register file with each pin driven by its code bit for pass or all low for baseline.
+     *
+     * @param regBit Register index * 32 + bit for each pin.
+     * @param fixed Bits that are set no matter what pins do.
+     * @param pass Pass number or -1 for baseline.
+     * @return Register values.
+     */
+    private int[] simulate(final int[] regBit, final int[] fixed, final int pass) {
+        final var regs = fixed.clone();
+        for (int i = 0; i < regBit.length; i++) {
+            if (pass >= 0 && (((i + 1) >>> pass) & 1) == 1) {
+                regs[regBit[i] / Integer.SIZE] |= 1 << (regBit[i] % Integer.SIZE);
+            }
+        }
+        return regs;
+    }
+
+    /**
+     * Return random unique register bits for pins.
+     *
+     * @param count Number of pins.
+     * @param random Random generator.
+     * @return Register index * 32 + bit for each pin.
+     */
+    private int[] randomRegBits(final int count, final Random random) {
+        final List<Integer> all = new ArrayList<>();
+        for (int i = 0; i < REGS * Integer.SIZE; i++) {
+            all.add(i);
+        }
+        Collections.shuffle(all, random);
+        return all.stream().limit(count).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Test pass count is log2(N) rounded up with room for a non-zero code.
+     */
+    @Test
+    public void passCount() {
+        final var gen = new Gen();
+        assertEquals(1, gen.passCount(1));
+        assertEquals(2, gen.passCount(3));
+        assertEquals(3, gen.passCount(4));
+        assertEquals(7, gen.passCount(120));
+    }
+
+    /**
+     * Test every pin is decoded to its register and bit.
+     */
+    @Test
+    public void decodeBinary() {
+        final var gen = new Gen();
+        final var random = new Random(1);
+        final var count = 120;
+        final var regBit = randomRegBits(count, random);
+        // Bit stuck high and unrelated to any pin
+        final var fixed = new int[REGS];
+        var stuck = 0;
+        while (contains(regBit, stuck)) {
+            stuck++;
+        }
+        fixed[stuck / Integer.SIZE] |= 1 << (stuck % Integer.SIZE);
+        final var passes = new int[gen.passCount(count)][];
+        for (int p = 0; p < passes.length; p++) {
+            passes[p] = simulate(regBit, fixed, p);
+        }
+        assertArrayEquals(regBit, gen.decodeBinary(simulate(regBit, fixed, -1), passes, count));
+    }
+
+    /**
+     * Test a noisy bit that looks like a pin's code leaves that pin undecoded, so it falls back to single pin detection.
+     */
+    @Test
+    public void decodeBinaryAmbiguous() {
+        final var gen = new Gen();
+        final var count = 5;
+        final var regBit = randomRegBits(count, new Random(2));
+        final var fixed = new int[REGS];
+        final var passes = new int[gen.passCount(count)][];
+        for (int p = 0; p < passes.length; p++) {
+            passes[p] = simulate(regBit, fixed, p);
+        }
+        // Find a bit no pin uses and toggle it with pin 2's code (3 = passes 0 and 1)
+        var noise = 0;
+        while (contains(regBit, noise)) {
+            noise++;
+        }
+        passes[0][noise / Integer.SIZE] |= 1 << (noise % Integer.SIZE);
+        passes[1][noise / Integer.SIZE] |= 1 << (noise % Integer.SIZE);
+        final var decoded = gen.decodeBinary(simulate(regBit, fixed, -1), passes, count);
+        for (int i = 0; i < count; i++) {
+            if (i == 2) {
+                assertEquals(-1, decoded[i]);
+            } else {
+                assertEquals(regBit[i], decoded[i]);
+            }
+        }
+    }
+
+    /**
+     * Test field width is found from pins sharing a register and masks cover whole fields.
+     */
+    @Test
+    public void fieldWidth() {
+        final var gen = new Gen();
+        // Allwinner style mode, 4 bits per pin and output sets bit 0 of field
+        assertEquals(4, gen.fieldWidth(new int[]{0, 1, 3}, new int[]{0x00000001, 0x00000010, 0x00001000}));
+        assertEquals(0x0000f000, gen.fieldMask(0x00001000, 4));
+        // Raspberry Pi style mode, 3 bits per pin
+        assertEquals(3, gen.fieldWidth(new int[]{10, 12}, new int[]{0x00000001, 0x00000040}));
+        assertEquals(0x000001c0, gen.fieldMask(0x00000040, 3));
+        // A single pin can't be sized, mode 0 to 1 only changes 1 bit of a wider field
+        assertEquals(0, gen.fieldWidth(new int[]{5}, new int[]{0x00000100}));
+        assertEquals(0x00000c00, gen.fieldMask(0x00000c00, 2));
+    }
+
+    /**
+     * Test a register with one pin takes the width of other registers of the same kind and one that can't be sized is cleared.
+     */
+    @Test
+    public void widenConfig() {
+        final var gen = new Gen();
+        // Allwinner style mode, pins 0 and 1 share register 0x00 and pin 9 is alone in register 0x04
+        final var pin0 = new Pin(new PinKey(0, 0)).setMode(new ConfigRegister("MODE", 0x00, 0x00000001, new int[]{0x77777770,
+                0x77777771}));
+        final var pin1 = new Pin(new PinKey(0, 1)).setMode(new ConfigRegister("MODE", 0x00, 0x00000010, new int[]{0x77777707,
+                0x77777717}));
+        final var pin9 = new Pin(new PinKey(0, 9)).setMode(new ConfigRegister("MODE", 0x04, 0x00000010, new int[]{0x77777707,
+                0x77777717}));
+        // Pull on another chip with only one pin
+        final var pin2 = new Pin(new PinKey(1, 2)).setPull(new ConfigRegister("PULL", 0x1c, 0x00000010, new int[]{0x00000000,
+                0x00000010, 0x00000020}));
+        final var pins = List.of(pin0, pin1, pin9, pin2);
+        gen.widenConfig(pins, Pin::getMode, Pin::setMode);
+        gen.widenConfig(pins, Pin::getPull, Pin::setPull);
+        assertEquals(0x0000000f, pin0.getMode().getMask());
+        assertEquals(0x000000f0, pin9.getMode().getMask());
+        // Alternate function bits are cleared from values
+        assertArrayEquals(new int[]{0x00000000, 0x00000010}, pin9.getMode().getValues());
+        assertNull(pin2.getPull());
+    }
+
+    /**
+     * Test configuration register comes from the first changed word and a drive change on the mode register is rejected.
+     */
+    @Test
+    public void toConfigRegister() {
+        final var gen = new Gen();
+        // Word 1 is a data register, words 2 and 3 both change
+        final var snapshots = new int[][]{{0, 0, 0, 0}, {0, 1, 0x10, 0x100}};
+        assertEquals(List.of(2, 3), gen.configDiff(snapshots, List.of(4)));
+        final var mode = gen.toConfigRegister("MODE", snapshots, List.of(4));
+        assertEquals(0x08, mode.getOffset());
+        assertEquals(0x10, mode.getMask());
+        assertNull(gen.toConfigRegister("PULL", new int[][]{{0, 0}, {0, 1}}, List.of(4)));
+        // Open drain emulated by switching direction
+        assertNull(gen.checkDrive(new ConfigRegister("DRIVE", 0x08, 0x10, new int[]{0, 0x10, 0}), mode));
+        final var drive = new ConfigRegister("DRIVE", 0x14, 0x30, new int[]{0, 0x10, 0x20});
+        assertEquals(drive, gen.checkDrive(drive, mode));
+    }
+
+    /**
+     * Return true if array contains value.
+     *
+     * @param array Array to search.
+     * @param value Value to find.
+     * @return True if found.
+     */
+    private boolean contains(final int[] array, final int value) {
+        for (final var element : array) {
+            if (element == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
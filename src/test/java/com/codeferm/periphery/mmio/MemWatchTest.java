@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) Steven P. Goldsmith. All rights reserved.
+ */
+package com.codeferm.periphery.mmio;
+
+import com.codeferm.periphery.Mmio;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test register watcher against arrays and a file backed MMIO handle.
+ *
+ * @author Steven P. Goldsmith
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MemWatchTest {
+
+    /**
+     * Temporary directory.
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Test only changed words are recorded and previous tracks current.
+     */
+    @Test
+    public void scan() {
+        final var memWatch = new MemWatch();
+        final var ring = new ChangeRing(8);
+        final var previous = new int[]{0, 1, 2, 3, 4};
+        final var current = new int[]{0, 9, 2, 3, 8};
+        assertEquals(2, memWatch.scan(previous, current, 100, ring));
+        final List<long[]> records = new ArrayList<>();
+        ring.drain((offset, oldValue, newValue, timestamp) -> records.add(new long[]{offset, oldValue, newValue, timestamp}));
+        assertEquals(2, records.size());
+        assertEquals(4, records.get(0)[0]);
+        assertEquals(1, records.get(0)[1]);
+        assertEquals(9, records.get(0)[2]);
+        assertEquals(100, records.get(0)[3]);
+        assertEquals(16, records.get(1)[0]);
+        assertEquals(8, previous[4]);
+        // Nothing changed since last scan
+        assertEquals(0, memWatch.scan(previous, current, 200, ring));
+    }
+
+    /**
+     * Test full ring drops and counts records.
+     */
+    @Test
+    public void ringFull() {
+        final var ring = new ChangeRing(3);
+        assertEquals(4, ring.getCapacity());
+        for (int i = 0; i < 6; i++) {
+            ring.offer(i, 0, 1, i);
+        }
+        assertEquals(4, ring.size());
+        assertEquals(2, ring.getDropped());
+        assertEquals(4, ring.drain((offset, oldValue, newValue, timestamp) -> {
+        }));
+    }
+
+    /**
+     * Test changes written through file backed MMIO are detected and logged.
+     *
+     * @throws IOException Possible exception.
+     */
+    @Test
+    public void fileBacked() throws IOException {
+        final var memFile = tempDir.resolve("mem");
+        try (final var file = new RandomAccessFile(memFile.toFile(), "rw")) {
+            file.setLength(4096);
+        }
+        final var memWatch = new MemWatch();
+        final var ring = new ChangeRing(16);
+        final var logFile = tempDir.resolve("changes.log").toString();
+        try (final var mmio = new Mmio(0, 16, memFile.toString()); final var changeLog = new ChangeLog(logFile, 4)) {
+            final var previous = new int[4];
+            final var current = new int[4];
+            memWatch.read(mmio.getHandle(), previous);
+            Mmio.mmioWrite32(mmio.getHandle(), 8, 0x12345678);
+            memWatch.read(mmio.getHandle(), current);
+            assertEquals(1, memWatch.scan(previous, current, 1, ring));
+            assertEquals(1, ring.drain(changeLog));
+            assertEquals(1, changeLog.getCount());
+        }
+        final var buffer = ByteBuffer.wrap(Files.readAllBytes(Path.of(logFile))).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(1, buffer.getLong());
+        assertEquals(1, buffer.getLong());
+        assertEquals(8, buffer.getInt());
+        assertEquals(0, buffer.getInt());
+        assertEquals(0x12345678, buffer.getInt());
+    }
+}